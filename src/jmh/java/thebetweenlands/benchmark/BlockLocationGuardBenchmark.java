@@ -0,0 +1,87 @@
+package thebetweenlands.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.BlockPos;
+import thebetweenlands.common.world.storage.location.guard.BlockLocationGuard;
+
+/**
+ * Guard queries over a guarded area the size of a large structure. The guard doesn't use
+ * the world so none is needed
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockLocationGuardBenchmark {
+	private static final int SIZE = 64;
+	private static final int QUERIES = 1024;
+
+	private BlockLocationGuard guard;
+	private BlockPos[] queries;
+	private NBTTagCompound nbt;
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(1234L);
+
+		this.guard = new BlockLocationGuard();
+		for(int x = 0; x < SIZE; x++) {
+			for(int y = 64; y < 64 + SIZE / 2; y++) {
+				for(int z = 0; z < SIZE; z++) {
+					if(rand.nextInt(3) != 0) {
+						this.guard.setGuarded(null, new BlockPos(x, y, z), true);
+					}
+				}
+			}
+		}
+
+		//Half of the queries are outside of the guarded area
+		this.queries = new BlockPos[QUERIES];
+		for(int i = 0; i < QUERIES; i++) {
+			this.queries[i] = new BlockPos(rand.nextInt(SIZE * 2) - SIZE / 2, 64 + rand.nextInt(SIZE / 2), rand.nextInt(SIZE * 2) - SIZE / 2);
+		}
+
+		this.nbt = this.guard.writeToNBT(new NBTTagCompound());
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(QUERIES)
+	public int isGuarded() {
+		int guarded = 0;
+		for(BlockPos pos : this.queries) {
+			if(this.guard.isGuarded(null, null, pos)) {
+				guarded++;
+			}
+		}
+		return guarded;
+	}
+
+	@Benchmark
+	public NBTTagCompound writeToNBT() {
+		return this.guard.writeToNBT(new NBTTagCompound());
+	}
+
+	@Benchmark
+	public BlockLocationGuard readFromNBT() {
+		BlockLocationGuard guard = new BlockLocationGuard();
+		guard.readFromNBT(this.nbt);
+		return guard;
+	}
+}
@@ -0,0 +1,88 @@
+package thebetweenlands.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.network.datasync.DataParameter;
+import net.minecraft.network.datasync.DataSerializers;
+import thebetweenlands.api.network.IGenericDataManagerAccess.IDataEntry;
+import thebetweenlands.common.network.datamanager.GenericDataManager;
+
+/**
+ * Serialization of a data manager with a typical mix of vanilla and custom serialized parameters
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenericDataManagerBenchmark {
+	private static final DataParameter<Integer> INT = GenericDataManager.createKey(GenericDataManagerBenchmark.class, DataSerializers.VARINT);
+	private static final DataParameter<Float> FLOAT = GenericDataManager.createKey(GenericDataManagerBenchmark.class, DataSerializers.FLOAT);
+	private static final DataParameter<Boolean> BOOLEAN = GenericDataManager.createKey(GenericDataManagerBenchmark.class, DataSerializers.BOOLEAN);
+	private static final DataParameter<String> STRING = GenericDataManager.createKey(GenericDataManagerBenchmark.class, DataSerializers.STRING);
+	private static final DataParameter<int[]> CUSTOM = GenericDataManager.createKey(GenericDataManagerBenchmark.class, (buf, value) -> buf.writeVarIntArray(value), buf -> buf.readVarIntArray());
+
+	private GenericDataManager dataManager;
+	private PacketBuffer buf;
+	private PacketBuffer serialized;
+
+	@Setup
+	public void setup() throws IOException {
+		this.dataManager = new GenericDataManager(this);
+		this.dataManager.register(INT, 0);
+		this.dataManager.register(FLOAT, 0.0F);
+		this.dataManager.register(BOOLEAN, false);
+		this.dataManager.register(STRING, "thebetweenlands:benchmark");
+		this.dataManager.register(CUSTOM, new int[32]);
+
+		this.buf = new PacketBuffer(Unpooled.buffer());
+
+		this.serialized = new PacketBuffer(Unpooled.buffer());
+		GenericDataManager.writeEntries(this.dataManager.getAll(), this.serialized);
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.buf.release();
+		this.serialized.release();
+	}
+
+	@Benchmark
+	public int writeAll() throws IOException {
+		this.buf.clear();
+		GenericDataManager.writeEntries(this.dataManager.getAll(), this.buf);
+		return this.buf.writerIndex();
+	}
+
+	@Benchmark
+	public int writeDirty() throws IOException {
+		this.dataManager.set(INT, this.dataManager.get(INT) + 1);
+		this.dataManager.set(CUSTOM, new int[32]);
+		this.buf.clear();
+		GenericDataManager.writeEntries(this.dataManager.getDirty(), this.buf);
+		return this.buf.writerIndex();
+	}
+
+	@Benchmark
+	public List<IDataEntry<?>> read() throws IOException {
+		this.serialized.readerIndex(0);
+		return GenericDataManager.readEntries(this.serialized);
+	}
+}
@@ -0,0 +1,103 @@
+package thebetweenlands.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.ChunkPos;
+import thebetweenlands.api.storage.StorageID;
+import thebetweenlands.common.world.storage.LocalRegionData;
+import thebetweenlands.common.world.storage.LocalStorageSaveHandler;
+
+/**
+ * Saving and loading a local region file through {@link LocalStorageSaveHandler}, the way {@link LocalRegionData#saveRegion}
+ * and {@link LocalRegionData#getOrCreateRegion} do, without a world.
+ * Saving copies the region NBT, queues it and writes it with {@link LocalStorageSaveHandler#flush()}. Queueing also hands the save handler
+ * to Minecraft's file IO thread, which may pick up a write first, in which case the flush waits for the file lock of that write
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalRegionDataBenchmark {
+	@Param({ "16", "128" })
+	public int storages;
+
+	private File dir;
+	private File file;
+	private StorageID[] ids;
+	private NBTTagCompound regionNbt;
+	private LocalStorageSaveHandler saveHandler;
+
+	@Setup
+	public void setup() throws IOException {
+		this.dir = Files.createTempDirectory("bl_region_benchmark").toFile();
+		this.file = new File(this.dir, "region.dat");
+		this.saveHandler = new LocalStorageSaveHandler();
+
+		Random rand = new Random(1234L);
+
+		this.regionNbt = new NBTTagCompound();
+		LocalRegionData region = new LocalRegionData(null, "region", this.regionNbt);
+		this.ids = new StorageID[this.storages];
+		for(int i = 0; i < this.storages; i++) {
+			this.ids[i] = StorageID.fromString(Long.toHexString(rand.nextLong()));
+
+			NBTTagCompound storageNbt = new NBTTagCompound();
+			storageNbt.setString("type", "thebetweenlands:location");
+			storageNbt.setIntArray("bounds", new int[] { rand.nextInt(512), 0, rand.nextInt(512), rand.nextInt(512), 256, rand.nextInt(512) });
+			storageNbt.setLong("seed", rand.nextLong());
+			region.setLocalStorageNBT(this.ids[i], storageNbt);
+
+			NBTTagCompound chunkNbt = new NBTTagCompound();
+			chunkNbt.setByteArray("data", new byte[256]);
+			region.setChunkNBT(new ChunkPos(i % 32, i / 32), chunkNbt);
+		}
+
+		CompressedStreamTools.safeWrite(this.regionNbt, this.file);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		FileUtils.deleteDirectory(this.dir);
+	}
+
+	@Benchmark
+	public File save() {
+		this.saveHandler.queueRegion(this.file, this.regionNbt.copy());
+		this.saveHandler.flush();
+		return this.file;
+	}
+
+	@Benchmark
+	public int load() throws IOException {
+		LocalRegionData region = new LocalRegionData(null, "region", this.saveHandler.loadFileNbt(this.file));
+		int found = 0;
+		for(StorageID id : this.ids) {
+			if(region.getLocalStorageNBT(id) != null) {
+				found++;
+			}
+		}
+		return found;
+	}
+}
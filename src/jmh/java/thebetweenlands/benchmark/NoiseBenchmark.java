@@ -0,0 +1,85 @@
+package thebetweenlands.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import thebetweenlands.common.world.gen.feature.FractalOpenSimplexNoise;
+import thebetweenlands.util.OpenSimplexNoise;
+
+/**
+ * Evaluates the noise functions over one chunk column, the same way the terrain generator samples them
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NoiseBenchmark {
+	private OpenSimplexNoise noise;
+	private FractalOpenSimplexNoise fractalNoise;
+
+	@Setup
+	public void setup() {
+		this.noise = new OpenSimplexNoise(1234L);
+		this.fractalNoise = new FractalOpenSimplexNoise(1234L, 4, 0.05D);
+	}
+
+	@Benchmark
+	public double openSimplex2D() {
+		double sum = 0;
+		for(int x = 0; x < 16; x++) {
+			for(int z = 0; z < 16; z++) {
+				sum += this.noise.eval(x * 0.05D, z * 0.05D);
+			}
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public double openSimplex3D() {
+		double sum = 0;
+		for(int x = 0; x < 16; x++) {
+			for(int y = 0; y < 16; y++) {
+				for(int z = 0; z < 16; z++) {
+					sum += this.noise.eval(x * 0.05D, y * 0.05D, z * 0.05D);
+				}
+			}
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public double fractalOpenSimplex2D() {
+		double sum = 0;
+		for(int x = 0; x < 16; x++) {
+			for(int z = 0; z < 16; z++) {
+				sum += this.fractalNoise.eval(x, z);
+			}
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public double fractalOpenSimplex3D() {
+		double sum = 0;
+		for(int x = 0; x < 16; x++) {
+			for(int y = 0; y < 16; y++) {
+				for(int z = 0; z < 16; z++) {
+					sum += this.fractalNoise.eval(x, y, z);
+				}
+			}
+		}
+		return sum;
+	}
+}
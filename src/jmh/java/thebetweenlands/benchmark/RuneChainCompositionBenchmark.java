@@ -0,0 +1,174 @@
+package thebetweenlands.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.ImmutableList;
+
+import net.minecraft.util.ResourceLocation;
+import thebetweenlands.api.rune.INode;
+import thebetweenlands.api.rune.INodeBlueprint;
+import thebetweenlands.api.rune.INodeComposition;
+import thebetweenlands.api.rune.INodeConfiguration;
+import thebetweenlands.api.rune.IRuneChainUser;
+import thebetweenlands.api.rune.impl.PortNodeConfiguration;
+import thebetweenlands.api.rune.impl.PortNodeConfiguration.InputPort;
+import thebetweenlands.api.rune.impl.PortNodeConfiguration.OutputPort;
+import thebetweenlands.api.rune.impl.RuneChainComposition;
+import thebetweenlands.api.rune.impl.RuneChainComposition.RuneExecutionContext;
+
+/**
+ * Execution of a rune chain by {@link RuneChainComposition}. The actual runes are registered through Forge registry events,
+ * so the chain is made of two minimal node blueprints instead: a source that outputs <i>width</i> values and
+ * <i>depth</i> nodes that each pass every value on. Each node therefore runs once per value, which exercises the
+ * input combinations and branch bookkeeping of the composition without any rune specific work
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RuneChainCompositionBenchmark {
+	private static final ResourceLocation NUMBER = new ResourceLocation("thebetweenlands", "benchmark_number");
+
+	private static class Node implements INode<Node, RuneExecutionContext> {
+		private final INodeBlueprint<Node, RuneExecutionContext> blueprint;
+		private final INodeComposition<RuneExecutionContext> composition;
+		private final INodeConfiguration configuration;
+
+		private Node(INodeBlueprint<Node, RuneExecutionContext> blueprint, INodeComposition<RuneExecutionContext> composition, INodeConfiguration configuration) {
+			this.blueprint = blueprint;
+			this.composition = composition;
+			this.configuration = configuration;
+		}
+
+		@Override
+		public INodeBlueprint<Node, RuneExecutionContext> getBlueprint() {
+			return this.blueprint;
+		}
+
+		@Override
+		public INodeConfiguration getConfiguration() {
+			return this.configuration;
+		}
+
+		@Override
+		public INodeComposition<RuneExecutionContext> getComposition() {
+			return this.composition;
+		}
+	}
+
+	private static class SourceBlueprint implements INodeBlueprint<Node, RuneExecutionContext> {
+		private final INodeConfiguration configuration;
+		private final OutputPort<Collection<Integer>> out;
+		private final List<Integer> values = new ArrayList<>();
+
+		private SourceBlueprint(int width) {
+			PortNodeConfiguration.Builder builder = PortNodeConfiguration.builder();
+			this.out = builder.multiOut(NUMBER, Integer.class);
+			this.configuration = builder.build();
+			for(int i = 0; i < width; i++) {
+				this.values.add(i);
+			}
+		}
+
+		@Override
+		public List<INodeConfiguration> getConfigurations() {
+			return ImmutableList.of(this.configuration);
+		}
+
+		@Override
+		public Node create(INodeComposition<RuneExecutionContext> composition, INodeConfiguration configuration) {
+			return new Node(this, composition, configuration);
+		}
+
+		@Override
+		public void run(Node state, RuneExecutionContext context, INodeIO io) {
+			this.out.set(io, this.values);
+		}
+	}
+
+	private static class IncrementBlueprint implements INodeBlueprint<Node, RuneExecutionContext> {
+		private final INodeConfiguration configuration;
+		private final InputPort<Integer> in;
+		private final OutputPort<Integer> out;
+
+		private int runs;
+
+		private IncrementBlueprint() {
+			PortNodeConfiguration.Builder builder = PortNodeConfiguration.builder();
+			this.in = builder.in(NUMBER, Integer.class);
+			this.out = builder.out(NUMBER, Integer.class);
+			this.configuration = builder.build();
+		}
+
+		@Override
+		public List<INodeConfiguration> getConfigurations() {
+			return ImmutableList.of(this.configuration);
+		}
+
+		@Override
+		public Node create(INodeComposition<RuneExecutionContext> composition, INodeConfiguration configuration) {
+			return new Node(this, composition, configuration);
+		}
+
+		@Override
+		public void run(Node state, RuneExecutionContext context, INodeIO io) {
+			this.out.set(io, this.in.get(io) + 1);
+			this.runs++;
+		}
+	}
+
+	@Param({ "1", "16" })
+	public int width;
+
+	@Param({ "8", "32" })
+	public int depth;
+
+	private IncrementBlueprint increment;
+	private RuneChainComposition composition;
+
+	@Setup
+	public void setup() {
+		this.increment = new IncrementBlueprint();
+
+		RuneChainComposition.Blueprint blueprint = new RuneChainComposition.Blueprint();
+		blueprint.addNodeBlueprint(new SourceBlueprint(this.width));
+		for(int i = 1; i <= this.depth; i++) {
+			blueprint.addNodeBlueprint(this.increment);
+			if(!blueprint.link(i, 0, i - 1, 0)) {
+				throw new IllegalStateException("Failed linking node " + i);
+			}
+		}
+
+		this.composition = blueprint.create();
+		this.composition.setAspectBuffer(type -> null);
+
+		for(int i = 0; i <= this.depth; i++) {
+			if(this.composition.isInvalid(i)) {
+				throw new IllegalStateException("Node " + i + " of the rune chain is invalid");
+			}
+		}
+	}
+
+	@Benchmark
+	public int run() {
+		this.composition.run((IRuneChainUser) null);
+		return this.increment.runs;
+	}
+}
@@ -0,0 +1,60 @@
+package thebetweenlands.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import thebetweenlands.api.entity.spawning.IWeightProvider;
+import thebetweenlands.util.WeightedList;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeightedListBenchmark {
+	private static class Entry implements IWeightProvider {
+		private final short weight;
+
+		private Entry(short weight) {
+			this.weight = weight;
+		}
+
+		@Override
+		public short getWeight() {
+			return this.weight;
+		}
+	}
+
+	@Param({ "8", "64" })
+	public int size;
+
+	private WeightedList<Entry> list;
+	private Random rand;
+
+	@Setup
+	public void setup() {
+		this.rand = new Random(1234L);
+		this.list = new WeightedList<>();
+		for(int i = 0; i < this.size; i++) {
+			this.list.add(new Entry((short) (1 + this.rand.nextInt(100))));
+		}
+	}
+
+	@Benchmark
+	public Entry getRandomItem() {
+		return this.list.getRandomItem(this.rand);
+	}
+}
@@ -1,8 +1,11 @@
 package thebetweenlands.api.block;
 
+import javax.annotation.Nullable;
+
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import thebetweenlands.api.recipes.ICenserRecipe;
 
 public interface ICenser {
 	public World getCenserWorld();
@@ -15,6 +18,15 @@ public interface ICenser {
 
 	public boolean isRecipeRunning();
 
+	@Nullable
+	public ICenserRecipe<?> getCurrentRecipe();
+
+	/**
+	 * Removes the specified amount from the input of the current recipe
+	 * @param amount
+	 */
+	public void consumeInput(int amount);
+
 	public float getEffectStrength(float partialTicks);
 
 	public ItemStack getInputStack();
@@ -8,6 +8,7 @@ import net.minecraft.entity.Entity;
 import net.minecraft.entity.SharedMonsterAttributes;
 import net.minecraft.entity.ai.attributes.AttributeModifier;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.inventory.EntityEquipmentSlot;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
@@ -134,7 +135,8 @@ public class CorrosionHelper {
 	}
 	
 	/**
-	 * Updates the corrosion on the specified item
+	 * Updates the corrosion on the specified item.
+	 * Items in player inventories are updated in batches by {@link #updatePlayerCorrosion(EntityPlayer, int)} instead
 	 * @param stack
 	 * @param world
 	 * @param holder
@@ -142,35 +144,80 @@ public class CorrosionHelper {
 	 * @param isHeldItem
 	 */
 	public static void updateCorrosion(ItemStack stack, World world, Entity holder, int slot, boolean isHeldItem) {
-		if (world.isRemote) {
+		if (world.isRemote || holder instanceof EntityPlayer) {
 			return;
 		}
-		if(!world.isRemote && holder.dimension == BetweenlandsConfig.WORLD_AND_DIMENSION.dimensionId && !(holder instanceof EntityPlayer && ((EntityPlayer)holder).isCreative())) {
-			if(!stack.isEmpty() && stack.getItem() instanceof ICorrodible) {
-				ICorrodible corrodible = (ICorrodible) stack.getItem();
-				int corrosion = corrodible.getCorrosion(stack);
-				if(!isCorrosionEnabled()) {
-					if(corrosion != 0) {
-						corrodible.setCorrosion(stack, 0);
+		if(holder.dimension == BetweenlandsConfig.WORLD_AND_DIMENSION.dimensionId) {
+			updateCorrosion(stack, world, isCorrosionEnabled(), getCorrosionProbability(holder), 1);
+		}
+	}
+
+	/**
+	 * Updates the corrosion of all items in the player's inventory at once.
+	 * The corrosion probability is scaled by the number of ticks since the last update
+	 * @param player
+	 * @param ticks Number of ticks since the last update
+	 */
+	public static void updatePlayerCorrosion(EntityPlayer player, int ticks) {
+		World world = player.world;
+		if(!world.isRemote && player.dimension == BetweenlandsConfig.WORLD_AND_DIMENSION.dimensionId && !player.isCreative()) {
+			boolean corrosionEnabled = isCorrosionEnabled();
+
+			//Same for all items, so only calculated once per update
+			float probability = getCorrosionProbability(player);
+			float heldProbability = probability * (!player.getActiveItemStack().isEmpty() ? 2.8F : 1.0F);
+
+			InventoryPlayer inventory = player.inventory;
+			int currentItem = inventory.currentItem;
+
+			//Same slot iteration and held item semantics as InventoryPlayer#decrementAnimations
+			for(List<ItemStack> stacks : ImmutableList.of(inventory.mainInventory, inventory.armorInventory, inventory.offHandInventory)) {
+				for(int i = 0; i < stacks.size(); i++) {
+					ItemStack stack = stacks.get(i);
+					if(!stack.isEmpty() && stack.getItem() instanceof ICorrodible) {
+						updateCorrosion(stack, world, corrosionEnabled, i == currentItem ? heldProbability : probability, ticks);
 					}
-				} else if (corrosion < corrodible.getMaxCorrosion(stack)) {
-					float probability = holder.isInWater() ? 0.0014F : 0.0007F;
-					if (holder instanceof EntityPlayer) {
-						EntityPlayer player = (EntityPlayer) holder;
-						probability *= (isHeldItem && !player.getActiveItemStack().isEmpty() ? 2.8F : 1.0F);
-						IDecayCapability cap = player.getCapability(CapabilityRegistry.CAPABILITY_DECAY, null);
-						if(cap != null) {
-							float playerCorruption = cap.getDecayStats().getDecayLevel() / 20.0F;
-							probability *= (1 - Math.pow(playerCorruption, 2) * 0.9F);
-						}
+				}
+			}
+		}
+	}
+
+	private static float getCorrosionProbability(Entity holder) {
+		float probability = holder.isInWater() ? 0.0014F : 0.0007F;
+		if (holder instanceof EntityPlayer) {
+			EntityPlayer player = (EntityPlayer) holder;
+			IDecayCapability cap = player.getCapability(CapabilityRegistry.CAPABILITY_DECAY, null);
+			if(cap != null) {
+				float playerCorruption = cap.getDecayStats().getDecayLevel() / 20.0F;
+				probability *= (1 - Math.pow(playerCorruption, 2) * 0.9F);
+			}
+		}
+		return probability;
+	}
+
+	private static void updateCorrosion(ItemStack stack, World world, boolean corrosionEnabled, float probability, int ticks) {
+		if(!stack.isEmpty() && stack.getItem() instanceof ICorrodible) {
+			ICorrodible corrodible = (ICorrodible) stack.getItem();
+			int corrosion = corrodible.getCorrosion(stack);
+			if(!corrosionEnabled) {
+				if(corrosion != 0) {
+					corrodible.setCorrosion(stack, 0);
+				}
+			} else if (corrosion < corrodible.getMaxCorrosion(stack)) {
+				//Expected number of corrosion steps over the elapsed ticks
+				float expectedSteps = probability * ticks;
+				int steps = (int) expectedSteps;
+				if (world.rand.nextFloat() < expectedSteps - steps) {
+					steps++;
+				}
+				if(steps > 0) {
+					int coating = corrodible.getCoating(stack);
+					int coatingSteps = Math.min(coating, steps);
+					if(coatingSteps > 0) {
+						corrodible.setCoating(stack, coating - coatingSteps);
 					}
-					if (world.rand.nextFloat() < probability) {
-						int coating = corrodible.getCoating(stack);
-						if(coating > 0) {
-							corrodible.setCoating(stack, coating - 1);
-						} else {
-							corrodible.setCorrosion(stack, corrosion + 1);
-						}
+					if(steps > coatingSteps) {
+						corrodible.setCorrosion(stack, Math.min(corrodible.getMaxCorrosion(stack), corrosion + steps - coatingSteps));
 					}
 				}
 			}
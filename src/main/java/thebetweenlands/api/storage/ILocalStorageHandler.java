@@ -3,6 +3,7 @@ package thebetweenlands.api.storage;
 import java.io.File;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 
@@ -97,6 +98,16 @@ public interface ILocalStorageHandler {
 	@Nullable
 	public ILocalStorageHandle getOrLoadLocalStorage(LocalStorageReference reference);
 
+	/**
+	 * Same as {@link #getOrLoadLocalStorage(LocalStorageReference)}, but if the local storage is not loaded yet it is read
+	 * from its file in the background and the callback is run on the main thread in a later tick once the local storage was loaded.
+	 * If the local storage is already loaded the callback is run immediately.
+	 * The handle passed to the callback is null if the local storage does not exist and is closed once the callback returns.
+	 * @param reference
+	 * @param callback
+	 */
+	public void getOrLoadLocalStorageAsync(LocalStorageReference reference, Consumer<ILocalStorageHandle> callback);
+
 	/**
 	 * Unloads a local storage and saves to a file if necessary
 	 * @param storage
@@ -149,6 +160,7 @@ public interface ILocalStorageHandler {
 
 	/**
 	 * Loads and runs the deferred storage operations of the specified chunk.
+	 * If the region of the chunk is not cached yet it is read in the background and the operations are run in a later tick.
 	 * @param storage
 	 */
 	public void loadDeferredOperations(IChunkStorage storage);
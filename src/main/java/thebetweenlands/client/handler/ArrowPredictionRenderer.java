@@ -1,72 +1,276 @@
 package thebetweenlands.client.handler;
 
 
-import net.minecraft.block.material.Material;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.GlStateManager;
+import net.minecraft.client.renderer.entity.RenderManager;
 import net.minecraft.entity.Entity;
-import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.entity.projectile.EntityArrow;
+import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemBow;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 import org.lwjgl.opengl.GL11;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+import java.util.ArrayList;
 import java.util.List;
 
 public class ArrowPredictionRenderer {
-    private static class EntityArrowSilent extends EntityArrow {
-        public EntityArrowSilent(World world, EntityLivingBase entity) {
-            super(world, entity);
+    //Same constants as EntityArrow#onUpdate while not in water
+    private static final double ARROW_DRAG = (double)0.99F;
+    private static final double ARROW_GRAVITY = 0.05000000074505806D;
+
+    private static final int MAX_TICKS = 1000;
+
+    /**
+     * Predicted path of an arrow. The position after n ticks is computed in closed form, so the path
+     * is only traced once per tick segment and is reused for as long as the aim and draw strength don't change
+     */
+    private static class Trajectory {
+        private World world;
+        private long worldTime = -1;
+        private double originX, originY, originZ;
+        private double motionX, motionY, motionZ;
+
+        //Arrow positions after each tick, relative to the origin
+        private double[] points = new double[3 * 64];
+        private int pointCount;
+
+        private RayTraceResult hit;
+
+        //Collidable block states along the traced segments, passable blocks are stored as air.
+        //Only valid for the current world tick
+        private final Long2ObjectMap<IBlockState> blockCollisionGrid = new Long2ObjectOpenHashMap<>();
+        private final BlockPos.MutableBlockPos checkPos = new BlockPos.MutableBlockPos();
+
+        private final List<Entity> entityCandidates = new ArrayList<>();
+
+        private boolean isValid(World world, double originX, double originY, double originZ, double motionX, double motionY, double motionZ) {
+            return this.world == world && this.worldTime == world.getTotalWorldTime() &&
+                    this.originX == originX && this.originY == originY && this.originZ == originZ &&
+                    this.motionX == motionX && this.motionY == motionY && this.motionZ == motionZ;
+        }
+
+        private void update(World world, Entity shooter, double originX, double originY, double originZ, double motionX, double motionY, double motionZ) {
+            if(this.world != world || this.worldTime != world.getTotalWorldTime()) {
+                this.blockCollisionGrid.clear();
+            }
+
+            this.world = world;
+            this.worldTime = world.getTotalWorldTime();
+            this.originX = originX;
+            this.originY = originY;
+            this.originZ = originZ;
+            this.motionX = motionX;
+            this.motionY = motionY;
+            this.motionZ = motionZ;
+            this.hit = null;
+
+            this.computePath();
+            this.collectEntityCandidates(world, shooter);
+            this.traceSegments(world);
+
+            this.entityCandidates.clear();
+        }
+
+        /**
+         * Computes the arrow positions in closed form. With v(n+1) = v(n) * drag - gravity the horizontal
+         * position is v0 * (1 - drag^n) / (1 - drag) and the vertical position additionally approaches the terminal velocity
+         */
+        private void computePath() {
+            double terminalVelocity = -ARROW_GRAVITY / (1.0D - ARROW_DRAG);
+            double dragPow = 1.0D;
+
+            this.pointCount = 0;
+
+            for(int n = 0; n <= MAX_TICKS; n++) {
+                double travel = (1.0D - dragPow) / (1.0D - ARROW_DRAG);
+
+                double x = this.motionX * travel;
+                double y = n * terminalVelocity + (this.motionY - terminalVelocity) * travel;
+                double z = this.motionZ * travel;
+
+                if(this.points.length < (this.pointCount + 1) * 3) {
+                    double[] newPoints = new double[this.points.length * 2];
+                    System.arraycopy(this.points, 0, newPoints, 0, this.points.length);
+                    this.points = newPoints;
+                }
+
+                this.points[this.pointCount * 3] = x;
+                this.points[this.pointCount * 3 + 1] = y;
+                this.points[this.pointCount * 3 + 2] = z;
+                this.pointCount++;
+
+                //Nothing to collide with below the world
+                if(this.originY + y < 0) {
+                    break;
+                }
+
+                dragPow *= ARROW_DRAG;
+            }
+        }
+
+        /**
+         * Gathers the entities that may intersect the path with a single pass over the loaded entities
+         */
+        private void collectEntityCandidates(World world, Entity shooter) {
+            double minX = 0, minY = 0, minZ = 0, maxX = 0, maxY = 0, maxZ = 0;
+            for(int i = 0; i < this.pointCount; i++) {
+                minX = Math.min(minX, this.points[i * 3]);
+                minY = Math.min(minY, this.points[i * 3 + 1]);
+                minZ = Math.min(minZ, this.points[i * 3 + 2]);
+                maxX = Math.max(maxX, this.points[i * 3]);
+                maxY = Math.max(maxY, this.points[i * 3 + 1]);
+                maxZ = Math.max(maxZ, this.points[i * 3 + 2]);
+            }
+
+            AxisAlignedBB bounds = new AxisAlignedBB(this.originX + minX, this.originY + minY, this.originZ + minZ, this.originX + maxX, this.originY + maxY, this.originZ + maxZ).grow(0.3D);
+
+            for(Entity entity : world.loadedEntityList) {
+                if(entity != shooter && entity.canBeCollidedWith() && entity.getEntityBoundingBox().intersects(bounds)) {
+                    this.entityCandidates.add(entity);
+                }
+            }
         }
 
-        @Override
-        public void shoot(double x, double y, double z, float velocity, float inaccuracy) {
-            float f = MathHelper.sqrt(x * x + y * y + z * z);
-            x = x / (double)f;
-            y = y / (double)f;
-            z = z / (double)f;
-            x = x * (double)velocity;
-            y = y * (double)velocity;
-            z = z * (double)velocity;
-            this.motionX = x;
-            this.motionY = y;
-            this.motionZ = z;
-            float f1 = MathHelper.sqrt(x * x + z * z);
-            this.rotationYaw = (float)(MathHelper.atan2(x, z) * 180D / Math.PI);
-            this.rotationPitch = (float)(MathHelper.atan2(y, (double)f1) * 180D / Math.PI);
-            this.prevRotationYaw = this.rotationYaw;
-            this.prevRotationPitch = this.rotationPitch;
+        private void traceSegments(World world) {
+            for(int i = 0; i < this.pointCount - 1; i++) {
+                double x1 = this.originX + this.points[i * 3];
+                double y1 = this.originY + this.points[i * 3 + 1];
+                double z1 = this.originZ + this.points[i * 3 + 2];
+                double x2 = this.originX + this.points[i * 3 + 3];
+                double y2 = this.originY + this.points[i * 3 + 4];
+                double z2 = this.originZ + this.points[i * 3 + 5];
+
+                Vec3d start = new Vec3d(x1, y1, z1);
+                Vec3d end = new Vec3d(x2, y2, z2);
+
+                RayTraceResult hit = this.traceBlocks(world, start, end);
+                if(hit != null) {
+                    end = hit.hitVec;
+                }
+
+                RayTraceResult entityHit = this.traceEntities(start, end);
+                if(entityHit != null) {
+                    hit = entityHit;
+                }
+
+                if(hit != null) {
+                    this.hit = hit;
+                    //Path ends at the start of the segment that hit something
+                    this.pointCount = i + 1;
+                    return;
+                }
+            }
         }
 
-        @Override
-        protected ItemStack getArrowStack() {
-            return ItemStack.EMPTY;
+        /**
+         * Walks the blocks intersected by the segment in order and ray traces the collidable ones
+         */
+        private RayTraceResult traceBlocks(World world, Vec3d start, Vec3d end) {
+            int x = MathHelper.floor(start.x);
+            int y = MathHelper.floor(start.y);
+            int z = MathHelper.floor(start.z);
+
+            double dx = end.x - start.x;
+            double dy = end.y - start.y;
+            double dz = end.z - start.z;
+
+            int stepX = dx > 0 ? 1 : dx < 0 ? -1 : 0;
+            int stepY = dy > 0 ? 1 : dy < 0 ? -1 : 0;
+            int stepZ = dz > 0 ? 1 : dz < 0 ? -1 : 0;
+
+            double deltaX = stepX != 0 ? Math.abs(1.0D / dx) : Double.MAX_VALUE;
+            double deltaY = stepY != 0 ? Math.abs(1.0D / dy) : Double.MAX_VALUE;
+            double deltaZ = stepZ != 0 ? Math.abs(1.0D / dz) : Double.MAX_VALUE;
+
+            double maxX = stepX > 0 ? (x + 1 - start.x) * deltaX : stepX < 0 ? (start.x - x) * deltaX : Double.MAX_VALUE;
+            double maxY = stepY > 0 ? (y + 1 - start.y) * deltaY : stepY < 0 ? (start.y - y) * deltaY : Double.MAX_VALUE;
+            double maxZ = stepZ > 0 ? (z + 1 - start.z) * deltaZ : stepZ < 0 ? (start.z - z) * deltaZ : Double.MAX_VALUE;
+
+            int steps = Math.abs(MathHelper.floor(end.x) - x) + Math.abs(MathHelper.floor(end.y) - y) + Math.abs(MathHelper.floor(end.z) - z);
+
+            for(int i = 0; i <= steps; i++) {
+                if(y >= 0 && y < 256) {
+                    this.checkPos.setPos(x, y, z);
+                    IBlockState state = this.getCollisionState(world, this.checkPos);
+                    if(state != Blocks.AIR.getDefaultState()) {
+                        RayTraceResult hit = state.collisionRayTrace(world, this.checkPos.toImmutable(), start, end);
+                        if(hit != null) {
+                            return hit;
+                        }
+                    }
+                }
+
+                if(maxX < maxY && maxX < maxZ) {
+                    x += stepX;
+                    maxX += deltaX;
+                } else if(maxY < maxZ) {
+                    y += stepY;
+                    maxY += deltaY;
+                } else {
+                    z += stepZ;
+                    maxZ += deltaZ;
+                }
+            }
+
+            return null;
         }
 
-        @Override
-        public boolean isInWater() {
-            return false;
+        private IBlockState getCollisionState(World world, BlockPos pos) {
+            long key = pos.toLong();
+            IBlockState state = this.blockCollisionGrid.get(key);
+            if(state == null) {
+                state = world.getBlockState(pos);
+                //Same check as World#rayTraceBlocks when ignoring blocks without a bounding box
+                if(state.getCollisionBoundingBox(world, pos) == Block.NULL_AABB || !state.getBlock().canCollideCheck(state, false)) {
+                    state = Blocks.AIR.getDefaultState();
+                }
+                this.blockCollisionGrid.put(key, state);
+            }
+            return state;
         }
 
-        @Override
-        public boolean handleWaterMovement() {
-            if (this.world.handleMaterialAcceleration(this.getEntityBoundingBox().expand(0.0D, -0.4000000059604645D, 0.0D).contract(0.001D, 0.001D, 0.001D), Material.WATER, this)) {
-                this.fallDistance = 0.0F;
-                this.inWater = true;
-            } else {
-                this.inWater = false;
+        private RayTraceResult traceEntities(Vec3d start, Vec3d end) {
+            double minX = Math.min(start.x, end.x), minY = Math.min(start.y, end.y), minZ = Math.min(start.z, end.z);
+            double maxX = Math.max(start.x, end.x), maxY = Math.max(start.y, end.y), maxZ = Math.max(start.z, end.z);
+
+            Entity closest = null;
+            double closestDistSq = Double.MAX_VALUE;
+
+            for(int i = 0; i < this.entityCandidates.size(); i++) {
+                Entity entity = this.entityCandidates.get(i);
+                AxisAlignedBB box = entity.getEntityBoundingBox();
+
+                if(box.maxX + 0.3D > minX && box.minX - 0.3D < maxX && box.maxY + 0.3D > minY && box.minY - 0.3D < maxY && box.maxZ + 0.3D > minZ && box.minZ - 0.3D < maxZ) {
+                    RayTraceResult intercept = box.grow(0.3D).calculateIntercept(start, end);
+                    if(intercept != null) {
+                        double distSq = start.squareDistanceTo(intercept.hitVec);
+                        if(distSq < closestDistSq) {
+                            closest = entity;
+                            closestDistSq = distSq;
+                        }
+                    }
+                }
             }
-            return this.inWater;
+
+            return closest != null ? new RayTraceResult(closest) : null;
         }
     }
 
+    private static final Trajectory TRAJECTORY = new Trajectory();
+
     public static void setRandomYawPitch() {
         randomYawPitchSet = false;
     }
@@ -78,6 +282,7 @@ public class ArrowPredictionRenderer {
 
     public static void render(float quality) {
         EntityPlayer player = Minecraft.getMinecraft().player;
+        World world = Minecraft.getMinecraft().world;
         if(player.getActiveHand() == null) return;
         ItemStack stack = player.getHeldItem(player.getActiveHand());
         if(stack.isEmpty() || !(stack.getItem() instanceof ItemBow)) {
@@ -88,8 +293,8 @@ public class ArrowPredictionRenderer {
             randomYawPitchSet = true;
             lastQuality = quality;
             float maxOffset = 3.0F;
-            randYaw = (maxOffset / 2.0F - Minecraft.getMinecraft().world.rand.nextFloat() * maxOffset * 2.0F) * (1.0F - quality);
-            randPitch = (maxOffset / 2.0F - Minecraft.getMinecraft().world.rand.nextFloat() * maxOffset * 2.0F) * (1.0F - quality);
+            randYaw = (maxOffset / 2.0F - world.rand.nextFloat() * maxOffset * 2.0F) * (1.0F - quality);
+            randPitch = (maxOffset / 2.0F - world.rand.nextFloat() * maxOffset * 2.0F) * (1.0F - quality);
         }
         int maxDur = stack.getMaxItemUseDuration() - player.getItemInUseCount();
         float strength = (float)maxDur / 20.0F;
@@ -97,27 +302,31 @@ public class ArrowPredictionRenderer {
         if(strength < 0.1f || strength > 1.0f) {
             strength = 1.0f;
         }
-        double px = player.posX;
-        double py = player.posY;
-        double pz = player.posZ;
-        float pYaw = player.rotationYaw;
-        float pPitch = player.rotationPitch;
-        player.posX = Minecraft.getMinecraft().getRenderManager().renderPosX;
-        player.posY = Minecraft.getMinecraft().getRenderManager().renderPosY;
-        player.posZ = Minecraft.getMinecraft().getRenderManager().renderPosZ;
-        player.rotationYaw += randYaw;
-        player.rotationPitch += randPitch;
-        //TODO: Mabye find a better way to simulate an arrow
-        EntityArrowSilent ea = new EntityArrowSilent(Minecraft.getMinecraft().world, player);
-        ea.shoot(player, player.rotationPitch, player.rotationYaw, 0.0F, strength * 3.0f, 1.0f);
-        player.posX = px;
-        player.posY = py;
-        player.posZ = pz;
-        player.rotationYaw = pYaw;
-        player.rotationPitch = pPitch;
-        double rx = Minecraft.getMinecraft().getRenderManager().renderPosX;
-        double ry = Minecraft.getMinecraft().getRenderManager().renderPosY;
-        double rz = Minecraft.getMinecraft().getRenderManager().renderPosZ;
+
+        RenderManager renderManager = Minecraft.getMinecraft().getRenderManager();
+        double rx = renderManager.renderPosX;
+        double ry = renderManager.renderPosY;
+        double rz = renderManager.renderPosZ;
+
+        //Same initial position and motion as an arrow shot by the player, see EntityArrow#shoot
+        float yaw = player.rotationYaw + randYaw;
+        float pitch = player.rotationPitch + randPitch;
+        double dirX = -MathHelper.sin(yaw * 0.017453292F) * MathHelper.cos(pitch * 0.017453292F);
+        double dirY = -MathHelper.sin(pitch * 0.017453292F);
+        double dirZ = MathHelper.cos(yaw * 0.017453292F) * MathHelper.cos(pitch * 0.017453292F);
+        double velocity = strength * 3.0f / Math.sqrt(dirX * dirX + dirY * dirY + dirZ * dirZ);
+        double motionX = dirX * velocity + player.motionX;
+        double motionY = dirY * velocity + (player.onGround ? 0.0D : player.motionY);
+        double motionZ = dirZ * velocity + player.motionZ;
+        double originX = rx;
+        double originY = ry + player.getEyeHeight() - 0.10000000149011612D;
+        double originZ = rz;
+
+        Trajectory trajectory = TRAJECTORY;
+        if(!trajectory.isValid(world, originX, originY, originZ, motionX, motionY, motionZ)) {
+            trajectory.update(world, player, originX, originY, originZ, motionX, motionY, motionZ);
+        }
+
         double startX = rx - (double)(MathHelper.cos(player.rotationYaw / 180.0F * (float)Math.PI) * 0.46F);
         double startY = ry - 0.10000000149011612D + 1.5D;
         double startZ = rz - (double)(MathHelper.sin(player.rotationYaw / 180.0F * (float)Math.PI) * 0.46F);
@@ -133,106 +342,64 @@ public class ArrowPredictionRenderer {
         GlStateManager.glLineWidth(alpha * 3.5F);
         GlStateManager.color(1.0f, 1.0f, 1.0f, alpha);
 
-        boolean drawing = true;
         GlStateManager.glBegin(GL11.GL_LINES);
-        for(int i = 0; i < 1000; i++) {
-            ea.onUpdate();
+        for(int i = 1; i < trajectory.pointCount; i++) {
+            double x = originX + trajectory.points[i * 3];
+            double y = originY + trajectory.points[i * 3 + 1];
+            double z = originZ + trajectory.points[i * 3 + 2];
 
             GL11.glVertex3d(lastX - rx, lastY - ry, lastZ - rz);
-            GL11.glVertex3d(ea.posX - rx, ea.posY - ry, ea.posZ - rz);
-            lastX = ea.posX;
-            lastY = ea.posY;
-            lastZ = ea.posZ;
-
-            RayTraceResult collisionPoint = getCollision(ea);
-            if(collisionPoint != null) {
-                if(collisionPoint.typeOfHit == RayTraceResult.Type.BLOCK) {
-                    drawing = false;
-                    GL11.glVertex3d(ea.posX - rx, ea.posY - ry, ea.posZ - rz);
-                    GL11.glVertex3d(collisionPoint.hitVec.x-rx, collisionPoint.hitVec.y-ry, collisionPoint.hitVec.z-rz);
-                    GL11.glEnd();
-                    GL11.glLineWidth(2.0f);
-                    GlStateManager.color(1.0f, 0.0f, 0.0f, quality);
-                    GL11.glEnable(GL11.GL_LINE_SMOOTH);
-                    GL11.glBegin(GL11.GL_LINES);
-                    if(collisionPoint.sideHit == EnumFacing.DOWN) {
-                        GL11.glVertex3d(collisionPoint.hitVec.x-0.1-rx, collisionPoint.hitVec.y-0.001-ry, collisionPoint.hitVec.z-0.1-rz);
-                        GL11.glVertex3d(collisionPoint.hitVec.x+0.1-rx, collisionPoint.hitVec.y-0.001-ry, collisionPoint.hitVec.z+0.1-rz);
-                        GL11.glVertex3d(collisionPoint.hitVec.x+0.1-rx, collisionPoint.hitVec.y-0.001-ry, collisionPoint.hitVec.z-0.1-rz);
-                        GL11.glVertex3d(collisionPoint.hitVec.x-0.1-rx, collisionPoint.hitVec.y-0.001-ry, collisionPoint.hitVec.z+0.1-rz);
-                    } else if(collisionPoint.sideHit == EnumFacing.UP) {
-                        GL11.glVertex3d(collisionPoint.hitVec.x-0.1-rx, collisionPoint.hitVec.y+0.001-ry, collisionPoint.hitVec.z-0.1-rz);
-                        GL11.glVertex3d(collisionPoint.hitVec.x+0.1-rx, collisionPoint.hitVec.y+0.001-ry, collisionPoint.hitVec.z+0.1-rz);
-                        GL11.glVertex3d(collisionPoint.hitVec.x+0.1-rx, collisionPoint.hitVec.y+0.001-ry, collisionPoint.hitVec.z-0.1-rz);
-                        GL11.glVertex3d(collisionPoint.hitVec.x-0.1-rx, collisionPoint.hitVec.y+0.001-ry, collisionPoint.hitVec.z+0.1-rz);
-                    } else if(collisionPoint.sideHit == EnumFacing.NORTH) {
-                        GL11.glVertex3d(collisionPoint.hitVec.x-0.1-rx, collisionPoint.hitVec.y-0.1-ry, collisionPoint.hitVec.z-0.001-rz);
-                        GL11.glVertex3d(collisionPoint.hitVec.x+0.1-rx, collisionPoint.hitVec.y+0.1-ry, collisionPoint.hitVec.z-0.001-rz);
-                        GL11.glVertex3d(collisionPoint.hitVec.x+0.1-rx, collisionPoint.hitVec.y-0.1-ry, collisionPoint.hitVec.z-0.001-rz);
-                        GL11.glVertex3d(collisionPoint.hitVec.x-0.1-rx, collisionPoint.hitVec.y+0.1-ry, collisionPoint.hitVec.z-0.001-rz);
-                    } else if(collisionPoint.sideHit == EnumFacing.SOUTH) {
-                        GL11.glVertex3d(collisionPoint.hitVec.x-0.1-rx, collisionPoint.hitVec.y-0.1-ry, collisionPoint.hitVec.z+0.001-rz);
-                        GL11.glVertex3d(collisionPoint.hitVec.x+0.1-rx, collisionPoint.hitVec.y+0.1-ry, collisionPoint.hitVec.z+0.001-rz);
-                        GL11.glVertex3d(collisionPoint.hitVec.x+0.1-rx, collisionPoint.hitVec.y-0.1-ry, collisionPoint.hitVec.z+0.001-rz);
-                        GL11.glVertex3d(collisionPoint.hitVec.x-0.1-rx, collisionPoint.hitVec.y+0.1-ry, collisionPoint.hitVec.z+0.001-rz);
-                    } else if(collisionPoint.sideHit == EnumFacing.WEST) {
-                        GL11.glVertex3d(collisionPoint.hitVec.x-0.001-rx, collisionPoint.hitVec.y-0.1-ry, collisionPoint.hitVec.z-0.1-rz);
-                        GL11.glVertex3d(collisionPoint.hitVec.x-0.001-rx, collisionPoint.hitVec.y+0.1-ry, collisionPoint.hitVec.z+0.1-rz);
-                        GL11.glVertex3d(collisionPoint.hitVec.x-0.001-rx, collisionPoint.hitVec.y-0.1-ry, collisionPoint.hitVec.z+0.1-rz);
-                        GL11.glVertex3d(collisionPoint.hitVec.x-0.001-rx, collisionPoint.hitVec.y+0.1-ry, collisionPoint.hitVec.z-0.1-rz);
-                    } else if(collisionPoint.sideHit == EnumFacing.EAST) {
-                        GL11.glVertex3d(collisionPoint.hitVec.x+0.001-rx, collisionPoint.hitVec.y-0.1-ry, collisionPoint.hitVec.z-0.1-rz);
-                        GL11.glVertex3d(collisionPoint.hitVec.x+0.001-rx, collisionPoint.hitVec.y+0.1-ry, collisionPoint.hitVec.z+0.1-rz);
-                        GL11.glVertex3d(collisionPoint.hitVec.x+0.001-rx, collisionPoint.hitVec.y-0.1-ry, collisionPoint.hitVec.z+0.1-rz);
-                        GL11.glVertex3d(collisionPoint.hitVec.x+0.001-rx, collisionPoint.hitVec.y+0.1-ry, collisionPoint.hitVec.z-0.1-rz);
-                    }
-                    GlStateManager.glEnd();
-                } else if(collisionPoint.typeOfHit == RayTraceResult.Type.ENTITY) {
-                    Entity hitEntity = collisionPoint.entityHit;
-                    if(hitEntity != null) {
+            GL11.glVertex3d(x - rx, y - ry, z - rz);
+            lastX = x;
+            lastY = y;
+            lastZ = z;
+        }
 
-                    }
-                }
-                break;
+        RayTraceResult collisionPoint = trajectory.hit;
+        if(collisionPoint != null && collisionPoint.typeOfHit == RayTraceResult.Type.BLOCK) {
+            GL11.glVertex3d(lastX - rx, lastY - ry, lastZ - rz);
+            GL11.glVertex3d(collisionPoint.hitVec.x-rx, collisionPoint.hitVec.y-ry, collisionPoint.hitVec.z-rz);
+            GL11.glEnd();
+            GL11.glLineWidth(2.0f);
+            GlStateManager.color(1.0f, 0.0f, 0.0f, quality);
+            GL11.glEnable(GL11.GL_LINE_SMOOTH);
+            GL11.glBegin(GL11.GL_LINES);
+            if(collisionPoint.sideHit == EnumFacing.DOWN) {
+                GL11.glVertex3d(collisionPoint.hitVec.x-0.1-rx, collisionPoint.hitVec.y-0.001-ry, collisionPoint.hitVec.z-0.1-rz);
+                GL11.glVertex3d(collisionPoint.hitVec.x+0.1-rx, collisionPoint.hitVec.y-0.001-ry, collisionPoint.hitVec.z+0.1-rz);
+                GL11.glVertex3d(collisionPoint.hitVec.x+0.1-rx, collisionPoint.hitVec.y-0.001-ry, collisionPoint.hitVec.z-0.1-rz);
+                GL11.glVertex3d(collisionPoint.hitVec.x-0.1-rx, collisionPoint.hitVec.y-0.001-ry, collisionPoint.hitVec.z+0.1-rz);
+            } else if(collisionPoint.sideHit == EnumFacing.UP) {
+                GL11.glVertex3d(collisionPoint.hitVec.x-0.1-rx, collisionPoint.hitVec.y+0.001-ry, collisionPoint.hitVec.z-0.1-rz);
+                GL11.glVertex3d(collisionPoint.hitVec.x+0.1-rx, collisionPoint.hitVec.y+0.001-ry, collisionPoint.hitVec.z+0.1-rz);
+                GL11.glVertex3d(collisionPoint.hitVec.x+0.1-rx, collisionPoint.hitVec.y+0.001-ry, collisionPoint.hitVec.z-0.1-rz);
+                GL11.glVertex3d(collisionPoint.hitVec.x-0.1-rx, collisionPoint.hitVec.y+0.001-ry, collisionPoint.hitVec.z+0.1-rz);
+            } else if(collisionPoint.sideHit == EnumFacing.NORTH) {
+                GL11.glVertex3d(collisionPoint.hitVec.x-0.1-rx, collisionPoint.hitVec.y-0.1-ry, collisionPoint.hitVec.z-0.001-rz);
+                GL11.glVertex3d(collisionPoint.hitVec.x+0.1-rx, collisionPoint.hitVec.y+0.1-ry, collisionPoint.hitVec.z-0.001-rz);
+                GL11.glVertex3d(collisionPoint.hitVec.x+0.1-rx, collisionPoint.hitVec.y-0.1-ry, collisionPoint.hitVec.z-0.001-rz);
+                GL11.glVertex3d(collisionPoint.hitVec.x-0.1-rx, collisionPoint.hitVec.y+0.1-ry, collisionPoint.hitVec.z-0.001-rz);
+            } else if(collisionPoint.sideHit == EnumFacing.SOUTH) {
+                GL11.glVertex3d(collisionPoint.hitVec.x-0.1-rx, collisionPoint.hitVec.y-0.1-ry, collisionPoint.hitVec.z+0.001-rz);
+                GL11.glVertex3d(collisionPoint.hitVec.x+0.1-rx, collisionPoint.hitVec.y+0.1-ry, collisionPoint.hitVec.z+0.001-rz);
+                GL11.glVertex3d(collisionPoint.hitVec.x+0.1-rx, collisionPoint.hitVec.y-0.1-ry, collisionPoint.hitVec.z+0.001-rz);
+                GL11.glVertex3d(collisionPoint.hitVec.x-0.1-rx, collisionPoint.hitVec.y+0.1-ry, collisionPoint.hitVec.z+0.001-rz);
+            } else if(collisionPoint.sideHit == EnumFacing.WEST) {
+                GL11.glVertex3d(collisionPoint.hitVec.x-0.001-rx, collisionPoint.hitVec.y-0.1-ry, collisionPoint.hitVec.z-0.1-rz);
+                GL11.glVertex3d(collisionPoint.hitVec.x-0.001-rx, collisionPoint.hitVec.y+0.1-ry, collisionPoint.hitVec.z+0.1-rz);
+                GL11.glVertex3d(collisionPoint.hitVec.x-0.001-rx, collisionPoint.hitVec.y-0.1-ry, collisionPoint.hitVec.z+0.1-rz);
+                GL11.glVertex3d(collisionPoint.hitVec.x-0.001-rx, collisionPoint.hitVec.y+0.1-ry, collisionPoint.hitVec.z-0.1-rz);
+            } else if(collisionPoint.sideHit == EnumFacing.EAST) {
+                GL11.glVertex3d(collisionPoint.hitVec.x+0.001-rx, collisionPoint.hitVec.y-0.1-ry, collisionPoint.hitVec.z-0.1-rz);
+                GL11.glVertex3d(collisionPoint.hitVec.x+0.001-rx, collisionPoint.hitVec.y+0.1-ry, collisionPoint.hitVec.z+0.1-rz);
+                GL11.glVertex3d(collisionPoint.hitVec.x+0.001-rx, collisionPoint.hitVec.y-0.1-ry, collisionPoint.hitVec.z+0.1-rz);
+                GL11.glVertex3d(collisionPoint.hitVec.x+0.001-rx, collisionPoint.hitVec.y+0.1-ry, collisionPoint.hitVec.z-0.1-rz);
             }
         }
-        if(drawing) GL11.glEnd();
+        GlStateManager.glEnd();
 
         GL11.glEnable(GL11.GL_TEXTURE_2D);
         GL11.glColor4f(1, 1, 1, 1);
         GL11.glPopMatrix();
     }
-
-    private static RayTraceResult getCollision(EntityArrowSilent ea) {
-        Vec3d start = new Vec3d(ea.posX, ea.posY, ea.posZ);
-        Vec3d dest = new Vec3d(ea.posX + ea.motionX, ea.posY + ea.motionY, ea.posZ + ea.motionZ);
-        RayTraceResult hit = Minecraft.getMinecraft().world.rayTraceBlocks(start, dest, false, true, false);
-        start = new Vec3d(ea.posX, ea.posY, ea.posZ);
-        dest = new Vec3d(ea.posX + ea.motionX, ea.posY + ea.motionY, ea.posZ + ea.motionZ);
-        if (hit != null) {
-            dest = new Vec3d(hit.hitVec.x, hit.hitVec.y, hit.hitVec.z);
-        }
-        Entity collidedEntity = null;
-        List entityList = Minecraft.getMinecraft().world.getEntitiesWithinAABBExcludingEntity(ea, ea.getEntityBoundingBox().expand(ea.motionX, ea.motionY, ea.motionZ).grow(1.0D, 1.0D, 1.0D));
-        double lastDistance = 0.0D;
-        for (int c = 0; c < entityList.size(); ++c) {
-            Entity currentEntity = (Entity)entityList.get(c);
-            if (currentEntity.canBeCollidedWith() && (currentEntity != Minecraft.getMinecraft().player)) {
-                AxisAlignedBB entityBoundingBox = currentEntity.getEntityBoundingBox().grow((double)0.3F, (double)0.3F, (double)0.3F);
-                RayTraceResult collision = entityBoundingBox.calculateIntercept(start, dest);
-                if (collision != null) {
-                    double currentDistance = start.distanceTo(collision.hitVec);
-
-                    if (currentDistance < lastDistance || lastDistance == 0.0D) {
-                        collidedEntity = currentEntity;
-                        lastDistance = currentDistance;
-                    }
-                }
-            }
-        }
-        if (collidedEntity != null) {
-            hit = new RayTraceResult(collidedEntity);
-        }
-        return hit;
-    }
 }
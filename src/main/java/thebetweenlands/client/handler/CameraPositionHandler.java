@@ -7,7 +7,6 @@ import java.util.Random;
 import net.minecraft.client.Minecraft;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
@@ -32,18 +31,9 @@ public class CameraPositionHandler {
 		World world = renderViewEntity.world;
 		
 		if(renderViewEntity != null) {
-			for(Entity entity : (List<Entity>) world.loadedEntityList) {
-				if(entity instanceof IEntityScreenShake) {
-					IEntityScreenShake shake = (IEntityScreenShake) entity;
-					screenShake += shake.getShakeIntensity(renderViewEntity);
-				}
-			}
-
-			for(TileEntity tile : (List<TileEntity>) world.loadedTileEntityList) {
-				if(tile instanceof IEntityScreenShake) {
-					IEntityScreenShake shake = (IEntityScreenShake) tile;
-					screenShake += shake.getShakeIntensity(renderViewEntity);
-				}
+			//Contains both entities and tile entities
+			for(IEntityScreenShake shake : ClientObjectIndex.getObjects(IEntityScreenShake.class)) {
+				screenShake += shake.getShakeIntensity(renderViewEntity);
 			}
 			
 			//Crumbling cragrock tower
@@ -90,10 +80,7 @@ public class CameraPositionHandler {
 			this.offsetEntities.clear();
 			
 			List<IEntityCameraOffset> offsetEntities = new ArrayList<IEntityCameraOffset>();
-			for(Entity entity : (List<Entity>) renderViewEntity.world.loadedEntityList) {
-				if(entity instanceof IEntityCameraOffset)
-					offsetEntities.add((IEntityCameraOffset)entity);
-			}
+			offsetEntities.addAll(ClientObjectIndex.getObjects(IEntityCameraOffset.class));
 		} else {
 			this.shakeStrength = 0.0f;
 			this.offsetEntities.clear();
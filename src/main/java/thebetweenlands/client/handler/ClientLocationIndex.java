@@ -0,0 +1,248 @@
+package thebetweenlands.client.handler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import thebetweenlands.api.storage.ILocalStorage;
+import thebetweenlands.common.world.storage.BetweenlandsWorldStorage;
+import thebetweenlands.common.world.storage.location.EnumLocationType;
+import thebetweenlands.common.world.storage.location.LocationAmbience;
+import thebetweenlands.common.world.storage.location.LocationStorage;
+
+/**
+ * Spatial index of the locations loaded in the client world. Locations are hashed into the chunk columns
+ * their bounds overlap and the index is rebuilt whenever a location of the client world is loaded, unloaded
+ * or changes, see {@link LocationStorage#getClientChangeCount()}. Ambience queries are memoized per block position
+ * until the index is rebuilt.
+ */
+@SideOnly(Side.CLIENT)
+public final class ClientLocationIndex {
+	private ClientLocationIndex() { }
+
+	//Locations that span more chunks than this in either direction are not hashed but always tested
+	private static final int MAX_HASHED_CHUNKS = 64;
+
+	private static final int MAX_MEMOIZED_POSITIONS = 4096;
+
+	private static World indexedWorld;
+	private static int indexedChangeCount;
+
+	//Lists are sorted by layer, lowest layer first
+	private static final Long2ObjectMap<List<LocationStorage>> COLUMNS = new Long2ObjectOpenHashMap<>();
+	private static final List<LocationStorage> LARGE_LOCATIONS = new ArrayList<>();
+
+	private static final Map<EnumLocationType, List<LocationStorage>> LOCATIONS_BY_TYPE = new EnumMap<>(EnumLocationType.class);
+
+	private static final Long2ObjectMap<Optional<LocationAmbience>> AMBIENCE_BY_POSITION = new Long2ObjectOpenHashMap<>();
+	private static final BlockPos.MutableBlockPos CHECK_POS = new BlockPos.MutableBlockPos();
+
+	private static AxisAlignedBB lastEntityBox;
+	private static LocationAmbience lastEntityAmbience;
+
+	private static final List<LocationStorage> QUERY_RESULT = new ArrayList<>();
+
+	/**
+	 * Returns the highest priority ambience at the specified position. The result is memoized
+	 * per block position and evaluated at the block's center
+	 * @param world
+	 * @param position
+	 * @return
+	 */
+	@Nullable
+	public static LocationAmbience getAmbience(World world, Vec3d position) {
+		validate(world);
+
+		CHECK_POS.setPos(position.x, position.y, position.z);
+		long key = CHECK_POS.toLong();
+
+		Optional<LocationAmbience> ambience = AMBIENCE_BY_POSITION.get(key);
+
+		if(ambience == null) {
+			Vec3d center = new Vec3d(CHECK_POS.getX() + 0.5D, CHECK_POS.getY() + 0.5D, CHECK_POS.getZ() + 0.5D);
+
+			QUERY_RESULT.clear();
+
+			List<LocationStorage> column = COLUMNS.get(ChunkPos.asLong(CHECK_POS.getX() >> 4, CHECK_POS.getZ() >> 4));
+			if(column != null) {
+				for(int i = 0; i < column.size(); i++) {
+					LocationStorage location = column.get(i);
+					if(location.isInside(center)) {
+						QUERY_RESULT.add(location);
+					}
+				}
+			}
+
+			if(!LARGE_LOCATIONS.isEmpty()) {
+				for(int i = 0; i < LARGE_LOCATIONS.size(); i++) {
+					LocationStorage location = LARGE_LOCATIONS.get(i);
+					if(location.isInside(center)) {
+						QUERY_RESULT.add(location);
+					}
+				}
+				LocationStorage.sortByLayer(QUERY_RESULT);
+			}
+
+			ambience = Optional.ofNullable(LocationStorage.getHighestPriorityAmbience(QUERY_RESULT));
+			QUERY_RESULT.clear();
+
+			if(AMBIENCE_BY_POSITION.size() >= MAX_MEMOIZED_POSITIONS) {
+				AMBIENCE_BY_POSITION.clear();
+			}
+			AMBIENCE_BY_POSITION.put(key, ambience);
+		}
+
+		return ambience.orElse(null);
+	}
+
+	/**
+	 * Returns the highest priority ambience of the locations intersecting the specified entity.
+	 * The result is memoized for as long as the entity's bounding box doesn't change
+	 * @param entity
+	 * @return
+	 */
+	@Nullable
+	public static LocationAmbience getAmbience(Entity entity) {
+		validate(entity.world);
+
+		AxisAlignedBB box = entity.getEntityBoundingBox();
+
+		if(!box.equals(lastEntityBox)) {
+			QUERY_RESULT.clear();
+
+			int sx = MathHelper.floor(box.minX) >> 4;
+			int sz = MathHelper.floor(box.minZ) >> 4;
+			int ex = MathHelper.floor(box.maxX) >> 4;
+			int ez = MathHelper.floor(box.maxZ) >> 4;
+
+			for(int cx = sx; cx <= ex; cx++) {
+				for(int cz = sz; cz <= ez; cz++) {
+					List<LocationStorage> column = COLUMNS.get(ChunkPos.asLong(cx, cz));
+					if(column != null) {
+						addIntersecting(column, box);
+					}
+				}
+			}
+
+			addIntersecting(LARGE_LOCATIONS, box);
+
+			LocationStorage.sortByLayer(QUERY_RESULT);
+
+			lastEntityBox = box;
+			lastEntityAmbience = LocationStorage.getHighestPriorityAmbience(QUERY_RESULT);
+
+			QUERY_RESULT.clear();
+		}
+
+		return lastEntityAmbience;
+	}
+
+	private static void addIntersecting(List<LocationStorage> locations, AxisAlignedBB box) {
+		for(int i = 0; i < locations.size(); i++) {
+			LocationStorage location = locations.get(i);
+			if(location.intersects(box) && !QUERY_RESULT.contains(location)) {
+				QUERY_RESULT.add(location);
+			}
+		}
+	}
+
+	/**
+	 * Returns all loaded locations of the specified type
+	 * @param world
+	 * @param type
+	 * @return
+	 */
+	public static List<LocationStorage> getLocations(World world, EnumLocationType type) {
+		validate(world);
+		List<LocationStorage> locations = LOCATIONS_BY_TYPE.get(type);
+		return locations != null ? Collections.unmodifiableList(locations) : Collections.emptyList();
+	}
+
+	private static void validate(World world) {
+		if(world != indexedWorld || LocationStorage.getClientChangeCount() != indexedChangeCount) {
+			rebuild(world);
+		}
+	}
+
+	private static void rebuild(World world) {
+		clear();
+
+		indexedWorld = world;
+		indexedChangeCount = LocationStorage.getClientChangeCount();
+
+		for(ILocalStorage storage : BetweenlandsWorldStorage.forWorld(world).getLocalStorageHandler().getLoadedStorages()) {
+			if(storage instanceof LocationStorage) {
+				LocationStorage location = (LocationStorage) storage;
+				AxisAlignedBB bounds = location.getEnclosingBounds();
+
+				if(bounds != null) {
+					List<LocationStorage> typeLocations = LOCATIONS_BY_TYPE.get(location.getType());
+					if(typeLocations == null) {
+						LOCATIONS_BY_TYPE.put(location.getType(), typeLocations = new ArrayList<>());
+					}
+					typeLocations.add(location);
+
+					int sx = MathHelper.floor(bounds.minX) >> 4;
+					int sz = MathHelper.floor(bounds.minZ) >> 4;
+					int ex = MathHelper.floor(bounds.maxX) >> 4;
+					int ez = MathHelper.floor(bounds.maxZ) >> 4;
+
+					if(ex - sx >= MAX_HASHED_CHUNKS || ez - sz >= MAX_HASHED_CHUNKS) {
+						LARGE_LOCATIONS.add(location);
+					} else {
+						for(int cx = sx; cx <= ex; cx++) {
+							for(int cz = sz; cz <= ez; cz++) {
+								long key = ChunkPos.asLong(cx, cz);
+								List<LocationStorage> column = COLUMNS.get(key);
+								if(column == null) {
+									COLUMNS.put(key, column = new ArrayList<>(2));
+								}
+								column.add(location);
+							}
+						}
+					}
+				}
+			}
+		}
+
+		for(List<LocationStorage> column : COLUMNS.values()) {
+			LocationStorage.sortByLayer(column);
+		}
+		LocationStorage.sortByLayer(LARGE_LOCATIONS);
+	}
+
+	private static void clear() {
+		indexedWorld = null;
+		COLUMNS.clear();
+		LARGE_LOCATIONS.clear();
+		LOCATIONS_BY_TYPE.clear();
+		AMBIENCE_BY_POSITION.clear();
+		lastEntityBox = null;
+		lastEntityAmbience = null;
+	}
+
+	@SubscribeEvent
+	public static void onWorldUnload(WorldEvent.Unload event) {
+		if(event.getWorld() == indexedWorld) {
+			clear();
+		}
+	}
+}
@@ -0,0 +1,196 @@
+package thebetweenlands.client.handler;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IWorldEventListener;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import thebetweenlands.api.entity.IBLBoss;
+import thebetweenlands.api.entity.IEntityCameraOffset;
+import thebetweenlands.api.entity.IEntityMusic;
+import thebetweenlands.api.entity.IEntityScreenShake;
+import thebetweenlands.common.entity.EntityRopeNode;
+
+/**
+ * Indexes the entities and tile entities of the client world by a fixed set of types, so that
+ * client handlers only iterate over the objects they are interested in instead of the entire
+ * loaded entity or tile entity list. Entities are indexed when they join or leave the world,
+ * tile entities must notify the index through the proxy when they are loaded or unloaded.
+ */
+@SideOnly(Side.CLIENT)
+public final class ClientObjectIndex {
+	private ClientObjectIndex() { }
+
+	private static final Class<?>[] TRACKED_TYPES = {
+			IEntityScreenShake.class,
+			IEntityCameraOffset.class,
+			IEntityMusic.class,
+			IBLBoss.class,
+			EntityRopeNode.class,
+			EntityLivingBase.class
+	};
+
+	private static final Map<Class<?>, Set<Object>> INDEX = new IdentityHashMap<>();
+
+	//The new client world is loaded before the previous one is unloaded, so only objects of this world are indexed
+	private static World indexedWorld;
+
+	static {
+		for(Class<?> type : TRACKED_TYPES) {
+			INDEX.put(type, Collections.newSetFromMap(new IdentityHashMap<>()));
+		}
+	}
+
+	private static class Listener implements IWorldEventListener {
+		@Override
+		public void notifyBlockUpdate(World worldIn, BlockPos pos, IBlockState oldState, IBlockState newState,
+				int flags) { }
+
+		@Override
+		public void notifyLightSet(BlockPos pos) { }
+
+		@Override
+		public void markBlockRangeForRenderUpdate(int x1, int y1, int z1, int x2, int y2, int z2) { }
+
+		@Override
+		public void playSoundToAllNearExcept(EntityPlayer player, SoundEvent soundIn, SoundCategory category, double x,
+				double y, double z, float volume, float pitch) { }
+
+		@Override
+		public void playRecord(SoundEvent soundIn, BlockPos pos) { }
+
+		@Override
+		public void spawnParticle(int particleID, boolean ignoreRange, double xCoord, double yCoord, double zCoord,
+				double xSpeed, double ySpeed, double zSpeed, int... parameters) { }
+
+		@Override
+		public void spawnParticle(int id, boolean ignoreRange, boolean p_190570_3_, double x, double y, double z,
+				double xSpeed, double ySpeed, double zSpeed, int... parameters) { }
+
+		@Override
+		public void broadcastSound(int soundID, BlockPos pos, int data) { }
+
+		@Override
+		public void playEvent(EntityPlayer player, int type, BlockPos blockPosIn, int data) { }
+
+		@Override
+		public void sendBlockBreakProgress(int breakerId, BlockPos pos, int progress) { }
+
+		@Override
+		public void onEntityAdded(Entity entityIn) {
+			if(entityIn.world == indexedWorld) {
+				add(entityIn);
+			}
+		}
+
+		@Override
+		public void onEntityRemoved(Entity entityIn) {
+			remove(entityIn);
+		}
+	}
+
+	private static final Listener LISTENER = new Listener();
+
+	/**
+	 * Returns all loaded entities and tile entities of the client world that are an instance of the specified type.
+	 * The returned set is a live view and must not be iterated while entities may join or leave the world.
+	 * @param type One of the tracked types
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Set<T> getObjects(Class<T> type) {
+		Set<Object> objects = INDEX.get(type);
+		if(objects == null) {
+			throw new IllegalArgumentException("Type " + type.getName() + " is not indexed");
+		}
+		return (Set<T>) Collections.unmodifiableSet(objects);
+	}
+
+	/**
+	 * Adds the tile entity to the index. Called by tile entities implementing a tracked type when they are loaded
+	 * @param tile
+	 */
+	public static void onTileLoaded(TileEntity tile) {
+		if(tile.getWorld() == indexedWorld) {
+			add(tile);
+		}
+	}
+
+	/**
+	 * Removes the tile entity from the index. Called by tile entities implementing a tracked type when they are invalidated or unloaded
+	 * @param tile
+	 */
+	public static void onTileUnloaded(TileEntity tile) {
+		remove(tile);
+	}
+
+	private static void add(Object obj) {
+		for(Class<?> type : TRACKED_TYPES) {
+			if(type.isInstance(obj)) {
+				INDEX.get(type).add(obj);
+			}
+		}
+	}
+
+	private static void remove(Object obj) {
+		for(Class<?> type : TRACKED_TYPES) {
+			if(type.isInstance(obj)) {
+				INDEX.get(type).remove(obj);
+			}
+		}
+	}
+
+	private static void clear() {
+		for(Set<Object> objects : INDEX.values()) {
+			objects.clear();
+		}
+	}
+
+	@SubscribeEvent
+	public static void onWorldLoad(WorldEvent.Load event) {
+		World world = event.getWorld();
+
+		if(world.isRemote) {
+			clear();
+
+			indexedWorld = world;
+			world.addEventListener(LISTENER);
+
+			for(Entity entity : world.loadedEntityList) {
+				add(entity);
+			}
+
+			for(TileEntity tile : world.loadedTileEntityList) {
+				add(tile);
+			}
+		}
+	}
+
+	@SubscribeEvent
+	public static void onWorldUnload(WorldEvent.Unload event) {
+		World world = event.getWorld();
+
+		if(world.isRemote) {
+			world.removeEventListener(LISTENER);
+
+			if(world == indexedWorld) {
+				indexedWorld = null;
+				clear();
+			}
+		}
+	}
+}
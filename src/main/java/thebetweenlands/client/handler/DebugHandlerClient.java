@@ -28,6 +28,7 @@ import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.text.TextComponentString;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
+import net.minecraftforge.client.event.RenderGameOverlayEvent;
 import net.minecraftforge.client.event.RenderWorldLastEvent;
 import net.minecraftforge.common.DimensionManager;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
@@ -35,7 +36,12 @@ import net.minecraftforge.fml.common.gameevent.InputEvent;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import thebetweenlands.api.storage.ILocalStorage;
+import thebetweenlands.client.render.shader.LightCuller;
+import thebetweenlands.client.render.shader.ShaderHelper;
+import thebetweenlands.client.render.shader.postprocessing.WorldShader;
 import thebetweenlands.common.config.BetweenlandsConfig;
+import thebetweenlands.common.handler.AreaEffectHandler;
+import thebetweenlands.common.handler.TileSleepHandler;
 import thebetweenlands.common.registries.ItemRegistry;
 import thebetweenlands.common.world.gen.ChunkGeneratorBetweenlands;
 import thebetweenlands.common.world.storage.BetweenlandsWorldStorage;
@@ -313,6 +319,23 @@ public class DebugHandlerClient {
 		}
 	}
 
+	@SubscribeEvent
+	public static void onDebugText(RenderGameOverlayEvent.Text event) {
+		Minecraft mc = Minecraft.getMinecraft();
+		if (BetweenlandsConfig.DEBUG.debug && mc.gameSettings.showDebugInfo && mc.player != null && mc.isIntegratedServerRunning()) {
+			WorldServer world = DimensionManager.getWorld(mc.player.dimension);
+			if (world != null) {
+				event.getRight().add(String.format("BL sleeping tiles: %d", TileSleepHandler.getSleepingTileCount(world)));
+				event.getRight().add(String.format("BL area effects: %d", AreaEffectHandler.getAreaEffectCount(world)));
+			}
+			WorldShader shader = ShaderHelper.INSTANCE.getWorldShader();
+			if (shader != null && ShaderHelper.INSTANCE.isWorldShaderActive()) {
+				LightCuller culler = shader.getLightCuller();
+				event.getRight().add(String.format("BL lights: %d/%d visible", culler.getVisibleCount(), shader.getLightSourcesAmount()));
+			}
+		}
+	}
+
 	@SubscribeEvent
 	public static void onGuiDrawPost(GuiContainerEvent.DrawForeground event) {
 		if (BetweenlandsConfig.DEBUG.debug && Keyboard.isKeyDown(Keyboard.KEY_LCONTROL)) {
@@ -28,7 +28,6 @@ import thebetweenlands.api.event.UpdateFogEvent;
 import thebetweenlands.api.misc.Fog;
 import thebetweenlands.api.misc.Fog.MutableFog;
 import thebetweenlands.api.misc.FogState;
-import thebetweenlands.api.storage.ILocalStorage;
 import thebetweenlands.client.render.shader.ShaderHelper;
 import thebetweenlands.common.TheBetweenlands;
 import thebetweenlands.common.block.terrain.BlockSwampWater;
@@ -211,7 +210,7 @@ public class FogHandler {
 		Fog biomeFog = event.getBiomeFog();
 		MutableFog fog = new MutableFog(event.getAmbientFog());
 
-		LocationAmbience ambience = LocationStorage.getAmbience(world, position);
+		LocationAmbience ambience = ClientLocationIndex.getAmbience(world, position);
 		
 		if(ambience != null && !ambience.hasCaveFog()) {
 			fog.setStart(biomeFog.getStart());
@@ -256,15 +255,12 @@ public class FogHandler {
 			}
 		}
 
-		BetweenlandsWorldStorage worldStorage = BetweenlandsWorldStorage.forWorld(world);
 		double closestSpiritTree = -1;
-		for(ILocalStorage storage : worldStorage.getLocalStorageHandler().getLoadedStorages()) {
-			if(storage instanceof LocationStorage && ((LocationStorage)storage).getType() == EnumLocationType.SPIRIT_TREE) {
-				double dist = position.distanceTo(storage.getBoundingBox().getCenter());
-				if(dist < 75) {
-					if(closestSpiritTree < 0 || dist < closestSpiritTree) {
-						closestSpiritTree = dist;
-					}
+		for(LocationStorage storage : ClientLocationIndex.getLocations(world, EnumLocationType.SPIRIT_TREE)) {
+			double dist = position.distanceTo(storage.getBoundingBox().getCenter());
+			if(dist < 75) {
+				if(closestSpiritTree < 0 || dist < closestSpiritTree) {
+					closestSpiritTree = dist;
 				}
 			}
 		}
@@ -105,16 +105,17 @@ public class MusicHandler {
 				Int2ObjectMap<IEntityMusic> closestMusicEntityMap = new Int2ObjectOpenHashMap<>();
 				
 				if(mc.world != null) {
-					for(Entity entity : this.mc.world.loadedEntityList) {
-						if(entity instanceof IEntityMusic) {
-							int layer = ((IEntityMusic) entity).getMusicLayer(player);
+					for(IEntityMusic music : ClientObjectIndex.getObjects(IEntityMusic.class)) {
+						if(music instanceof Entity) {
+							Entity entity = (Entity) music;
+							int layer = music.getMusicLayer(player);
 							
 							Entity closest = (Entity) closestMusicEntityMap.get(layer);
 							
 							if((closest == null || entity.getDistance(player) < closest.getDistance(player))
-									&& entity.getDistance(player) <= ((IEntityMusic)entity).getMusicRange(player)
-									&& ((IEntityMusic)entity).isMusicActive(player)) {
-								closestMusicEntityMap.put(layer, (IEntityMusic) entity);
+									&& entity.getDistance(player) <= music.getMusicRange(player)
+									&& music.isMusicActive(player)) {
+								closestMusicEntityMap.put(layer, music);
 							}
 						}
 					}
@@ -313,9 +313,8 @@ public class ScreenRenderHandler extends Gui {
 
 			if(BetweenlandsConfig.GENERAL.cavingRopeIndicator && player != null) {
 				boolean connected = false;
-				List<EntityRopeNode> ropeNodes = player.world.getEntitiesWithinAABB(EntityRopeNode.class, player.getEntityBoundingBox().grow(32, 32, 32));
-				for(EntityRopeNode rope : ropeNodes) {
-					if(rope.getNextNode() == player) {
+				for(EntityRopeNode rope : ClientObjectIndex.getObjects(EntityRopeNode.class)) {
+					if(rope.getNextNode() == player && rope.getEntityBoundingBox().intersects(player.getEntityBoundingBox().grow(32, 32, 32))) {
 						connected = true;
 						break;
 					}
@@ -33,6 +33,7 @@ import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import thebetweenlands.api.item.CorrosionHelper;
 import thebetweenlands.api.item.ICorrodible;
+import thebetweenlands.client.render.sprite.CorrosionTextureCache;
 import thebetweenlands.client.render.sprite.TextureCorrosion;
 import thebetweenlands.client.render.sprite.TextureFromData;
 import thebetweenlands.client.render.tile.RenderCenser;
@@ -49,6 +50,8 @@ public class TextureStitchHandler {
 
 	private final List<TextureCorrosion> stitchedCorrosionSprites = new ArrayList<TextureCorrosion>();
 
+	private final CorrosionTextureCache corrosionTextureCache = new CorrosionTextureCache(new File(Minecraft.getMinecraft().gameDir, "betweenlands/corrosion_cache"));
+
 	private final List<TextureStitcher> stitchers = new ArrayList<TextureStitcher>();
 
 	/**
@@ -157,6 +160,11 @@ public class TextureStitchHandler {
 			}
 		}
 
+		//Generate the corrosion overlays in parallel while the rest of the atlas is being loaded
+		long corrosionStartTime = System.nanoTime();
+		this.corrosionTextureCache.schedule(Minecraft.getMinecraft().getResourceManager(), this.stitchedCorrosionSprites);
+		TheBetweenlands.logger.info("Scheduled " + this.stitchedCorrosionSprites.size() + " corrosion textures in " + ((System.nanoTime() - corrosionStartTime) / 1000000.0f) + "ms");
+
 		//Stitch textures and split animations if necessary
 		Map<ResourceLocation, Frame[]> animationFramesCache = new HashMap<>();
 		IResourceManager resourceManager = Minecraft.getMinecraft().getResourceManager();
@@ -243,6 +251,7 @@ public class TextureStitchHandler {
 			TextureAtlasSprite parentSprite = map.getTextureExtry(parentIconName);
 			if(parentSprite != null)
 				corrosionSprite.setParentSprite(parentSprite);
+			corrosionSprite.setPrecomputedOverlay(null);
 		}
 		this.stitchedCorrosionSprites.clear();
 
@@ -7,11 +7,7 @@ import javax.annotation.Nullable;
 
 import org.apache.commons.codec.digest.DigestUtils;
 
-import net.minecraft.client.Minecraft;
-import net.minecraft.client.renderer.texture.ITextureObject;
-import net.minecraft.client.renderer.texture.TextureManager;
 import net.minecraft.util.ResourceLocation;
-import thebetweenlands.client.render.sprite.TextureGalleryEntry;
 import thebetweenlands.common.TheBetweenlands;
 import thebetweenlands.common.config.BetweenlandsConfig;
 import thebetweenlands.common.lib.ModInfo;
@@ -69,24 +65,14 @@ public class GalleryEntry {
 		return new ResourceLocation(ModInfo.ID, "online_gallery_" + this.sha256);
 	}
 
-	public boolean loadTexture() {
-		TextureManager manager = Minecraft.getMinecraft().getTextureManager();
-
-		ITextureObject texture = manager.getTexture(this.getLocation());
-
-		if(texture == null) {
-			TheBetweenlands.logger.info("Loading gallery picture '" + this.getSha256() + "'/'" + this.getUrl() + "'/'" + this.getLocation() + "'");
-			return manager.loadTexture(this.getLocation(), new TextureGalleryEntry(this));
-		}
-
-		return texture instanceof TextureGalleryEntry;
-	}
-
+	/**
+	 * Returns the location of the picture's texture if it is loaded, otherwise
+	 * schedules it to be loaded asynchronously and returns the fallback texture
+	 * @param fallback
+	 * @return
+	 */
 	public ResourceLocation loadTextureAndGetLocation(ResourceLocation fallback) {
-		if(this.loadTexture()) {
-			return this.getLocation();
-		}
-		return fallback;
+		return GalleryTextureCache.INSTANCE.getTexture(this, fallback);
 	}
 
 	public File getPictureFile() {
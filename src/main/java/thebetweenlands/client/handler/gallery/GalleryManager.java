@@ -9,13 +9,18 @@ import java.lang.reflect.Type;
 import java.net.HttpURLConnection;
 import java.net.Proxy;
 import java.net.URL;
+import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -47,6 +52,26 @@ public final class GalleryManager {
 
 	private static final AtomicInteger GALLERY_DOWNLOADER_THREAD_ID = new AtomicInteger(0);
 
+	private static final int MAX_CONCURRENT_PICTURE_DOWNLOADS = 3;
+
+	private static final ExecutorService PICTURE_DOWNLOADER = Executors.newFixedThreadPool(MAX_CONCURRENT_PICTURE_DOWNLOADS, new ThreadFactory() {
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread thread = new Thread(r);
+			thread.setName("BL Gallery Picture Downloader #" + GALLERY_PICTURE_DOWNLOADER_THREAD_ID.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+	});
+
+	private static final AtomicInteger GALLERY_PICTURE_DOWNLOADER_THREAD_ID = new AtomicInteger(0);
+
+	/**
+	 * URL of the online gallery index. Can be overridden with -Dthebetweenlands.galleryIndex=...,
+	 * e.g. with a file URL to a local copy of the gallery that stands in for the download server
+	 */
+	private static final String INDEX_URL = System.getProperty("thebetweenlands.galleryIndex", "https://raw.githubusercontent.com/Angry-Pixel/The-Betweenlands/online_picture_gallery/index.json");
+
 	public static final Gson GSON = new Gson();
 	public static final Type STRING_ARRAY_TYPE = new TypeToken<String[]>() {}.getType();
 
@@ -111,22 +136,20 @@ public final class GalleryManager {
 					try {
 						TheBetweenlands.logger.info("Updating gallery");
 
-						URL url = new URL("https://raw.githubusercontent.com/Angry-Pixel/The-Betweenlands/online_picture_gallery/index.json");
-						HttpURLConnection request = null;
+						URL url = new URL(INDEX_URL);
+						URLConnection request = null;
 						try {
-							request = GalleryManager.this.createHttpConnection(url, proxy);
+							request = GalleryManager.this.createConnection(url, proxy);
 							request.setRequestProperty("Content-Type", "application/json; charset=utf-8");
 							request.connect();
 
-							if (request.getResponseCode() == HttpURLConnection.HTTP_OK) {
+							if (GalleryManager.this.isResponseOk(request)) {
 								JsonParser parser = new JsonParser();
 								final JsonElement jsonElement = parser.parse(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
 								GalleryManager.this.updateLocalIndexFromOnline(folder, jsonElement, proxy);
 							}
 						} finally {
-							if(request != null) {
-								request.disconnect();
-							}
+							GalleryManager.this.disconnect(request);
 						}
 					} catch(Exception ex) {
 						TheBetweenlands.logger.error("Failed downloading gallery data", ex);
@@ -136,18 +159,32 @@ public final class GalleryManager {
 		}
 	}
 
-	private HttpURLConnection createHttpConnection(URL url, @Nullable Proxy proxy) throws IOException {
-		HttpURLConnection request = null;
-		if(proxy != null) {
-			request = (HttpURLConnection) url.openConnection(proxy);
+	/**
+	 * Opens a connection to the specified URL. Besides HTTP(S) URLs file URLs are
+	 * supported as well so that a local copy of the gallery can be used
+	 */
+	private URLConnection createConnection(URL url, @Nullable Proxy proxy) throws IOException {
+		URLConnection request = null;
+		if(proxy != null && !"file".equals(url.getProtocol())) {
+			request = url.openConnection(proxy);
 		} else {
-			request = (HttpURLConnection) url.openConnection();
+			request = url.openConnection();
 		}
 		request.setDoInput(true);
 		request.setDoOutput(false);
 		return request;
 	}
 
+	private boolean isResponseOk(URLConnection request) throws IOException {
+		return !(request instanceof HttpURLConnection) || ((HttpURLConnection) request).getResponseCode() == HttpURLConnection.HTTP_OK;
+	}
+
+	private void disconnect(@Nullable URLConnection request) {
+		if(request instanceof HttpURLConnection) {
+			((HttpURLConnection) request).disconnect();
+		}
+	}
+
 	private void updateLocalIndexFromOnline(File folder, JsonElement json, @Nullable Proxy proxy) {
 		Map<String, GalleryEntry> onlineEntries = this.parseOnlineIndex(folder, json);
 
@@ -177,24 +214,44 @@ public final class GalleryManager {
 			}
 		}
 
+		//Download and verify the missing pictures in parallel
+		List<Future<GalleryEntry>> downloads = new ArrayList<>();
+
 		for(GalleryEntry onlineEntry : onlineEntries.values()) {
 			if(!newLocalEntries.containsKey(onlineEntry.getUrl())) {
-				try {
-					if(this.downloadPicture(folder, onlineEntry, proxy)) {
-						String localSha256 = onlineEntry.getLocalSha256();
+				downloads.add(PICTURE_DOWNLOADER.submit(() -> {
+					try {
+						if(this.downloadPicture(folder, onlineEntry, proxy)) {
+							String localSha256 = onlineEntry.getLocalSha256();
 
-						if(localSha256 != null && !onlineEntry.getSha256().equals(localSha256)) {
-							TheBetweenlands.logger.info("Downloaded gallery picture '" + onlineEntry.getUrl() + "' SHA256 hash does not match (Expected: " + onlineEntry.getSha256() + " Got: " + localSha256 + ")! Please report this to the mod authors.");
-						}
+							if(localSha256 != null && !onlineEntry.getSha256().equals(localSha256)) {
+								TheBetweenlands.logger.info("Downloaded gallery picture '" + onlineEntry.getUrl() + "' SHA256 hash does not match (Expected: " + onlineEntry.getSha256() + " Got: " + localSha256 + ")! Please report this to the mod authors.");
+							}
 
-						newLocalEntries.put(onlineEntry.getUrl(), onlineEntry);
-						changed = true;
-					} else {
-						TheBetweenlands.logger.error("Failed downloading gallery picture '" + onlineEntry.getUrl() + "'");
+							return onlineEntry;
+						} else {
+							TheBetweenlands.logger.error("Failed downloading gallery picture '" + onlineEntry.getUrl() + "'");
+						}
+					} catch(Exception ex) {
+						TheBetweenlands.logger.error("Failed downloading gallery picture '" + onlineEntry.getUrl() + "'", ex);
 					}
-				} catch(Exception ex) {
-					TheBetweenlands.logger.error("Failed downloading gallery picture '" + onlineEntry.getUrl() + "'", ex);
+					return null;
+				}));
+			}
+		}
+
+		for(Future<GalleryEntry> download : downloads) {
+			try {
+				GalleryEntry downloadedEntry = download.get();
+				if(downloadedEntry != null) {
+					newLocalEntries.put(downloadedEntry.getUrl(), downloadedEntry);
+					changed = true;
 				}
+			} catch(InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch(ExecutionException ex) {
+				TheBetweenlands.logger.error("Failed downloading gallery picture", ex);
 			}
 		}
 
@@ -219,19 +276,24 @@ public final class GalleryManager {
 		TheBetweenlands.logger.info("Downloading gallery picture '" + entry.getSha256() + "'/'" + entry.getUrl() + "'");
 
 		URL url = new URL(entry.getUrl());
-		HttpURLConnection request = null;
+		URLConnection request = null;
 		try {
-			request = GalleryManager.this.createHttpConnection(url, proxy);
+			request = GalleryManager.this.createConnection(url, proxy);
 			request.connect();
 
-			if (request.getResponseCode() == HttpURLConnection.HTTP_OK) {
-				Files.copy(request.getInputStream(), this.getPictureFile(folder, entry).toPath(), StandardCopyOption.REPLACE_EXISTING);
+			if (this.isResponseOk(request)) {
+				//Downloaded to a temporary file first so that the picture is never decoded while it is only partially written
+				File tmp = File.createTempFile("gallery", ".tmp", folder);
+				try {
+					Files.copy(request.getInputStream(), tmp.toPath(), StandardCopyOption.REPLACE_EXISTING);
+					Files.move(tmp.toPath(), this.getPictureFile(folder, entry).toPath(), StandardCopyOption.REPLACE_EXISTING);
+				} finally {
+					tmp.delete();
+				}
 				return true;
 			}
 		} finally {
-			if(request != null) {
-				request.disconnect();
-			}
+			this.disconnect(request);
 		}
 
 		return false;
@@ -0,0 +1,80 @@
+package thebetweenlands.client.handler.gallery;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+import net.minecraft.client.renderer.texture.TextureUtil;
+
+/**
+ * A decoded gallery picture, scaled down to fit the maximum texture size and ready to be uploaded
+ */
+public final class GalleryPicture {
+	public final int width, height;
+	public final int originalWidth, originalHeight;
+	public final int[] pixels;
+
+	private GalleryPicture(int width, int height, int originalWidth, int originalHeight, int[] pixels) {
+		this.width = width;
+		this.height = height;
+		this.originalWidth = originalWidth;
+		this.originalHeight = originalHeight;
+		this.pixels = pixels;
+	}
+
+	/**
+	 * Returns the size of the pixel buffer in bytes
+	 * @return
+	 */
+	public long getSize() {
+		return (long) this.width * this.height * 4L;
+	}
+
+	/**
+	 * Decodes the specified picture file. Does not depend on any client state and can be run on any thread
+	 * @param file Picture file
+	 * @param maxSize Maximum width and height, larger pictures are scaled down while keeping their aspect ratio
+	 * @return
+	 * @throws IOException
+	 */
+	public static GalleryPicture decode(File file, int maxSize) throws IOException {
+		BufferedImage image;
+		try(FileInputStream fio = new FileInputStream(file)) {
+			image = TextureUtil.readBufferedImage(fio);
+		}
+
+		if(image == null || image.getWidth() <= 0 || image.getHeight() <= 0) {
+			throw new IOException("Gallery picture could not be loaded properly");
+		}
+
+		int originalWidth = image.getWidth();
+		int originalHeight = image.getHeight();
+
+		int width = originalWidth;
+		int height = originalHeight;
+
+		if(width > maxSize || height > maxSize) {
+			float scale = maxSize / (float) Math.max(width, height);
+			width = Math.max(1, Math.round(width * scale));
+			height = Math.max(1, Math.round(height * scale));
+
+			BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+			Graphics2D graphics = scaled.createGraphics();
+			try {
+				graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+				graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+				graphics.drawImage(image, 0, 0, width, height, null);
+			} finally {
+				graphics.dispose();
+			}
+			image = scaled;
+		}
+
+		int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+		return new GalleryPicture(width, height, originalWidth, originalHeight, pixels);
+	}
+}
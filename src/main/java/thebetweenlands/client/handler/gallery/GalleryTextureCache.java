@@ -0,0 +1,221 @@
+package thebetweenlands.client.handler.gallery;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.texture.ITextureObject;
+import net.minecraft.client.renderer.texture.TextureManager;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import thebetweenlands.client.render.sprite.TextureGalleryEntry;
+import thebetweenlands.common.TheBetweenlands;
+import thebetweenlands.common.config.BetweenlandsConfig;
+import thebetweenlands.common.metrics.Metrics;
+
+/**
+ * Loads gallery picture textures asynchronously. Pictures are decoded and scaled down on a small worker pool,
+ * a limited number of decoded pictures is uploaded per frame and the uploaded textures are kept in an
+ * LRU cache with a memory budget, see {@link BetweenlandsConfig.Performance#galleryTextureMemory}.
+ * Textures of pictures that haven't been seen for a while are unloaded.
+ */
+@SideOnly(Side.CLIENT)
+public final class GalleryTextureCache {
+	public static final int MAX_TEXTURE_SIZE = 512;
+
+	private static final int MAX_PENDING_DECODES = 4;
+	private static final int MAX_UPLOADS_PER_FRAME = 2;
+
+	private static final long UNUSED_TIMEOUT = 30000L;
+	private static final long FAILED_RETRY_TIME = 10000L;
+
+	private static final ExecutorService DECODER = Executors.newFixedThreadPool(2, new ThreadFactory() {
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread thread = new Thread(r);
+			thread.setName("BL Gallery Decoder #" + GALLERY_DECODER_THREAD_ID.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+	});
+
+	private static final AtomicInteger GALLERY_DECODER_THREAD_ID = new AtomicInteger(0);
+
+	public static final GalleryTextureCache INSTANCE = new GalleryTextureCache();
+
+	private static class PendingDecode {
+		private final GalleryEntry entry;
+		private final Future<GalleryPicture> picture;
+
+		private PendingDecode(GalleryEntry entry, Future<GalleryPicture> picture) {
+			this.entry = entry;
+			this.picture = picture;
+		}
+	}
+
+	private static class ResidentTexture {
+		private final ResourceLocation location;
+		private final long size;
+		private long lastUsed;
+
+		private ResidentTexture(ResourceLocation location, long size, long lastUsed) {
+			this.location = location;
+			this.size = size;
+			this.lastUsed = lastUsed;
+		}
+	}
+
+	//All maps are only accessed from the client thread
+	private final Map<String, PendingDecode> pending = new LinkedHashMap<>();
+	private final Map<String, Long> failed = new HashMap<>();
+	private final LinkedHashMap<String, ResidentTexture> resident = new LinkedHashMap<>(16, 0.75F, true);
+	private long residentSize;
+
+	private GalleryTextureCache() {
+		Metrics.gauge("gallery.textures", this::getResidentCount);
+		Metrics.gauge("gallery.texture_bytes", this::getResidentSize);
+	}
+
+	/**
+	 * Returns the texture of the specified gallery entry if it is loaded, otherwise schedules it to be
+	 * loaded and returns the fallback texture
+	 * @param entry Gallery entry
+	 * @param fallback Fallback texture
+	 * @return
+	 */
+	public ResourceLocation getTexture(GalleryEntry entry, ResourceLocation fallback) {
+		long now = Minecraft.getSystemTime();
+
+		ResidentTexture texture = this.resident.get(entry.getSha256());
+		if(texture != null) {
+			texture.lastUsed = now;
+			return texture.location;
+		}
+
+		String key = entry.getSha256();
+
+		if(!this.pending.containsKey(key) && this.pending.size() < MAX_PENDING_DECODES) {
+			Long failedTime = this.failed.get(key);
+
+			if(failedTime == null || now - failedTime > FAILED_RETRY_TIME) {
+				this.failed.remove(key);
+				this.pending.put(key, new PendingDecode(entry, DECODER.submit(() -> GalleryPicture.decode(entry.getPictureFile(), MAX_TEXTURE_SIZE))));
+			}
+		}
+
+		return fallback;
+	}
+
+	@SubscribeEvent
+	public void onRenderTick(TickEvent.RenderTickEvent event) {
+		if(event.phase == Phase.START && !this.pending.isEmpty()) {
+			int uploads = 0;
+
+			Iterator<Map.Entry<String, PendingDecode>> it = this.pending.entrySet().iterator();
+			while(it.hasNext() && uploads < MAX_UPLOADS_PER_FRAME) {
+				Map.Entry<String, PendingDecode> pendingEntry = it.next();
+				PendingDecode decode = pendingEntry.getValue();
+
+				if(decode.picture.isDone()) {
+					it.remove();
+
+					try {
+						this.upload(decode.entry, decode.picture.get());
+						uploads++;
+					} catch(InterruptedException | ExecutionException ex) {
+						if(BetweenlandsConfig.DEBUG.debug) {
+							TheBetweenlands.logger.info("Failed loading gallery picture '" + decode.entry.getSha256() + "'/'" + decode.entry.getUrl() + "'", ex);
+						}
+						this.failed.put(pendingEntry.getKey(), Minecraft.getSystemTime());
+					}
+				}
+			}
+		}
+	}
+
+	@SubscribeEvent
+	public void onClientTick(TickEvent.ClientTickEvent event) {
+		if(event.phase == Phase.END && !this.resident.isEmpty() && Minecraft.getMinecraft().world != null && Minecraft.getMinecraft().world.getTotalWorldTime() % 20 == 0) {
+			long now = Minecraft.getSystemTime();
+
+			//Unload pictures that are no longer in view
+			Iterator<ResidentTexture> it = this.resident.values().iterator();
+			while(it.hasNext()) {
+				ResidentTexture texture = it.next();
+				if(now - texture.lastUsed > UNUSED_TIMEOUT) {
+					it.remove();
+					this.unload(texture);
+				}
+			}
+		}
+	}
+
+	private void upload(GalleryEntry entry, GalleryPicture picture) {
+		TextureManager manager = Minecraft.getMinecraft().getTextureManager();
+		ResourceLocation location = entry.getLocation();
+
+		ITextureObject existing = manager.getTexture(location);
+		if(existing != null) {
+			manager.deleteTexture(location);
+		}
+
+		TextureGalleryEntry texture = new TextureGalleryEntry(entry, picture);
+
+		if(manager.loadTexture(location, texture)) {
+			ResidentTexture previous = this.resident.put(entry.getSha256(), new ResidentTexture(location, texture.getSize(), Minecraft.getSystemTime()));
+			if(previous != null) {
+				this.residentSize -= previous.size;
+			}
+			this.residentSize += texture.getSize();
+
+			this.evictOverBudget();
+		} else {
+			this.failed.put(entry.getSha256(), Minecraft.getSystemTime());
+		}
+	}
+
+	private void evictOverBudget() {
+		long budget = BetweenlandsConfig.PERFORMANCE.galleryTextureMemory * 1024L * 1024L;
+
+		//Least recently used first, the most recently uploaded texture is always kept
+		Iterator<ResidentTexture> it = this.resident.values().iterator();
+		while(this.residentSize > budget && this.resident.size() > 1 && it.hasNext()) {
+			ResidentTexture texture = it.next();
+			it.remove();
+			this.unload(texture);
+		}
+	}
+
+	private void unload(ResidentTexture texture) {
+		this.residentSize -= texture.size;
+		Minecraft.getMinecraft().getTextureManager().deleteTexture(texture.location);
+	}
+
+	/**
+	 * Returns the number of currently loaded gallery textures
+	 * @return
+	 */
+	public int getResidentCount() {
+		return this.resident.size();
+	}
+
+	/**
+	 * Returns the memory used by the currently loaded gallery textures in bytes
+	 * @return
+	 */
+	public long getResidentSize() {
+		return this.residentSize;
+	}
+}
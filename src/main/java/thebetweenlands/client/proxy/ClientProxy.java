@@ -66,6 +66,8 @@ import thebetweenlands.client.handler.AmbienceSoundPlayHandler;
 import thebetweenlands.client.handler.ArmSwingSpeedHandler;
 import thebetweenlands.client.handler.BrightnessHandler;
 import thebetweenlands.client.handler.CameraPositionHandler;
+import thebetweenlands.client.handler.ClientLocationIndex;
+import thebetweenlands.client.handler.ClientObjectIndex;
 import thebetweenlands.client.handler.DebugHandlerClient;
 import thebetweenlands.client.handler.DecayRenderHandler;
 import thebetweenlands.client.handler.ElixirClientHandler;
@@ -83,6 +85,7 @@ import thebetweenlands.client.handler.WeedwoodRowboatHandler;
 import thebetweenlands.client.handler.WorldRenderHandler;
 import thebetweenlands.client.handler.equipment.RadialMenuHandler;
 import thebetweenlands.client.handler.gallery.GalleryManager;
+import thebetweenlands.client.handler.gallery.GalleryTextureCache;
 import thebetweenlands.client.render.entity.RenderAngler;
 import thebetweenlands.client.render.entity.RenderAngryPebble;
 import thebetweenlands.client.render.entity.RenderAshSprite;
@@ -333,6 +336,7 @@ import thebetweenlands.common.entity.rowboat.EntityWeedwoodRowboat;
 import thebetweenlands.common.handler.ExtendedReachHandler;
 import thebetweenlands.common.herblore.book.GuiManualHerblore;
 import thebetweenlands.common.herblore.book.HLEntryRegistry;
+import thebetweenlands.common.herblore.book.widgets.text.TextLayoutCache;
 import thebetweenlands.common.inventory.InventoryItem;
 import thebetweenlands.common.inventory.container.ContainerDraetonPouch;
 import thebetweenlands.common.inventory.container.ContainerPouch;
@@ -774,6 +778,7 @@ public class ClientProxy extends CommonProxy implements IResourceManagerReloadLi
 		IReloadableResourceManager resourceManager = ((IReloadableResourceManager) Minecraft.getMinecraft().getResourceManager());
 		resourceManager.registerReloadListener(ShaderHelper.INSTANCE);
 		resourceManager.registerReloadListener(new FoodSickness.ResourceReloadListener());
+		resourceManager.registerReloadListener(r -> TextLayoutCache.clear());
 		resourceManager.registerReloadListener(r -> {
 			if (HLEntryRegistry.CATEGORIES.size() > 0) HLEntryRegistry.init();
 		});
@@ -904,6 +909,9 @@ public class ClientProxy extends CommonProxy implements IResourceManagerReloadLi
 		MinecraftForge.EVENT_BUS.register(ScreenRenderHandler.INSTANCE);
 		MinecraftForge.EVENT_BUS.register(DecayRenderHandler.class);
 		MinecraftForge.EVENT_BUS.register(CameraPositionHandler.INSTANCE);
+		MinecraftForge.EVENT_BUS.register(ClientObjectIndex.class);
+		MinecraftForge.EVENT_BUS.register(ClientLocationIndex.class);
+		MinecraftForge.EVENT_BUS.register(GalleryTextureCache.INSTANCE);
 		MinecraftForge.EVENT_BUS.register(MusicHandler.INSTANCE);
 		MinecraftForge.EVENT_BUS.register(ThemHandler.class);
 		MinecraftForge.EVENT_BUS.register(RadialMenuHandler.INSTANCE);
@@ -950,6 +958,16 @@ public class ClientProxy extends CommonProxy implements IResourceManagerReloadLi
         WeedwoodRowboatHandler.INSTANCE.onPilotExitWeedwoodRowboat(rowboat, pilot);
     }
 
+    @Override
+    public void onClientTileLoaded(TileEntity tile) {
+        ClientObjectIndex.onTileLoaded(tile);
+    }
+
+    @Override
+    public void onClientTileUnloaded(TileEntity tile) {
+        ClientObjectIndex.onTileUnloaded(tile);
+    }
+
     @Override
     public Proxy getNetProxy() {
     	return Minecraft.getMinecraft().getProxy();
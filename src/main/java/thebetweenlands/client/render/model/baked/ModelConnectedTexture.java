@@ -4,7 +4,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -20,6 +19,9 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.renderer.block.model.BakedQuad;
 import net.minecraft.client.renderer.block.model.IBakedModel;
@@ -208,6 +210,82 @@ public class ModelConnectedTexture implements IModel {
 	}
 
 	public static class ModelBakedConnectedFace implements IBakedModel {
+		/**
+		 * Connected texture quads of one face. The connection indices of all quads of the face
+		 * are packed into a single key, 3 bits per index, which maps to the final immutable quad list
+		 */
+		private static final class FaceQuads {
+			private final ConnectedTextureQuad[] textures;
+
+			//Used if the face has a single connected texture quad, i.e. the key has 12 bits
+			private final List<BakedQuad>[] quadsByKey;
+
+			//Used if the face has multiple connected texture quads. Copy on write because
+			//chunks are rebuilt on multiple threads and there are only few distinct keys
+			private volatile Long2ObjectMap<List<BakedQuad>> quadsByKeyMap;
+
+			@SuppressWarnings("unchecked")
+			private FaceQuads(ConnectedTextureQuad[] textures) {
+				this.textures = textures;
+				if(textures.length == 1) {
+					this.quadsByKey = new List[1 << 12];
+					this.quadsByKeyMap = null;
+				} else {
+					this.quadsByKey = null;
+					this.quadsByKeyMap = new Long2ObjectOpenHashMap<>();
+				}
+			}
+
+			private List<BakedQuad> getQuads(long key) {
+				List<BakedQuad> quads;
+
+				if(this.quadsByKey != null) {
+					//Racing threads build equal lists, so no synchronization is required
+					quads = this.quadsByKey[(int) key];
+					if(quads == null) {
+						this.quadsByKey[(int) key] = quads = this.buildQuads(key);
+					}
+				} else {
+					quads = this.quadsByKeyMap.get(key);
+					if(quads == null) {
+						synchronized(this) {
+							quads = this.quadsByKeyMap.get(key);
+							if(quads == null) {
+								Long2ObjectMap<List<BakedQuad>> quadsByKeyMap = new Long2ObjectOpenHashMap<>(this.quadsByKeyMap);
+								quadsByKeyMap.put(key, quads = this.buildQuads(key));
+								this.quadsByKeyMap = quadsByKeyMap;
+							}
+						}
+					}
+				}
+
+				return quads;
+			}
+
+			private List<BakedQuad> buildQuads(long key) {
+				ImmutableList.Builder<BakedQuad> builder = ImmutableList.builder();
+				for(int t = 0; t < this.textures.length; t++) {
+					for(int i = 0; i < 4; i++) {
+						builder.add(this.textures[t].quads[i][(int) (key >>> ((t * 4 + i) * 3)) & 0b111]);
+					}
+				}
+				return builder.build();
+			}
+		}
+
+		/**
+		 * Unlisted properties of the connection indices of each face, resolved by name for one block
+		 */
+		private static final class PropertyLookup {
+			private final Block block;
+			private final IUnlistedProperty<?>[][] properties;
+
+			private PropertyLookup(Block block, IUnlistedProperty<?>[][] properties) {
+				this.block = block;
+				this.properties = properties;
+			}
+		}
+
 		protected final ConnectedTextureQuad[][] connectedTextures;
 		protected final TextureAtlasSprite particleTexture;
 		protected final boolean ambientOcclusion;
@@ -215,6 +293,10 @@ public class ModelConnectedTexture implements IModel {
 		protected final TRSRTransformation transformation;
 		protected final ImmutableMap<TransformType, TRSRTransformation> transforms;
 
+		private final FaceQuads[] faceQuads;
+
+		private volatile PropertyLookup propertyLookup;
+
 		private ModelBakedConnectedFace(Optional<TRSRTransformation> transformation, ImmutableMap<TransformType, TRSRTransformation> transforms, 
 				VertexFormat format, TextureAtlasSprite particleTexture, boolean ambientOcclusion, List<ConnectedTextureQuad> connectedTextures) {
 			this.ambientOcclusion = ambientOcclusion;
@@ -235,42 +317,78 @@ public class ModelConnectedTexture implements IModel {
 				}
 				this.connectedTextures[i == 0 ? 0 : face.getIndex() + 1] = connectedTextureQuads.toArray(new ConnectedTextureQuad[0]);
 			}
+
+			this.faceQuads = new FaceQuads[this.connectedTextures.length];
+			for(int i = 0; i < this.faceQuads.length; i++) {
+				//The key is a long with 3 bits per index
+				Preconditions.checkState(this.connectedTextures[i].length * 4 * 3 <= 64, "Too many connected texture quads on one face");
+				this.faceQuads[i] = new FaceQuads(this.connectedTextures[i]);
+			}
+		}
+
+		private PropertyLookup getPropertyLookup(IExtendedBlockState state) {
+			PropertyLookup lookup = this.propertyLookup;
+
+			if(lookup == null || lookup.block != state.getBlock()) {
+				IUnlistedProperty<?>[][] properties = new IUnlistedProperty<?>[this.connectedTextures.length][];
+
+				for(int f = 0; f < this.connectedTextures.length; f++) {
+					ConnectedTextureQuad[] textures = this.connectedTextures[f];
+					properties[f] = new IUnlistedProperty<?>[textures.length * 4];
+
+					for(IUnlistedProperty<?> property : state.getUnlistedNames()) {
+						String name = property.getName();
+
+						for(int t = 0; t < textures.length; t++) {
+							for(int i = 0; i < 4; i++) {
+								if(textures[t].indices[i].equals(name)) {
+									properties[f][t * 4 + i] = property;
+								}
+							}
+						}
+					}
+				}
+
+				this.propertyLookup = lookup = new PropertyLookup(state.getBlock(), properties);
+			}
+
+			return lookup;
 		}
 
 		@Override
 		public List<BakedQuad> getQuads(IBlockState stateOld, EnumFacing side, long rand) {
 			IExtendedBlockState state = (IExtendedBlockState) stateOld;
-			ImmutableMap<IUnlistedProperty<?>, Optional<?>> properties = state.getUnlistedProperties();
 			int faceIndex = side == null ? 0 : side.getIndex() + 1;
-			ConnectedTextureQuad[] connectedTextures = this.connectedTextures[faceIndex];
+			FaceQuads faceQuads = this.faceQuads[faceIndex];
 
-			if(connectedTextures.length > 0) {
-				ImmutableList.Builder<BakedQuad> builder = ImmutableList.builder();
+			if(faceQuads.textures.length > 0) {
+				ImmutableMap<IUnlistedProperty<?>, Optional<?>> values = state.getUnlistedProperties();
+				IUnlistedProperty<?>[] properties = this.getPropertyLookup(state).properties[faceIndex];
 
-				for(ConnectedTextureQuad tex : connectedTextures) {
-					int[] indices = new int[4];
-
-					findIndices: for(Entry<IUnlistedProperty<?>, Optional<?>> entry : properties.entrySet()) {
-						String property = entry.getKey().getName();
-
-						for(int i = 0; i < 4; i++) {
-							if(tex.indices[i].equals(property)) {
-								if(entry.getValue().isPresent()) {
-									indices[i] = (Integer) entry.getValue().get();
-								} else {
-									indices[0] = indices[1] = indices[2] = indices[3] = 0;
-									break findIndices;
-								}
+				long key = 0;
+
+				for(int t = 0; t < faceQuads.textures.length; t++) {
+					long textureKey = 0;
+
+					for(int i = 0; i < 4; i++) {
+						IUnlistedProperty<?> property = properties[t * 4 + i];
+
+						if(property != null) {
+							Optional<?> value = values.get(property);
+
+							if(value.isPresent()) {
+								textureKey |= (long) ((Integer) value.get() & 0b111) << (i * 3);
+							} else {
+								textureKey = 0;
+								break;
 							}
 						}
 					}
 
-					for(int i = 0; i < 4; i++) {
-						builder.add(tex.quads[i][indices[i]]);
-					}
+					key |= textureKey << (t * 12);
 				}
 
-				return builder.build();
+				return faceQuads.getQuads(key);
 			}
 
 			return ImmutableList.of();
@@ -4,9 +4,9 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Queue;
 
 import org.lwjgl.opengl.GL11;
@@ -20,6 +20,7 @@ import net.minecraft.client.renderer.RenderHelper;
 import net.minecraft.client.renderer.Tessellator;
 import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
 import net.minecraft.entity.Entity;
+import net.minecraft.world.World;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
@@ -62,7 +63,7 @@ public class BatchedParticleRenderer {
 	public static final class ParticleBatch implements Comparable<ParticleBatch> {
 		private final ParticleBatchType type;
 		private final Queue<Particle> queue = new ArrayDeque<>();
-		private final Deque<Particle> particles = new ArrayDeque<>();
+		private final List<Particle> particles = new ArrayList<>();
 
 		private ParticleBatch(ParticleBatchType type) {
 			this.type = type;
@@ -92,6 +93,43 @@ public class BatchedParticleRenderer {
 
 	private final List<ParticleBatch> batches = new ArrayList<>();
 	private final List<ParticleBatch> renderedBatches = new ArrayList<>();
+	private final List<SimpleParticleBatch> simpleBatches = new ArrayList<>();
+
+	private final SubBatchView subBatchView = new SubBatchView();
+
+	/**
+	 * Reusable view of a range of a particle list, used to render sub-batches without allocating
+	 */
+	private static final class SubBatchView implements Iterable<Particle>, Iterator<Particle> {
+		private List<Particle> particles;
+		private int index;
+		private int end;
+
+		private SubBatchView set(List<Particle> particles, int start, int end) {
+			this.particles = particles;
+			this.index = start;
+			this.end = end;
+			return this;
+		}
+
+		@Override
+		public Iterator<Particle> iterator() {
+			return this;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.index < this.end;
+		}
+
+		@Override
+		public Particle next() {
+			if(this.index >= this.end) {
+				throw new NoSuchElementException();
+			}
+			return this.particles.get(this.index++);
+		}
+	}
 
 	public ParticleBatch registerBatchType(ParticleBatchType type) {
 		return this.registerBatchType(type, true);
@@ -111,6 +149,16 @@ public class BatchedParticleRenderer {
 		return new ParticleBatch(type);
 	}
 
+	/**
+	 * Registers a {@link SimpleParticleBatch} so that it is updated and rendered together with the other batches
+	 * @param batch
+	 * @return
+	 */
+	public SimpleParticleBatch registerSimpleBatch(SimpleParticleBatch batch) {
+		this.simpleBatches.add(batch);
+		return batch;
+	}
+
 	public boolean addParticle(ParticleBatch batch, Particle particle) {
 		if(batch.type.filter(particle)) {
 			batch.queue.add(particle);
@@ -123,28 +171,45 @@ public class BatchedParticleRenderer {
 		for(ParticleBatch batch : this.batches) {
 			this.updateBatch(batch);
 		}
+
+		World world = Minecraft.getMinecraft().world;
+		for(SimpleParticleBatch batch : this.simpleBatches) {
+			batch.update(world);
+		}
 	}
 	
 	public void updateBatch(ParticleBatch batch) {
-		Iterator<Particle> it = batch.particles.iterator();
+		List<Particle> particles = batch.particles;
+		int size = particles.size();
 
-		while(it.hasNext()) {
-			Particle particle = it.next();
+		//Compacts the alive particles to the front in a single pass
+		int alive = 0;
+		for(int i = 0; i < size; i++) {
+			Particle particle = particles.get(i);
 
 			particle.onUpdate();
 
-			if(!particle.isAlive()) {
-				it.remove();
+			if(particle.isAlive()) {
+				if(i != alive) {
+					particles.set(alive, particle);
+				}
+				alive++;
 			}
 		}
 
+		if(alive < size) {
+			particles.subList(alive, size).clear();
+		}
+
 		if(!batch.queue.isEmpty()) {
 			for(Particle particle = batch.queue.poll(); particle != null; particle = batch.queue.poll()) {
-				if(batch.particles.size() >= batch.type.maxParticles()) {
-					batch.particles.removeFirst();
-				}
+				particles.add(particle);
+			}
 
-				batch.particles.add(particle);
+			//Evicts the oldest particles all at once
+			int overflow = particles.size() - batch.type.maxParticles();
+			if(overflow > 0) {
+				particles.subList(0, overflow).clear();
 			}
 		}
 	}
@@ -153,13 +218,17 @@ public class BatchedParticleRenderer {
 		for(ParticleBatch batch : this.renderedBatches) {
 			this.renderBatch(batch, entity, partialTicks);
 		}
+
+		for(SimpleParticleBatch batch : this.simpleBatches) {
+			this.renderSimpleBatch(batch, entity, partialTicks);
+		}
 	}
 
 	public void renderBatch(ParticleBatch batch, Entity entity, float partialTicks) {
 		this.renderBatchType(batch.type, batch.particles, entity, partialTicks);
 	}
 
-	public void renderBatchType(ParticleBatchType batchType, Collection<Particle> particles, Entity entity, float partialTicks) {
+	public void renderBatchType(ParticleBatchType batchType, List<Particle> particles, Entity entity, float partialTicks) {
 		if(!particles.isEmpty()) {
 			float rx = ActiveRenderInfo.getRotationX();
 			float rz = ActiveRenderInfo.getRotationZ();
@@ -167,61 +236,78 @@ public class BatchedParticleRenderer {
 			float rxy = ActiveRenderInfo.getRotationXY();
 			float rxz = ActiveRenderInfo.getRotationXZ();
 
-			Particle.interpPosX = entity.lastTickPosX + (entity.posX - entity.lastTickPosX) * (double)partialTicks;
-			Particle.interpPosY = entity.lastTickPosY + (entity.posY - entity.lastTickPosY) * (double)partialTicks;
-			Particle.interpPosZ = entity.lastTickPosZ + (entity.posZ - entity.lastTickPosZ) * (double)partialTicks;
-			Particle.cameraViewDir = entity.getLook(partialTicks);
-
 			Tessellator tessellator = Tessellator.getInstance();
 
-			GlStateManager.pushMatrix();
-			GlStateManager.enableDepth();
-			GlStateManager.enableBlend();
-			GlStateManager.depthMask(true);
-			GlStateManager.tryBlendFuncSeparate(GlStateManager.SourceFactor.SRC_ALPHA, GlStateManager.DestFactor.ONE_MINUS_SRC_ALPHA, GlStateManager.SourceFactor.ONE, GlStateManager.DestFactor.ZERO);
-			GlStateManager.alphaFunc(GL11.GL_GREATER, 0.004F);
-			GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
+			this.preRenderBatches(entity, partialTicks);
 
 			final int batchSize = batchType.batchSize();
-			final int batches = particles.size() / batchSize + 1;
-
-			final Iterator<Particle> it = particles.iterator();
-
-			for(int i = 0; i < batches; i++) {
-				final Iterable<Particle> batchView = new Iterable<Particle>() {
-					private int counter = 0;
-
-					@Override
-					public Iterator<Particle> iterator() {
-						return new Iterator<Particle>() {
-							@Override
-							public boolean hasNext() {
-								return counter < batchSize && it.hasNext();
-							}
-
-							@Override
-							public Particle next() {
-								counter++;
-								return it.next();
-							}
-						};
-					}
-				};
+			final int size = particles.size();
+
+			for(int start = 0; start < size; start += batchSize) {
+				SubBatchView batchView = this.subBatchView.set(particles, start, Math.min(start + batchSize, size));
 
 				batchType.preRender(tessellator, entity, partialTicks, rx, rxz, rz, ryz, rxy);
 				batchType.render(batchView, tessellator, entity, partialTicks, rx, rxz, rz, ryz, rxy);
 				batchType.postRender(tessellator, entity, partialTicks, rx, rxz, rz, ryz, rxy);
 			}
 
-			GlStateManager.enableCull();
-			GlStateManager.enableDepth();
-			GlStateManager.colorMask(true, true, true, true);
-			GlStateManager.depthMask(true);
-			GlStateManager.tryBlendFuncSeparate(GlStateManager.SourceFactor.SRC_ALPHA, GlStateManager.DestFactor.ONE_MINUS_SRC_ALPHA, GlStateManager.SourceFactor.ONE, GlStateManager.DestFactor.ZERO);
-			GlStateManager.disableBlend();
-			GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
-			GlStateManager.alphaFunc(GL11.GL_GREATER, 0.1F);
-			GlStateManager.popMatrix();
+			this.subBatchView.set(null, 0, 0);
+
+			this.postRenderBatches();
 		}
 	}
+
+	public void renderSimpleBatch(SimpleParticleBatch batch, Entity entity, float partialTicks) {
+		if(!batch.isEmpty()) {
+			float rx = ActiveRenderInfo.getRotationX();
+			float rz = ActiveRenderInfo.getRotationZ();
+			float ryz = ActiveRenderInfo.getRotationYZ();
+			float rxy = ActiveRenderInfo.getRotationXY();
+			float rxz = ActiveRenderInfo.getRotationXZ();
+
+			Tessellator tessellator = Tessellator.getInstance();
+
+			this.preRenderBatches(entity, partialTicks);
+
+			ParticleBatchType batchType = batch.type();
+
+			final int batchSize = batchType.batchSize();
+			final int size = batch.size();
+
+			for(int start = 0; start < size; start += batchSize) {
+				batchType.preRender(tessellator, entity, partialTicks, rx, rxz, rz, ryz, rxy);
+				batch.render(tessellator.getBuffer(), start, Math.min(start + batchSize, size), partialTicks, rx, rxz, rz, ryz, rxy);
+				batchType.postRender(tessellator, entity, partialTicks, rx, rxz, rz, ryz, rxy);
+			}
+
+			this.postRenderBatches();
+		}
+	}
+
+	private void preRenderBatches(Entity entity, float partialTicks) {
+		Particle.interpPosX = entity.lastTickPosX + (entity.posX - entity.lastTickPosX) * (double)partialTicks;
+		Particle.interpPosY = entity.lastTickPosY + (entity.posY - entity.lastTickPosY) * (double)partialTicks;
+		Particle.interpPosZ = entity.lastTickPosZ + (entity.posZ - entity.lastTickPosZ) * (double)partialTicks;
+		Particle.cameraViewDir = entity.getLook(partialTicks);
+
+		GlStateManager.pushMatrix();
+		GlStateManager.enableDepth();
+		GlStateManager.enableBlend();
+		GlStateManager.depthMask(true);
+		GlStateManager.tryBlendFuncSeparate(GlStateManager.SourceFactor.SRC_ALPHA, GlStateManager.DestFactor.ONE_MINUS_SRC_ALPHA, GlStateManager.SourceFactor.ONE, GlStateManager.DestFactor.ZERO);
+		GlStateManager.alphaFunc(GL11.GL_GREATER, 0.004F);
+		GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
+	}
+
+	private void postRenderBatches() {
+		GlStateManager.enableCull();
+		GlStateManager.enableDepth();
+		GlStateManager.colorMask(true, true, true, true);
+		GlStateManager.depthMask(true);
+		GlStateManager.tryBlendFuncSeparate(GlStateManager.SourceFactor.SRC_ALPHA, GlStateManager.DestFactor.ONE_MINUS_SRC_ALPHA, GlStateManager.SourceFactor.ONE, GlStateManager.DestFactor.ZERO);
+		GlStateManager.disableBlend();
+		GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
+		GlStateManager.alphaFunc(GL11.GL_GREATER, 0.1F);
+		GlStateManager.popMatrix();
+	}
 }
@@ -12,6 +12,7 @@ import net.minecraft.client.renderer.texture.TextureMap;
 import net.minecraft.entity.Entity;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.world.World;
+import thebetweenlands.client.handler.TextureStitchHandler.Frame;
 import thebetweenlands.client.render.particle.BatchedParticleRenderer.ParticleBatch;
 import thebetweenlands.client.render.particle.BatchedParticleRenderer.ParticleBatchType;
 import thebetweenlands.client.render.shader.ShaderHelper;
@@ -89,4 +90,11 @@ public class DefaultParticleBatches {
 			.blur(true)
 			.cull(false)
 			.end().build());
+
+	//Simple batches
+	public static final SimpleParticleBatch WATER_RIPPLES = BatchedParticleRenderer.INSTANCE.registerSimpleBatch(new SimpleParticleBatch(TRANSLUCENT_NEAREST_NEIGHBOR.type(), SimpleParticleBatch.Orientation.HORIZONTAL)
+			.setFrames(() -> {
+				Frame[][] frames = BLParticles.WATER_RIPPLE.getFactory().getStitcher().getSprites();
+				return frames != null ? frames[0] : null;
+			}));
 }
\ No newline at end of file
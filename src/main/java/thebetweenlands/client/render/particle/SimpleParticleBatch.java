@@ -0,0 +1,474 @@
+package thebetweenlands.client.render.particle;
+
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.client.particle.Particle;
+import net.minecraft.client.renderer.BufferBuilder;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import thebetweenlands.client.handler.TextureStitchHandler.Frame;
+import thebetweenlands.client.render.particle.BatchedParticleRenderer.ParticleBatchType;
+
+/**
+ * A particle batch for particles with simple kinematics, i.e. particles that only move by their
+ * motion and gravity without colliding with the world. Instead of one {@link Particle} object per particle
+ * all particle data is stored in primitive arrays, large batches are simulated in parallel and the vertex
+ * data is written directly into the buffer.
+ * The GL state is set up by the {@link ParticleBatchType} of the batch, {@link ParticleBatchType#render} is not used.
+ */
+@SideOnly(Side.CLIENT)
+public class SimpleParticleBatch {
+	public static enum Orientation {
+		/**
+		 * Quads always face the camera
+		 */
+		BILLBOARD,
+		/**
+		 * Quads lie flat on the XZ plane
+		 */
+		HORIZONTAL
+	}
+
+	private static final int PARALLEL_THRESHOLD = 4096;
+	private static final int PARALLEL_CHUNK_SIZE = 1024;
+
+	private static final int BRIGHTNESS_UPDATE_INTERVAL = 10;
+
+	private static final boolean LITTLE_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+
+	private final ParticleBatchType type;
+	private final Orientation orientation;
+	private final int maxParticles;
+
+	private float gravity = 0.0F;
+	private float drag = 0.98F;
+
+	private Supplier<Frame[]> frames = () -> null;
+	private Frame[] cachedFrames;
+	private TextureAtlasSprite[] spriteByAge = new TextureAtlasSprite[0];
+
+	private int count;
+
+	private double[] posX, posY, posZ;
+	private double[] prevPosX, prevPosY, prevPosZ;
+	private double[] motionX, motionY, motionZ;
+	private int[] age, maxAge;
+	private float[] scale;
+	private int[] color;
+	private int[] brightness;
+
+	private final BlockPos.MutableBlockPos checkPos = new BlockPos.MutableBlockPos();
+	private final int[] quad = new int[28];
+
+	public SimpleParticleBatch(ParticleBatchType type, Orientation orientation) {
+		this.type = type;
+		this.orientation = orientation;
+		this.maxParticles = type.maxParticles();
+		this.allocate(Math.min(256, this.maxParticles));
+	}
+
+	/**
+	 * Sets the gravity of the particles. Same as {@link Particle#particleGravity}
+	 * @param gravity
+	 * @return
+	 */
+	public SimpleParticleBatch setGravity(float gravity) {
+		this.gravity = gravity;
+		return this;
+	}
+
+	/**
+	 * Sets the factor the motion of the particles is multiplied with every tick
+	 * @param drag
+	 * @return
+	 */
+	public SimpleParticleBatch setDrag(float drag) {
+		this.drag = drag;
+		return this;
+	}
+
+	/**
+	 * Sets the animation frames of the particles. The frame of a particle is determined by its age
+	 * @param frames
+	 * @return
+	 */
+	public SimpleParticleBatch setFrames(Supplier<Frame[]> frames) {
+		this.frames = frames;
+		return this;
+	}
+
+	public ParticleBatchType type() {
+		return this.type;
+	}
+
+	public int size() {
+		return this.count;
+	}
+
+	public boolean isEmpty() {
+		return this.count == 0;
+	}
+
+	/**
+	 * Returns the total duration of the animation frames in ticks, or 0 if the frames are not available yet
+	 * @return
+	 */
+	public int getAnimationDuration() {
+		this.updateFrames();
+		return this.spriteByAge.length;
+	}
+
+	/**
+	 * Adds a particle. If the batch is full the oldest particle is replaced
+	 * @param world
+	 * @param x
+	 * @param y
+	 * @param z
+	 * @param motionX
+	 * @param motionY
+	 * @param motionZ
+	 * @param scale Same as {@link Particle#particleScale}
+	 * @param r
+	 * @param g
+	 * @param b
+	 * @param a
+	 * @param maxAge
+	 */
+	public void add(World world, double x, double y, double z, double motionX, double motionY, double motionZ, float scale, float r, float g, float b, float a, int maxAge) {
+		if(this.maxParticles <= 0) {
+			return;
+		}
+
+		if(this.count >= this.maxParticles) {
+			this.remove(0, 1);
+		}
+
+		if(this.count >= this.posX.length) {
+			this.allocate(Math.min(this.posX.length * 2, this.maxParticles));
+		}
+
+		int i = this.count++;
+
+		this.posX[i] = this.prevPosX[i] = x;
+		this.posY[i] = this.prevPosY[i] = y;
+		this.posZ[i] = this.prevPosZ[i] = z;
+		this.motionX[i] = motionX;
+		this.motionY[i] = motionY;
+		this.motionZ[i] = motionZ;
+		this.age[i] = 0;
+		this.maxAge[i] = maxAge;
+		this.scale[i] = scale;
+		this.color[i] = packColor(r, g, b, a);
+		this.brightness[i] = this.getBrightness(world, x, y, z);
+	}
+
+	public void clear() {
+		this.count = 0;
+	}
+
+	private void allocate(int size) {
+		if(this.posX == null) {
+			this.posX = new double[size];
+			this.posY = new double[size];
+			this.posZ = new double[size];
+			this.prevPosX = new double[size];
+			this.prevPosY = new double[size];
+			this.prevPosZ = new double[size];
+			this.motionX = new double[size];
+			this.motionY = new double[size];
+			this.motionZ = new double[size];
+			this.age = new int[size];
+			this.maxAge = new int[size];
+			this.scale = new float[size];
+			this.color = new int[size];
+			this.brightness = new int[size];
+		} else {
+			this.posX = Arrays.copyOf(this.posX, size);
+			this.posY = Arrays.copyOf(this.posY, size);
+			this.posZ = Arrays.copyOf(this.posZ, size);
+			this.prevPosX = Arrays.copyOf(this.prevPosX, size);
+			this.prevPosY = Arrays.copyOf(this.prevPosY, size);
+			this.prevPosZ = Arrays.copyOf(this.prevPosZ, size);
+			this.motionX = Arrays.copyOf(this.motionX, size);
+			this.motionY = Arrays.copyOf(this.motionY, size);
+			this.motionZ = Arrays.copyOf(this.motionZ, size);
+			this.age = Arrays.copyOf(this.age, size);
+			this.maxAge = Arrays.copyOf(this.maxAge, size);
+			this.scale = Arrays.copyOf(this.scale, size);
+			this.color = Arrays.copyOf(this.color, size);
+			this.brightness = Arrays.copyOf(this.brightness, size);
+		}
+	}
+
+	/**
+	 * Removes the particles in the specified range and moves the following particles to the front
+	 * @param start
+	 * @param length
+	 */
+	private void remove(int start, int length) {
+		int from = start + length;
+		int remaining = this.count - from;
+		if(remaining > 0) {
+			System.arraycopy(this.posX, from, this.posX, start, remaining);
+			System.arraycopy(this.posY, from, this.posY, start, remaining);
+			System.arraycopy(this.posZ, from, this.posZ, start, remaining);
+			System.arraycopy(this.prevPosX, from, this.prevPosX, start, remaining);
+			System.arraycopy(this.prevPosY, from, this.prevPosY, start, remaining);
+			System.arraycopy(this.prevPosZ, from, this.prevPosZ, start, remaining);
+			System.arraycopy(this.motionX, from, this.motionX, start, remaining);
+			System.arraycopy(this.motionY, from, this.motionY, start, remaining);
+			System.arraycopy(this.motionZ, from, this.motionZ, start, remaining);
+			System.arraycopy(this.age, from, this.age, start, remaining);
+			System.arraycopy(this.maxAge, from, this.maxAge, start, remaining);
+			System.arraycopy(this.scale, from, this.scale, start, remaining);
+			System.arraycopy(this.color, from, this.color, start, remaining);
+			System.arraycopy(this.brightness, from, this.brightness, start, remaining);
+		}
+		this.count -= length;
+	}
+
+	private void move(int from, int to) {
+		this.posX[to] = this.posX[from];
+		this.posY[to] = this.posY[from];
+		this.posZ[to] = this.posZ[from];
+		this.prevPosX[to] = this.prevPosX[from];
+		this.prevPosY[to] = this.prevPosY[from];
+		this.prevPosZ[to] = this.prevPosZ[from];
+		this.motionX[to] = this.motionX[from];
+		this.motionY[to] = this.motionY[from];
+		this.motionZ[to] = this.motionZ[from];
+		this.age[to] = this.age[from];
+		this.maxAge[to] = this.maxAge[from];
+		this.scale[to] = this.scale[from];
+		this.color[to] = this.color[from];
+		this.brightness[to] = this.brightness[from];
+	}
+
+	/**
+	 * Updates the particles. Particles with an expired age are removed, the order of the remaining particles is kept.
+	 * @param world World used to update the brightness of the particles
+	 */
+	public void update(@Nullable World world) {
+		if(this.count == 0) {
+			return;
+		}
+
+		this.updateFrames();
+
+		if(this.count >= PARALLEL_THRESHOLD) {
+			int chunks = (this.count + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+			IntStream.range(0, chunks).parallel().forEach(chunk -> this.simulate(chunk * PARALLEL_CHUNK_SIZE, Math.min((chunk + 1) * PARALLEL_CHUNK_SIZE, this.count)));
+		} else {
+			this.simulate(0, this.count);
+		}
+
+		//Compaction and brightness need to run on the main thread because they modify the arrays and read the world
+		int alive = 0;
+		for(int i = 0; i < this.count; i++) {
+			if(this.age[i] <= this.maxAge[i]) {
+				if(i != alive) {
+					this.move(i, alive);
+				}
+
+				if(world != null && (this.age[alive] + alive) % BRIGHTNESS_UPDATE_INTERVAL == 0) {
+					this.brightness[alive] = this.getBrightness(world, this.posX[alive], this.posY[alive], this.posZ[alive]);
+				}
+
+				alive++;
+			}
+		}
+		this.count = alive;
+	}
+
+	/**
+	 * Same as {@link Particle#onUpdate()} without the collisions.
+	 * Expired particles are marked by an age greater than their max age
+	 * @param start
+	 * @param end
+	 */
+	private void simulate(int start, int end) {
+		final double gravity = 0.04D * this.gravity;
+		final double drag = this.drag;
+
+		for(int i = start; i < end; i++) {
+			this.prevPosX[i] = this.posX[i];
+			this.prevPosY[i] = this.posY[i];
+			this.prevPosZ[i] = this.posZ[i];
+
+			if(this.age[i]++ >= this.maxAge[i]) {
+				this.age[i] = this.maxAge[i] + 1;
+				continue;
+			}
+
+			this.motionY[i] -= gravity;
+
+			this.posX[i] += this.motionX[i];
+			this.posY[i] += this.motionY[i];
+			this.posZ[i] += this.motionZ[i];
+
+			this.motionX[i] *= drag;
+			this.motionY[i] *= drag;
+			this.motionZ[i] *= drag;
+		}
+	}
+
+	private int getBrightness(World world, double x, double y, double z) {
+		this.checkPos.setPos(x, y, z);
+		return world.isBlockLoaded(this.checkPos) ? world.getCombinedLight(this.checkPos, 0) : 0;
+	}
+
+	/**
+	 * Updates the sprite lookup table if the frames have changed, e.g. after the textures were restitched
+	 */
+	private void updateFrames() {
+		Frame[] frames = this.frames.get();
+
+		if(frames != this.cachedFrames) {
+			this.cachedFrames = frames;
+
+			if(frames == null || frames.length == 0) {
+				this.spriteByAge = new TextureAtlasSprite[0];
+			} else {
+				int duration = 0;
+				for(Frame frame : frames) {
+					duration += frame.getDuration();
+				}
+
+				//Same frame order as TextureAnimation
+				TextureAtlasSprite[] sprites = new TextureAtlasSprite[Math.max(duration, 1)];
+				int frame = 0;
+				int frameTicks = 0;
+				sprites[0] = frames[0].getSprite();
+				for(int i = 1; i < sprites.length; i++) {
+					frameTicks++;
+					if(frameTicks >= frames[frame].getDuration()) {
+						frame = (frame + 1) % frames.length;
+						frameTicks = 0;
+					}
+					sprites[i] = frames[frame].getSprite();
+				}
+
+				this.spriteByAge = sprites;
+			}
+		}
+	}
+
+	/**
+	 * Renders the particles in the specified range. The buffer must have already been started by the batch type
+	 * @param buffer
+	 * @param start
+	 * @param end
+	 * @param partialTicks
+	 * @param rotationX
+	 * @param rotationZ
+	 * @param rotationYZ
+	 * @param rotationXY
+	 * @param rotationXZ
+	 */
+	void render(BufferBuilder buffer, int start, int end, float partialTicks, float rotationX, float rotationZ, float rotationYZ, float rotationXY, float rotationXZ) {
+		final TextureAtlasSprite[] sprites = this.spriteByAge;
+
+		if(sprites.length == 0) {
+			return;
+		}
+
+		final boolean directWrite = buffer.getVertexFormat() == DefaultVertexFormats.PARTICLE_POSITION_TEX_COLOR_LMAP;
+
+		final int[] quad = this.quad;
+
+		for(int i = start; i < end; i++) {
+			TextureAtlasSprite sprite = sprites[Math.min(this.age[i], sprites.length - 1)];
+
+			float minU = sprite.getMinU();
+			float maxU = sprite.getMaxU();
+			float minV = sprite.getMinV();
+			float maxV = sprite.getMaxV();
+
+			float x = (float)(this.prevPosX[i] + (this.posX[i] - this.prevPosX[i]) * (double)partialTicks - Particle.interpPosX);
+			float y = (float)(this.prevPosY[i] + (this.posY[i] - this.prevPosY[i]) * (double)partialTicks - Particle.interpPosY);
+			float z = (float)(this.prevPosZ[i] + (this.posZ[i] - this.prevPosZ[i]) * (double)partialTicks - Particle.interpPosZ);
+
+			float s = 0.1F * this.scale[i];
+
+			float x0, y0, z0, x1, y1, z1, x2, y2, z2, x3, y3, z3;
+
+			if(this.orientation == Orientation.HORIZONTAL) {
+				x0 = x - s; y0 = y; z0 = z - s;
+				x1 = x - s; y1 = y; z1 = z + s;
+				x2 = x + s; y2 = y; z2 = z + s;
+				x3 = x + s; y3 = y; z3 = z - s;
+			} else {
+				//Same as Particle#renderParticle
+				x0 = x - rotationX * s - rotationXY * s; y0 = y - rotationZ * s; z0 = z - rotationYZ * s - rotationXZ * s;
+				x1 = x - rotationX * s + rotationXY * s; y1 = y + rotationZ * s; z1 = z - rotationYZ * s + rotationXZ * s;
+				x2 = x + rotationX * s + rotationXY * s; y2 = y + rotationZ * s; z2 = z + rotationYZ * s + rotationXZ * s;
+				x3 = x + rotationX * s - rotationXY * s; y3 = y - rotationZ * s; z3 = z + rotationYZ * s - rotationXZ * s;
+			}
+
+			int color = this.color[i];
+			int brightness = this.brightness[i];
+
+			if(directWrite) {
+				int lightmap = LITTLE_ENDIAN ? brightness : ((brightness & 0xFFFF) << 16 | (brightness >>> 16 & 0xFFFF));
+
+				putVertex(quad, 0, x0, y0, z0, maxU, maxV, color, lightmap);
+				putVertex(quad, 7, x1, y1, z1, maxU, minV, color, lightmap);
+				putVertex(quad, 14, x2, y2, z2, minU, minV, color, lightmap);
+				putVertex(quad, 21, x3, y3, z3, minU, maxV, color, lightmap);
+
+				buffer.addVertexData(quad);
+			} else {
+				int lightmapX = brightness >> 16 & 65535;
+				int lightmapY = brightness & 65535;
+
+				int r, g, b, a;
+				if(LITTLE_ENDIAN) {
+					r = color & 255; g = color >> 8 & 255; b = color >> 16 & 255; a = color >>> 24;
+				} else {
+					r = color >>> 24; g = color >> 16 & 255; b = color >> 8 & 255; a = color & 255;
+				}
+
+				buffer.pos(x0, y0, z0).tex(maxU, maxV).color(r, g, b, a).lightmap(lightmapX, lightmapY).endVertex();
+				buffer.pos(x1, y1, z1).tex(maxU, minV).color(r, g, b, a).lightmap(lightmapX, lightmapY).endVertex();
+				buffer.pos(x2, y2, z2).tex(minU, minV).color(r, g, b, a).lightmap(lightmapX, lightmapY).endVertex();
+				buffer.pos(x3, y3, z3).tex(minU, maxV).color(r, g, b, a).lightmap(lightmapX, lightmapY).endVertex();
+			}
+		}
+	}
+
+	/**
+	 * Writes a vertex in the {@link DefaultVertexFormats#PARTICLE_POSITION_TEX_COLOR_LMAP} format
+	 */
+	private static void putVertex(int[] data, int offset, float x, float y, float z, float u, float v, int color, int lightmap) {
+		data[offset] = Float.floatToRawIntBits(x);
+		data[offset + 1] = Float.floatToRawIntBits(y);
+		data[offset + 2] = Float.floatToRawIntBits(z);
+		data[offset + 3] = Float.floatToRawIntBits(u);
+		data[offset + 4] = Float.floatToRawIntBits(v);
+		data[offset + 5] = color;
+		data[offset + 6] = lightmap;
+	}
+
+	/**
+	 * Packs the color in the byte order of {@link BufferBuilder#color(int, int, int, int)}
+	 */
+	private static int packColor(float r, float g, float b, float a) {
+		int ri = (int)(Math.min(Math.max(r, 0.0F), 1.0F) * 255.0F);
+		int gi = (int)(Math.min(Math.max(g, 0.0F), 1.0F) * 255.0F);
+		int bi = (int)(Math.min(Math.max(b, 0.0F), 1.0F) * 255.0F);
+		int ai = (int)(Math.min(Math.max(a, 0.0F), 1.0F) * 255.0F);
+		if(LITTLE_ENDIAN) {
+			return ri | gi << 8 | bi << 16 | ai << 24;
+		}
+		return ri << 24 | gi << 16 | bi << 8 | ai;
+	}
+}
@@ -0,0 +1,127 @@
+package thebetweenlands.client.render.shader;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import org.lwjgl.util.vector.Matrix4f;
+
+/**
+ * Culls light sources against the view frustum and sorts the visible light sources by distance
+ * to the camera.
+ * Does not make any GL calls.
+ */
+public class LightCuller {
+	private LightSource[] visible = new LightSource[64];
+	private int visibleCount;
+
+	private long[] sortKeys = new long[64];
+
+	private final float[] planes = new float[6 * 4];
+
+	/**
+	 * Culls and sorts the specified light sources
+	 * @param lights All light sources of the frame
+	 * @param viewX Camera position
+	 * @param viewY Camera position
+	 * @param viewZ Camera position
+	 * @param renderX Origin of the coordinates the matrix was set up with, i.e. the render position
+	 * @param renderY Origin of the coordinates the matrix was set up with, i.e. the render position
+	 * @param renderZ Origin of the coordinates the matrix was set up with, i.e. the render position
+	 * @param mvp Modelview projection matrix, or null to skip frustum culling
+	 */
+	public void update(List<LightSource> lights, double viewX, double viewY, double viewZ, double renderX, double renderY, double renderZ, @Nullable Matrix4f mvp) {
+		int size = lights.size();
+
+		if(this.sortKeys.length < size) {
+			int capacity = Math.max(size, this.sortKeys.length * 2);
+			this.sortKeys = new long[capacity];
+			this.visible = new LightSource[capacity];
+		}
+
+		if(mvp != null) {
+			this.extractPlanes(mvp);
+		}
+
+		//Frustum culling, the sort key contains the squared distance in the upper and the index in the lower bits
+		int candidates = 0;
+		for(int i = 0; i < size; i++) {
+			LightSource light = lights.get(i);
+
+			if(mvp == null || this.isInFrustum((float)(light.x - renderX), (float)(light.y - renderY), (float)(light.z - renderZ), light.radius)) {
+				double dx = light.x - viewX;
+				double dy = light.y - viewY;
+				double dz = light.z - viewZ;
+				float distSq = (float)(dx * dx + dy * dy + dz * dz);
+
+				//Bits of positive floats sort the same way as the floats themselves
+				this.sortKeys[candidates++] = (long)Float.floatToIntBits(distSq) << 32 | i;
+			}
+		}
+
+		Arrays.sort(this.sortKeys, 0, candidates);
+
+		for(int i = 0; i < candidates; i++) {
+			this.visible[i] = lights.get((int)(this.sortKeys[i] & 0xFFFFFFFFL));
+		}
+
+		//Don't keep references to the light sources of previous frames
+		if(candidates < this.visibleCount) {
+			Arrays.fill(this.visible, candidates, this.visibleCount, null);
+		}
+		this.visibleCount = candidates;
+	}
+
+	private void extractPlanes(Matrix4f m) {
+		//Rows of the matrix, lwjgl matrices are column major (mCR)
+		float[] p = this.planes;
+		setPlane(p, 0, m.m03 + m.m00, m.m13 + m.m10, m.m23 + m.m20, m.m33 + m.m30); //Left
+		setPlane(p, 1, m.m03 - m.m00, m.m13 - m.m10, m.m23 - m.m20, m.m33 - m.m30); //Right
+		setPlane(p, 2, m.m03 + m.m01, m.m13 + m.m11, m.m23 + m.m21, m.m33 + m.m31); //Bottom
+		setPlane(p, 3, m.m03 - m.m01, m.m13 - m.m11, m.m23 - m.m21, m.m33 - m.m31); //Top
+		setPlane(p, 4, m.m03 + m.m02, m.m13 + m.m12, m.m23 + m.m22, m.m33 + m.m32); //Near
+		setPlane(p, 5, m.m03 - m.m02, m.m13 - m.m12, m.m23 - m.m22, m.m33 - m.m32); //Far
+	}
+
+	private static void setPlane(float[] planes, int index, float a, float b, float c, float d) {
+		float len = (float)Math.sqrt(a * a + b * b + c * c);
+		if(len > 0.0F) {
+			a /= len;
+			b /= len;
+			c /= len;
+			d /= len;
+		}
+		planes[index * 4] = a;
+		planes[index * 4 + 1] = b;
+		planes[index * 4 + 2] = c;
+		planes[index * 4 + 3] = d;
+	}
+
+	private boolean isInFrustum(float x, float y, float z, float radius) {
+		float[] p = this.planes;
+		for(int i = 0; i < 6; i++) {
+			if(p[i * 4] * x + p[i * 4 + 1] * y + p[i * 4 + 2] * z + p[i * 4 + 3] < -radius) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the number of visible light sources
+	 * @return
+	 */
+	public int getVisibleCount() {
+		return this.visibleCount;
+	}
+
+	/**
+	 * Returns the visible light source with the specified index. Visible light sources are sorted by distance, closest first
+	 * @param index
+	 * @return
+	 */
+	public LightSource getVisible(int index) {
+		return this.visible[index];
+	}
+}
@@ -2,8 +2,6 @@ package thebetweenlands.client.render.shader.postprocessing;
 
 import java.nio.FloatBuffer;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 
 import org.lwjgl.opengl.GL11;
@@ -28,6 +26,7 @@ import thebetweenlands.client.render.particle.BatchedParticleRenderer;
 import thebetweenlands.client.render.particle.DefaultParticleBatches;
 import thebetweenlands.client.render.shader.DepthBuffer;
 import thebetweenlands.client.render.shader.GeometryBuffer;
+import thebetweenlands.client.render.shader.LightCuller;
 import thebetweenlands.client.render.shader.LightSource;
 import thebetweenlands.client.render.shader.ResizableFramebuffer;
 import thebetweenlands.client.render.shader.postprocessing.GroundFog.GroundFogVolume;
@@ -73,6 +72,8 @@ public class WorldShader extends PostProcessingEffect<WorldShader> {
 
 	public static final int MAX_LIGHT_SOURCES_PER_PASS = 32;
 	private List<LightSource> lightSources = new ArrayList<LightSource>();
+	private final LightCuller lightCuller = new LightCuller();
+	private boolean lightsCulled = false;
 	private List<GroundFogVolume> groundFogVolumes = new ArrayList<GroundFogVolume>();
 
 	//Uniforms
@@ -217,26 +218,6 @@ public class WorldShader extends PostProcessingEffect<WorldShader> {
 		return true;
 	}
 
-	private static final Comparator<LightSource> LIGHT_SOURCE_SORTER = new Comparator<LightSource>() {
-		@Override
-		public int compare(LightSource o1, LightSource o2) {
-			double dx1 = o1.x - Minecraft.getMinecraft().getRenderManager().viewerPosX;
-			double dy1 = o1.y - Minecraft.getMinecraft().getRenderManager().viewerPosY;
-			double dz1 = o1.z - Minecraft.getMinecraft().getRenderManager().viewerPosZ;
-			double dx2 = o2.x - Minecraft.getMinecraft().getRenderManager().viewerPosX;
-			double dy2 = o2.y - Minecraft.getMinecraft().getRenderManager().viewerPosY;
-			double dz2 = o2.z - Minecraft.getMinecraft().getRenderManager().viewerPosZ;
-			double d1 = Math.sqrt(dx1 * dx1 + dy1 * dy1 + dz1 * dz1);
-			double d2 = Math.sqrt(dx2 * dx2 + dy2 * dy2 + dz2 * dz2);
-			if (d1 > d2) {
-				return 1;
-			} else if (d1 < d2) {
-				return -1;
-			}
-			return 0;
-		}
-	};
-
 	@Override
 	protected void uploadUniforms(float partialTicks) {
 		this.uploadSampler(this.depthUniformID, this.depthBuffer.getGlTextureId(), 1);
@@ -248,17 +229,20 @@ public class WorldShader extends PostProcessingEffect<WorldShader> {
 		this.uploadMatrix4f(this.invMVPUniformID, this.invertedModelviewProjectionMatrix);
 		this.uploadInt(this.fogModeUniformID, FogHandler.getCurrentFogMode());
 
-		//Sort lights by distance
-		Collections.sort(this.lightSources, LIGHT_SOURCE_SORTER);
-
-		final int renderedLightSources = Math.min(MAX_LIGHT_SOURCES_PER_PASS, this.lightSources.size() - this.currentRenderPass * MAX_LIGHT_SOURCES_PER_PASS);
-
 		final double renderPosX = Minecraft.getMinecraft().getRenderManager().viewerPosX;
 		final double renderPosY = Minecraft.getMinecraft().getRenderManager().viewerPosY;
 		final double renderPosZ = Minecraft.getMinecraft().getRenderManager().viewerPosZ;
 
+		//Cull and sort lights only once per frame instead of once per pass
+		if (!this.lightsCulled) {
+			this.lightCuller.update(this.lightSources, renderPosX, renderPosY, renderPosZ, renderPosX, renderPosY, renderPosZ, this.modelviewProjectionMatrix);
+			this.lightsCulled = true;
+		}
+
+		final int renderedLightSources = MathHelper.clamp(this.lightCuller.getVisibleCount() - this.currentRenderPass * MAX_LIGHT_SOURCES_PER_PASS, 0, MAX_LIGHT_SOURCES_PER_PASS);
+
 		for (int i = 0; i < renderedLightSources; i++) {
-			LightSource lightSource = this.lightSources.get(this.currentRenderPass * MAX_LIGHT_SOURCES_PER_PASS + i);
+			LightSource lightSource = this.lightCuller.getVisible(this.currentRenderPass * MAX_LIGHT_SOURCES_PER_PASS + i);
 			this.uploadFloat(this.lightSourcePositionUniformIDs[i], (float) (lightSource.x - renderPosX), (float) (lightSource.y - renderPosY), (float) (lightSource.z - renderPosZ));
 			this.uploadFloat(this.lightSourceColorUniformIDs[i], lightSource.r, lightSource.g, lightSource.b);
 			this.uploadFloat(this.lightSourceRadiusUniformIDs[i], lightSource.radius);
@@ -395,6 +379,7 @@ public class WorldShader extends PostProcessingEffect<WorldShader> {
 	 */
 	public void addLight(LightSource light) {
 		this.lightSources.add(light);
+		this.lightsCulled = false;
 	}
 
 	/**
@@ -402,6 +387,7 @@ public class WorldShader extends PostProcessingEffect<WorldShader> {
 	 */
 	public void clearLights() {
 		this.lightSources.clear();
+		this.lightsCulled = false;
 	}
 
 	/**
@@ -413,6 +399,16 @@ public class WorldShader extends PostProcessingEffect<WorldShader> {
 		return this.lightSources.size();
 	}
 
+	/**
+	 * Returns the light culler that contains the frustum culled light sources
+	 * of the last rendered frame, sorted by distance to the camera
+	 *
+	 * @return
+	 */
+	public LightCuller getLightCuller() {
+		return this.lightCuller;
+	}
+
 	/**
 	 * Adds a ground fog volume for this frame
 	 * 
@@ -0,0 +1,217 @@
+package thebetweenlands.client.render.sprite;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+import org.apache.commons.io.IOUtils;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+
+import net.minecraft.client.renderer.texture.TextureUtil;
+import net.minecraft.client.resources.IResource;
+import net.minecraft.client.resources.IResourceManager;
+import net.minecraft.util.ResourceLocation;
+import thebetweenlands.api.item.CorrosionHelper;
+import thebetweenlands.common.TheBetweenlands;
+import thebetweenlands.common.config.BetweenlandsConfig;
+
+/**
+ * Generates the corrosion overlays of {@link TextureCorrosion}s in parallel on a worker pool while the
+ * texture atlas is being loaded. Generated overlays are cached on disk, keyed by a hash of the parent texture,
+ * the corrosion texture, the corrosion amount and the seed, so that resource reloads can reuse them.
+ */
+public class CorrosionTextureCache {
+	private static final int CACHE_VERSION = 1;
+
+	private static final ExecutorService GENERATOR = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), new ThreadFactory() {
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread thread = new Thread(r);
+			thread.setName("BL Corrosion Texture Generator #" + GENERATOR_THREAD_ID.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+	});
+
+	private static final AtomicInteger GENERATOR_THREAD_ID = new AtomicInteger(0);
+
+	public static final class Overlay {
+		public final int width;
+		public final int height;
+		public final int[] pixels;
+
+		private Overlay(int width, int height, int[] pixels) {
+			this.width = width;
+			this.height = height;
+			this.pixels = pixels;
+		}
+	}
+
+	private final File cacheFolder;
+
+	public CorrosionTextureCache(File cacheFolder) {
+		this.cacheFolder = cacheFolder;
+	}
+
+	/**
+	 * Reads the parent textures and schedules the generation of the corrosion overlays of the specified sprites.
+	 * Sprites with the same parent texture, corrosion amount and seed share the same overlay
+	 * @param manager
+	 * @param sprites
+	 */
+	public void schedule(IResourceManager manager, List<TextureCorrosion> sprites) {
+		byte[] corrosionData;
+		try(IResource resource = manager.getResource(TextureCorrosion.CORROSION_TEXTURE)) {
+			corrosionData = IOUtils.toByteArray(resource.getInputStream());
+		} catch(IOException ex) {
+			TheBetweenlands.logger.error("Failed reading corrosion texture", ex);
+			return;
+		}
+
+		BufferedImage corrosionImg;
+		try {
+			corrosionImg = TextureUtil.readBufferedImage(new ByteArrayInputStream(corrosionData));
+		} catch(IOException ex) {
+			TheBetweenlands.logger.error("Failed reading corrosion texture", ex);
+			return;
+		}
+		int corrosionWidth = corrosionImg.getWidth();
+		int[] corrosionPixels = corrosionImg.getRGB(0, 0, corrosionImg.getWidth(), corrosionImg.getHeight(), null, 0, corrosionImg.getWidth());
+		HashCode corrosionHash = Hashing.sha256().hashBytes(corrosionData);
+
+		boolean useDiskCache = BetweenlandsConfig.PERFORMANCE.corrosionTextureCache;
+
+		Map<ResourceLocation, byte[]> parentData = new HashMap<>();
+		Map<String, Future<Overlay>> scheduled = new HashMap<>();
+
+		for(TextureCorrosion sprite : sprites) {
+			ResourceLocation parentTexture = sprite.getParentTexture();
+
+			byte[] data = parentData.get(parentTexture);
+			if(data == null) {
+				try(IResource resource = manager.getResource(parentTexture)) {
+					data = IOUtils.toByteArray(resource.getInputStream());
+				} catch(IOException ex) {
+					//Sprite logs the error when it's loaded
+					continue;
+				}
+				parentData.put(parentTexture, data);
+			}
+
+			final byte[] textureData = data;
+			final int corrosionAmount = sprite.getCorrosionAmount();
+			final long seed = sprite.getSeed();
+
+			String key = parentTexture + "#" + corrosionAmount + "#" + seed;
+
+			Future<Overlay> overlay = scheduled.get(key);
+			if(overlay == null) {
+				overlay = GENERATOR.submit(() -> this.getOrGenerate(textureData, corrosionHash, corrosionPixels, corrosionWidth, corrosionAmount, seed, useDiskCache));
+				scheduled.put(key, overlay);
+			}
+
+			sprite.setPrecomputedOverlay(overlay);
+		}
+	}
+
+	private Overlay getOrGenerate(byte[] textureData, HashCode corrosionHash, int[] corrosionPixels, int corrosionWidth, int corrosionAmount, long seed, boolean useDiskCache) throws IOException {
+		File file = null;
+
+		if(useDiskCache) {
+			HashCode hash = Hashing.sha256().newHasher()
+					.putInt(CACHE_VERSION)
+					.putInt(CorrosionHelper.CORROSION_STAGE_COUNT)
+					.putInt(corrosionAmount)
+					.putLong(seed)
+					.putBytes(corrosionHash.asBytes())
+					.putBytes(textureData)
+					.hash();
+
+			file = new File(this.cacheFolder, hash.toString() + ".bin");
+
+			Overlay cached = this.read(file);
+			if(cached != null) {
+				return cached;
+			}
+		}
+
+		BufferedImage texture = TextureUtil.readBufferedImage(new ByteArrayInputStream(textureData));
+		int width = texture.getWidth();
+		int height = texture.getHeight();
+		int[] pixels = texture.getRGB(0, 0, width, height, null, 0, width);
+
+		TextureCorrosion.generateOverlay(pixels, width, height, corrosionPixels, corrosionWidth, corrosionAmount, seed);
+
+		Overlay overlay = new Overlay(width, height, pixels);
+
+		if(file != null) {
+			try {
+				this.write(file, overlay);
+			} catch(IOException ex) {
+				TheBetweenlands.logger.warn("Failed caching corrosion texture", ex);
+			}
+		}
+
+		return overlay;
+	}
+
+	@Nullable
+	private Overlay read(File file) {
+		if(file.exists()) {
+			try(DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+				int width = in.readInt();
+				int height = in.readInt();
+				if(width > 0 && height > 0 && (long) width * height == (file.length() - 8) / 4) {
+					int[] pixels = new int[width * height];
+					for(int i = 0; i < pixels.length; i++) {
+						pixels[i] = in.readInt();
+					}
+					return new Overlay(width, height, pixels);
+				}
+			} catch(IOException ex) {
+				//Corrupted cache file, regenerate
+			}
+		}
+		return null;
+	}
+
+	private void write(File file, Overlay overlay) throws IOException {
+		this.cacheFolder.mkdirs();
+
+		//Written to a temporary file first so that other threads or instances never read a partially written file
+		File tmp = File.createTempFile("corrosion", ".tmp", this.cacheFolder);
+		try {
+			try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+				out.writeInt(overlay.width);
+				out.writeInt(overlay.height);
+				for(int pixel : overlay.pixels) {
+					out.writeInt(pixel);
+				}
+			}
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			tmp.delete();
+		}
+	}
+}
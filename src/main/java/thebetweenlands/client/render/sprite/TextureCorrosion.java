@@ -7,8 +7,11 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
 import javax.imageio.ImageIO;
 
 import org.apache.commons.io.IOUtils;
@@ -36,7 +39,6 @@ public class TextureCorrosion extends TextureAtlasSprite {
 	public static final ResourceLocation CORROSION_TEXTURE = new ResourceLocation(ModInfo.ID, "textures/items/tool_corrosion.png");
 
 	private static final Logger LOGGER = LogManager.getLogger();
-	private static final Random RANDOM = new Random(0);
 
 	private static int[] corrosionPixels;
 	private static int corrosionWidth;
@@ -51,6 +53,7 @@ public class TextureCorrosion extends TextureAtlasSprite {
 	private IResourceManager loaderResourceManager = null;
 	private TextureAtlasSprite parentSprite;
 	private Function<ResourceLocation, TextureAtlasSprite> textureGetter;
+	private Future<CorrosionTextureCache.Overlay> precomputedOverlay;
 
 	public TextureCorrosion(String spriteName, ResourceLocation parentTexture, int corrosionAmount, long seed) {
 		super(spriteName);
@@ -78,6 +81,31 @@ public class TextureCorrosion extends TextureAtlasSprite {
 		return this.parentTextureSpriteName;
 	}
 
+	/**
+	 * Returns the corrosion amount, i.e. the corrosion stage
+	 * @return
+	 */
+	public int getCorrosionAmount() {
+		return this.corrosionAmount;
+	}
+
+	/**
+	 * Returns the seed used to generate the corrosion overlay
+	 * @return
+	 */
+	public long getSeed() {
+		return this.seed;
+	}
+
+	/**
+	 * Sets the overlay generated by the {@link CorrosionTextureCache}. If the overlay is not set
+	 * or fails to generate the overlay is generated when the sprite is loaded
+	 * @param overlay
+	 */
+	public void setPrecomputedOverlay(@Nullable Future<CorrosionTextureCache.Overlay> overlay) {
+		this.precomputedOverlay = overlay;
+	}
+
 	/**
 	 * Sets the parent sprite
 	 * @param sprite
@@ -173,35 +201,31 @@ public class TextureCorrosion extends TextureAtlasSprite {
 
 	@Override
 	public void loadSpriteFrames(IResource resource, int mipmapLevels) throws IOException {
-		BufferedImage spriteTexture = TextureUtil.readBufferedImage(resource.getInputStream());
 		AnimationMetadataSection spriteMetadata = (AnimationMetadataSection)resource.getMetadata("animation");
 		int[][] mipmappedFrames = new int[mipmapLevels][];
-		mipmappedFrames[0] = new int[spriteTexture.getWidth() * spriteTexture.getHeight()];
-		spriteTexture.getRGB(0, 0, spriteTexture.getWidth(), spriteTexture.getHeight(), mipmappedFrames[0], 0, spriteTexture.getWidth());
+
+		int width;
+		int height;
+
+		CorrosionTextureCache.Overlay overlay = this.getPrecomputedOverlay();
+		if(overlay != null) {
+			width = overlay.width;
+			height = overlay.height;
+			mipmappedFrames[0] = overlay.pixels.clone();
+		} else {
+			BufferedImage spriteTexture = TextureUtil.readBufferedImage(resource.getInputStream());
+			width = spriteTexture.getWidth();
+			height = spriteTexture.getHeight();
+			mipmappedFrames[0] = new int[width * height];
+			spriteTexture.getRGB(0, 0, width, height, mipmappedFrames[0], 0, width);
+			generateOverlay(mipmappedFrames[0], width, height, corrosionPixels, corrosionWidth, this.corrosionAmount, this.seed);
+		}
 
 		resetSprite();
 
-		int width = spriteTexture.getWidth();
-		int height = spriteTexture.getHeight();
 		this.width = width;
 		this.height = height;
 
-		for (int x = 0; x < width; x++) {
-			for (int y = 0; y < height; y++) {
-				if(y % width == 0) {
-					//Reset seed for every frame
-					RANDOM.setSeed(this.seed);
-				}
-				int pixel = mipmappedFrames[0][x + y * width];
-				int corrosion = 0;
-				if (pixel >>> 24 != 0 && RANDOM.nextFloat() > 0.2F) {
-					corrosion = corrosionPixels[(x % width % corrosionWidth) + (y % width % corrosionWidth) * corrosionWidth];
-				}
-				float alpha = (this.corrosionAmount / (float) (CorrosionHelper.CORROSION_STAGE_COUNT - 1) * ((corrosion >>> 24 & 0xFF) / 255.0F)) * (0.5F + RANDOM.nextFloat() * 0.5F);
-				mipmappedFrames[0][x + y * width] = (((int)(alpha * 255.0F) & 0xFF) << 24) | ((corrosion >> 16 & 0xFF) << 16) | ((corrosion >> 8 & 0xFF) << 8) | (corrosion & 0xFF);
-			}
-		}
-
 		if (spriteMetadata == null) {
 			if (height != width) {
 				throw new RuntimeException("broken aspect ratio and not an animation");
@@ -243,6 +267,50 @@ public class TextureCorrosion extends TextureAtlasSprite {
 		}
 	}
 
+	@Nullable
+	private CorrosionTextureCache.Overlay getPrecomputedOverlay() {
+		if(this.precomputedOverlay != null) {
+			try {
+				return this.precomputedOverlay.get();
+			} catch(InterruptedException | ExecutionException ex) {
+				LOGGER.warn("Failed generating corrosion texture " + this.loadedResourceLocation + " in parallel, generating it on the main thread", ex);
+				this.precomputedOverlay = null;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Replaces the pixels of the parent texture with the corrosion overlay. The result only depends on the
+	 * specified parameters, so this can be called from any thread
+	 * @param pixels Pixels of the parent texture, overwritten with the overlay
+	 * @param width
+	 * @param height
+	 * @param corrosionPixels
+	 * @param corrosionWidth
+	 * @param corrosionAmount
+	 * @param seed
+	 */
+	public static void generateOverlay(int[] pixels, int width, int height, int[] corrosionPixels, int corrosionWidth, int corrosionAmount, long seed) {
+		Random rand = new Random(seed);
+
+		for (int x = 0; x < width; x++) {
+			for (int y = 0; y < height; y++) {
+				if(y % width == 0) {
+					//Reset seed for every frame
+					rand.setSeed(seed);
+				}
+				int pixel = pixels[x + y * width];
+				int corrosion = 0;
+				if (pixel >>> 24 != 0 && rand.nextFloat() > 0.2F) {
+					corrosion = corrosionPixels[(x % width % corrosionWidth) + (y % width % corrosionWidth) * corrosionWidth];
+				}
+				float alpha = (corrosionAmount / (float) (CorrosionHelper.CORROSION_STAGE_COUNT - 1) * ((corrosion >>> 24 & 0xFF) / 255.0F)) * (0.5F + rand.nextFloat() * 0.5F);
+				pixels[x + y * width] = (((int)(alpha * 255.0F) & 0xFF) << 24) | ((corrosion >> 16 & 0xFF) << 16) | ((corrosion >> 8 & 0xFF) << 8) | (corrosion & 0xFF);
+			}
+		}
+	}
+
 	/**
 	 * Allocates memory for the specified amount of frames
 	 * @param frameCount
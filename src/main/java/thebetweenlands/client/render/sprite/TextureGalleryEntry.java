@@ -1,38 +1,63 @@
 package thebetweenlands.client.render.sprite;
 
-import java.awt.image.BufferedImage;
-import java.io.FileInputStream;
 import java.io.IOException;
 
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
+import javax.annotation.Nullable;
 
 import net.minecraft.client.renderer.texture.AbstractTexture;
 import net.minecraft.client.renderer.texture.TextureUtil;
 import net.minecraft.client.resources.IResourceManager;
 import thebetweenlands.client.handler.gallery.GalleryEntry;
+import thebetweenlands.client.handler.gallery.GalleryPicture;
+import thebetweenlands.client.handler.gallery.GalleryTextureCache;
 
 public class TextureGalleryEntry extends AbstractTexture {
-	private static final Logger LOGGER = LogManager.getLogger();
-
 	public final GalleryEntry galleryEntry;
 
+	@Nullable
+	private GalleryPicture picture;
+
+	private long size;
+
 	public TextureGalleryEntry(GalleryEntry entry) {
+		this(entry, null);
+	}
+
+	/**
+	 * @param entry Gallery entry
+	 * @param picture Already decoded picture. If null the picture is decoded when the texture is loaded
+	 */
+	public TextureGalleryEntry(GalleryEntry entry, @Nullable GalleryPicture picture) {
 		this.galleryEntry = entry;
+		this.picture = picture;
 	}
 
 	@Override
 	public void loadTexture(IResourceManager resourceManager) throws IOException {
 		this.deleteGlTexture();
 
-		try(FileInputStream fio = new FileInputStream(this.galleryEntry.getPictureFile())) {
-			BufferedImage image = TextureUtil.readBufferedImage(fio);
-			if(image != null && image.getWidth() > 0 && image.getHeight() > 0) {
-				this.galleryEntry.setUploaded(image.getWidth(), image.getHeight());
-				TextureUtil.uploadTextureImageAllocate(this.getGlTextureId(), image, false, true);
-			} else {
-				throw new IOException("Gallery picture could not be loaded properly");
-			}
+		GalleryPicture picture = this.picture;
+
+		//The pixels aren't needed anymore once uploaded. If the texture is reloaded
+		//the picture is decoded again
+		this.picture = null;
+
+		if(picture == null) {
+			picture = GalleryPicture.decode(this.galleryEntry.getPictureFile(), GalleryTextureCache.MAX_TEXTURE_SIZE);
 		}
+
+		this.galleryEntry.setUploaded(picture.originalWidth, picture.originalHeight);
+		this.size = picture.getSize();
+
+		TextureUtil.allocateTextureImpl(this.getGlTextureId(), 0, picture.width, picture.height);
+		TextureUtil.uploadTextureMipmap(new int[][] { picture.pixels }, picture.width, picture.height, 0, 0, false, true);
+	}
+
+	/**
+	 * Returns the size of the uploaded texture in bytes
+	 * @return
+	 */
+	public long getSize() {
+		return this.size;
 	}
 }
@@ -30,6 +30,8 @@ import thebetweenlands.common.capability.playermounts.PlayerMountsEntityCapabili
 import thebetweenlands.common.command.CommandAspectDiscovery;
 import thebetweenlands.common.command.CommandBLEvent;
 import thebetweenlands.common.command.CommandDecay;
+import thebetweenlands.common.command.CommandPregen;
+import thebetweenlands.common.command.CommandProfile;
 import thebetweenlands.common.command.CommandReloadRecipes;
 import thebetweenlands.common.command.CommandResetAspects;
 import thebetweenlands.common.config.BetweenlandsConfig;
@@ -40,12 +42,14 @@ import thebetweenlands.common.entity.mobs.EntityChiromawMatriarch;
 import thebetweenlands.common.entity.mobs.EntitySludgeMenace;
 import thebetweenlands.common.entity.rowboat.EntityWeedwoodRowboat;
 import thebetweenlands.common.handler.AdvancementHandler;
+import thebetweenlands.common.handler.AreaEffectHandler;
 import thebetweenlands.common.handler.AnvilEventHandler;
 import thebetweenlands.common.handler.ArmorHandler;
 import thebetweenlands.common.handler.AspectSyncHandler;
 import thebetweenlands.common.handler.AttackDamageHandler;
 import thebetweenlands.common.handler.BlockBreakHandler;
 import thebetweenlands.common.handler.BossHandler;
+import thebetweenlands.common.handler.CorrosionHandler;
 import thebetweenlands.common.handler.CustomEntityCollisionsHandler;
 import thebetweenlands.common.handler.ElixirCommonHandler;
 import thebetweenlands.common.handler.EntityUnmountHandler;
@@ -63,6 +67,8 @@ import thebetweenlands.common.handler.PlayerPortalHandler;
 import thebetweenlands.common.handler.PlayerRespawnHandler;
 import thebetweenlands.common.handler.PlayerRuneChainHandler;
 import thebetweenlands.common.handler.PuppetHandler;
+import thebetweenlands.common.handler.TickBudgetHandler;
+import thebetweenlands.common.handler.TileSleepHandler;
 import thebetweenlands.common.handler.WorldEventHandler;
 import thebetweenlands.common.herblore.elixir.ElixirEffectRegistry;
 import thebetweenlands.common.herblore.elixir.PotionRootBound;
@@ -86,6 +92,7 @@ import thebetweenlands.common.registries.Registries;
 import thebetweenlands.common.registries.SoundRegistry;
 import thebetweenlands.common.world.WorldProviderBetweenlands;
 import thebetweenlands.common.world.biome.spawning.WorldMobSpawner;
+import thebetweenlands.common.world.gen.WorldPregenerator;
 import thebetweenlands.common.world.gen.feature.structure.WorldGenDruidCircle;
 import thebetweenlands.common.world.gen.feature.structure.WorldGenWaystone;
 import thebetweenlands.common.world.storage.BetweenlandsChunkStorage;
@@ -214,6 +221,8 @@ public class TheBetweenlands {
 		}*/
 		GameruleRegistry.INSTANCE.onServerStarting(event);
 		event.registerServerCommand(new CommandReloadRecipes());
+		event.registerServerCommand(new CommandPregen());
+		event.registerServerCommand(new CommandProfile());
 	}
 
 	/**
@@ -275,5 +284,10 @@ public class TheBetweenlands {
 		MinecraftForge.EVENT_BUS.register(EntityChiromawMatriarch.class);
 		MinecraftForge.EVENT_BUS.register(ItemAncientArmor.class);
 		MinecraftForge.EVENT_BUS.register(EntityUnmountHandler.class);
+		MinecraftForge.EVENT_BUS.register(TileSleepHandler.class);
+		MinecraftForge.EVENT_BUS.register(AreaEffectHandler.class);
+		MinecraftForge.EVENT_BUS.register(CorrosionHandler.class);
+		MinecraftForge.EVENT_BUS.register(WorldPregenerator.class);
+		MinecraftForge.EVENT_BUS.register(TickBudgetHandler.class);
 	}
 }
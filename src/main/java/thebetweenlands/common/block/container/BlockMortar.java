@@ -22,6 +22,7 @@ import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import thebetweenlands.client.tab.BLCreativeTabs;
 import thebetweenlands.common.TheBetweenlands;
+import thebetweenlands.common.handler.TileSleepHandler;
 import thebetweenlands.common.proxy.CommonProxy;
 import thebetweenlands.common.registries.ItemRegistry;
 import thebetweenlands.common.tile.TileEntityMortar;
@@ -57,6 +58,7 @@ public class BlockMortar extends BlockContainer {
 				TileEntityMortar tile = (TileEntityMortar) worldIn.getTileEntity(pos);
 
 				tile.manualGrinding = true;
+				TileSleepHandler.wake(tile);
 				IBlockState state = worldIn.getBlockState(pos);
 				worldIn.notifyBlockUpdate(pos, state, state, 3);
 			}
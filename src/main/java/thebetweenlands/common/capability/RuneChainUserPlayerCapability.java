@@ -16,6 +16,8 @@ import thebetweenlands.api.rune.IRuneChainUser;
 import thebetweenlands.api.rune.impl.RuneChainComposition;
 import thebetweenlands.common.capability.base.EntityCapability;
 import thebetweenlands.common.lib.ModInfo;
+import thebetweenlands.common.metrics.LatencyHistogram;
+import thebetweenlands.common.metrics.Metrics;
 import thebetweenlands.common.registries.CapabilityRegistry;
 
 public class RuneChainUserPlayerCapability extends EntityCapability<RuneChainUserPlayerCapability, IRuneChainUserCapability, EntityPlayer> implements IRuneChainUserCapability {
@@ -57,6 +59,8 @@ public class RuneChainUserPlayerCapability extends EntityCapability<RuneChainUse
 		}
 	}
 
+	private static final LatencyHistogram UPDATE_TIME = Metrics.histogram("rune_chains.update");
+
 	private static int nextRuneChainID = 0;
 
 	private IRuneChainUser user;
@@ -154,7 +158,9 @@ public class RuneChainUserPlayerCapability extends EntityCapability<RuneChainUse
 		while(chainIT.hasNext()) {
 			RuneChainComposition chain = chainIT.next();
 			if(chain.isRunning()) {
+				long start = Metrics.startTimer();
 				chain.update();
+				UPDATE_TIME.recordSince(start);
 			} else {
 				chainIT.remove();
 			}
@@ -14,6 +14,7 @@ import net.minecraftforge.common.util.Constants;
 import thebetweenlands.api.capability.IEquipmentCapability;
 import thebetweenlands.api.capability.ISerializableCapability;
 import thebetweenlands.common.capability.base.EntityCapability;
+import thebetweenlands.common.handler.ItemEquipmentHandler;
 import thebetweenlands.common.inventory.InventoryEquipment;
 import thebetweenlands.common.inventory.InventoryEquipmentAmulets;
 import thebetweenlands.common.lib.ModInfo;
@@ -27,6 +28,9 @@ public class EquipmentEntityCapability extends EntityCapability<EquipmentEntityC
 	private Map<EnumEquipmentInventory, IInventory> inventories = new EnumMap<>(EnumEquipmentInventory.class);
 	private int amuletSlots = 1;
 
+	private boolean isTicking = false;
+	private int lastTickedEntityTick = -1;
+
 	public EquipmentEntityCapability() {
 		for (EnumEquipmentInventory inventory : EnumEquipmentInventory.VALUES) {
 			this.allInventoryStacks.put(inventory, NonNullList.withSize(inventory.maxSize, ItemStack.EMPTY));
@@ -137,6 +141,12 @@ public class EquipmentEntityCapability extends EntityCapability<EquipmentEntityC
 				}
 			}
 		}
+
+		//Tracking data is received after the entity was added to the world
+		Entity entity = this.getEntity();
+		if(!this.isTicking && entity != null && entity.addedToChunk && this.hasEquipment()) {
+			ItemEquipmentHandler.startTicking(this);
+		}
 	}
 
 	@Override
@@ -163,4 +173,51 @@ public class EquipmentEntityCapability extends EntityCapability<EquipmentEntityC
 	public void setAmuletSlots(int slots) {
 		this.amuletSlots = slots;
 	}
+
+	/**
+	 * Returns whether any of the equipment inventories contain an item
+	 * @return
+	 */
+	public boolean hasEquipment() {
+		for(NonNullList<ItemStack> inventoryStacks : this.allInventoryStacks.values()) {
+			for(int i = 0; i < inventoryStacks.size(); i++) {
+				if(!inventoryStacks.get(i).isEmpty()) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns whether the equipment is currently being ticked by the {@link ItemEquipmentHandler}
+	 * @return
+	 */
+	public boolean isTicking() {
+		return this.isTicking;
+	}
+
+	/**
+	 * Sets whether the equipment is currently being ticked by the {@link ItemEquipmentHandler}
+	 * @param ticking
+	 */
+	public void setTicking(boolean ticking) {
+		this.isTicking = ticking;
+	}
+
+	/**
+	 * Returns the entity's ticksExisted of the last equipment tick
+	 * @return
+	 */
+	public int getLastTickedEntityTick() {
+		return this.lastTickedEntityTick;
+	}
+
+	/**
+	 * Sets the entity's ticksExisted of the last equipment tick
+	 * @param tick
+	 */
+	public void setLastTickedEntityTick(int tick) {
+		this.lastTickedEntityTick = tick;
+	}
 }
@@ -17,13 +17,6 @@ import thebetweenlands.common.registries.CapabilityRegistry;
 import javax.annotation.Nullable;
 
 public class EquipmentHelper {
-	/**
-	 * NBT containing whether the entity does *not* have any equipment.
-	 * Using the inverse because old entities may not have this tag yet and so we can still do a quick check
-	 * instead of having to do hasKey.
-	 */
-	public static final String NBT_HAS_NO_EQUIPMENT = "thebetweenlands.has_no_equipment";
-	
 	/**
 	 * Returns the first item stack of the specified item, or empty if none is found
 	 * @param entity
@@ -77,8 +70,6 @@ public class EquipmentHelper {
 					}
 
 					if(result.isEmpty() || result.getCount() != stack.getCount()) {
-						target.getEntityData().setBoolean(NBT_HAS_NO_EQUIPMENT, false);
-						
 						equippable.onEquip(stack, target, inv);
 						
 						return ItemHandlerHelper.insertItem(wrapper, stack, false);
@@ -125,8 +116,6 @@ public class EquipmentHelper {
 						}
 
 						if(result.isEmpty() || result.getCount() != stack.getCount()) {
-							target.getEntityData().setBoolean(NBT_HAS_NO_EQUIPMENT, false);
-							
 							equippable.onEquip(stack, target, inv);
 							
 							return ItemHandlerHelper.insertItem(wrapper, stack, false);
@@ -0,0 +1,109 @@
+package thebetweenlands.common.command;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import thebetweenlands.common.config.BetweenlandsConfig;
+import thebetweenlands.common.world.gen.WorldPregenerator;
+
+public class CommandPregen extends CommandBase {
+	private List<String> childCommands = Arrays.asList("start", "stop", "status");
+
+	@Override
+	public String getName() {
+		return "blpregen";
+	}
+
+	@Override
+	public int getRequiredPermissionLevel() {
+		return 2;
+	}
+
+	@Override
+	public String getUsage(ICommandSender sender) {
+		return "command.blpregen.usage";
+	}
+
+	private void processStart(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+		if(args.length < 2) {
+			throw new CommandException("command.blpregen.usage.start");
+		}
+
+		int radius = parseInt(args[1], 16, 30000000);
+
+		WorldPregenerator.Shape shape = WorldPregenerator.Shape.SQUARE;
+		if(args.length >= 3) {
+			shape = WorldPregenerator.Shape.fromName(args[2]);
+			if(shape == null) {
+				throw new CommandException("command.blpregen.usage.start");
+			}
+		}
+
+		int targetMspt = args.length >= 4 ? parseInt(args[3], 1, 1000) : 40;
+
+		//Centered on the sender if it is in the Betweenlands, otherwise on the origin
+		BlockPos center = sender.getEntityWorld().provider.getDimension() == BetweenlandsConfig.WORLD_AND_DIMENSION.dimensionId ? sender.getPosition() : BlockPos.ORIGIN;
+
+		if(!WorldPregenerator.start(server, center.getX() >> 4, center.getZ() >> 4, (radius + 15) >> 4, shape, targetMspt)) {
+			throw new CommandException("command.blpregen.failure.start");
+		}
+
+		notifyCommandListener(sender, this, "command.blpregen.success.start", WorldPregenerator.getChunkCount((radius + 15) >> 4), center.getX(), center.getZ(), shape.name, targetMspt);
+	}
+
+	private void processStop(MinecraftServer server, ICommandSender sender) throws CommandException {
+		if(!WorldPregenerator.stop(server)) {
+			throw new CommandException("command.blpregen.failure.notrunning");
+		}
+		notifyCommandListener(sender, this, "command.blpregen.success.stop");
+	}
+
+	private void processStatus(MinecraftServer server, ICommandSender sender) throws CommandException {
+		WorldPregenerator.PregenData data = WorldPregenerator.getData(server);
+		if(data == null || !data.isRunning()) {
+			throw new CommandException("command.blpregen.failure.notrunning");
+		}
+		long total = data.getTotal();
+		sender.sendMessage(new TextComponentString(String.format("%d/%d (%.1f%%), %.2f chunks/s", data.getCursor(), total, data.getCursor() * 100.0D / total, WorldPregenerator.getChunksPerSecond())));
+		sender.sendMessage(new TextComponentString(WorldPregenerator.getStageSplit()));
+	}
+
+	@Override
+	public List<String> getTabCompletions(MinecraftServer server, ICommandSender sender, String[] args, @Nullable BlockPos targetPos) {
+		if(args.length == 1) {
+			return getListOfStringsMatchingLastWord(args, this.childCommands);
+		} else if(args.length == 3 && "start".equals(args[0])) {
+			return getListOfStringsMatchingLastWord(args, WorldPregenerator.Shape.SQUARE.name, WorldPregenerator.Shape.SPIRAL.name);
+		}
+		return Collections.<String>emptyList();
+	}
+
+	@Override
+	public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+		if(args.length < 1) {
+			throw new CommandException("command.blpregen.usage");
+		}
+		switch(args[0]) {
+		case "start":
+			this.processStart(server, sender, args);
+			break;
+		case "stop":
+			this.processStop(server, sender);
+			break;
+		case "status":
+			this.processStatus(server, sender);
+			break;
+		default:
+			throw new CommandException("command.blpregen.usage");
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package thebetweenlands.common.command;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import thebetweenlands.common.TheBetweenlands;
+import thebetweenlands.common.metrics.Metric;
+import thebetweenlands.common.metrics.Metrics;
+
+public class CommandProfile extends CommandBase {
+	private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+	private List<String> childCommands = Arrays.asList("start", "stop", "dump");
+
+	@Override
+	public String getName() {
+		return "blprofile";
+	}
+
+	@Override
+	public int getRequiredPermissionLevel() {
+		return 2;
+	}
+
+	@Override
+	public String getUsage(ICommandSender sender) {
+		return "command.blprofile.usage";
+	}
+
+	private void processStart(ICommandSender sender) throws CommandException {
+		if(Metrics.isEnabled()) {
+			throw new CommandException("command.blprofile.failure.running");
+		}
+		Metrics.start();
+		notifyCommandListener(sender, this, "command.blprofile.success.start");
+	}
+
+	private void processStop(ICommandSender sender) throws CommandException {
+		if(!Metrics.isEnabled()) {
+			throw new CommandException("command.blprofile.failure.notrunning");
+		}
+		Metrics.stop();
+		notifyCommandListener(sender, this, "command.blprofile.success.stop");
+	}
+
+	private void processDump(MinecraftServer server, ICommandSender sender) throws CommandException {
+		for(Map.Entry<String, Metric> entry : Metrics.getMetrics().entrySet()) {
+			sender.sendMessage(new TextComponentString(entry.getKey() + ": " + entry.getValue().getSummary()));
+		}
+
+		File file = server.getFile("thebetweenlands/profiles/profile-" + new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(new Date()) + ".json");
+		try {
+			Files.createDirectories(file.getParentFile().toPath());
+			try(Writer writer = new OutputStreamWriter(Files.newOutputStream(file.toPath()), StandardCharsets.UTF_8)) {
+				GSON.toJson(Metrics.toJson(), writer);
+			}
+		} catch(IOException ex) {
+			TheBetweenlands.logger.error("Failed writing profile", ex);
+			throw new CommandException("command.blprofile.failure.dump", file.getPath());
+		}
+
+		notifyCommandListener(sender, this, "command.blprofile.success.dump", file.getPath());
+	}
+
+	@Override
+	public List<String> getTabCompletions(MinecraftServer server, ICommandSender sender, String[] args, @Nullable BlockPos targetPos) {
+		if(args.length == 1) {
+			return getListOfStringsMatchingLastWord(args, this.childCommands);
+		}
+		return Collections.<String>emptyList();
+	}
+
+	@Override
+	public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+		if(args.length < 1) {
+			throw new CommandException("command.blprofile.usage");
+		}
+		switch(args[0]) {
+		case "start":
+			this.processStart(sender);
+			break;
+		case "stop":
+			this.processStop(sender);
+			break;
+		case "dump":
+			this.processDump(server, sender);
+			break;
+		default:
+			throw new CommandException("command.blprofile.usage");
+		}
+	}
+}
@@ -544,6 +544,40 @@ public class BetweenlandsConfig {
 		public int defaultRemoteResetTime = 180;
 	}
 
+	@Name("performance")
+	@LangKey(LANG_PREFIX + "performance")
+	public static final Performance PERFORMANCE = new Performance();
+
+	public static class Performance {
+		@Name("tile_sleeping")
+		@LangKey(LANG_PREFIX + "tile_sleeping")
+		@Comment("If true, idle machines such as censers, furnaces or infusers stop ticking until something changes (e.g. their inventory, fluid or neighbour blocks)")
+		public boolean tileSleeping = true;
+
+		@Name("corrosion_update_interval")
+		@LangKey(LANG_PREFIX + "corrosion_update_interval")
+		@Comment("How often (in ticks) the corrosion of the tools in a player's inventory is updated. Higher values update less often but apply proportionally more corrosion per update")
+		@RangeInt(min = 1, max = 200)
+		public int corrosionUpdateInterval = 20;
+
+		@Name("corrosion_texture_cache")
+		@LangKey(LANG_PREFIX + "corrosion_texture_cache")
+		@Comment("If true, the generated corrosion textures of tools are cached on disk in betweenlands/corrosion_cache so that they don't have to be generated again when resources are reloaded")
+		public boolean corrosionTextureCache = true;
+
+		@Name("gallery_texture_memory")
+		@LangKey(LANG_PREFIX + "gallery_texture_memory")
+		@Comment("Maximum amount of texture memory (in MB) used by gallery pictures. The least recently seen pictures are unloaded once this is exceeded")
+		@RangeInt(min = 1, max = 1024)
+		public int galleryTextureMemory = 64;
+
+		@Name("tick_budget")
+		@LangKey(LANG_PREFIX + "tick_budget")
+		@Comment("Time (in milliseconds) per server tick that is shared between the Betweenlands subsystems, e.g. mob spawning, environment events and local storages. Deferrable work that doesn't fit into the budget is continued in later ticks, and less work is done while the server is behind. 0 disables the budget")
+		@RangeInt(min = 0, max = 50)
+		public int tickBudget = 10;
+	}
+
 	@Name("debug")
 	@LangKey(LANG_PREFIX + "debug")
 	public static final Debug DEBUG = new Debug();
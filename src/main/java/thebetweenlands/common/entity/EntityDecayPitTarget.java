@@ -313,20 +313,7 @@ public class EntityDecayPitTarget extends Entity implements IEntityMultiPart {
 		}
 
 		if(!this.world.isRemote && this.isEntityAlive()) {
-			for(int i = 0; i < this.dummies.length; i++) {
-				DummyPart dummy = this.dummies[i];
-
-				if(dummy == null || !dummy.isEntityAlive()) {
-					Entity multipart = parts[i];
-
-					if(multipart instanceof MultiPartEntityPart) {
-						this.dummies[i] = dummy = new DummyPart(this.world, (MultiPartEntityPart) multipart);
-						this.world.spawnEntity(dummy);
-					}
-				} else {
-					dummy.updatePositioning();
-				}
-			}
+			MultipartEntityHelper.updateDummies(this.world, parts, this.dummies, DummyPart::new);
 		}
 	}
 
@@ -0,0 +1,138 @@
+package thebetweenlands.common.entity;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import javax.annotation.Nullable;
+
+import com.google.common.base.Predicate;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.MultiPartEntityPart;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.world.World;
+import thebetweenlands.common.entity.mobs.EntityMultipartDummy;
+
+/**
+ * Shared helpers for multipart entities. Entity queries are done with a single broadphase
+ * query over the union of all parts and are then tested against the individual parts
+ * from that list instead of querying the world once per part.
+ */
+public final class MultipartEntityHelper {
+	private MultipartEntityHelper() { }
+
+	/**
+	 * Returns the union of the bounding boxes of all the specified parts, or null if there are no parts
+	 * @param parts
+	 * @return
+	 */
+	@Nullable
+	public static AxisAlignedBB getPartsBoundingBox(@Nullable Entity[] parts) {
+		if(parts == null || parts.length == 0) {
+			return null;
+		}
+
+		AxisAlignedBB first = parts[0].getEntityBoundingBox();
+
+		double minX = first.minX, minY = first.minY, minZ = first.minZ;
+		double maxX = first.maxX, maxY = first.maxY, maxZ = first.maxZ;
+
+		for(int i = 1; i < parts.length; i++) {
+			AxisAlignedBB aabb = parts[i].getEntityBoundingBox();
+			if(aabb.minX < minX) minX = aabb.minX;
+			if(aabb.minY < minY) minY = aabb.minY;
+			if(aabb.minZ < minZ) minZ = aabb.minZ;
+			if(aabb.maxX > maxX) maxX = aabb.maxX;
+			if(aabb.maxY > maxY) maxY = aabb.maxY;
+			if(aabb.maxZ > maxZ) maxZ = aabb.maxZ;
+		}
+
+		return new AxisAlignedBB(minX, minY, minZ, maxX, maxY, maxZ);
+	}
+
+	/**
+	 * Returns all entities of the specified type that intersect with the union of all parts.
+	 * The returned list can then be tested against the individual parts with {@link #getEntitiesCollidingWithPart(List, Entity, List)}.
+	 * @param world
+	 * @param type
+	 * @param parts
+	 * @param filter
+	 * @return
+	 */
+	public static <T extends Entity> List<T> getEntitiesNearParts(World world, Class<? extends T> type, @Nullable Entity[] parts, @Nullable Predicate<? super T> filter) {
+		AxisAlignedBB union = getPartsBoundingBox(parts);
+		if(union == null) {
+			return Collections.emptyList();
+		}
+		return world.getEntitiesWithinAABB(type, union, filter);
+	}
+
+	/**
+	 * Adds all entities from the broadphase list that intersect with the specified part to the output list
+	 * @param candidates
+	 * @param part
+	 * @param out
+	 * @return
+	 */
+	public static <T extends Entity> List<T> getEntitiesCollidingWithPart(List<T> candidates, Entity part, List<T> out) {
+		AxisAlignedBB partAabb = part.getEntityBoundingBox();
+		for(int i = 0; i < candidates.size(); i++) {
+			T candidate = candidates.get(i);
+			if(candidate != part && candidate.getEntityBoundingBox().intersects(partAabb)) {
+				out.add(candidate);
+			}
+		}
+		return out;
+	}
+
+	/**
+	 * Counts the entities of each of the specified types within the specified area with a single world query.
+	 * Index i of the returned array contains the number of entities that are an instance of types[i].
+	 * @param world
+	 * @param aabb
+	 * @param types
+	 * @return
+	 */
+	public static int[] countEntitiesByType(World world, AxisAlignedBB aabb, Class<?>[] types) {
+		int[] counts = new int[types.length];
+
+		List<Entity> entities = world.getEntitiesWithinAABB(Entity.class, aabb);
+
+		for(int i = 0; i < entities.size(); i++) {
+			Entity entity = entities.get(i);
+			for(int j = 0; j < types.length; j++) {
+				if(types[j].isInstance(entity)) {
+					counts[j]++;
+				}
+			}
+		}
+
+		return counts;
+	}
+
+	/**
+	 * Spawns the missing dummies for the specified parts and updates the positions of all existing dummies.
+	 * Only parts that are {@link MultiPartEntityPart}s receive a dummy.
+	 * @param world
+	 * @param parts
+	 * @param dummies
+	 * @param factory
+	 */
+	public static <T extends EntityMultipartDummy> void updateDummies(World world, Entity[] parts, T[] dummies, BiFunction<World, MultiPartEntityPart, T> factory) {
+		for(int i = 0; i < dummies.length; i++) {
+			T dummy = dummies[i];
+
+			if(dummy == null || !dummy.isEntityAlive()) {
+				Entity multipart = parts[i];
+
+				if(multipart instanceof MultiPartEntityPart) {
+					dummies[i] = dummy = factory.apply(world, (MultiPartEntityPart) multipart);
+					world.spawnEntity(dummy);
+				}
+			} else {
+				dummy.updatePositioning();
+			}
+		}
+	}
+}
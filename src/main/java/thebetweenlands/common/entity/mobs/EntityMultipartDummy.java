@@ -27,6 +27,10 @@ public class EntityMultipartDummy extends Entity {
 
 	private MultiPartEntityPart parent = null;
 
+	//Last applied parent position/size, so that unchanged parts don't cause position updates on the server
+	private double appliedX, appliedY, appliedZ;
+	private float appliedWidth = -1, appliedHeight = -1;
+
 	public EntityMultipartDummy(World world) {
 		super(world);
 		this.setSize(0, 0);
@@ -70,8 +74,21 @@ public class EntityMultipartDummy extends Entity {
 				this.setDead();
 			}
 		} else {
-			this.setSize(this.parent.width + this.sizePadding, this.parent.height + this.sizePadding);
-			this.setPositionAndUpdate(this.parent.posX, this.parent.posY - this.sizePadding / 2.0f, this.parent.posZ);
+			//The client parent can be replaced when the owner is resolved again, so only the server skips unchanged parts
+			boolean resized = this.world.isRemote || this.parent.width != this.appliedWidth || this.parent.height != this.appliedHeight;
+
+			if(resized) {
+				this.setSize(this.parent.width + this.sizePadding, this.parent.height + this.sizePadding);
+				this.appliedWidth = this.parent.width;
+				this.appliedHeight = this.parent.height;
+			}
+
+			if(this.parent.posX != this.appliedX || this.parent.posY != this.appliedY || this.parent.posZ != this.appliedZ || resized || this.firstUpdate) {
+				this.setPositionAndUpdate(this.parent.posX, this.parent.posY - this.sizePadding / 2.0f, this.parent.posZ);
+				this.appliedX = this.parent.posX;
+				this.appliedY = this.parent.posY;
+				this.appliedZ = this.parent.posZ;
+			}
 		}
 	}
 
@@ -60,6 +60,7 @@ import thebetweenlands.client.render.particle.DefaultParticleBatches;
 import thebetweenlands.client.render.particle.ParticleFactory;
 import thebetweenlands.client.render.particle.entity.ParticleGasCloud;
 import thebetweenlands.common.entity.EntityTinyWormEggSac;
+import thebetweenlands.common.entity.MultipartEntityHelper;
 import thebetweenlands.common.entity.ai.EntityAIHurtByTargetImproved;
 import thebetweenlands.common.entity.projectiles.EntitySludgeBall;
 import thebetweenlands.common.registries.LootTableRegistry;
@@ -473,20 +474,7 @@ public class EntitySludgeMenace extends EntityWallLivingRoot implements IEntityS
 				}
 			}
 
-			for(int i = 0; i < this.dummies.length; i++) {
-				DummyPart dummy = this.dummies[i];
-
-				if(dummy == null || !dummy.isEntityAlive()) {
-					Entity multipart = parts[i];
-
-					if(multipart instanceof MultiPartEntityPart) {
-						this.dummies[i] = dummy = new DummyPart(this.world, (MultiPartEntityPart) multipart);
-						this.world.spawnEntity(dummy);
-					}
-				} else {
-					dummy.updatePositioning();
-				}
-			}
+			MultipartEntityHelper.updateDummies(this.world, parts, this.dummies, DummyPart::new);
 		}
 	}
 
@@ -777,8 +765,20 @@ public class EntitySludgeMenace extends EntityWallLivingRoot implements IEntityS
 					bulgeCounts.increment(bulge.type);
 				}
 
-				for(BulgeType bulgeType : BulgeType.values()) {
-					if(this.world.getEntitiesWithinAABB(bulgeType.entityType, checkAabb).size() + bulgeCounts.get(bulgeType) < bulgeType.maxEntityCount && (bulgeType.spawnSeries <= 1 || this.bulges.isEmpty())) {
+				BulgeType[] bulgeTypes = BulgeType.values();
+
+				Class<?>[] bulgeEntityTypes = new Class<?>[bulgeTypes.length];
+				for(int i = 0; i < bulgeTypes.length; i++) {
+					bulgeEntityTypes[i] = bulgeTypes[i].entityType;
+				}
+
+				//Single query for all bulge types
+				int[] entityCounts = MultipartEntityHelper.countEntitiesByType(this.world, checkAabb, bulgeEntityTypes);
+
+				for(int i = 0; i < bulgeTypes.length; i++) {
+					BulgeType bulgeType = bulgeTypes[i];
+
+					if(entityCounts[i] + bulgeCounts.get(bulgeType) < bulgeType.maxEntityCount && (bulgeType.spawnSeries <= 1 || this.bulges.isEmpty())) {
 						availableTypes.add(bulgeType);
 					}
 				}
@@ -1165,7 +1165,13 @@ public class EntitySludgeMenace extends EntityWallLivingRoot implements IEntityS
 
 				Set<Entity> attackedSet = new HashSet<>();
 
-				for(Entity part : this.menace.getParts()) {
+				Entity[] parts = this.menace.getParts();
+
+				//Broadphase over all parts, narrowphase per part below
+				List<EntityLivingBase> nearbyList = MultipartEntityHelper.getEntitiesNearParts(this.menace.getWorld(), EntityLivingBase.class, parts, e -> e instanceof IMob == false && e != target);
+				List<EntityLivingBase> collidingList = new ArrayList<>();
+
+				for(Entity part : parts) {
 					if(!attackedSet.contains(target) && targetAabb.intersects(part.getEntityBoundingBox())) {
 						attacked = true;
 
@@ -1174,13 +1180,17 @@ public class EntitySludgeMenace extends EntityWallLivingRoot implements IEntityS
 						}
 					}
 
-					List<EntityLivingBase> collidingList = this.menace.getWorld().getEntitiesWithinAABB(EntityLivingBase.class, part.getEntityBoundingBox(), e -> e instanceof IMob == false && e != target && !attackedSet.contains(e));
+					if(!nearbyList.isEmpty()) {
+						collidingList.clear();
 
-					for(EntityLivingBase colliding : collidingList) {
-						attacked = true;
+						for(EntityLivingBase colliding : MultipartEntityHelper.getEntitiesCollidingWithPart(nearbyList, part, collidingList)) {
+							if(!attackedSet.contains(colliding)) {
+								attacked = true;
 
-						if(this.entity.attackEntityAsMob(colliding)) {
-							attackedSet.add(colliding);
+								if(this.entity.attackEntityAsMob(colliding)) {
+									attackedSet.add(colliding);
+								}
+							}
 						}
 					}
 				}
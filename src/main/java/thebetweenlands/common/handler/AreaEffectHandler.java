@@ -0,0 +1,290 @@
+package thebetweenlands.common.handler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.ClassInheritanceMultiMap;
+import net.minecraft.util.EntitySelectors;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.common.DimensionManager;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.common.gameevent.TickEvent.WorldTickEvent;
+import thebetweenlands.common.metrics.LatencyHistogram;
+import thebetweenlands.common.metrics.Metrics;
+import thebetweenlands.common.world.IAreaEffect;
+
+/**
+ * Applies {@link IAreaEffect}s at the end of each world tick. The areas of all active effects are hashed
+ * into the chunk sections they overlap and each chunk section's entity list is then iterated only once,
+ * no matter how many effects overlap it. Each entity is only tested against the effects of its own chunk section.
+ */
+public final class AreaEffectHandler {
+	private AreaEffectHandler() { }
+
+	//Synchronized because the debug overlay reads the counts from the client thread
+	private static final Map<World, AreaEffects> WORLDS = Collections.synchronizedMap(new WeakHashMap<>());
+
+	private static final LatencyHistogram UPDATE_TIME = Metrics.histogram("area_effects.update");
+
+	static {
+		Metrics.gauge("area_effects.registered", () -> {
+			long count = 0;
+			for(WorldServer world : DimensionManager.getWorlds()) {
+				count += getAreaEffectCount(world);
+			}
+			return count;
+		});
+	}
+
+	private static class AreaEffects {
+		private final Set<IAreaEffect<?>> registered = new LinkedHashSet<>();
+		private List<IAreaEffect<?>> queued = new ArrayList<>();
+
+		//Published for the debug overlay which reads it from the client thread
+		private volatile int registeredCount;
+	}
+
+	private static class ActiveEffect<T extends Entity> {
+		private final IAreaEffect<T> effect;
+		private final Class<T> type;
+		private final AxisAlignedBB area;
+		private final List<T> entities = new ArrayList<>();
+
+		private ActiveEffect(IAreaEffect<T> effect, AxisAlignedBB area) {
+			this.effect = effect;
+			this.type = effect.getAffectedEntityType();
+			this.area = area;
+		}
+
+		private void test(Entity entity) {
+			if(this.type.isInstance(entity) && entity.getEntityBoundingBox().intersects(this.area)) {
+				this.entities.add(this.type.cast(entity));
+			}
+		}
+
+		private void apply() {
+			this.effect.applyEffect(this.entities);
+		}
+	}
+
+	private static class OneShotEffect<T extends Entity> implements IAreaEffect<T> {
+		private final Class<T> type;
+		private final AxisAlignedBB area;
+		private final Consumer<List<T>> effect;
+
+		private OneShotEffect(Class<T> type, AxisAlignedBB area, Consumer<List<T>> effect) {
+			this.type = type;
+			this.area = area;
+			this.effect = effect;
+		}
+
+		@Override
+		public Class<T> getAffectedEntityType() {
+			return this.type;
+		}
+
+		@Override
+		public AxisAlignedBB getEffectArea() {
+			return this.area;
+		}
+
+		@Override
+		public void applyEffect(List<T> entities) {
+			this.effect.accept(entities);
+		}
+	}
+
+	@Nullable
+	private static AreaEffects getAreaEffects(World world, boolean create) {
+		AreaEffects effects = WORLDS.get(world);
+		if(effects == null && create) {
+			WORLDS.put(world, effects = new AreaEffects());
+		}
+		return effects;
+	}
+
+	/**
+	 * Registers an area effect that is applied every tick until it is unregistered or becomes invalid.
+	 * Area effects are only applied on the server side.
+	 * @param world
+	 * @param effect
+	 */
+	public static void register(World world, IAreaEffect<?> effect) {
+		if(!world.isRemote) {
+			AreaEffects effects = getAreaEffects(world, true);
+			effects.registered.add(effect);
+			effects.registeredCount = effects.registered.size();
+		}
+	}
+
+	/**
+	 * Unregisters an area effect
+	 * @param world
+	 * @param effect
+	 */
+	public static void unregister(World world, IAreaEffect<?> effect) {
+		AreaEffects effects = getAreaEffects(world, false);
+		if(effects != null) {
+			effects.registered.remove(effect);
+			effects.registeredCount = effects.registered.size();
+		}
+	}
+
+	/**
+	 * Applies an effect once to all entities of the specified type within the specified area.
+	 * On the server side the effect is applied at the end of the tick together with all other area effects,
+	 * on the client side it is applied immediately.
+	 * @param world
+	 * @param type
+	 * @param area
+	 * @param effect
+	 */
+	public static <T extends Entity> void applyOnce(World world, Class<T> type, AxisAlignedBB area, Consumer<List<T>> effect) {
+		if(world.isRemote) {
+			effect.accept(world.getEntitiesWithinAABB(type, area));
+		} else {
+			getAreaEffects(world, true).queued.add(new OneShotEffect<>(type, area, effect));
+		}
+	}
+
+	/**
+	 * Returns how many area effects are currently registered in the specified world
+	 * @param world
+	 * @return
+	 */
+	public static int getAreaEffectCount(World world) {
+		AreaEffects effects = getAreaEffects(world, false);
+		return effects != null ? effects.registeredCount : 0;
+	}
+
+	@SubscribeEvent
+	public static void onWorldTick(WorldTickEvent event) {
+		if(event.phase == Phase.END && !event.world.isRemote) {
+			AreaEffects effects = getAreaEffects(event.world, false);
+			if(effects != null && (!effects.registered.isEmpty() || !effects.queued.isEmpty())) {
+				long start = Metrics.startTimer();
+				applyAreaEffects(event.world, effects);
+				UPDATE_TIME.recordSince(start);
+			}
+		}
+	}
+
+	private static void applyAreaEffects(World world, AreaEffects effects) {
+		List<ActiveEffect<?>> active = new ArrayList<>(effects.registered.size() + effects.queued.size());
+
+		effects.registered.removeIf(effect -> !effect.isEffectValid());
+		effects.registeredCount = effects.registered.size();
+
+		for(IAreaEffect<?> effect : effects.registered) {
+			addActiveEffect(active, effect);
+		}
+
+		List<IAreaEffect<?>> queued = effects.queued;
+		effects.queued = new ArrayList<>();
+		for(IAreaEffect<?> effect : queued) {
+			addActiveEffect(active, effect);
+		}
+
+		if(active.isEmpty()) {
+			return;
+		}
+
+		//Spatial hash of the active effects by the chunk sections they may contain entities of
+		Long2ObjectMap<List<ActiveEffect<?>>> sections = new Long2ObjectOpenHashMap<>();
+
+		for(ActiveEffect<?> effect : active) {
+			AxisAlignedBB area = effect.area;
+
+			int minX = MathHelper.floor((area.minX - World.MAX_ENTITY_RADIUS) / 16.0D);
+			int maxX = MathHelper.floor((area.maxX + World.MAX_ENTITY_RADIUS) / 16.0D);
+			int minY = MathHelper.clamp(MathHelper.floor((area.minY - World.MAX_ENTITY_RADIUS) / 16.0D), 0, 15);
+			int maxY = MathHelper.clamp(MathHelper.floor((area.maxY + World.MAX_ENTITY_RADIUS) / 16.0D), 0, 15);
+			int minZ = MathHelper.floor((area.minZ - World.MAX_ENTITY_RADIUS) / 16.0D);
+			int maxZ = MathHelper.floor((area.maxZ + World.MAX_ENTITY_RADIUS) / 16.0D);
+
+			for(int cx = minX; cx <= maxX; cx++) {
+				for(int cz = minZ; cz <= maxZ; cz++) {
+					for(int sy = minY; sy <= maxY; sy++) {
+						long key = getSectionKey(cx, sy, cz);
+						List<ActiveEffect<?>> sectionEffects = sections.get(key);
+						if(sectionEffects == null) {
+							sections.put(key, sectionEffects = new ArrayList<>(2));
+						}
+						sectionEffects.add(effect);
+					}
+				}
+			}
+		}
+
+		//Each chunk section is only iterated once, regardless of how many effects overlap it
+		for(Long2ObjectMap.Entry<List<ActiveEffect<?>>> entry : sections.long2ObjectEntrySet()) {
+			long key = entry.getLongKey();
+
+			Chunk chunk = world.getChunkProvider().getLoadedChunk(getSectionX(key), getSectionZ(key));
+			if(chunk != null) {
+				ClassInheritanceMultiMap<Entity> entities = chunk.getEntityLists()[getSectionY(key)];
+
+				if(!entities.isEmpty()) {
+					List<ActiveEffect<?>> sectionEffects = entry.getValue();
+
+					for(Entity entity : entities) {
+						if(EntitySelectors.NOT_SPECTATING.apply(entity)) {
+							for(int i = 0; i < sectionEffects.size(); i++) {
+								sectionEffects.get(i).test(entity);
+							}
+						}
+					}
+				}
+			}
+		}
+
+		for(ActiveEffect<?> effect : active) {
+			effect.apply();
+		}
+	}
+
+	private static <T extends Entity> void addActiveEffect(List<ActiveEffect<?>> active, IAreaEffect<T> effect) {
+		AxisAlignedBB area = effect.getEffectArea();
+		if(area != null) {
+			active.add(new ActiveEffect<>(effect, area));
+		}
+	}
+
+	private static long getSectionKey(int x, int y, int z) {
+		return ((long) x & 0x3FFFFFFL) << 38 | ((long) z & 0x3FFFFFFL) << 12 | (long) (y & 0xFFF);
+	}
+
+	private static int getSectionX(long key) {
+		return (int) (key >> 38);
+	}
+
+	private static int getSectionY(long key) {
+		return (int) (key & 0xFFFL);
+	}
+
+	private static int getSectionZ(long key) {
+		return (int) (key << 26 >> 38);
+	}
+
+	@SubscribeEvent
+	public static void onWorldUnload(WorldEvent.Unload event) {
+		WORLDS.remove(event.getWorld());
+	}
+}
@@ -1,12 +1,7 @@
 package thebetweenlands.common.handler;
 
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.Set;
-
 import org.lwjgl.opengl.GL11;
 
-import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.BossInfoClient;
 import net.minecraft.client.renderer.BufferBuilder;
@@ -18,105 +13,26 @@ import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
 import net.minecraft.client.shader.Framebuffer;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLivingBase;
-import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.util.ResourceLocation;
-import net.minecraft.util.SoundCategory;
-import net.minecraft.util.SoundEvent;
-import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.world.BossInfo;
-import net.minecraft.world.IWorldEventListener;
-import net.minecraft.world.World;
 import net.minecraftforge.client.event.RenderGameOverlayEvent;
 import net.minecraftforge.client.event.RenderLivingEvent;
-import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import thebetweenlands.api.entity.BossType;
 import thebetweenlands.api.entity.IBLBoss;
+import thebetweenlands.client.handler.ClientObjectIndex;
 import thebetweenlands.common.TheBetweenlands;
 import thebetweenlands.util.Stencil;
 
 public class BossHandler<T extends Entity & IBLBoss> {
 	private BossHandler() { }
 
-	private static class Listener implements IWorldEventListener {
-		@Override
-		public void notifyBlockUpdate(World worldIn, BlockPos pos, IBlockState oldState, IBlockState newState,
-				int flags) { }
-
-		@Override
-		public void notifyLightSet(BlockPos pos) { }
-
-		@Override
-		public void markBlockRangeForRenderUpdate(int x1, int y1, int z1, int x2, int y2, int z2) { }
-
-		@Override
-		public void playSoundToAllNearExcept(EntityPlayer player, SoundEvent soundIn, SoundCategory category, double x,
-				double y, double z, float volume, float pitch) { }
-
-		@Override
-		public void playRecord(SoundEvent soundIn, BlockPos pos) { }
-
-		@Override
-		public void spawnParticle(int particleID, boolean ignoreRange, double xCoord, double yCoord, double zCoord,
-				double xSpeed, double ySpeed, double zSpeed, int... parameters) { }
-
-		@Override
-		public void spawnParticle(int id, boolean ignoreRange, boolean p_190570_3_, double x, double y, double z,
-				double xSpeed, double ySpeed, double zSpeed, int... parameters) { }
-
-		@Override
-		public void broadcastSound(int soundID, BlockPos pos, int data) { }
-
-		@Override
-		public void playEvent(EntityPlayer player, int type, BlockPos blockPosIn, int data) { }
-
-		@Override
-		public void sendBlockBreakProgress(int breakerId, BlockPos pos, int progress) { }
-
-
-		@Override
-		public void onEntityAdded(Entity entityIn) {
-			if(entityIn instanceof IBLBoss) {
-				BOSS_ENTITIES.add((IBLBoss) entityIn);
-			}
-		}
-
-		@Override
-		public void onEntityRemoved(Entity entityIn) {
-			if(entityIn instanceof IBLBoss) {
-				BOSS_ENTITIES.remove((IBLBoss) entityIn);
-			}
-		}
-	}
-
 	private static final ResourceLocation BOSS_BAR_TEXTURE = new ResourceLocation("thebetweenlands:textures/gui/boss_health_bar.png");
 	private static final ResourceLocation MINIBOSS_BAR_TEXTURE = new ResourceLocation("thebetweenlands:textures/gui/miniboss_health_bar.png");
-	private static final Listener LISTENER = new Listener();
-
-	public static final Set<IBLBoss> BOSS_ENTITIES = new HashSet<>();
-
-
-	@SubscribeEvent
-	public static void onWorldLoad(WorldEvent.Load event) {
-		event.getWorld().addEventListener(LISTENER);
-	}
-
-	@SubscribeEvent
-	public static void onWorldUnload(WorldEvent.Unload event) {
-		event.getWorld().removeEventListener(LISTENER);
-
-		Iterator<IBLBoss> it = BOSS_ENTITIES.iterator();
-		while(it.hasNext()) {
-			Entity entity = (Entity) it.next();
-			if(entity.getEntityWorld() == event.getWorld()) {
-				it.remove();
-			}
-		}
-	}
 
 	@SideOnly(Side.CLIENT)
 	@SubscribeEvent
@@ -125,7 +41,7 @@ public class BossHandler<T extends Entity & IBLBoss> {
 
 		IBLBoss boss = null;
 
-		for(IBLBoss candidate : BOSS_ENTITIES) {
+		for(IBLBoss candidate : ClientObjectIndex.getObjects(IBLBoss.class)) {
 			if(event.getBossInfo().getUniqueId().equals(candidate.getBossInfoUuid())) {
 				boss = candidate;
 				break;
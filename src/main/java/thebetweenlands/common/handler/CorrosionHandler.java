@@ -0,0 +1,21 @@
+package thebetweenlands.common.handler;
+
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.PlayerTickEvent;
+import thebetweenlands.api.item.CorrosionHelper;
+import thebetweenlands.common.config.BetweenlandsConfig;
+
+public class CorrosionHandler {
+	private CorrosionHandler() { }
+
+	@SubscribeEvent
+	public static void onPlayerTick(PlayerTickEvent event) {
+		if(event.phase == TickEvent.Phase.END && !event.player.world.isRemote) {
+			int interval = BetweenlandsConfig.PERFORMANCE.corrosionUpdateInterval;
+			if(event.player.ticksExisted % interval == 0) {
+				CorrosionHelper.updatePlayerCorrosion(event.player, interval);
+			}
+		}
+	}
+}
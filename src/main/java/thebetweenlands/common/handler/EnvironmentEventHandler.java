@@ -13,6 +13,8 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import thebetweenlands.api.environment.IEnvironmentEvent;
 import thebetweenlands.api.network.IGenericDataManagerAccess;
 import thebetweenlands.common.TheBetweenlands;
+import thebetweenlands.common.metrics.LatencyHistogram;
+import thebetweenlands.common.metrics.Metrics;
 import thebetweenlands.common.network.clientbound.MessageSyncEnvironmentEventData;
 import thebetweenlands.common.registries.AdvancementCriterionRegistry;
 import thebetweenlands.common.world.event.BLEnvironmentEvent;
@@ -22,6 +24,8 @@ import thebetweenlands.common.world.storage.BetweenlandsWorldStorage;
 public class EnvironmentEventHandler {
 	private EnvironmentEventHandler() { }
 
+	private static final LatencyHistogram UPDATE_TIME = Metrics.histogram("environment_events.update");
+
 	//Update events on the server side
 	@SubscribeEvent
 	public static void onWorldTick(WorldTickEvent event) {
@@ -29,6 +33,9 @@ public class EnvironmentEventHandler {
 			BetweenlandsWorldStorage storage = BetweenlandsWorldStorage.forWorld(event.world);
 
 			if(storage != null) {
+				long start = Metrics.startTimer();
+				TickBudgetHandler.begin(TickBudgetHandler.Subsystem.ENVIRONMENT_EVENTS);
+
 				BLEnvironmentEventRegistry reg = storage.getEnvironmentEventRegistry();
 
 				for(IEnvironmentEvent eevent : reg.getEvents().values()) {
@@ -49,6 +56,9 @@ public class EnvironmentEventHandler {
 						}
 					}
 				}
+
+				TickBudgetHandler.end(TickBudgetHandler.Subsystem.ENVIRONMENT_EVENTS);
+				UPDATE_TIME.recordSince(start);
 			}
 		}
 	}
@@ -1,5 +1,17 @@
 package thebetweenlands.common.handler;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.client.Minecraft;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.item.EntityItem;
@@ -8,16 +20,28 @@ import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.ITickable;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.world.IWorldEventListener;
+import net.minecraft.world.World;
 import net.minecraftforge.event.entity.living.LivingDropsEvent;
-import net.minecraftforge.event.entity.living.LivingEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent.EntityInteract;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.ClientTickEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.common.gameevent.TickEvent.WorldTickEvent;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
 import thebetweenlands.api.capability.IEquipmentCapability;
+import thebetweenlands.api.event.EquipmentChangedEvent;
 import thebetweenlands.api.item.IEquippable;
 import thebetweenlands.common.TheBetweenlands;
 import thebetweenlands.common.capability.equipment.EnumEquipmentInventory;
+import thebetweenlands.common.capability.equipment.EquipmentEntityCapability;
 import thebetweenlands.common.capability.equipment.EquipmentHelper;
 import thebetweenlands.common.network.serverbound.MessageEquipItem;
 import thebetweenlands.common.registries.CapabilityRegistry;
@@ -25,14 +49,176 @@ import thebetweenlands.common.registries.CapabilityRegistry;
 public class ItemEquipmentHandler {
 	private ItemEquipmentHandler() { }
 
+	private static class Listener implements IWorldEventListener {
+		@Override
+		public void notifyBlockUpdate(World worldIn, BlockPos pos, IBlockState oldState, IBlockState newState,
+				int flags) { }
+
+		@Override
+		public void notifyLightSet(BlockPos pos) { }
+
+		@Override
+		public void markBlockRangeForRenderUpdate(int x1, int y1, int z1, int x2, int y2, int z2) { }
+
+		@Override
+		public void playSoundToAllNearExcept(EntityPlayer player, SoundEvent soundIn, SoundCategory category, double x,
+				double y, double z, float volume, float pitch) { }
+
+		@Override
+		public void playRecord(SoundEvent soundIn, BlockPos pos) { }
+
+		@Override
+		public void spawnParticle(int particleID, boolean ignoreRange, double xCoord, double yCoord, double zCoord,
+				double xSpeed, double ySpeed, double zSpeed, int... parameters) { }
+
+		@Override
+		public void spawnParticle(int id, boolean ignoreRange, boolean p_190570_3_, double x, double y, double z,
+				double xSpeed, double ySpeed, double zSpeed, int... parameters) { }
+
+		@Override
+		public void broadcastSound(int soundID, BlockPos pos, int data) { }
+
+		@Override
+		public void playEvent(EntityPlayer player, int type, BlockPos blockPosIn, int data) { }
+
+		@Override
+		public void sendBlockBreakProgress(int breakerId, BlockPos pos, int progress) { }
+
+		@Override
+		public void onEntityAdded(Entity entityIn) {
+			if(entityIn instanceof EntityLivingBase) {
+				EquipmentEntityCapability cap = getEquipmentCapability(entityIn);
+				if(cap != null && cap.hasEquipment()) {
+					startTicking(cap);
+				}
+			}
+		}
+
+		@Override
+		public void onEntityRemoved(Entity entityIn) {
+			if(entityIn instanceof EntityLivingBase) {
+				EquipmentEntityCapability cap = getEquipmentCapability(entityIn);
+				if(cap != null && cap.isTicking()) {
+					stopTicking(cap);
+				}
+			}
+		}
+	}
+
+	private static final Listener LISTENER = new Listener();
+
+	/**
+	 * Equipment of the entities that currently hold any equipment, per world.
+	 * Client and server worlds are kept separately since they are ticked on different threads.
+	 */
+	private static final Map<World, Set<EquipmentEntityCapability>> TICKING_EQUIPMENT_CLIENT = new WeakHashMap<>();
+	private static final Map<World, Set<EquipmentEntityCapability>> TICKING_EQUIPMENT_SERVER = new WeakHashMap<>();
+
+	private static Map<World, Set<EquipmentEntityCapability>> getTickingEquipment(World world) {
+		return world.isRemote ? TICKING_EQUIPMENT_CLIENT : TICKING_EQUIPMENT_SERVER;
+	}
+
+	@Nullable
+	private static EquipmentEntityCapability getEquipmentCapability(Entity entity) {
+		IEquipmentCapability cap = entity.getCapability(CapabilityRegistry.CAPABILITY_EQUIPMENT, null);
+		return cap instanceof EquipmentEntityCapability ? (EquipmentEntityCapability) cap : null;
+	}
+
+	/**
+	 * Starts ticking the equipment of the capability's entity
+	 * @param cap
+	 */
+	public static void startTicking(EquipmentEntityCapability cap) {
+		Entity entity = cap.getEntity();
+		if(entity != null && entity.world != null) {
+			Map<World, Set<EquipmentEntityCapability>> tickingEquipment = getTickingEquipment(entity.world);
+			Set<EquipmentEntityCapability> ticking = tickingEquipment.get(entity.world);
+			if(ticking == null) {
+				tickingEquipment.put(entity.world, ticking = Collections.newSetFromMap(new IdentityHashMap<>()));
+			}
+			ticking.add(cap);
+			cap.setTicking(true);
+		}
+	}
+
+	/**
+	 * Stops ticking the equipment of the capability's entity
+	 * @param cap
+	 */
+	public static void stopTicking(EquipmentEntityCapability cap) {
+		Entity entity = cap.getEntity();
+		if(entity != null && entity.world != null) {
+			Set<EquipmentEntityCapability> ticking = getTickingEquipment(entity.world).get(entity.world);
+			if(ticking != null) {
+				ticking.remove(cap);
+			}
+		}
+		cap.setTicking(false);
+	}
+
 	@SubscribeEvent
-	public static void onLivingUpdated(LivingEvent.LivingUpdateEvent event) {
-		Entity entity = event.getEntity();
-		
-		if(!entity.getEntityData().getBoolean(EquipmentHelper.NBT_HAS_NO_EQUIPMENT)) {
-			IEquipmentCapability cap = entity.getCapability(CapabilityRegistry.CAPABILITY_EQUIPMENT, null);
-			
-			if (cap != null) {
+	public static void onWorldLoad(WorldEvent.Load event) {
+		event.getWorld().addEventListener(LISTENER);
+	}
+
+	@SubscribeEvent
+	public static void onWorldUnload(WorldEvent.Unload event) {
+		event.getWorld().removeEventListener(LISTENER);
+		getTickingEquipment(event.getWorld()).remove(event.getWorld());
+	}
+
+	@SubscribeEvent
+	public static void onEquipmentChanged(EquipmentChangedEvent event) {
+		if(event.getCapability() instanceof EquipmentEntityCapability) {
+			EquipmentEntityCapability cap = (EquipmentEntityCapability) event.getCapability();
+			if(!cap.isTicking() && cap.getEntity() != null && cap.getEntity().addedToChunk && cap.hasEquipment()) {
+				startTicking(cap);
+			}
+		}
+	}
+
+	@SubscribeEvent
+	public static void onWorldTick(WorldTickEvent event) {
+		if(event.phase == Phase.END && !event.world.isRemote) {
+			tickEquipment(event.world);
+		}
+	}
+
+	@SideOnly(Side.CLIENT)
+	@SubscribeEvent
+	public static void onClientTick(ClientTickEvent event) {
+		if(event.phase == Phase.END) {
+			World world = Minecraft.getMinecraft().world;
+			if(world != null && !Minecraft.getMinecraft().isGamePaused()) {
+				tickEquipment(world);
+			}
+		}
+	}
+
+	private static void tickEquipment(World world) {
+		Set<EquipmentEntityCapability> ticking = getTickingEquipment(world).get(world);
+
+		if(ticking != null && !ticking.isEmpty()) {
+			//Copy because equipment ticks may equip or unequip items
+			List<EquipmentEntityCapability> caps = new ArrayList<>(ticking);
+
+			for(EquipmentEntityCapability cap : caps) {
+				Entity entity = cap.getEntity();
+
+				if(entity == null || entity.world != world || entity.isDead) {
+					ticking.remove(cap);
+					if(entity != null && entity.world == world) {
+						cap.setTicking(false);
+					}
+					continue;
+				}
+
+				//Only tick equipment once per entity update, entities that aren't updated don't tick their equipment either
+				if(entity.ticksExisted == cap.getLastTickedEntityTick()) {
+					continue;
+				}
+				cap.setLastTickedEntityTick(entity.ticksExisted);
+
 				for (EnumEquipmentInventory invType : EnumEquipmentInventory.VALUES) {
 					IInventory inventory = cap.getInventory(invType);
 
@@ -40,28 +226,12 @@ public class ItemEquipmentHandler {
 						((ITickable) inventory).update();
 					}
 				}
-				
-				if((entity.ticksExisted + entity.getEntityId()) % 100 == 0) {
-					boolean hasEquipment = false;
-					
-					loop: for(EnumEquipmentInventory invType : EnumEquipmentInventory.VALUES) {
-						IInventory inventory = cap.getInventory(invType);
-						
-						for(int i = 0; i < inventory.getSizeInventory(); i++) {
-							if(!inventory.getStackInSlot(i).isEmpty()) {
-								hasEquipment = true;
-								break loop;
-							}
-						}
-					}
-					
-					//Put equipment ticking back to sleep until items are added again
-					if(!hasEquipment) {
-						entity.getEntityData().setBoolean(EquipmentHelper.NBT_HAS_NO_EQUIPMENT, true);
-					}
+
+				//Put equipment ticking back to sleep until items are added again
+				if((entity.ticksExisted + entity.getEntityId()) % 100 == 0 && !cap.hasEquipment()) {
+					ticking.remove(cap);
+					cap.setTicking(false);
 				}
-			} else {
-				entity.getEntityData().setBoolean(EquipmentHelper.NBT_HAS_NO_EQUIPMENT, true);
 			}
 		}
 	}
@@ -14,7 +14,13 @@ public class PlayerRuneChainHandler {
 		if(player.hasCapability(CapabilityRegistry.CAPABILITY_RUNE_CHAIN_USER, null)) {
 			IRuneChainUserCapability cap = player.getCapability(CapabilityRegistry.CAPABILITY_RUNE_CHAIN_USER, null);
 			
-			cap.update();
+			if(!player.world.isRemote) {
+				TickBudgetHandler.begin(TickBudgetHandler.Subsystem.RUNE_CHAINS);
+				cap.update();
+				TickBudgetHandler.end(TickBudgetHandler.Subsystem.RUNE_CHAINS);
+			} else {
+				cap.update();
+			}
 		}
 	}
 }
@@ -0,0 +1,277 @@
+package thebetweenlands.common.handler;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.fml.common.eventhandler.EventPriority;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.common.gameevent.TickEvent.ServerTickEvent;
+import thebetweenlands.common.TheBetweenlands;
+import thebetweenlands.common.config.BetweenlandsConfig;
+import thebetweenlands.common.metrics.Counter;
+import thebetweenlands.common.metrics.LatencyHistogram;
+import thebetweenlands.common.metrics.Metrics;
+
+/**
+ * Shares a per tick time budget ({@link BetweenlandsConfig.Performance#tickBudget}) between the Betweenlands subsystems that run
+ * work every server tick. Each subsystem gets a fixed share of the budget.
+ * <p>
+ * The time spent by a subsystem is measured between {@link #begin(Subsystem)} and {@link #end(Subsystem)}. Work that can be
+ * continued later checks {@link #hasBudget(Subsystem, World)} before each unit of work and stops once the share of the subsystem is used up.
+ * At least one unit of work per tick and world is always allowed so that deferred work is never starved, even if
+ * the subsystem already used up its share in another dimension.
+ * While the server can't keep up with 20 ticks per second the shares are scaled down, so that deferrable work yields first.
+ * <p>
+ * Ticks in which a subsystem exceeded its share are counted in the <code>tick_budget.&lt;subsystem&gt;.overruns</code> metric,
+ * and logged periodically in debug mode.
+ * Must only be used from the server thread.
+ */
+public final class TickBudgetHandler {
+	private TickBudgetHandler() { }
+
+	public static enum Subsystem {
+		MOB_SPAWNER("mob_spawner", 0.3F),
+		ENVIRONMENT_EVENTS("environment_events", 0.2F),
+		LOCAL_STORAGE("local_storage", 0.2F),
+		CHUNK_STORAGE("chunk_storage", 0.15F),
+		RUNE_CHAINS("rune_chains", 0.15F);
+
+		public final String name;
+		private final float share;
+
+		private final LatencyHistogram timeMetric;
+		private final Counter overrunsMetric;
+		private final Counter deferralsMetric;
+
+		private long spent;
+		private long sectionStart;
+		private int depth;
+
+		//Dimensions that already got their guaranteed unit of work in this tick
+		private final IntSet guaranteedDimensions = new IntOpenHashSet();
+
+		private int overruns;
+		private long maxOverrun;
+
+		private Subsystem(String name, float share) {
+			this.name = name;
+			this.share = share;
+			this.timeMetric = Metrics.histogram("tick_budget." + name);
+			this.overrunsMetric = Metrics.counter("tick_budget." + name + ".overruns");
+			this.deferralsMetric = Metrics.counter("tick_budget." + name + ".deferrals");
+		}
+
+		/**
+		 * Returns the time in nanoseconds this subsystem may spend per tick
+		 * @return
+		 */
+		public long getAllowance() {
+			return (long) (BetweenlandsConfig.PERFORMANCE.tickBudget * 1000000L * this.share * loadScale);
+		}
+
+		private long getSpent(long now) {
+			return this.depth > 0 ? this.spent + now - this.sectionStart : this.spent;
+		}
+	}
+
+	/**
+	 * A pass over all chunks that are loaded by players that is spread over multiple ticks if it
+	 * doesn't fit into the budget of the subsystem. The next pass continues where the previous one was cut off.
+	 * Since the loaded chunks may change in between ticks, a continued pass may skip or repeat a few chunks.
+	 */
+	public static class ChunkPass {
+		private int cursor;
+		private boolean pending;
+
+		/**
+		 * Returns whether the last pass was cut off and should be continued in this tick
+		 * @return
+		 */
+		public boolean isPending() {
+			return this.pending;
+		}
+
+		/**
+		 * Returns an iterator over the chunks of this pass. The iterator ends early once the budget of the subsystem is used up.
+		 * At least one chunk is always returned if there is any left
+		 * @param world
+		 * @param subsystem
+		 * @return
+		 */
+		public Iterator<Chunk> iterate(WorldServer world, Subsystem subsystem) {
+			Iterator<Chunk> chunks = world.getPersistentChunkIterable(world.getPlayerChunkMap().getChunkIterator());
+
+			int skipped = 0;
+			while(skipped < this.cursor && chunks.hasNext()) {
+				chunks.next();
+				skipped++;
+			}
+
+			this.pending = false;
+			this.cursor = skipped;
+
+			final int start = skipped;
+
+			return new Iterator<Chunk>() {
+				private boolean ended;
+				private boolean ready;
+
+				@Override
+				public boolean hasNext() {
+					if(this.ready) {
+						return true;
+					}
+					if(this.ended) {
+						return false;
+					}
+					if(!chunks.hasNext()) {
+						//Pass is complete, start from the beginning next time
+						ChunkPass.this.cursor = 0;
+						this.ended = true;
+						return false;
+					}
+					if(ChunkPass.this.cursor > start && !hasBudget(subsystem, world)) {
+						ChunkPass.this.pending = true;
+						this.ended = true;
+						return false;
+					}
+					return this.ready = true;
+				}
+
+				@Override
+				public Chunk next() {
+					if(!this.hasNext()) {
+						throw new NoSuchElementException();
+					}
+					this.ready = false;
+					ChunkPass.this.cursor++;
+					return chunks.next();
+				}
+			};
+		}
+	}
+
+	private static final long TICK_TIME = 50000000L;
+	private static final int LOAD_CHECK_INTERVAL = 20;
+	private static final long REPORT_INTERVAL = 60000L;
+
+	//Share scale while the server is behind
+	private static final float BEHIND_SCALE = 0.1F;
+
+	private static float loadScale = 1.0F;
+	private static long lastReport;
+
+	/**
+	 * Starts measuring the time spent by the subsystem. Must be followed by {@link #end(Subsystem)}.
+	 * Sections of the same subsystem can be nested
+	 * @param subsystem
+	 */
+	public static void begin(Subsystem subsystem) {
+		if(subsystem.depth++ == 0) {
+			subsystem.sectionStart = System.nanoTime();
+		}
+	}
+
+	/**
+	 * Stops measuring the time spent by the subsystem
+	 * @param subsystem
+	 */
+	public static void end(Subsystem subsystem) {
+		if(subsystem.depth > 0 && --subsystem.depth == 0) {
+			subsystem.spent += System.nanoTime() - subsystem.sectionStart;
+		}
+	}
+
+	/**
+	 * Returns whether the subsystem may run another unit of deferrable work in this tick.
+	 * If this returns false the remaining work should be continued in a later tick
+	 * @param subsystem
+	 * @param world World the work belongs to
+	 * @return
+	 */
+	public static boolean hasBudget(Subsystem subsystem, World world) {
+		if(BetweenlandsConfig.PERFORMANCE.tickBudget <= 0 || subsystem.guaranteedDimensions.add(world.provider.getDimension())) {
+			return true;
+		}
+		if(subsystem.getSpent(System.nanoTime()) < subsystem.getAllowance()) {
+			return true;
+		}
+		subsystem.deferralsMetric.increment();
+		return false;
+	}
+
+	/**
+	 * Returns whether the server currently can't keep up with 20 ticks per second
+	 * @return
+	 */
+	public static boolean isServerBehind() {
+		return loadScale < 1.0F;
+	}
+
+	@SubscribeEvent(priority = EventPriority.HIGHEST)
+	public static void onServerTickStart(ServerTickEvent event) {
+		if(event.phase == Phase.START) {
+			MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+			if(server != null && server.getTickCounter() % LOAD_CHECK_INTERVAL == 0) {
+				long total = 0;
+				for(long tickTime : server.tickTimeArray) {
+					total += tickTime;
+				}
+				loadScale = total / server.tickTimeArray.length > TICK_TIME ? BEHIND_SCALE : 1.0F;
+			}
+
+			for(Subsystem subsystem : Subsystem.values()) {
+				subsystem.spent = 0;
+				subsystem.depth = 0;
+				subsystem.guaranteedDimensions.clear();
+			}
+		}
+	}
+
+	@SubscribeEvent(priority = EventPriority.LOWEST)
+	public static void onServerTickEnd(ServerTickEvent event) {
+		if(event.phase == Phase.END) {
+			boolean budgetEnabled = BetweenlandsConfig.PERFORMANCE.tickBudget > 0;
+
+			for(Subsystem subsystem : Subsystem.values()) {
+				subsystem.timeMetric.record(subsystem.spent);
+
+				long overrun = subsystem.spent - subsystem.getAllowance();
+				if(budgetEnabled && overrun > 0) {
+					subsystem.overrunsMetric.increment();
+					subsystem.overruns++;
+					subsystem.maxOverrun = Math.max(subsystem.maxOverrun, overrun);
+				}
+			}
+
+			long now = System.currentTimeMillis();
+			if(now - lastReport >= REPORT_INTERVAL) {
+				lastReport = now;
+
+				StringBuilder report = null;
+				for(Subsystem subsystem : Subsystem.values()) {
+					if(subsystem.overruns > 0) {
+						if(report == null) {
+							report = new StringBuilder("Betweenlands tick budget overruns in the last " + REPORT_INTERVAL / 1000 + "s" + (isServerBehind() ? " (server behind)" : "") + ":");
+						}
+						report.append(String.format(" %s %dx (max %.2fms over)", subsystem.name, subsystem.overruns, subsystem.maxOverrun / 1000000.0D));
+					}
+					subsystem.overruns = 0;
+					subsystem.maxOverrun = 0;
+				}
+
+				if(report != null && BetweenlandsConfig.DEBUG.debug) {
+					TheBetweenlands.logger.warn(report.toString());
+				}
+			}
+		}
+	}
+}
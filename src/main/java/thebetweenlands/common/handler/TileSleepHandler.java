@@ -0,0 +1,303 @@
+package thebetweenlands.common.handler;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.common.DimensionManager;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.EventPriority;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.common.gameevent.TickEvent.WorldTickEvent;
+import thebetweenlands.common.config.BetweenlandsConfig;
+import thebetweenlands.common.metrics.LatencyHistogram;
+import thebetweenlands.common.metrics.Metrics;
+import thebetweenlands.common.tile.ISleepableTile;
+
+/**
+ * Removes idle {@link ISleepableTile}s from the world's ticking list and adds them back once they are woken up.
+ * Tiles are only put to sleep and woken up at the end of the world tick, i.e. never while the world is
+ * iterating over its tile entities.
+ */
+public final class TileSleepHandler {
+	private TileSleepHandler() { }
+
+	//Synchronized because the debug overlay reads the counts from the client thread
+	private static final Map<World, SleepingTiles> WORLDS = Collections.synchronizedMap(new WeakHashMap<>());
+
+	private static final int CLEANUP_INTERVAL = 200;
+
+	private static final LatencyHistogram UPDATE_TIME = Metrics.histogram("tiles.sleep_update");
+
+	static {
+		Metrics.gauge("tiles.ticking", () -> {
+			long count = 0;
+			for(WorldServer world : DimensionManager.getWorlds()) {
+				count += world.tickableTileEntities.size();
+			}
+			return count;
+		});
+		Metrics.gauge("tiles.sleeping", () -> {
+			long count = 0;
+			for(WorldServer world : DimensionManager.getWorlds()) {
+				count += getSleepingTileCount(world);
+			}
+			return count;
+		});
+	}
+
+	private static class ScheduledWakeUp implements Comparable<ScheduledWakeUp> {
+		private final TileEntity tile;
+		private final long sleepStart;
+		private final long time;
+
+		private ScheduledWakeUp(TileEntity tile, long sleepStart, long time) {
+			this.tile = tile;
+			this.sleepStart = sleepStart;
+			this.time = time;
+		}
+
+		@Override
+		public int compareTo(ScheduledWakeUp other) {
+			return Long.compare(this.time, other.time);
+		}
+	}
+
+	private static class SleepingTiles {
+		private final Set<TileEntity> sleepQueue = Collections.newSetFromMap(new IdentityHashMap<>());
+		private final Set<TileEntity> wakeQueue = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		private final Map<BlockPos, TileEntity> sleeping = new HashMap<>();
+		private final Map<TileEntity, Long> sleepStart = new IdentityHashMap<>();
+		private final PriorityQueue<ScheduledWakeUp> scheduled = new PriorityQueue<>();
+
+		//Published for the debug overlay which reads it from the client thread
+		private volatile int sleepingCount;
+	}
+
+	@Nullable
+	private static SleepingTiles getSleepingTiles(World world, boolean create) {
+		SleepingTiles tiles = WORLDS.get(world);
+		if(tiles == null && create) {
+			WORLDS.put(world, tiles = new SleepingTiles());
+		}
+		return tiles;
+	}
+
+	/**
+	 * Requests the specified tile to be put to sleep at the end of the tick.
+	 * {@link ISleepableTile#canSleep()} is checked again before the tile is removed from the ticking list.
+	 * @param tile
+	 */
+	public static <T extends TileEntity & ISleepableTile> void requestSleep(T tile) {
+		World world = tile.getWorld();
+		if(world != null && !world.isRemote && BetweenlandsConfig.PERFORMANCE.tileSleeping) {
+			getSleepingTiles(world, true).sleepQueue.add(tile);
+		}
+	}
+
+	/**
+	 * Wakes up the specified tile if it is sleeping or cancels its pending sleep request.
+	 * {@link ISleepableTile#onWakeUp(int)} is called immediately, the tile is added back to the ticking list at the end of the tick.
+	 * @param tile
+	 */
+	public static void wake(TileEntity tile) {
+		World world = tile.getWorld();
+		if(world != null && !world.isRemote) {
+			SleepingTiles tiles = getSleepingTiles(world, false);
+			if(tiles != null) {
+				wake(world, tiles, tile);
+			}
+		}
+	}
+
+	/**
+	 * Wakes up the tile at the specified position if it is sleeping
+	 * @param world
+	 * @param pos
+	 */
+	public static void wake(World world, BlockPos pos) {
+		if(!world.isRemote) {
+			SleepingTiles tiles = getSleepingTiles(world, false);
+			if(tiles != null) {
+				TileEntity tile = tiles.sleeping.get(pos);
+				if(tile != null) {
+					wake(world, tiles, tile);
+				}
+			}
+		}
+	}
+
+	private static void wake(World world, SleepingTiles tiles, TileEntity tile) {
+		tiles.sleepQueue.remove(tile);
+
+		if(tiles.sleeping.get(tile.getPos()) == tile && tiles.wakeQueue.add(tile)) {
+			Long start = tiles.sleepStart.remove(tile);
+			if(start != null) {
+				((ISleepableTile) tile).onWakeUp((int) Math.min(Integer.MAX_VALUE, world.getTotalWorldTime() - start));
+			}
+		}
+	}
+
+	/**
+	 * Returns how many tiles are currently sleeping in the specified world
+	 * @param world
+	 * @return
+	 */
+	public static int getSleepingTileCount(World world) {
+		SleepingTiles tiles = getSleepingTiles(world, false);
+		return tiles != null ? tiles.sleepingCount : 0;
+	}
+
+	@SubscribeEvent(priority = EventPriority.LOWEST)
+	public static void onWorldTick(WorldTickEvent event) {
+		if(event.phase == Phase.END && !event.world.isRemote) {
+			SleepingTiles tiles = getSleepingTiles(event.world, false);
+			if(tiles != null) {
+				long start = Metrics.startTimer();
+				updateSleepingTiles(event.world, tiles);
+				UPDATE_TIME.recordSince(start);
+			}
+		}
+	}
+
+	private static void updateSleepingTiles(World world, SleepingTiles tiles) {
+		long time = world.getTotalWorldTime();
+
+		if(!BetweenlandsConfig.PERFORMANCE.tileSleeping) {
+			tiles.sleepQueue.clear();
+			for(TileEntity tile : tiles.sleeping.values()) {
+				wake(world, tiles, tile);
+			}
+		}
+
+		while(!tiles.scheduled.isEmpty() && tiles.scheduled.peek().time <= time) {
+			ScheduledWakeUp wakeUp = tiles.scheduled.poll();
+			Long start = tiles.sleepStart.get(wakeUp.tile);
+			if(start != null && start == wakeUp.sleepStart) {
+				wake(world, tiles, wakeUp.tile);
+			}
+		}
+
+		if(!tiles.wakeQueue.isEmpty()) {
+			for(TileEntity tile : tiles.wakeQueue) {
+				BlockPos pos = tile.getPos();
+
+				if(tiles.sleeping.get(pos) == tile) {
+					tiles.sleeping.remove(pos);
+				}
+
+				if(!tile.isInvalid() && world.isBlockLoaded(pos, false) && world.getTileEntity(pos) == tile) {
+					world.tickableTileEntities.add(tile);
+				}
+			}
+			tiles.wakeQueue.clear();
+		}
+
+		if(!tiles.sleepQueue.isEmpty()) {
+			Set<TileEntity> fallingAsleep = Collections.newSetFromMap(new IdentityHashMap<>());
+
+			for(TileEntity tile : tiles.sleepQueue) {
+				if(!tile.isInvalid() && ((ISleepableTile) tile).canSleep()) {
+					fallingAsleep.add(tile);
+				}
+			}
+			tiles.sleepQueue.clear();
+
+			if(!fallingAsleep.isEmpty()) {
+				//Single pass over the ticking list instead of one remove per tile
+				world.tickableTileEntities.removeIf(fallingAsleep::contains);
+
+				for(TileEntity tile : fallingAsleep) {
+					TileEntity previous = tiles.sleeping.put(tile.getPos(), tile);
+					if(previous != null && previous != tile) {
+						tiles.sleepStart.remove(previous);
+					}
+
+					tiles.sleepStart.put(tile, time);
+
+					int delay = ((ISleepableTile) tile).getWakeUpDelay();
+					if(delay >= 0) {
+						tiles.scheduled.add(new ScheduledWakeUp(tile, time, time + Math.max(delay, 1)));
+					}
+				}
+			}
+		}
+
+		if(time % CLEANUP_INTERVAL == 0 && !tiles.sleeping.isEmpty()) {
+			Iterator<TileEntity> it = tiles.sleeping.values().iterator();
+			while(it.hasNext()) {
+				TileEntity tile = it.next();
+				if(tile.isInvalid()) {
+					it.remove();
+					tiles.sleepStart.remove(tile);
+				}
+			}
+			tiles.scheduled.removeIf(wakeUp -> !tiles.sleepStart.containsKey(wakeUp.tile));
+		}
+
+		tiles.sleepingCount = tiles.sleeping.size();
+	}
+
+	@SubscribeEvent
+	public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+		World world = event.getWorld();
+		if(!world.isRemote) {
+			SleepingTiles tiles = getSleepingTiles(world, false);
+			if(tiles != null && !tiles.sleeping.isEmpty()) {
+				BlockPos pos = event.getPos();
+
+				TileEntity tile = tiles.sleeping.get(pos);
+				if(tile != null) {
+					wake(world, tiles, tile);
+				}
+
+				for(EnumFacing side : event.getNotifiedSides()) {
+					tile = tiles.sleeping.get(pos.offset(side));
+					if(tile != null) {
+						wake(world, tiles, tile);
+					}
+				}
+			}
+		}
+	}
+
+	@SubscribeEvent
+	public static void onChunkUnload(ChunkEvent.Unload event) {
+		World world = event.getWorld();
+		if(!world.isRemote) {
+			SleepingTiles tiles = getSleepingTiles(world, false);
+			if(tiles != null && !tiles.sleeping.isEmpty()) {
+				for(TileEntity tile : event.getChunk().getTileEntityMap().values()) {
+					if(tiles.sleeping.get(tile.getPos()) == tile) {
+						tiles.sleeping.remove(tile.getPos());
+						tiles.sleepStart.remove(tile);
+					}
+					tiles.sleepQueue.remove(tile);
+					tiles.wakeQueue.remove(tile);
+				}
+				tiles.sleepingCount = tiles.sleeping.size();
+			}
+		}
+	}
+
+	@SubscribeEvent
+	public static void onWorldUnload(WorldEvent.Unload event) {
+		WORLDS.remove(event.getWorld());
+	}
+}
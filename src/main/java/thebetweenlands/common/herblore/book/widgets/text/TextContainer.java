@@ -171,6 +171,7 @@ public class TextContainer {
         public final int color;
         public final float scale;
         public final FontRenderer font;
+        private String formatting = "";
 
         public TextSegment(TextPage page, String text, double x, double y, double width, double height, int color, float scale, FontRenderer font) {
             super(page, x, y, width, height);
@@ -241,12 +242,34 @@ public class TextContainer {
         void pop(TextContainer container, RangedTag previous) { }
     }
 
+    /**
+     * A glyph run is a string of consecutive text segments on the same line that share
+     * the same font, scale, color and formatting and can be drawn with a single draw call
+     */
+    private static final class GlyphRun {
+        private final double x, y;
+        private final float scale;
+        private final int color;
+        private final FontRenderer font;
+        private final String text;
+
+        private GlyphRun(double x, double y, float scale, int color, FontRenderer font, String text) {
+            this.x = x;
+            this.y = y;
+            this.scale = scale;
+            this.color = color;
+            this.font = font;
+            this.text = text;
+        }
+    }
+
     /**
      * A text page contains a list of text segments and text areas
      */
     public static class TextPage {
         private final List<TextSegment> textSegments = new ArrayList<TextSegment>();
         private final List<TextArea> textAreas = new ArrayList<TextArea>();
+        private GlyphRun[] glyphRuns = new GlyphRun[0];
 
         public final double width, height;
 
@@ -313,17 +336,45 @@ public class TextContainer {
             return lst;
         }
 
+        /**
+         * Merges the text segments into glyph runs. The segments have already been measured
+         * during layout, so adjacent segments can simply be concatenated
+         */
+        private void buildGlyphRuns() {
+            List<GlyphRun> runs = new ArrayList<GlyphRun>();
+            StringBuilder runText = new StringBuilder();
+            TextSegment runStart = null;
+            TextSegment prev = null;
+            for(TextSegment segment : this.textSegments) {
+                if(runStart != null && (segment.font != runStart.font || segment.scale != runStart.scale || segment.color != runStart.color
+                        || segment.y != runStart.y || !segment.formatting.equals(runStart.formatting) || Math.abs(prev.x + prev.width - segment.x) > 1.0E-4D)) {
+                    runs.add(new GlyphRun(runStart.x, runStart.y, runStart.scale, runStart.color, runStart.font, runText.toString()));
+                    runText.setLength(0);
+                    runStart = null;
+                }
+                if(runStart == null) {
+                    runStart = segment;
+                }
+                runText.append(segment.text);
+                prev = segment;
+            }
+            if(runStart != null) {
+                runs.add(new GlyphRun(runStart.x, runStart.y, runStart.scale, runStart.color, runStart.font, runText.toString()));
+            }
+            this.glyphRuns = runs.toArray(new GlyphRun[0]);
+        }
+
         /**
          * Renders this page
          * @param x Page X
          * @param y Page Y
          */
         public void render(double x, double y) {
-            for(TextSegment segment : this.textSegments) {
+            for(GlyphRun run : this.glyphRuns) {
                 GlStateManager.pushMatrix();
-                GlStateManager.translate(segment.x + x, segment.y + y, 0.0D);
-                GlStateManager.scale(segment.scale, segment.scale, 1.0F);
-                segment.font.drawString(segment.text, 0, 0, segment.color);
+                GlStateManager.translate(run.x + x, run.y + y, 0.0D);
+                GlStateManager.scale(run.scale, run.scale, 1.0F);
+                run.font.drawString(run.text, 0, 0, run.color);
                 GlStateManager.color(1, 1, 1, 1);
                 GlStateManager.popMatrix();
             }
@@ -472,7 +523,8 @@ public class TextContainer {
     }
 
     /**
-     * Parses the text. Throws an error if parsing fails
+     * Parses the text and lays out the pages. Throws an error if parsing fails.
+     * Only depends on the state of this container and font widths, so it can also be run off the render thread
      */
     public void parse() {
         //// Strip and store tags ////
@@ -623,6 +675,9 @@ public class TextContainer {
         //// Build text pages and segments from wrap segments ////
         this.pages.clear();
         this.pages.addAll(this.build(wrapSegments));
+        for(TextPage page : this.pages) {
+            page.buildGlyphRuns();
+        }
     }
 
     private final List<TextFormatting> textFormatList = new ArrayList<TextFormatting>();
@@ -790,6 +845,7 @@ public class TextContainer {
                     if(!newLine || segment.significant || this.newLine > 0) {
                         //// Create text segment ////
                         TextSegment textSegment = new TextSegment(area.page, word, cursorX, cursorY, strWidth, strHeight, this.currentColor, this.currentScale, this.currentFont);
+                        textSegment.formatting = prefixed;
                         if(word.length() > 0) {
                             currentPage.textSegments.add(textSegment);
                             currentPage.textAreas.addAll(this.textAreas);
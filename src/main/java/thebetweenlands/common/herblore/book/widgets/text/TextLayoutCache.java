@@ -0,0 +1,152 @@
+package thebetweenlands.common.herblore.book.widgets.text;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.FontRenderer;
+import net.minecraft.client.resources.Language;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ * Caches parsed and laid out {@link TextContainer}s per text, locale, size and font scale.
+ * Layouts can be prefetched on a background thread so that they are ready by the time the page is opened.
+ * The cache is cleared when the resources are reloaded
+ */
+@SideOnly(Side.CLIENT)
+public final class TextLayoutCache {
+    private TextLayoutCache() { }
+
+    private static final ExecutorService LAYOUT_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r);
+        thread.setName("BL Text Layout");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Map<Key, FutureTask<TextContainer>> LAYOUTS = new ConcurrentHashMap<>();
+
+    public static final class Key {
+        private final String text;
+        private final double width, height;
+        private final float scale;
+        private final String language;
+        private final boolean unicode;
+        private final int hash;
+
+        private Key(String text, double width, double height, float scale, String language, boolean unicode) {
+            this.text = text;
+            this.width = width;
+            this.height = height;
+            this.scale = scale;
+            this.language = language;
+            this.unicode = unicode;
+            this.hash = Objects.hash(text, width, height, scale, language, unicode);
+        }
+
+        public String getText() {
+            return this.text;
+        }
+
+        public double getWidth() {
+            return this.width;
+        }
+
+        public double getHeight() {
+            return this.height;
+        }
+
+        public float getScale() {
+            return this.scale;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if(this == obj) {
+                return true;
+            }
+            if(obj instanceof Key) {
+                Key key = (Key) obj;
+                return this.hash == key.hash && this.width == key.width && this.height == key.height && this.scale == key.scale && this.unicode == key.unicode
+                        && this.text.equals(key.text) && this.language.equals(key.language);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    /**
+     * Creates a layout key for the current language and font
+     * @param text Localized text
+     * @param width Page width
+     * @param height Page height
+     * @param scale Font scale
+     * @param font Default font
+     * @return
+     */
+    public static Key createKey(String text, double width, double height, float scale, FontRenderer font) {
+        Language language = Minecraft.getMinecraft().getLanguageManager().getCurrentLanguage();
+        return new Key(text, width, height, scale, language != null ? language.getLanguageCode() : "", font.getUnicodeFlag());
+    }
+
+    /**
+     * Schedules the layout on the background thread unless it is already cached
+     * @param key Layout key
+     * @param factory Creates and parses the text container. Must not depend on any state other than the key
+     */
+    public static void prefetch(Key key, Function<Key, TextContainer> factory) {
+        FutureTask<TextContainer> task = new FutureTask<>(() -> factory.apply(key));
+        if(LAYOUTS.putIfAbsent(key, task) == null) {
+            LAYOUT_EXECUTOR.execute(task);
+        }
+    }
+
+    /**
+     * Returns the laid out text container. If the layout is still queued it is
+     * run on the calling thread instead, if it is currently running this waits for it to finish
+     * @param key Layout key
+     * @param factory Creates and parses the text container. Must not depend on any state other than the key
+     * @return
+     */
+    public static TextContainer get(Key key, Function<Key, TextContainer> factory) {
+        FutureTask<TextContainer> task = LAYOUTS.get(key);
+        if(task == null) {
+            FutureTask<TextContainer> newTask = new FutureTask<>(() -> factory.apply(key));
+            task = LAYOUTS.putIfAbsent(key, newTask);
+            if(task == null) {
+                task = newTask;
+            }
+        }
+
+        //Does nothing if the task is already running or done
+        task.run();
+
+        try {
+            return task.get();
+        } catch(InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for text layout", ex);
+        } catch(ExecutionException ex) {
+            LAYOUTS.remove(key, task);
+            throw new RuntimeException("Failed laying out text", ex.getCause());
+        }
+    }
+
+    /**
+     * Removes all cached layouts
+     */
+    public static void clear() {
+        LAYOUTS.clear();
+    }
+}
@@ -20,6 +20,7 @@ import thebetweenlands.util.TranslationHelper;
 @SideOnly(Side.CLIENT)
 public class TextWidget extends ManualWidgetBase {
     private TextContainer textContainer;
+    private TextLayoutCache.Key layoutKey;
     private String text;
     private float scale = 1.0f;
     private int width;
@@ -31,7 +32,6 @@ public class TextWidget extends ManualWidgetBase {
         super(xStart, yStart);
         width = 130 - xStart;
         height = 144;
-        this.textContainer = new TextContainer(width, height, I18n.format(unlocalizedText), Minecraft.getMinecraft().fontRenderer);
         this.text = I18n.format(unlocalizedText);
         if (!I18n.hasKey(unlocalizedText) || text.equals("")) {
         	TranslationHelper.addUnlocalizedString(unlocalizedText);
@@ -44,7 +44,6 @@ public class TextWidget extends ManualWidgetBase {
         super(xStart, yStart);
         width = 130 - xStart;
         height = 144;
-        this.textContainer = new TextContainer(width, height, I18n.format(unlocalizedText), Minecraft.getMinecraft().fontRenderer);
         this.text = I18n.format(unlocalizedText);
         if (!I18n.hasKey(unlocalizedText) || text.equals("")) {
         	TranslationHelper.addUnlocalizedString(unlocalizedText);
@@ -57,7 +56,6 @@ public class TextWidget extends ManualWidgetBase {
         super(xStart, yStart);
         this.width = width;
         this.height = height;
-        this.textContainer = new TextContainer(width, height, I18n.format(unlocalizedText), Minecraft.getMinecraft().fontRenderer);
         this.text = I18n.format(unlocalizedText);
         if (!I18n.hasKey(unlocalizedText) || text.equals("")) {
         	TranslationHelper.addUnlocalizedString(unlocalizedText);
@@ -71,7 +69,6 @@ public class TextWidget extends ManualWidgetBase {
         super(xStart, yStart);
         width = 130 - xStart;
         height = 144;
-        this.textContainer = new TextContainer(width, height, I18n.format(unlocalizedText), Minecraft.getMinecraft().fontRenderer);
         this.text = I18n.format(unlocalizedText);
         if (!I18n.hasKey(unlocalizedText) || text.equals("")) {
         	TranslationHelper.addUnlocalizedString(unlocalizedText);
@@ -86,48 +83,56 @@ public class TextWidget extends ManualWidgetBase {
         this.text = isLocalized ? text : I18n.format(text);
         width = 130 - xStart;
         height = 144;
-        this.textContainer = new TextContainer(width, height, text, Minecraft.getMinecraft().fontRenderer);
         if (!isLocalized && (!I18n.hasKey(text) || text.equals(""))) {
         	TranslationHelper.addUnlocalizedString(text);
         }
         this.init();
     }
 
-    @Override
+    /**
+     * Schedules the layout of the text on the background thread. The layout is
+     * cached and shared by all widgets with the same text, size and scale
+     */
     @SideOnly(Side.CLIENT)
-    public void setPageToRight() {
-        super.setPageToRight();
-        this.textContainer = new TextContainer(width, height, text, Minecraft.getMinecraft().fontRenderer);
-        this.init();
+    public void init() {
+        this.layoutKey = TextLayoutCache.createKey(this.text, this.width, this.height, this.scale, Minecraft.getMinecraft().fontRenderer);
+        this.textContainer = null;
+        TextLayoutCache.prefetch(this.layoutKey, TextWidget::layout);
     }
 
     @SideOnly(Side.CLIENT)
-    public void init() {
-        this.textContainer.setCurrentScale(scale).setCurrentColor(0x606060);
-        this.textContainer.registerTag(new TagNewLine());
-        this.textContainer.registerTag(new TagNewPage());
-        this.textContainer.registerTag(new TagScale(1.0F));
-        this.textContainer.registerTag(new TagColor(0x606060));
-        this.textContainer.registerTag(new TagTooltip("N/A"));
-        this.textContainer.registerTag(new TagSimple("bold", TextFormatting.BOLD));
-        this.textContainer.registerTag(new TagSimple("obfuscated", TextFormatting.OBFUSCATED));
-        this.textContainer.registerTag(new TagSimple("italic", TextFormatting.ITALIC));
-        this.textContainer.registerTag(new TagSimple("strikethrough", TextFormatting.STRIKETHROUGH));
-        this.textContainer.registerTag(new TagSimple("underline", TextFormatting.UNDERLINE));
-        this.textContainer.registerTag(new TagPagelink());
-        this.textContainer.registerTag(new TagRainbow());
-        this.textContainer.registerTag(new TagFont());
+    private static TextContainer layout(TextLayoutCache.Key key) {
+        TextContainer textContainer = new TextContainer(key.getWidth(), key.getHeight(), key.getText(), Minecraft.getMinecraft().fontRenderer);
+        textContainer.setCurrentScale(key.getScale()).setCurrentColor(0x606060);
+        textContainer.registerTag(new TagNewLine());
+        textContainer.registerTag(new TagNewPage());
+        textContainer.registerTag(new TagScale(1.0F));
+        textContainer.registerTag(new TagColor(0x606060));
+        textContainer.registerTag(new TagTooltip("N/A"));
+        textContainer.registerTag(new TagSimple("bold", TextFormatting.BOLD));
+        textContainer.registerTag(new TagSimple("obfuscated", TextFormatting.OBFUSCATED));
+        textContainer.registerTag(new TagSimple("italic", TextFormatting.ITALIC));
+        textContainer.registerTag(new TagSimple("strikethrough", TextFormatting.STRIKETHROUGH));
+        textContainer.registerTag(new TagSimple("underline", TextFormatting.UNDERLINE));
+        textContainer.registerTag(new TagPagelink());
+        textContainer.registerTag(new TagRainbow());
+        textContainer.registerTag(new TagFont());
 
         try {
-            this.textContainer.parse();
+            textContainer.parse();
         } catch (Exception ex) {
             ex.printStackTrace();
         }
+
+        return textContainer;
     }
 
     @Override
     @SideOnly(Side.CLIENT)
     public void drawForeGround() {
+        if (this.textContainer == null) {
+            this.textContainer = TextLayoutCache.get(this.layoutKey, TextWidget::layout);
+        }
         TextContainer.TextPage page = this.textContainer.getPages().get(pageNumber);
         page.render(this.xStart, this.yStart);
         page.renderTooltips(this.xStart, this.yStart, mouseX, mouseY);
@@ -138,8 +143,12 @@ public class TextWidget extends ManualWidgetBase {
     @SideOnly(Side.CLIENT)
     public void resize() {
         super.resize();
-        this.textContainer = new TextContainer(width, height, text, Minecraft.getMinecraft().fontRenderer);
-        this.init();
+        //Width or language may have changed since the layout was scheduled
+        TextLayoutCache.Key key = TextLayoutCache.createKey(this.text, this.width, this.height, this.scale, Minecraft.getMinecraft().fontRenderer);
+        if (!key.equals(this.layoutKey)) {
+            this.layoutKey = key;
+            this.textContainer = null;
+        }
     }
 
 
@@ -21,6 +21,7 @@ import net.minecraft.world.biome.Biome;
 import net.minecraft.world.storage.MapData;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
+import thebetweenlands.api.storage.ILocalStorage;
 import thebetweenlands.api.storage.ILocalStorageHandler;
 import thebetweenlands.client.tab.BLCreativeTabs;
 import thebetweenlands.common.TheBetweenlands;
@@ -92,149 +93,170 @@ public class ItemAmateMap extends ItemMap implements ICustomMeshCallback {
     @Override
     public void updateMapData(World world, Entity viewer, MapData data) {
         if (world.provider.getDimension() == BetweenlandsConfig.WORLD_AND_DIMENSION.dimensionId && world.provider.getDimension() == data.dimension && viewer instanceof EntityPlayer && viewer.ticksExisted % 20 == 0) {
+            AmateMapData amateMapData = (AmateMapData) data;
             int blocksPerPixel = 16;
-            int centerX = data.xCenter;
-            int centerZ = data.zCenter;
-            int viewerBlockX = MathHelper.floor((viewer.posX) / blocksPerPixel) * blocksPerPixel;
-            int viewerBlockZ = MathHelper.floor((viewer.posZ) / blocksPerPixel) * blocksPerPixel;
-            int viewerOffsetX = viewerBlockX - MathHelper.floor(centerX / blocksPerPixel) * blocksPerPixel;
-            int viewerOffsetZ = viewerBlockZ - MathHelper.floor(centerZ / blocksPerPixel) * blocksPerPixel;
-            int viewerPixelX = viewerOffsetX / blocksPerPixel + 64;
-            int viewerPixelZ = viewerOffsetZ / blocksPerPixel + 64;
+            int viewerPixelX = MathHelper.floor(viewer.posX / blocksPerPixel) - (data.xCenter / blocksPerPixel - 64);
+            int viewerPixelZ = MathHelper.floor(viewer.posZ / blocksPerPixel) - (data.zCenter / blocksPerPixel - 64);
             int viewRadiusPixels = 256 / blocksPerPixel;
 
             MapData.MapInfo mapInfo = data.getMapInfo((EntityPlayer)viewer);
             ++mapInfo.step;
-            
-            boolean terrainChanged = false;
-
-            final int biomeViewRange = viewRadiusPixels * blocksPerPixel / 4 * 2 + 1;
-            
-            int updatedColumns = 0;
-            
-            int prevXPixel = 0;
-            
-            Biome[][] biomes = new Biome[2][];
-            biomes[0] = new Biome[biomeViewRange];
-            biomes[1] = new Biome[biomeViewRange];
-            
-            Map<Integer, List<Integer>> checkedChunks = new HashMap<>();
-            for (int xPixel = viewerPixelX - viewRadiusPixels + 1; xPixel < viewerPixelX + viewRadiusPixels; ++xPixel) {
-                if ((xPixel & 15) == (mapInfo.step & 15) || terrainChanged) {
-                    terrainChanged = false;
-                    
-                    final int primaryBiomesArray = updatedColumns % 2;
-                    final int previousBiomesArray = (updatedColumns + 1) % 2;
-                    
-                    biomes[primaryBiomesArray] = world.getBiomeProvider().getBiomesForGeneration(biomes[primaryBiomesArray], (viewerBlockX + (xPixel - viewerPixelX) * blocksPerPixel) / 4, (viewerBlockZ - (viewRadiusPixels - 1) * blocksPerPixel) / 4, 1, biomeViewRange);
-                    
-                    if(updatedColumns == 0 || xPixel - prevXPixel != 1) {
-                    	biomes[previousBiomesArray] = world.getBiomeProvider().getBiomesForGeneration(biomes[previousBiomesArray], (viewerBlockX + (xPixel - viewerPixelX - 1) * blocksPerPixel) / 4, (viewerBlockZ - (viewRadiusPixels - 1) * blocksPerPixel) / 4, 1, biomeViewRange);
+
+            int minX = Math.max(0, viewerPixelX - viewRadiusPixels + 1);
+            int minZ = Math.max(0, viewerPixelZ - viewRadiusPixels + 1);
+            int maxX = Math.min(127, viewerPixelX + viewRadiusPixels - 1);
+            int maxZ = Math.min(127, viewerPixelZ + viewRadiusPixels - 1);
+
+            boolean explored = false;
+
+            if (minX <= maxX && minZ <= maxZ) {
+                for (int tileZ = minZ / AmateMapData.TILE_SIZE; tileZ <= maxZ / AmateMapData.TILE_SIZE; tileZ++) {
+                    for (int tileX = minX / AmateMapData.TILE_SIZE; tileX <= maxX / AmateMapData.TILE_SIZE; tileX++) {
+                        if (!amateMapData.isTileComplete(tileX, tileZ)) {
+                            explored |= this.exploreTile(world, amateMapData, tileX, tileZ, viewerPixelX, viewerPixelZ, viewRadiusPixels, blocksPerPixel);
+                        }
                     }
-                    
-                    for (int zPixel = viewerPixelZ - viewRadiusPixels - 1; zPixel < viewerPixelZ + viewRadiusPixels; ++zPixel) {
-                        if (xPixel >= 0 && zPixel >= 0 && xPixel < 128 && zPixel < 128) {
-                            int xPixelDist = xPixel - viewerPixelX;
-                            int zPixelDist = zPixel - viewerPixelZ;
-                            boolean shouldFuzz = xPixelDist * xPixelDist + zPixelDist * zPixelDist > (viewRadiusPixels - 2) * (viewRadiusPixels - 2);
-
-                            int biomeIndex = (zPixel - viewerPixelZ + viewRadiusPixels + 1) * blocksPerPixel / 4;
-                            Biome primaryBiome = biomes[primaryBiomesArray][biomeIndex];
-                            
-                            boolean isEdge = false;
-                            
-                            if(biomeIndex >= blocksPerPixel / 4) {
-                            	Biome biomeUp = biomes[primaryBiomesArray][biomeIndex - blocksPerPixel / 4];
-                                if(biomeUp != primaryBiome) {
-                              		isEdge = true;
-                                }
-                            }
-                            
-                        	Biome biomeLeft = biomes[previousBiomesArray][biomeIndex];
-                            if(biomeLeft != primaryBiome) {
-                          		isEdge = true;
-                            }
-                            
-                            BiomeColor colorBrightness = this.getMapColorPerBiome(world, primaryBiome);
-                            
-                            MapColor mapcolor = colorBrightness.color;
-                            int brightness = colorBrightness.brightness;
-
-                            if (zPixel >= 0 && xPixelDist * xPixelDist + zPixelDist * zPixelDist < viewRadiusPixels * viewRadiusPixels && (!shouldFuzz || (xPixel + zPixel & 1) != 0)) {
-                                byte oldPixel = data.colors[xPixel + zPixel * 128];
-                                byte newPixel = (byte) (mapcolor.colorIndex * 4 + brightness);
-
-                                if(isEdge) {
-                                	newPixel = (byte)(29 * 4);
-                                }
-                                
-                                if (oldPixel != newPixel) {
-                                    data.colors[xPixel + zPixel * 128] = newPixel;
-                                    data.updateMapData(xPixel, zPixel);
-                                    terrainChanged = true;
-                                }
-
-                                int worldX = (centerX / blocksPerPixel + xPixel - 64) * blocksPerPixel;
-                                int worldZ = (centerZ / blocksPerPixel + zPixel - 64) * blocksPerPixel;
-                                int chunkX = worldX >> 4;
-                                int chunkZ = worldZ >> 4;
-                                if (!checkedChunks.containsKey(chunkX) || (checkedChunks.containsKey(chunkX) && !checkedChunks.get(chunkX).contains(chunkZ))) {
-                                    checkedChunks.computeIfAbsent(chunkX, integer -> new ArrayList<>()).add(chunkZ);
-                                }
+                }
+            }
+
+            //Locations only need to be looked up when something new was explored. The lookup is still
+            //repeated every now and then so that cleared locations get their check mark
+            if (explored || mapInfo.step % 10 == 0) {
+                this.locateBLLocations(world, viewerPixelX, viewerPixelZ, viewRadiusPixels, blocksPerPixel, amateMapData);
+            }
+        }
+    }
+
+    /**
+     * Copies the pixels of the specified tile that are in view and not yet explored into the map
+     * @return Whether any pixels were explored
+     */
+    private boolean exploreTile(World world, AmateMapData data, int tileX, int tileZ, int viewerPixelX, int viewerPixelZ, int viewRadiusPixels, int blocksPerPixel) {
+        byte[] tile = null;
+        boolean explored = false;
+
+        for (int zPixel = tileZ * AmateMapData.TILE_SIZE; zPixel < (tileZ + 1) * AmateMapData.TILE_SIZE; ++zPixel) {
+            for (int xPixel = tileX * AmateMapData.TILE_SIZE; xPixel < (tileX + 1) * AmateMapData.TILE_SIZE; ++xPixel) {
+                int index = xPixel + zPixel * 128;
+
+                if (data.colors[index] == 0) {
+                    int xPixelDist = xPixel - viewerPixelX;
+                    int zPixelDist = zPixel - viewerPixelZ;
+                    int distSq = xPixelDist * xPixelDist + zPixelDist * zPixelDist;
+                    boolean shouldFuzz = distSq > (viewRadiusPixels - 2) * (viewRadiusPixels - 2);
+
+                    if (distSq < viewRadiusPixels * viewRadiusPixels && (!shouldFuzz || (xPixel + zPixel & 1) != 0)) {
+                        if (tile == null) {
+                            tile = data.getRenderedTile(tileX, tileZ);
+                            if (tile == null) {
+                                tile = this.renderTile(world, data, tileX, tileZ, blocksPerPixel);
+                                data.setRenderedTile(tileX, tileZ, tile);
                             }
                         }
+
+                        data.colors[index] = tile[(xPixel & (AmateMapData.TILE_SIZE - 1)) + (zPixel & (AmateMapData.TILE_SIZE - 1)) * AmateMapData.TILE_SIZE];
+                        data.updateMapData(xPixel, zPixel);
+                        explored = true;
                     }
-                    
-                    updatedColumns++;
-                    prevXPixel = xPixel;
                 }
             }
-            
-            locateBLLocations(world, checkedChunks, centerX, centerZ, blocksPerPixel, data);
         }
+
+        if (explored) {
+            data.checkTileComplete(tileX, tileZ);
+        }
+
+        return explored;
+    }
+
+    /**
+     * Renders the biome colors of all pixels of the specified tile with a single biome lookup
+     */
+    private byte[] renderTile(World world, AmateMapData data, int tileX, int tileZ, int blocksPerPixel) {
+        int tileBlockX = (data.xCenter / blocksPerPixel - 64 + tileX * AmateMapData.TILE_SIZE) * blocksPerPixel;
+        int tileBlockZ = (data.zCenter / blocksPerPixel - 64 + tileZ * AmateMapData.TILE_SIZE) * blocksPerPixel;
+
+        //Pixels sample the biome two pixels further south, as they always have, and are compared to
+        //the pixels to the left and above to draw the biome edges. Biomes for generation are in 4x4 block units
+        int step = blocksPerPixel / 4;
+        int size = (AmateMapData.TILE_SIZE + 1) * step;
+        Biome[] biomes = world.getBiomeProvider().getBiomesForGeneration(null, (tileBlockX - blocksPerPixel) / 4, (tileBlockZ + blocksPerPixel) / 4, size, size);
+
+        byte[] tile = new byte[AmateMapData.TILE_SIZE * AmateMapData.TILE_SIZE];
+
+        for (int z = 0; z < AmateMapData.TILE_SIZE; z++) {
+            for (int x = 0; x < AmateMapData.TILE_SIZE; x++) {
+                Biome primaryBiome = biomes[(x + 1) * step + (z + 1) * step * size];
+                Biome biomeUp = biomes[(x + 1) * step + z * step * size];
+                Biome biomeLeft = biomes[x * step + (z + 1) * step * size];
+
+                if (biomeUp != primaryBiome || biomeLeft != primaryBiome) {
+                    tile[x + z * AmateMapData.TILE_SIZE] = (byte)(29 * 4);
+                } else {
+                    BiomeColor colorBrightness = this.getMapColorPerBiome(world, primaryBiome);
+                    tile[x + z * AmateMapData.TILE_SIZE] = (byte) (colorBrightness.color.colorIndex * 4 + colorBrightness.brightness);
+                }
+            }
+        }
+
+        return tile;
     }
 
-    private void locateBLLocations(World world, Map<Integer, List<Integer>> posList, int centerX, int centerZ, int blocksPerPixel, MapData data) {
+    private void locateBLLocations(World world, int viewerPixelX, int viewerPixelZ, int viewRadiusPixels, int blocksPerPixel, AmateMapData data) {
         BetweenlandsWorldStorage worldStorage = BetweenlandsWorldStorage.forWorld(world);
         ILocalStorageHandler handler = worldStorage.getLocalStorageHandler();
-        AmateMapData amateMapData = (AmateMapData) data;
-
-        for (Map.Entry<Integer, List<Integer>> chunkX: posList.entrySet()) {
-            for (Integer z : chunkX.getValue()) {
-                int x = chunkX.getKey();
-                List<LocationStorage> localStorages = handler.getLocalStorages(LocationStorage.class, x << 4, z << 4, input -> true);
-                if (localStorages.size() > 0) {
-                    for (LocationStorage storage : localStorages) {
-                    	AxisAlignedBB aabb = storage.getEnclosingBounds();
-                        Vec3d center = new Vec3d(aabb.minX + (aabb.maxX - aabb.minX) * 0.5D, aabb.minY + (aabb.maxY - aabb.minY) * 0.5D, aabb.minZ + (aabb.maxZ - aabb.minZ) * 0.5D);
-                        byte mapX = (byte) ((center.x - centerX) / (float) blocksPerPixel * 2F);
-                        byte mapZ = (byte) ((center.z - centerZ) / (float) blocksPerPixel * 2F);
-                        Location location = Location.getLocation(storage);
-                        if (location != Location.NONE) {
-                            amateMapData.addDecoration(new AmateMapData.BLMapDecoration(location, mapX, mapZ, (byte) 8));
-
-                            boolean done = false;
-                            if (location == Location.TOWER) {
-                                LocationCragrockTower tower = (LocationCragrockTower) storage;
-                                if (tower.isTopConquered()) {
-                                    done = true;
-                                }
-                            } else if (location == Location.FORTRESS || location == Location.SPIRIT_TREE || location == Location.SLUDGE_WORM_DUNGEON) {
-                                LocationGuarded guarded = (LocationGuarded) storage;
-                                if (guarded.getGuard().isClear(world)) {
-                                    done = true;
-                                }
-                            }
-                            if (done) {
-                                amateMapData.addDecoration(new AmateMapData.BLMapDecoration(Location.CHECK, mapX, mapZ, (byte) 8));
-                            }
-                        }
+
+        int originChunkX = data.xCenter / blocksPerPixel - 64;
+        int originChunkZ = data.zCenter / blocksPerPixel - 64;
+
+        //Single pass over the loaded locations instead of a lookup per chunk in view, which would also load those chunks
+        for (ILocalStorage localStorage : handler.getLoadedStorages()) {
+            if (localStorage instanceof LocationStorage) {
+                LocationStorage storage = (LocationStorage) localStorage;
+                AxisAlignedBB aabb = storage.getEnclosingBounds();
+
+                if (aabb != null) {
+                    //Closest pixel of the location to the viewer
+                    int closestPixelX = MathHelper.clamp(viewerPixelX, (MathHelper.floor(aabb.minX) >> 4) - originChunkX, (MathHelper.floor(aabb.maxX) >> 4) - originChunkX);
+                    int closestPixelZ = MathHelper.clamp(viewerPixelZ, (MathHelper.floor(aabb.minZ) >> 4) - originChunkZ, (MathHelper.floor(aabb.maxZ) >> 4) - originChunkZ);
+                    int xPixelDist = closestPixelX - viewerPixelX;
+                    int zPixelDist = closestPixelZ - viewerPixelZ;
+
+                    if (closestPixelX >= 0 && closestPixelZ >= 0 && closestPixelX < 128 && closestPixelZ < 128 && xPixelDist * xPixelDist + zPixelDist * zPixelDist < viewRadiusPixels * viewRadiusPixels) {
+                        this.addLocationDecoration(world, storage, aabb, blocksPerPixel, data);
                     }
                 }
             }
         }
     }
 
+    private void addLocationDecoration(World world, LocationStorage storage, AxisAlignedBB aabb, int blocksPerPixel, AmateMapData amateMapData) {
+        Location location = Location.getLocation(storage);
+        if (location != Location.NONE) {
+            Vec3d center = new Vec3d(aabb.minX + (aabb.maxX - aabb.minX) * 0.5D, aabb.minY + (aabb.maxY - aabb.minY) * 0.5D, aabb.minZ + (aabb.maxZ - aabb.minZ) * 0.5D);
+            byte mapX = (byte) ((center.x - amateMapData.xCenter) / (float) blocksPerPixel * 2F);
+            byte mapZ = (byte) ((center.z - amateMapData.zCenter) / (float) blocksPerPixel * 2F);
+
+            amateMapData.addDecoration(new AmateMapData.BLMapDecoration(location, mapX, mapZ, (byte) 8));
+
+            boolean done = false;
+            if (location == Location.TOWER) {
+                LocationCragrockTower tower = (LocationCragrockTower) storage;
+                if (tower.isTopConquered()) {
+                    done = true;
+                }
+            } else if (location == Location.FORTRESS || location == Location.SPIRIT_TREE || location == Location.SLUDGE_WORM_DUNGEON) {
+                LocationGuarded guarded = (LocationGuarded) storage;
+                if (guarded.getGuard().isClear(world)) {
+                    done = true;
+                }
+            }
+            if (done) {
+                amateMapData.addDecoration(new AmateMapData.BLMapDecoration(Location.CHECK, mapX, mapZ, (byte) 8));
+            }
+        }
+    }
+
     private BiomeColor getMapColorPerBiome(World world, Biome biome) {
         if (BIOME_COLORS.isEmpty()) {
             setupBiomeColors();
@@ -1,32 +1,49 @@
 package thebetweenlands.common.loot.shared;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 import javax.annotation.Nullable;
 
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.world.storage.loot.LootTable;
 import net.minecraftforge.common.util.Constants;
 import thebetweenlands.api.loot.ISharedLootPool;
 import thebetweenlands.api.loot.LootTableView;
+import thebetweenlands.common.TheBetweenlands;
 import thebetweenlands.common.world.storage.SharedLootPoolStorage;
 import thebetweenlands.common.world.storage.location.LocationStorage;
 
 public class SharedLootPool implements ISharedLootPool {
+	private static final int MAX_NAME_ID = (1 << 20) - 1;
+	private static final int ROLL_MASK = (1 << 24) - 1;
+
 	protected ResourceLocation lootTableLocation;
 
 	protected SharedLootPoolStorage storage;
 
 	protected LootTable view;
 
-	protected final Object2IntMap<String> removedItems = new Object2IntOpenHashMap<>();
-	protected final Object2LongMap<String> poolSeeds = new Object2LongOpenHashMap<>();
-	protected final Object2LongMap<String> entrySeeds = new Object2LongOpenHashMap<>();
+	/**
+	 * Loot pool and entry names are interned to IDs starting at 1. The IDs are packed into long keys
+	 * together with the pool roll, see {@link #getKey(int, int, int)}
+	 */
+	protected final List<String> names = new ArrayList<>();
+	protected final Object2IntMap<String> nameIds = new Object2IntOpenHashMap<>();
+
+	protected final Long2IntMap removedItems = new Long2IntOpenHashMap();
+	protected final Long2LongMap poolSeeds = new Long2LongOpenHashMap();
+	protected final Long2LongMap entrySeeds = new Long2LongOpenHashMap();
 
 	protected long sharedLootSeed;
 
@@ -60,6 +77,8 @@ public class SharedLootPool implements ISharedLootPool {
 
 	@Override
 	public void regenerate() {
+		this.names.clear();
+		this.nameIds.clear();
 		this.removedItems.clear();
 		this.entrySeeds.clear();
 		this.poolSeeds.clear();
@@ -76,21 +95,69 @@ public class SharedLootPool implements ISharedLootPool {
 		this.setLocationDirty();
 	}
 
+	/**
+	 * Returns the ID of the specified pool or entry name, or 0 if the name was not interned yet
+	 * @param name
+	 * @param create Whether the name should be interned if it does not have an ID yet
+	 * @return
+	 */
+	protected int getNameId(String name, boolean create) {
+		int id = this.nameIds.getInt(name);
+		if(id == 0 && create) {
+			if(this.names.size() + 1 >= MAX_NAME_ID) {
+				throw new IllegalStateException("Too many loot pool and entry names in shared loot pool " + this.lootTableLocation);
+			}
+			this.names.add(name);
+			id = this.names.size();
+			this.nameIds.put(name, id);
+		}
+		return id;
+	}
+
+	/**
+	 * Packs the pool ID, pool roll and entry ID into a single key
+	 * @param poolId
+	 * @param poolRoll
+	 * @param entryId Entry ID, or 0 for pool keys
+	 * @return
+	 */
+	protected static long getKey(int poolId, int poolRoll, int entryId) {
+		return ((long) poolId << 44) | ((long) (poolRoll & ROLL_MASK) << 20) | entryId;
+	}
+
+	protected static int getPoolId(long key) {
+		return (int) (key >>> 44);
+	}
+
+	protected static int getPoolRoll(long key) {
+		//Sign extend the 24 bit roll
+		return (int) (key >> 20) << 8 >> 8;
+	}
+
+	protected static int getEntryId(long key) {
+		return (int) (key & MAX_NAME_ID);
+	}
+
 	@Override
 	public int getRemovedItems(String pool, int poolRoll, String entry) {
-		return this.removedItems.getInt(String.format("%s#%d#%s", pool, poolRoll, entry));
+		int poolId = this.getNameId(pool, false);
+		int entryId = this.getNameId(entry, false);
+		if(poolId == 0 || entryId == 0) {
+			return 0;
+		}
+		return this.removedItems.get(getKey(poolId, poolRoll, entryId));
 	}
 
 	@Override
 	public void setRemovedItems(String pool, int poolRoll, String entry, int count) {
-		this.removedItems.put(String.format("%s#%d#%s", pool, poolRoll, entry), count);
+		this.removedItems.put(getKey(this.getNameId(pool, true), poolRoll, this.getNameId(entry, true)), count);
 
 		this.setLocationDirty();
 	}
 
 	@Override
 	public long getLootPoolSeed(Random rand, String pool, int poolRoll) {
-		String key = String.format("%s#%d", pool, poolRoll);
+		long key = getKey(this.getNameId(pool, true), poolRoll, 0);
 		long seed;
 		if(this.poolSeeds.containsKey(key)) {
 			seed = this.poolSeeds.get(key);
@@ -104,7 +171,7 @@ public class SharedLootPool implements ISharedLootPool {
 
 	@Override
 	public long getLootEntrySeed(Random rand, String pool, int poolRoll, String entry) {
-		String key = String.format("%s#%d#%s", pool, poolRoll, entry);
+		long key = getKey(this.getNameId(pool, true), poolRoll, this.getNameId(entry, true));
 		long seed;
 		if(this.entrySeeds.containsKey(key)) {
 			seed = this.entrySeeds.get(key);
@@ -139,28 +206,31 @@ public class SharedLootPool implements ISharedLootPool {
 	}
 
 	public NBTTagCompound writeToNBT(NBTTagCompound nbt) {
+		if(!this.names.isEmpty()) {
+			NBTTagList namesNbt = new NBTTagList();
+			for(String name : this.names) {
+				namesNbt.appendTag(new NBTTagString(name));
+			}
+			nbt.setTag("names", namesNbt);
+		}
+
+		//Keys are stored as pool ID, pool roll and entry ID followed by the value
 		if(!this.removedItems.isEmpty()) {
-			NBTTagCompound removedItemsNbt = new NBTTagCompound();
-			for(Object2IntMap.Entry<String> entry : this.removedItems.object2IntEntrySet()) {
-				removedItemsNbt.setInteger(entry.getKey(), entry.getIntValue());
+			int[] removedItemsData = new int[this.removedItems.size() * 4];
+			int i = 0;
+			for(Long2IntMap.Entry entry : this.removedItems.long2IntEntrySet()) {
+				i = writeKey(removedItemsData, i, entry.getLongKey());
+				removedItemsData[i++] = entry.getIntValue();
 			}
-			nbt.setTag("removedItems", removedItemsNbt);
+			nbt.setIntArray("removedItems", removedItemsData);
 		}
 
 		if(!this.poolSeeds.isEmpty()) {
-			NBTTagCompound poolSeedsNbt = new NBTTagCompound();
-			for(Object2LongMap.Entry<String> entry : this.poolSeeds.object2LongEntrySet()) {
-				poolSeedsNbt.setLong(entry.getKey(), entry.getLongValue());
-			}
-			nbt.setTag("poolSeeds", poolSeedsNbt);
+			nbt.setIntArray("poolSeeds", writeSeeds(this.poolSeeds));
 		}
 
 		if(!this.entrySeeds.isEmpty()) {
-			NBTTagCompound entrySeedsNbt = new NBTTagCompound();
-			for(Object2LongMap.Entry<String> entry : this.entrySeeds.object2LongEntrySet()) {
-				entrySeedsNbt.setLong(entry.getKey(), entry.getLongValue());
-			}
-			nbt.setTag("entrySeeds", entrySeedsNbt);
+			nbt.setIntArray("entrySeeds", writeSeeds(this.entrySeeds));
 		}
 
 		if(this.lootTableLocation != null) {
@@ -174,23 +244,54 @@ public class SharedLootPool implements ISharedLootPool {
 		return nbt;
 	}
 
-	public void readFromNBT(NBTTagCompound nbt) {
-		this.removedItems.clear();
-		NBTTagCompound removedItemsNbt = nbt.getCompoundTag("removedItems");
-		for(String key : removedItemsNbt.getKeySet()) {
-			this.removedItems.put(key, removedItemsNbt.getInteger(key));
+	private static int writeKey(int[] data, int i, long key) {
+		data[i++] = getPoolId(key);
+		data[i++] = getPoolRoll(key);
+		data[i++] = getEntryId(key);
+		return i;
+	}
+
+	private static int[] writeSeeds(Long2LongMap seeds) {
+		int[] data = new int[seeds.size() * 5];
+		int i = 0;
+		for(Long2LongMap.Entry entry : seeds.long2LongEntrySet()) {
+			i = writeKey(data, i, entry.getLongKey());
+			data[i++] = (int) (entry.getLongValue() >>> 32);
+			data[i++] = (int) entry.getLongValue();
 		}
+		return data;
+	}
 
-		this.poolSeeds.clear();
-		NBTTagCompound poolSeedsNbt = nbt.getCompoundTag("poolSeeds");
-		for(String key : poolSeedsNbt.getKeySet()) {
-			this.poolSeeds.put(key, poolSeedsNbt.getLong(key));
+	private static void readSeeds(int[] data, Long2LongMap seeds) {
+		for(int i = 0; i + 4 < data.length; i += 5) {
+			seeds.put(getKey(data[i], data[i + 1], data[i + 2]), ((long) data[i + 3] << 32) | (data[i + 4] & 0xFFFFFFFFL));
 		}
+	}
 
+	public void readFromNBT(NBTTagCompound nbt) {
+		this.names.clear();
+		this.nameIds.clear();
+		this.removedItems.clear();
+		this.poolSeeds.clear();
 		this.entrySeeds.clear();
-		NBTTagCompound entrySeedsNbt = nbt.getCompoundTag("entrySeeds");
-		for(String key : entrySeedsNbt.getKeySet()) {
-			this.entrySeeds.put(key, entrySeedsNbt.getLong(key));
+
+		if(nbt.hasKey("removedItems", Constants.NBT.TAG_COMPOUND) || nbt.hasKey("poolSeeds", Constants.NBT.TAG_COMPOUND) || nbt.hasKey("entrySeeds", Constants.NBT.TAG_COMPOUND)) {
+			this.readLegacyKeysFromNBT(nbt);
+		} else {
+			NBTTagList namesNbt = nbt.getTagList("names", Constants.NBT.TAG_STRING);
+			for(int i = 0; i < namesNbt.tagCount(); i++) {
+				String name = namesNbt.getStringTagAt(i);
+				this.names.add(name);
+				this.nameIds.put(name, this.names.size());
+			}
+
+			int[] removedItemsData = nbt.getIntArray("removedItems");
+			for(int i = 0; i + 3 < removedItemsData.length; i += 4) {
+				this.removedItems.put(getKey(removedItemsData[i], removedItemsData[i + 1], removedItemsData[i + 2]), removedItemsData[i + 3]);
+			}
+
+			readSeeds(nbt.getIntArray("poolSeeds"), this.poolSeeds);
+			readSeeds(nbt.getIntArray("entrySeeds"), this.entrySeeds);
 		}
 
 		this.lootTableLocation = null;
@@ -203,6 +304,58 @@ public class SharedLootPool implements ISharedLootPool {
 		this.sharedLootSeed = nbt.getLong("sharedLootSeed");
 	}
 
+	/**
+	 * Reads the keys of the old format that used strings like <code>pool#roll#entry</code> as keys
+	 * @param nbt
+	 */
+	private void readLegacyKeysFromNBT(NBTTagCompound nbt) {
+		NBTTagCompound removedItemsNbt = nbt.getCompoundTag("removedItems");
+		for(String key : removedItemsNbt.getKeySet()) {
+			long packedKey = this.parseLegacyKey(key, true);
+			if(packedKey != -1) {
+				this.removedItems.put(packedKey, removedItemsNbt.getInteger(key));
+			}
+		}
+
+		NBTTagCompound poolSeedsNbt = nbt.getCompoundTag("poolSeeds");
+		for(String key : poolSeedsNbt.getKeySet()) {
+			long packedKey = this.parseLegacyKey(key, false);
+			if(packedKey != -1) {
+				this.poolSeeds.put(packedKey, poolSeedsNbt.getLong(key));
+			}
+		}
+
+		NBTTagCompound entrySeedsNbt = nbt.getCompoundTag("entrySeeds");
+		for(String key : entrySeedsNbt.getKeySet()) {
+			long packedKey = this.parseLegacyKey(key, true);
+			if(packedKey != -1) {
+				this.entrySeeds.put(packedKey, entrySeedsNbt.getLong(key));
+			}
+		}
+	}
+
+	private long parseLegacyKey(String key, boolean hasEntry) {
+		//Pool and entry names may contain '#' themselves, so look for
+		//the first separator that is followed by a valid roll number
+		int separator = key.indexOf('#');
+		while(separator >= 0) {
+			int rollEnd = hasEntry ? key.indexOf('#', separator + 1) : key.length();
+			if(rollEnd < 0) {
+				break;
+			}
+			try {
+				int roll = Integer.parseInt(key.substring(separator + 1, rollEnd));
+				int poolId = this.getNameId(key.substring(0, separator), true);
+				int entryId = hasEntry ? this.getNameId(key.substring(rollEnd + 1), true) : 0;
+				return getKey(poolId, roll, entryId);
+			} catch(NumberFormatException ex) {
+				separator = key.indexOf('#', separator + 1);
+			}
+		}
+		TheBetweenlands.logger.warn("Discarding malformed shared loot pool key: " + key);
+		return -1;
+	}
+
 	@Override
 	public long getLootTableSeed() {
 		return this.sharedLootSeed;
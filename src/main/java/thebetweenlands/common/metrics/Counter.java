@@ -0,0 +1,46 @@
+package thebetweenlands.common.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * A thread safe counter. Increments are dropped while the metrics are disabled
+ */
+public final class Counter implements Metric {
+	private final LongAdder value = new LongAdder();
+
+	Counter() { }
+
+	public void increment() {
+		if(Metrics.isEnabled()) {
+			this.value.increment();
+		}
+	}
+
+	public void add(long amount) {
+		if(Metrics.isEnabled()) {
+			this.value.add(amount);
+		}
+	}
+
+	public long get() {
+		return this.value.sum();
+	}
+
+	@Override
+	public void reset() {
+		this.value.reset();
+	}
+
+	@Override
+	public JsonElement toJson() {
+		return new JsonPrimitive(this.get());
+	}
+
+	@Override
+	public String getSummary() {
+		return Long.toString(this.get());
+	}
+}
@@ -0,0 +1,34 @@
+package thebetweenlands.common.metrics;
+
+import java.util.function.LongSupplier;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * A value that is only sampled when the metrics are dumped
+ */
+public final class Gauge implements Metric {
+	private final LongSupplier supplier;
+
+	Gauge(LongSupplier supplier) {
+		this.supplier = supplier;
+	}
+
+	public long get() {
+		return this.supplier.getAsLong();
+	}
+
+	@Override
+	public void reset() { }
+
+	@Override
+	public JsonElement toJson() {
+		return new JsonPrimitive(this.get());
+	}
+
+	@Override
+	public String getSummary() {
+		return Long.toString(this.get());
+	}
+}
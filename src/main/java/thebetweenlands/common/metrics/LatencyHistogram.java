@@ -0,0 +1,139 @@
+package thebetweenlands.common.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * A thread safe latency histogram with log-linear buckets, similar to an HDR histogram.
+ * Each power of two range is split into {@link #SUB_BUCKETS} linear buckets, so recorded
+ * values are accurate to about 3%. Recording is lock free and allocation free and is
+ * skipped entirely while the metrics are disabled.
+ */
+public final class LatencyHistogram implements Metric {
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder total = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	LatencyHistogram() { }
+
+	/**
+	 * Records the time since the specified start time
+	 * @param start Start time from {@link Metrics#startTimer()}. If 0 the metrics were disabled when the timer was started and nothing is recorded
+	 */
+	public void recordSince(long start) {
+		if(start != 0L) {
+			this.record(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Records a duration
+	 * @param nanos Duration in nanoseconds
+	 */
+	public void record(long nanos) {
+		if(Metrics.isEnabled()) {
+			nanos = Math.max(nanos, 0L);
+			this.buckets.incrementAndGet(getBucket(nanos));
+			this.count.increment();
+			this.total.add(nanos);
+			this.max.accumulate(nanos);
+		}
+	}
+
+	private static int getBucket(long value) {
+		if(value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	private static long getBucketUpperBound(int bucket) {
+		if(bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+		int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		long subBucket = bucket % SUB_BUCKETS;
+		return ((SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+	}
+
+	public long getCount() {
+		return this.count.sum();
+	}
+
+	public long getTotal() {
+		return this.total.sum();
+	}
+
+	public long getMax() {
+		return this.max.get();
+	}
+
+	/**
+	 * Returns the value below which the specified fraction of the recorded values lies
+	 * @param fraction Fraction in [0, 1]
+	 * @return
+	 */
+	public long getPercentile(double fraction) {
+		long count = this.getCount();
+		if(count == 0) {
+			return 0;
+		}
+		long target = Math.max(1, (long) Math.ceil(count * fraction));
+		long seen = 0;
+		for(int i = 0; i < BUCKETS; i++) {
+			seen += this.buckets.get(i);
+			if(seen >= target) {
+				return Math.min(getBucketUpperBound(i), this.getMax());
+			}
+		}
+		return this.getMax();
+	}
+
+	@Override
+	public void reset() {
+		for(int i = 0; i < BUCKETS; i++) {
+			this.buckets.set(i, 0);
+		}
+		this.count.reset();
+		this.total.reset();
+		this.max.reset();
+	}
+
+	@Override
+	public JsonElement toJson() {
+		JsonObject json = new JsonObject();
+		long count = this.getCount();
+		json.addProperty("count", count);
+		json.addProperty("total_ns", this.getTotal());
+		json.addProperty("mean_ns", count > 0 ? this.getTotal() / count : 0);
+		json.addProperty("p50_ns", this.getPercentile(0.5D));
+		json.addProperty("p90_ns", this.getPercentile(0.9D));
+		json.addProperty("p99_ns", this.getPercentile(0.99D));
+		json.addProperty("p999_ns", this.getPercentile(0.999D));
+		json.addProperty("max_ns", this.getMax());
+		return json;
+	}
+
+	@Override
+	public String getSummary() {
+		long count = this.getCount();
+		return String.format("n=%d total=%.1fms mean=%.3fms p99=%.3fms max=%.3fms", count, nanosToMillis(this.getTotal()),
+				count > 0 ? nanosToMillis(this.getTotal() / count) : 0.0D, nanosToMillis(this.getPercentile(0.99D)), nanosToMillis(this.getMax()));
+	}
+
+	private static double nanosToMillis(long nanos) {
+		return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+	}
+}
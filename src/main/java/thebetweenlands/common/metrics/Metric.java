@@ -0,0 +1,25 @@
+package thebetweenlands.common.metrics;
+
+import com.google.gson.JsonElement;
+
+/**
+ * A metric in the {@link Metrics} registry
+ */
+public interface Metric {
+	/**
+	 * Resets the recorded values
+	 */
+	public void reset();
+
+	/**
+	 * Returns the current state of the metric as JSON
+	 * @return
+	 */
+	public JsonElement toJson();
+
+	/**
+	 * Returns a short human readable summary of the metric
+	 * @return
+	 */
+	public String getSummary();
+}
@@ -0,0 +1,134 @@
+package thebetweenlands.common.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Registry of low overhead metrics used to find out which subsystem causes lag spikes.
+ * Metrics are usually created once and stored in static fields. While the metrics are disabled, which is the default,
+ * recording a value only costs a volatile read. Recording is started and stopped with the <code>/blprofile</code> command.
+ * <p>
+ * Metric names are dot separated, with the subsystem first, e.g. <code>worldgen.caves</code>.
+ */
+public final class Metrics {
+	private Metrics() { }
+
+	private static final Map<String, Metric> METRICS = new ConcurrentSkipListMap<>();
+
+	private static volatile boolean enabled;
+
+	private static long startTime;
+	private static long stopTime;
+
+	/**
+	 * Returns whether metrics are currently being recorded
+	 * @return
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Returns the current time for {@link LatencyHistogram#recordSince(long)}, or 0 if the metrics are disabled
+	 * @return
+	 */
+	public static long startTimer() {
+		return enabled ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * Returns the counter with the specified name, creating it if necessary
+	 * @param name
+	 * @return
+	 */
+	public static Counter counter(String name) {
+		return get(name, Counter.class, n -> new Counter());
+	}
+
+	/**
+	 * Returns the latency histogram with the specified name, creating it if necessary
+	 * @param name
+	 * @return
+	 */
+	public static LatencyHistogram histogram(String name) {
+		return get(name, LatencyHistogram.class, n -> new LatencyHistogram());
+	}
+
+	/**
+	 * Registers a gauge that is sampled whenever the metrics are dumped. Replaces any gauge with the same name
+	 * @param name
+	 * @param supplier
+	 * @return
+	 */
+	public static Gauge gauge(String name, LongSupplier supplier) {
+		Gauge gauge = new Gauge(supplier);
+		Metric previous = METRICS.put(name, gauge);
+		if(previous != null && !(previous instanceof Gauge)) {
+			METRICS.put(name, previous);
+			throw new IllegalArgumentException("Metric '" + name + "' is already registered as " + previous.getClass().getSimpleName());
+		}
+		return gauge;
+	}
+
+	private static <T extends Metric> T get(String name, Class<T> type, Function<String, T> factory) {
+		Metric metric = METRICS.computeIfAbsent(name, factory);
+		if(!type.isInstance(metric)) {
+			throw new IllegalArgumentException("Metric '" + name + "' is already registered as " + metric.getClass().getSimpleName());
+		}
+		return type.cast(metric);
+	}
+
+	/**
+	 * Resets all metrics and starts recording
+	 */
+	public static synchronized void start() {
+		enabled = false;
+		for(Metric metric : METRICS.values()) {
+			metric.reset();
+		}
+		startTime = System.currentTimeMillis();
+		stopTime = 0;
+		enabled = true;
+	}
+
+	/**
+	 * Stops recording. The recorded values are kept until the next {@link #start()}
+	 */
+	public static synchronized void stop() {
+		if(enabled) {
+			enabled = false;
+			stopTime = System.currentTimeMillis();
+		}
+	}
+
+	/**
+	 * Returns all registered metrics, sorted by name
+	 * @return
+	 */
+	public static Map<String, Metric> getMetrics() {
+		return METRICS;
+	}
+
+	/**
+	 * Returns the current state of all metrics as JSON
+	 * @return
+	 */
+	public static synchronized JsonObject toJson() {
+		JsonObject json = new JsonObject();
+		json.addProperty("recording", enabled);
+		json.addProperty("start_time", startTime);
+		json.addProperty("duration_ms", startTime == 0 ? 0 : (enabled ? System.currentTimeMillis() : stopTime) - startTime);
+
+		JsonObject metrics = new JsonObject();
+		for(Map.Entry<String, Metric> entry : METRICS.entrySet()) {
+			metrics.add(entry.getKey(), entry.getValue().toJson());
+		}
+		json.add("metrics", metrics);
+
+		return json;
+	}
+}
@@ -12,9 +12,14 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import thebetweenlands.common.capability.base.EntityCapability;
 import thebetweenlands.common.capability.base.EntityCapabilityHandler;
+import thebetweenlands.common.metrics.Counter;
+import thebetweenlands.common.metrics.Metrics;
 import thebetweenlands.common.network.MessageEntity;
 
 public class MessageSyncEntityCapabilities extends MessageEntity {
+	private static final Counter SYNC_PACKETS = Metrics.counter("capabilities.sync_packets");
+	private static final Counter SYNC_BYTES = Metrics.counter("capabilities.sync_bytes");
+
 	private ResourceLocation capability;
 	private NBTTagCompound nbt;
 
@@ -29,9 +34,12 @@ public class MessageSyncEntityCapabilities extends MessageEntity {
 
 	@Override
 	public void serialize(PacketBuffer buf) {
+		int start = buf.writerIndex();
 		super.serialize(buf);
 		buf.writeString(this.capability.toString());
 		buf.writeCompoundTag(this.nbt);
+		SYNC_PACKETS.increment();
+		SYNC_BYTES.add(buf.writerIndex() - start);
 	}
 
 	@Override
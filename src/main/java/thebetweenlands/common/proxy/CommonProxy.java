@@ -285,6 +285,14 @@ public class CommonProxy implements IGuiHandler {
 
     public void onPilotExitWeedwoodRowboat(EntityWeedwoodRowboat rowboat, Entity pilot) {
 
+    }
+
+    public void onClientTileLoaded(TileEntity tile) {
+
+    }
+
+    public void onClientTileUnloaded(TileEntity tile) {
+
     }
     
     public boolean isSingleplayer() {
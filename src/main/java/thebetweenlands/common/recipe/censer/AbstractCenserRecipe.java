@@ -14,6 +14,7 @@ import thebetweenlands.api.aspect.IAspectType;
 import thebetweenlands.api.block.ICenser;
 import thebetweenlands.api.recipes.ICenserRecipe;
 import thebetweenlands.client.handler.ItemTooltipHandler;
+import thebetweenlands.common.handler.AreaEffectHandler;
 
 public abstract class AbstractCenserRecipe<T> implements ICenserRecipe<T> {
 	private static final List<ICenserRecipe<?>> RECIPES = new ArrayList<ICenserRecipe<?>>();
@@ -186,4 +187,15 @@ public abstract class AbstractCenserRecipe<T> implements ICenserRecipe<T> {
 	public IAspectType getAspectFogType(T context, ICenser censer) {
 		return null;
 	}
+
+	/**
+	 * Returns whether the censer is still running this recipe. Effects that are applied
+	 * later in the tick, e.g. through {@link AreaEffectHandler#applyOnce(net.minecraft.world.World, Class, net.minecraft.util.math.AxisAlignedBB, java.util.function.Consumer)},
+	 * must check this before they apply anything or consume input
+	 * @param censer
+	 * @return
+	 */
+	protected boolean isStillRunning(ICenser censer) {
+		return censer.getCurrentRecipe() == this && censer.isRecipeRunning() && censer.getCenserWorld().getTileEntity(censer.getCenserPos()) == censer;
+	}
 }
@@ -1,7 +1,6 @@
 package thebetweenlands.common.recipe.censer;
 
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map.Entry;
 
 import net.minecraft.entity.EntityLivingBase;
@@ -25,6 +24,7 @@ import thebetweenlands.api.block.ICenser;
 import thebetweenlands.api.recipes.ICenserRecipe;
 import thebetweenlands.client.render.shader.ShaderHelper;
 import thebetweenlands.client.render.shader.postprocessing.GroundFog.GroundFogVolume;
+import thebetweenlands.common.handler.AreaEffectHandler;
 import thebetweenlands.common.item.misc.ItemMisc.EnumItemMisc;
 import thebetweenlands.common.lib.ModInfo;
 import thebetweenlands.common.tile.TileEntityCenser;
@@ -60,8 +60,8 @@ public class CenserRecipeCremains extends AbstractCenserRecipe<Void> {
 		}
 	}
 
-	private List<EntityLivingBase> getAffectedEntities(World world, BlockPos pos) {
-		return world.getEntitiesWithinAABB(EntityLivingBase.class, new AxisAlignedBB(pos).grow(6, 0.1D, 6).expand(0, 12, 0));
+	private AxisAlignedBB getEffectArea(BlockPos pos) {
+		return new AxisAlignedBB(pos).grow(6, 0.1D, 6).expand(0, 12, 0);
 	}
 
 	@Override
@@ -71,12 +71,17 @@ public class CenserRecipeCremains extends AbstractCenserRecipe<Void> {
 		if(!world.isRemote && world.getTotalWorldTime() % 10 == 0) {
 			BlockPos pos = censer.getCenserPos();
 
-			List<EntityLivingBase> affected = this.getAffectedEntities(world, pos);
-			for(EntityLivingBase living : affected) {
-				if(!living.isInWater() && !living.isEntityInvulnerable(DamageSource.IN_FIRE) && !living.isImmuneToFire() && (living instanceof EntityPlayer == false || !((EntityPlayer) living).isCreative())) {
-					living.setFire(1);
+			AreaEffectHandler.applyOnce(world, EntityLivingBase.class, this.getEffectArea(pos), affected -> {
+				if(!this.isStillRunning(censer)) {
+					return;
 				}
-			}
+
+				for(EntityLivingBase living : affected) {
+					if(!living.isInWater() && !living.isEntityInvulnerable(DamageSource.IN_FIRE) && !living.isImmuneToFire() && (living instanceof EntityPlayer == false || !((EntityPlayer) living).isCreative())) {
+						living.setFire(1);
+					}
+				}
+			});
 		}
 
 		return 0;
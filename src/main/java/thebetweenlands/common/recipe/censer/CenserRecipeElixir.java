@@ -1,7 +1,5 @@
 package thebetweenlands.common.recipe.censer;
 
-import java.util.List;
-
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.item.ItemStack;
 import net.minecraft.potion.Potion;
@@ -14,6 +12,7 @@ import net.minecraft.world.World;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import thebetweenlands.api.block.ICenser;
+import thebetweenlands.common.handler.AreaEffectHandler;
 import thebetweenlands.common.herblore.elixir.effects.ElixirEffect;
 import thebetweenlands.common.item.herblore.ItemElixir;
 import thebetweenlands.common.lib.ModInfo;
@@ -41,13 +40,13 @@ public class CenserRecipeElixir extends AbstractCenserRecipe<CenserRecipeElixirC
 		return new CenserRecipeElixirContext(stack);
 	}
 
-	private List<EntityLivingBase> getAffectedEntities(World world, BlockPos pos, CenserRecipeElixirContext context) {
+	private AxisAlignedBB getEffectArea(BlockPos pos, CenserRecipeElixirContext context) {
 		int amplifier = ItemRegistry.ELIXIR.createPotionEffect(context.elixir, 1).getAmplifier();
 
 		int xzRange = 35 + amplifier * 15;
 		int yRange = 12 + amplifier * 4;
 
-		return world.getEntitiesWithinAABB(EntityLivingBase.class, new AxisAlignedBB(pos).grow(xzRange, 1, xzRange).expand(0, yRange, 0));
+		return new AxisAlignedBB(pos).grow(xzRange, 1, xzRange).expand(0, yRange, 0);
 	}
 
 	@Override
@@ -61,15 +60,19 @@ public class CenserRecipeElixir extends AbstractCenserRecipe<CenserRecipeElixirC
 
 			BlockPos pos = censer.getCenserPos();
 
-			List<EntityLivingBase> affected = this.getAffectedEntities(world, pos, context);
+			AreaEffectHandler.applyOnce(world, EntityLivingBase.class, this.getEffectArea(pos, context), affected -> {
+				if(!this.isStillRunning(censer)) {
+					return;
+				}
 
-			if(!world.isRemote) {
-				for(EntityLivingBase living : affected) {
-					living.addPotionEffect(new PotionEffect(potion, Math.min(maxDuration, 300), 0, true, false));
+				if(!world.isRemote) {
+					for(EntityLivingBase living : affected) {
+						living.addPotionEffect(new PotionEffect(potion, Math.min(maxDuration, 300), 0, true, false));
+					}
 				}
-			}
 
-			context.setConsuming(!affected.isEmpty());
+				context.setConsuming(!affected.isEmpty());
+			});
 		}
 
 		return 0;
@@ -87,7 +90,8 @@ public class CenserRecipeElixir extends AbstractCenserRecipe<CenserRecipeElixirC
 
 	@Override
 	public int getConsumptionAmount(CenserRecipeElixirContext context, ICenser censer) {
-		if(!context.isConsuming()) {
+		//The affected entities are only known at the end of this tick, the censer asks again next tick
+		if(!context.isConsuming() || censer.getCenserWorld().getTotalWorldTime() % 100 == 0) {
 			return 0;
 		}
 		return 1 + MathHelper.floor(1000.0f / this.getEffectiveDuration(context));
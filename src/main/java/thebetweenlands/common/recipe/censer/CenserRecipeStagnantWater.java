@@ -1,7 +1,5 @@
 package thebetweenlands.common.recipe.censer;
 
-import java.util.List;
-
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.AxisAlignedBB;
@@ -14,6 +12,7 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import thebetweenlands.api.block.ICenser;
 import thebetweenlands.client.render.shader.ShaderHelper;
 import thebetweenlands.client.render.shader.postprocessing.GroundFog.GroundFogVolume;
+import thebetweenlands.common.handler.AreaEffectHandler;
 import thebetweenlands.common.herblore.elixir.ElixirEffectRegistry;
 import thebetweenlands.common.lib.ModInfo;
 import thebetweenlands.common.registries.FluidRegistry;
@@ -55,8 +54,8 @@ public class CenserRecipeStagnantWater extends AbstractCenserRecipe<Void> {
 		return 0xFFFFFFAA;
 	}
 
-	private List<EntityLivingBase> getAffectedEntities(World world, BlockPos pos) {
-		return world.getEntitiesWithinAABB(EntityLivingBase.class, new AxisAlignedBB(pos).grow(6, 0.1D, 6).expand(0, 12, 0));
+	private AxisAlignedBB getEffectArea(BlockPos pos) {
+		return new AxisAlignedBB(pos).grow(6, 0.1D, 6).expand(0, 12, 0);
 	}
 
 	@Override
@@ -66,10 +65,15 @@ public class CenserRecipeStagnantWater extends AbstractCenserRecipe<Void> {
 		if(!world.isRemote && world.getTotalWorldTime() % 100 == 0) {
 			BlockPos pos = censer.getCenserPos();
 
-			List<EntityLivingBase> affected = this.getAffectedEntities(world, pos);
-			for(EntityLivingBase living : affected) {
-				living.addPotionEffect(ElixirEffectRegistry.EFFECT_DECAY.createEffect(200, 1));
-			}
+			AreaEffectHandler.applyOnce(world, EntityLivingBase.class, this.getEffectArea(pos), affected -> {
+				if(!this.isStillRunning(censer)) {
+					return;
+				}
+
+				for(EntityLivingBase living : affected) {
+					living.addPotionEffect(ElixirEffectRegistry.EFFECT_DECAY.createEffect(200, 1));
+				}
+			});
 		}
 
 		return 0;
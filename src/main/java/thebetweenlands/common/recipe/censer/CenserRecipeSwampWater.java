@@ -1,7 +1,5 @@
 package thebetweenlands.common.recipe.censer;
 
-import java.util.List;
-
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.potion.PotionEffect;
@@ -13,6 +11,7 @@ import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import thebetweenlands.api.block.ICenser;
+import thebetweenlands.common.handler.AreaEffectHandler;
 import thebetweenlands.common.herblore.elixir.ElixirEffectRegistry;
 import thebetweenlands.common.lib.ModInfo;
 import thebetweenlands.common.registries.FluidRegistry;
@@ -47,8 +46,8 @@ public class CenserRecipeSwampWater extends AbstractCenserRecipe<CenserRecipeSwa
 		return 0xFFEEEEEE;
 	}
 
-	private List<EntityPlayer> getAffectedEntities(World world, BlockPos pos) {
-		return world.getEntitiesWithinAABB(EntityPlayer.class, new AxisAlignedBB(pos).grow(45, 1, 45).expand(0, 16, 0));
+	private AxisAlignedBB getEffectArea(BlockPos pos) {
+		return new AxisAlignedBB(pos).grow(45, 1, 45).expand(0, 16, 0);
 	}
 
 	@Override
@@ -61,15 +60,19 @@ public class CenserRecipeSwampWater extends AbstractCenserRecipe<CenserRecipeSwa
 			if(world.getTotalWorldTime() % 100 == 0) {
 				BlockPos pos = censer.getCenserPos();
 
-				List<EntityPlayer> affected = this.getAffectedEntities(world, pos);
+				AreaEffectHandler.applyOnce(world, EntityPlayer.class, this.getEffectArea(pos), affected -> {
+					if(!this.isStillRunning(censer)) {
+						return;
+					}
 
-				if(!world.isRemote) {
-					for(EntityPlayer player : affected) {
-						player.addPotionEffect(new PotionEffect(ElixirEffectRegistry.ENLIGHTENED, 200, 0, true, false));
+					if(!world.isRemote) {
+						for(EntityPlayer player : affected) {
+							player.addPotionEffect(new PotionEffect(ElixirEffectRegistry.ENLIGHTENED, 200, 0, true, false));
+						}
 					}
-				}
 
-				context.setConsuming(!affected.isEmpty());
+					context.setConsuming(!affected.isEmpty());
+				});
 			}
 		} else {
 			context.setConsuming(false);
@@ -86,6 +89,10 @@ public class CenserRecipeSwampWater extends AbstractCenserRecipe<CenserRecipeSwa
 
 	@Override
 	public int getConsumptionAmount(CenserRecipeSwampWaterContext context, ICenser censer) {
+		//The affected players are only known at the end of this tick, the censer asks again next tick
+		if(censer.getCenserWorld().getTotalWorldTime() % 100 == 0) {
+			return 0;
+		}
 		return context.isConsuming() ? 1 : 0;
 	}
 }
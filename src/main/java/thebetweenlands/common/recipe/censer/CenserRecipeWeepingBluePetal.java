@@ -1,7 +1,5 @@
 package thebetweenlands.common.recipe.censer;
 
-import java.util.List;
-
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.ResourceLocation;
@@ -13,6 +11,7 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import thebetweenlands.api.block.ICenser;
 import thebetweenlands.api.capability.IDecayCapability;
 import thebetweenlands.common.capability.decay.DecayStats;
+import thebetweenlands.common.handler.AreaEffectHandler;
 import thebetweenlands.common.lib.ModInfo;
 import thebetweenlands.common.registries.CapabilityRegistry;
 import thebetweenlands.common.registries.ItemRegistry;
@@ -30,8 +29,8 @@ public class CenserRecipeWeepingBluePetal extends AbstractCenserRecipe<Void> {
 		return stack.getItem() == ItemRegistry.WEEPING_BLUE_PETAL;
 	}
 
-	private List<EntityLivingBase> getAffectedEntities(World world, BlockPos pos) {
-		return world.getEntitiesWithinAABB(EntityLivingBase.class, new AxisAlignedBB(pos).grow(32, 1, 32).expand(0, 16, 0));
+	private AxisAlignedBB getEffectArea(BlockPos pos) {
+		return new AxisAlignedBB(pos).grow(32, 1, 32).expand(0, 16, 0);
 	}
 
 	@Override
@@ -39,28 +38,33 @@ public class CenserRecipeWeepingBluePetal extends AbstractCenserRecipe<Void> {
 		World world = censer.getCenserWorld();
 
 		if(!world.isRemote && world.getTotalWorldTime() % 100 == 0) {
-			boolean applied = false;
-
 			BlockPos pos = censer.getCenserPos();
 
-			List<EntityLivingBase> affected = this.getAffectedEntities(world, pos);
-			for(EntityLivingBase living : affected) {
-				IDecayCapability cap = living.getCapability(CapabilityRegistry.CAPABILITY_DECAY, null);
+			AreaEffectHandler.applyOnce(world, EntityLivingBase.class, this.getEffectArea(pos), affected -> {
+				if(!this.isStillRunning(censer)) {
+					return;
+				}
+
+				boolean applied = false;
+
+				for(EntityLivingBase living : affected) {
+					IDecayCapability cap = living.getCapability(CapabilityRegistry.CAPABILITY_DECAY, null);
 
-				if(cap != null) {
-					DecayStats stats = cap.getDecayStats();
+					if(cap != null) {
+						DecayStats stats = cap.getDecayStats();
 
-					if(stats.getDecayLevel() > 0) {
-						stats.addStats(-2, 0);
+						if(stats.getDecayLevel() > 0) {
+							stats.addStats(-2, 0);
 
-						applied = true;
+							applied = true;
+						}
 					}
 				}
-			}
 
-			if(applied) {
-				return 150;
-			}
+				if(applied) {
+					censer.consumeInput(150);
+				}
+			});
 		}
 
 		return 0;
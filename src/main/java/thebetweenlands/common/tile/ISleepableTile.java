@@ -0,0 +1,37 @@
+package thebetweenlands.common.tile;
+
+import net.minecraft.util.ITickable;
+import thebetweenlands.common.handler.TileSleepHandler;
+
+/**
+ * Ticking tile entities implementing this can be put to sleep by the {@link TileSleepHandler}
+ * when they are idle. Sleeping tiles are removed from the world's ticking list and are woken up again
+ * when their inventory or fluids change (through {@link TileSleepHandler#wake(net.minecraft.tileentity.TileEntity)}),
+ * when a neighbour block changes or when their wake up timer runs out.
+ */
+public interface ISleepableTile extends ITickable {
+	/**
+	 * Returns whether the tile currently has no work to do and can be removed from the ticking list.
+	 * Only called on the server side.
+	 * @return
+	 */
+	public boolean canSleep();
+
+	/**
+	 * Returns after how many ticks the tile should be woken up again.
+	 * A negative value means that the tile sleeps until it is woken up by a change.
+	 * @return
+	 */
+	public default int getWakeUpDelay() {
+		return -1;
+	}
+
+	/**
+	 * Called when the tile is woken up, before any of the changes that caused the wake up
+	 * are processed by the tile
+	 * @param sleptTicks How many ticks the tile has been asleep for
+	 */
+	public default void onWakeUp(int sleptTicks) {
+
+	}
+}
@@ -19,6 +19,7 @@ import org.apache.commons.lang3.ArrayUtils;
 
 import com.google.common.base.Preconditions;
 
+import thebetweenlands.common.handler.TileSleepHandler;
 import thebetweenlands.common.item.misc.ItemMisc.EnumItemMisc;
 import thebetweenlands.common.registries.ItemRegistry;
 
@@ -27,7 +28,7 @@ import java.util.function.BiFunction;
 import java.util.function.IntPredicate;
 import java.util.stream.IntStream;
 
-public abstract class TileEntityAbstractBLFurnace extends TileEntityBasicInventory implements ISidedInventory, ITickable {
+public abstract class TileEntityAbstractBLFurnace extends TileEntityBasicInventory implements ISidedInventory, ITickable, ISleepableTile {
     private static final String NBT_BURN_TIME = "BurnTime";
     private static final String NBT_COOK_TIME = "CookTime";
     private static final String NBT_CUSTOM_NAME = "CustomName";
@@ -218,6 +219,23 @@ public abstract class TileEntityAbstractBLFurnace extends TileEntityBasicInvento
         if (isDirty) {
             markDirty();
         }
+
+        if (!world.isRemote && !isBurning && canSleep()) {
+            TileSleepHandler.requestSleep(this);
+        }
+    }
+
+    @Override
+    public boolean canSleep() {
+        for (FurnaceData data : furnaceData) {
+            if (data.furnaceBurnTime != 0) {
+                return false;
+            }
+            if (!getStackInSlot(data.getFuelSlot()).isEmpty() && canSmelt(data)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private boolean canSmelt(FurnaceData data) {
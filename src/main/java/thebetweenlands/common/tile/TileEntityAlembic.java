@@ -17,6 +17,7 @@ import net.minecraftforge.common.util.Constants;
 import thebetweenlands.api.aspect.Aspect;
 import thebetweenlands.api.aspect.IAspectType;
 import thebetweenlands.api.aspect.ItemAspectContainer;
+import thebetweenlands.common.handler.TileSleepHandler;
 import thebetweenlands.common.herblore.Amounts;
 import thebetweenlands.common.herblore.aspect.AspectManager;
 import thebetweenlands.common.herblore.elixir.ElixirRecipe;
@@ -25,7 +26,7 @@ import thebetweenlands.common.herblore.elixir.effects.ElixirEffect;
 import thebetweenlands.common.registries.AspectRegistry;
 import thebetweenlands.common.registries.ItemRegistry;
 
-public class TileEntityAlembic extends TileEntity implements ITickable {
+public class TileEntityAlembic extends TileEntity implements ITickable, ISleepableTile {
     public static final int DISTILLING_TIME = 4800; //4 Minutes
 
     public static final int AMOUNT_PER_VIAL = Amounts.VIAL;
@@ -77,10 +78,19 @@ public class TileEntityAlembic extends TileEntity implements ITickable {
                     markDirty();
                 }
                 this.running = false;
+
+                if (this.canSleep()) {
+                    TileSleepHandler.requestSleep(this);
+                }
             }
         }
     }
 
+    @Override
+    public boolean canSleep() {
+        return !this.loadInfusionData && !this.running && (!this.isFull() || this.hasFinished());
+    }
+
     @Override
     public NBTTagCompound writeToNBT(NBTTagCompound nbt) {
         super.writeToNBT(nbt);
@@ -125,6 +135,7 @@ public class TileEntityAlembic extends TileEntity implements ITickable {
         world.notifyBlockUpdate(getPos(), state, state, 3);
         world.markBlockRangeForRenderUpdate(getPos(), getPos());
         super.markDirty();
+        TileSleepHandler.wake(this);
     }
 
     @Override
@@ -17,6 +17,7 @@ import thebetweenlands.api.recipes.IAnimatorRecipe;
 import thebetweenlands.client.audio.AnimatorSound;
 import thebetweenlands.client.render.particle.BLParticles;
 import thebetweenlands.client.render.particle.ParticleFactory;
+import thebetweenlands.common.handler.TileSleepHandler;
 import thebetweenlands.common.inventory.container.ContainerAnimator;
 import thebetweenlands.common.item.misc.ItemMisc;
 import thebetweenlands.common.recipe.misc.AnimatorRecipe;
@@ -25,7 +26,7 @@ import thebetweenlands.common.registries.SoundRegistry;
 
 import javax.annotation.Nullable;
 
-public class TileEntityAnimator extends TileEntityBasicInventory implements ITickable {
+public class TileEntityAnimator extends TileEntityBasicInventory implements ITickable, ISleepableTile {
     public ItemStack itemToAnimate = ItemStack.EMPTY;
     public int fuelBurnProgress, lifeCrystalLife, fuelConsumed = 0, requiredFuelCount = 32, requiredLifeCount = 32;
     public boolean itemAnimated = false;
@@ -110,6 +111,10 @@ public class TileEntityAnimator extends TileEntityBasicInventory implements ITic
             }
             
             updateContainingBlockInfo();
+
+            if (canSleep()) {
+                TileSleepHandler.requestSleep(this);
+            }
         } else {
             if (this.isRunning() && !this.soundPlaying) {
                 this.playAnimatorSound();
@@ -135,6 +140,11 @@ public class TileEntityAnimator extends TileEntityBasicInventory implements ITic
         return 64;
     }
 
+    @Override
+    public boolean canSleep() {
+        return !this.running && (this.itemAnimated || this.fuelConsumed < this.requiredFuelCount || !isSlotInUse(0) || !isSlotInUse(1));
+    }
+
     @Override
     public void markDirty() {
         super.markDirty();
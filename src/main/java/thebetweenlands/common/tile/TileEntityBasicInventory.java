@@ -22,6 +22,7 @@ import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.ItemStackHandler;
 import net.minecraftforge.items.wrapper.InvWrapper;
 import net.minecraftforge.items.wrapper.SidedInvWrapper;
+import thebetweenlands.common.handler.TileSleepHandler;
 
 public class TileEntityBasicInventory extends TileEntity implements ISidedInventory {
 	protected static final BiFunction<TileEntityBasicInventory, NonNullList<ItemStack>, ItemStackHandler> DEFAULT_HANDLER = (te, inv) -> new ItemStackHandler(inv) {
@@ -205,6 +206,15 @@ public class TileEntityBasicInventory extends TileEntity implements ISidedInvent
 		}
 	}
 
+	@Override
+	public void markDirty() {
+		super.markDirty();
+
+		if(this instanceof ISleepableTile) {
+			TileSleepHandler.wake(this);
+		}
+	}
+
 	/**
 	 * Called before a slot is accessed
 	 * @param slot
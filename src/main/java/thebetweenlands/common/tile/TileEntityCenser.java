@@ -31,11 +31,12 @@ import net.minecraftforge.items.ItemStackHandler;
 import thebetweenlands.api.block.ICenser;
 import thebetweenlands.api.recipes.ICenserRecipe;
 import thebetweenlands.common.block.container.BlockCenser;
+import thebetweenlands.common.handler.TileSleepHandler;
 import thebetweenlands.common.inventory.container.ContainerCenser;
 import thebetweenlands.common.item.misc.ItemMisc.EnumItemMisc;
 import thebetweenlands.common.recipe.censer.AbstractCenserRecipe;
 
-public class TileEntityCenser extends TileEntityBasicInventory implements IFluidHandler, ITickable, ICenser {
+public class TileEntityCenser extends TileEntityBasicInventory implements IFluidHandler, ITickable, ICenser, ISleepableTile {
 	private final FluidTank fluidTank;
 	private final IFluidTankProperties[] properties = new IFluidTankProperties[1];
 
@@ -389,15 +390,7 @@ public class TileEntityCenser extends TileEntityBasicInventory implements IFluid
 						}
 
 						if(toRemove > 0) {
-							if(this.isFluidRecipe) {
-								this.fluidTank.drainInternal(toRemove, true);
-								this.checkInputSlotForTransfer = true;
-							} else {
-								this.remainingItemAmount = Math.max(0, this.remainingItemAmount - toRemove);
-								if(this.remainingItemAmount <= 0) {
-									this.setInventorySlotContents(ContainerCenser.SLOT_INTERNAL, ItemStack.EMPTY);
-								}
-							}
+							this.consumeInput(toRemove);
 							this.maxConsumptionTicks = this.consumptionTicks = this.currentRecipe.getConsumptionDuration(this.currentRecipeContext, this);
 						}
 					}
@@ -476,6 +469,30 @@ public class TileEntityCenser extends TileEntityBasicInventory implements IFluid
 				this.effectStrength = 0.0F;
 			}
 		}
+
+		if(!this.world.isRemote && !this.isRecipeRunning && this.canSleep()) {
+			TileSleepHandler.requestSleep(this);
+		}
+	}
+
+	@Override
+	public boolean canSleep() {
+		if(this.isRecipeRunning || this.fuelTicks > 0 || this.checkInternalSlotForRecipes || this.checkInputSlotForTransfer || this.internalSlotChanged ||
+				this.effectStrength > 0.0F || this.dungeonFogStrength > 0.0F) {
+			return false;
+		}
+
+		if(this.currentRecipe != null) {
+			//Recipe would start consuming fuel
+			ItemStack fuelStack = this.getStackInSlot(ContainerCenser.SLOT_FUEL);
+			IBlockState state = this.world.getBlockState(this.pos);
+			boolean isDisabled = state.getBlock() instanceof BlockCenser && !state.getValue(BlockCenser.ENABLED);
+			if(!isDisabled && this.isFilled() && !fuelStack.isEmpty() && TileEntityFurnace.isItemFuel(fuelStack)) {
+				return false;
+			}
+		}
+
+		return true;
 	}
 
 	protected boolean canRecipeRun(boolean isFluidRecipe, ICenserRecipe<?> recipe) {
@@ -506,6 +523,7 @@ public class TileEntityCenser extends TileEntityBasicInventory implements IFluid
 		return !getStackInSlot(ContainerCenser.SLOT_FUEL).isEmpty() && EnumItemMisc.SULFUR.isItemOf(getStackInSlot(ContainerCenser.SLOT_FUEL)) && getStackInSlot(ContainerCenser.SLOT_FUEL).getCount() >= 1;
 	}
 
+	@Override
 	@Nullable
 	public ICenserRecipe<Object> getCurrentRecipe() {
 		return this.currentRecipe;
@@ -516,6 +534,20 @@ public class TileEntityCenser extends TileEntityBasicInventory implements IFluid
 		return this.currentRecipeContext;
 	}
 
+	@Override
+	public void consumeInput(int amount) {
+		if(this.isFluidRecipe) {
+			this.fluidTank.drainInternal(amount, true);
+			this.checkInputSlotForTransfer = true;
+		} else {
+			this.remainingItemAmount = Math.max(0, this.remainingItemAmount - amount);
+			if(this.remainingItemAmount <= 0) {
+				this.setInventorySlotContents(ContainerCenser.SLOT_INTERNAL, ItemStack.EMPTY);
+			}
+		}
+		this.markDirty();
+	}
+
 	@Override
 	public int getCurrentRemainingInputAmount() {
 		return this.isFluidRecipe ? this.fluidTank.getFluidAmount() : this.remainingItemAmount;
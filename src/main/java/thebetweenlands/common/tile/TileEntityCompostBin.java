@@ -12,13 +12,14 @@ import net.minecraft.util.NonNullList;
 import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.items.ItemStackHandler;
 import thebetweenlands.api.recipes.ICompostBinRecipe;
+import thebetweenlands.common.handler.TileSleepHandler;
 import thebetweenlands.common.item.misc.ItemMisc.EnumItemMisc;
 import thebetweenlands.common.recipe.misc.CompostRecipe;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-public class TileEntityCompostBin extends TileEntityBasicInventory implements ITickable {
+public class TileEntityCompostBin extends TileEntityBasicInventory implements ITickable, ISleepableTile {
     public static final int COMPOST_PER_ITEM = 25;
     public static final int MAX_COMPOST_AMOUNT = COMPOST_PER_ITEM * 16;
     public static final int MAX_ITEMS = 20;
@@ -79,6 +80,7 @@ public class TileEntityCompostBin extends TileEntityBasicInventory implements IT
      * @param open
      */
     public void setOpen(boolean open) {
+        TileSleepHandler.wake(this);
         this.open = open;
     }
 
@@ -118,6 +120,57 @@ public class TileEntityCompostBin extends TileEntityBasicInventory implements IT
                     this.compostTimes[i] = 0;
                 }
             }
+
+            if (this.canSleep()) {
+                TileSleepHandler.requestSleep(this);
+            }
+        }
+    }
+
+    @Override
+    public boolean canSleep() {
+        if (this.lidAngle != (this.open ? MAX_OPEN : MIN_OPEN)) {
+            return false;
+        }
+
+        for (int i = 1; i < this.inventory.size(); i++) {
+            if (this.getStackInSlot(i - 1).isEmpty() && !this.getStackInSlot(i).isEmpty()) {
+                return false;
+            }
+        }
+
+        int delay = this.getWakeUpDelay();
+        return delay < 0 || delay > 1;
+    }
+
+    @Override
+    public int getWakeUpDelay() {
+        int delay = -1;
+
+        if (!this.open) {
+            //Wake up when the next item finishes composting
+            for (int i = 0; i < this.inventory.size(); i++) {
+                if (!this.getStackInSlot(i).isEmpty()) {
+                    int remaining = Math.max(0, this.compostTimes[i] - this.processes[i]);
+                    if (delay < 0 || remaining < delay) {
+                        delay = remaining;
+                    }
+                }
+            }
+        }
+
+        return delay;
+    }
+
+    @Override
+    public void onWakeUp(int sleptTicks) {
+        if (!this.open) {
+            //Catch up on the composting progress that was skipped while sleeping
+            for (int i = 0; i < this.inventory.size(); i++) {
+                if (!this.getStackInSlot(i).isEmpty()) {
+                    this.processes[i] = Math.min(this.processes[i] + sleptTicks, Math.max(this.processes[i], this.compostTimes[i]));
+                }
+            }
         }
     }
 
@@ -41,6 +41,7 @@ import thebetweenlands.client.render.particle.BatchedParticleRenderer;
 import thebetweenlands.client.render.particle.DefaultParticleBatches;
 import thebetweenlands.client.render.particle.ParticleFactory;
 import thebetweenlands.client.render.particle.entity.ParticleGasCloud;
+import thebetweenlands.common.TheBetweenlands;
 import thebetweenlands.common.entity.EntityRootGrabber;
 import thebetweenlands.common.entity.EntityShockwaveBlock;
 import thebetweenlands.common.entity.EntityTriggeredSludgeWallJet;
@@ -641,6 +642,28 @@ public class TileEntityDecayPitControl extends TileEntity implements ITickable,
 			shaking = true;
 	}
 
+	@Override
+	public void onLoad() {
+		if(this.world.isRemote) {
+			TheBetweenlands.proxy.onClientTileLoaded(this);
+		}
+	}
+
+	@Override
+	public void invalidate() {
+		super.invalidate();
+		if(this.world != null && this.world.isRemote) {
+			TheBetweenlands.proxy.onClientTileUnloaded(this);
+		}
+	}
+
+	@Override
+	public void onChunkUnload() {
+		if(this.world.isRemote) {
+			TheBetweenlands.proxy.onClientTileUnloaded(this);
+		}
+	}
+
 	@Override
 	public float getShakeIntensity(Entity viewer, float partialTicks) {
 		if(isShaking()) {
@@ -38,6 +38,12 @@ public class TileEntityDraetonFurnace extends TileEntityBLFurnace {
 		//no-op
 	}
 
+	@Override
+	public boolean canSleep() {
+		//Ticked by the draeton
+		return false;
+	}
+
 	@Override
 	protected void updateState(boolean active) {
 		//TE is on draeton, don't set block
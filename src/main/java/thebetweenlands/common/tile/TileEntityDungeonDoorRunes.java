@@ -24,6 +24,7 @@ import net.minecraft.util.math.MathHelper;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import thebetweenlands.api.entity.IEntityScreenShake;
+import thebetweenlands.common.TheBetweenlands;
 import thebetweenlands.common.block.structure.BlockDungeonDoorRunes;
 import thebetweenlands.common.entity.mobs.EntityBarrishee;
 import thebetweenlands.common.entity.mobs.EntityCryptCrawler;
@@ -602,6 +603,28 @@ public class TileEntityDungeonDoorRunes extends TileEntity implements ITickable,
 		readFromNBT(packet.getNbtCompound());
 	}
 
+	@Override
+	public void onLoad() {
+		if(this.world.isRemote) {
+			TheBetweenlands.proxy.onClientTileLoaded(this);
+		}
+	}
+
+	@Override
+	public void invalidate() {
+		super.invalidate();
+		if(this.world != null && this.world.isRemote) {
+			TheBetweenlands.proxy.onClientTileUnloaded(this);
+		}
+	}
+
+	@Override
+	public void onChunkUnload() {
+		if(this.world.isRemote) {
+			TheBetweenlands.proxy.onClientTileUnloaded(this);
+		}
+	}
+
 	@Override
 	public float getShakeIntensity(Entity viewer, float partialTicks) {
 		if(isShaking()) {
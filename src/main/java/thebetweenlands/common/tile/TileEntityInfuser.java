@@ -28,6 +28,7 @@ import thebetweenlands.api.aspect.IAspectType;
 import thebetweenlands.api.aspect.ItemAspectContainer;
 import thebetweenlands.client.render.particle.BLParticles;
 import thebetweenlands.common.entity.mobs.EntityGasCloud;
+import thebetweenlands.common.handler.TileSleepHandler;
 import thebetweenlands.common.herblore.aspect.AspectManager;
 import thebetweenlands.common.herblore.elixir.ElixirRecipe;
 import thebetweenlands.common.herblore.elixir.ElixirRecipes;
@@ -36,7 +37,7 @@ import thebetweenlands.common.registries.ItemRegistry;
 import thebetweenlands.common.registries.SoundRegistry;
 
 //TODO: Send resulting elixir recipe with the NBT
-public class TileEntityInfuser extends TileEntityBasicInventory implements IFluidHandler, ITickable {
+public class TileEntityInfuser extends TileEntityBasicInventory implements IFluidHandler, ITickable, ISleepableTile {
 	public static final int MAX_INGREDIENTS = 6;
 
 	public final FluidTank waterTank;
@@ -313,6 +314,19 @@ public class TileEntityInfuser extends TileEntityBasicInventory implements IFlui
 				this.markForUpdate();
 			}
 		}
+		if (this.canSleep()) {
+			TileSleepHandler.requestSleep(this);
+		}
+	}
+
+	@Override
+	public boolean canSleep() {
+		if (this.updateRecipe || this.hasInfusion || this.temp != 0 || this.evaporation != 0 || this.stirProgress < 90 ||
+				this.infusionColorGradientTicks != 0 || this.currentInfusionState != 0 || this.hasCrystal != this.isValidCrystalInstalled()) {
+			return false;
+		}
+		//Heating up, wakes up again when the block below changes
+		return this.getWaterAmount() <= 0 || this.world.getBlockState(this.pos.down()).getBlock() != Blocks.FIRE;
 	}
 
 	/**
@@ -537,6 +551,7 @@ public class TileEntityInfuser extends TileEntityBasicInventory implements IFlui
 	}
 
 	public void setStirProgress(int progress) {
+		TileSleepHandler.wake(this);
 		this.stirProgress = progress;
 	}
 
@@ -11,12 +11,13 @@ import net.minecraft.network.play.server.SPacketUpdateTileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.ITickable;
 import net.minecraft.util.SoundCategory;
+import thebetweenlands.common.handler.TileSleepHandler;
 import thebetweenlands.common.inventory.container.ContainerMortar;
 import thebetweenlands.common.recipe.misc.PestleAndMortarRecipe;
 import thebetweenlands.common.registries.ItemRegistry;
 import thebetweenlands.common.registries.SoundRegistry;
 
-public class TileEntityMortar extends TileEntityBasicInventory implements ITickable {
+public class TileEntityMortar extends TileEntityBasicInventory implements ITickable, ISleepableTile {
 
     public int progress;
     public boolean hasPestle;
@@ -125,6 +126,24 @@ public class TileEntityMortar extends TileEntityBasicInventory implements ITicka
             hasCrystal = false;
             world.notifyBlockUpdate(getPos(), world.getBlockState(pos), world.getBlockState(pos), 3);
         }
+        if (canSleep()) {
+            TileSleepHandler.requestSleep(this);
+        }
+    }
+
+    @Override
+    public boolean canSleep() {
+        if (progress != 0 || manualGrinding || hasPestle != pestleInstalled() || hasCrystal != isCrystalInstalled()) {
+            return false;
+        }
+        ItemStack pestle = getStackInSlot(1);
+        if (!pestle.isEmpty() && pestle.hasTagCompound() && pestle.getTagCompound().getBoolean("active")) {
+            return false;
+        }
+        ItemStack output = PestleAndMortarRecipe.getResult(inventory.get(0));
+        boolean canGrind = pestleInstalled() && !outputIsFull() && isCrystalInstalled() && getStackInSlot(3).getItemDamage() < getStackInSlot(3).getMaxDamage() &&
+                !output.isEmpty() && (inventory.get(2).isEmpty() || (inventory.get(2).isItemEqual(output) && inventory.get(2).getCount() + output.getCount() <= output.getMaxStackSize()));
+        return !canGrind;
     }
 
     public boolean pestleInstalled() {
@@ -18,13 +18,14 @@ import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
 import net.minecraftforge.fluids.capability.FluidTankPropertiesWrapper;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidTankProperties;
+import thebetweenlands.common.handler.TileSleepHandler;
 import thebetweenlands.common.inventory.container.ContainerPurifier;
 import thebetweenlands.common.item.misc.ItemMisc.EnumItemMisc;
 import thebetweenlands.common.recipe.purifier.PurifierRecipe;
 import thebetweenlands.common.registries.FluidRegistry;
 import thebetweenlands.common.registries.SoundRegistry;
 
-public class TileEntityPurifier extends TileEntityBasicInventory implements IFluidHandler, ITickable {
+public class TileEntityPurifier extends TileEntityBasicInventory implements IFluidHandler, ITickable, ISleepableTile {
     private static final int MAX_TIME = 432;
     public final FluidTank waterTank;
     private final IFluidTankProperties[] properties = new IFluidTankProperties[1];
@@ -186,6 +187,20 @@ public class TileEntityPurifier extends TileEntityBasicInventory implements IFlu
         }
         this.prevItem = !inventory.get(2).isEmpty() ? inventory.get(2).getItem() : null;
         this.prevStackSize = !inventory.get(2).isEmpty() ? inventory.get(2).getCount() : 0;
+
+        if (canSleep()) {
+            TileSleepHandler.requestSleep(this);
+        }
+    }
+
+    @Override
+    public boolean canSleep() {
+        if (time != 0 || lightOn) {
+            return false;
+        }
+        ItemStack output = PurifierRecipe.getRecipeOutput(inventory.get(1));
+        boolean canRun = hasFuel() && !outputIsFull() && !output.isEmpty() && getWaterAmount() > 0 && (inventory.get(2).isEmpty() || inventory.get(2).isItemEqual(output));
+        return !canRun;
     }
 
     private void extractFluids(FluidStack fluid) {
@@ -22,8 +22,10 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import thebetweenlands.api.entity.IBLBoss;
 import thebetweenlands.common.entity.mobs.EntityWight;
+import thebetweenlands.common.handler.AreaEffectHandler;
+import thebetweenlands.common.world.IAreaEffect;
 
-public class TileEntityRepeller extends TileEntity implements ITickable {
+public class TileEntityRepeller extends TileEntity implements ITickable, IAreaEffect<Entity> {
 	private static final float MAX_RADIUS = 18.0F;
 	private static final int DEPLOY_TIME = 80;
 
@@ -149,72 +151,6 @@ public class TileEntityRepeller extends TileEntity implements ITickable {
 				this.fuel = 0;
 				IBlockState blockState = this.world.getBlockState(this.pos);
 				this.world.notifyBlockUpdate(this.pos, blockState, blockState, 3);
-				this.markDirty();
-			} else {
-				float fuelCost = 0;
-				double centerX = this.pos.getX() + 0.5F;
-				double centerY = this.pos.getY() + 1.15F;
-				double centerZ = this.pos.getZ() + 0.5F;
-				AxisAlignedBB affectedBB = new AxisAlignedBB(this.pos.getX() - this.radius - 5.0F, this.pos.getY() - this.radius - 5.0F, this.pos.getZ() - this.radius - 5.0F, this.pos.getX() + this.radius + 5.0F, this.pos.getY() + this.radius + 5.0F, this.pos.getZ() + this.radius + 5.0F);
-				List<Entity> affectedEntities = this.world.getEntitiesWithinAABB(Entity.class, affectedBB);
-				for(Entity entity : affectedEntities) {
-					if(entity instanceof IMob && entity instanceof EntityWight == false && entity instanceof IBLBoss == false) {
-						Vec3d closestPoint = this.getClosestAABBCorner(entity.getEntityBoundingBox(), centerX, centerY, centerZ);
-						if(closestPoint.squareDistanceTo(centerX, centerY, centerZ) < this.radius*this.radius) {
-							double diffX = entity.posX - centerX;
-							double diffY = entity.posY - centerY;
-							double diffZ = entity.posZ - centerZ;
-							entity.move(MoverType.PISTON, diffX*0.1F, 0.0F, diffZ*0.1F);
-							double len = Math.sqrt(diffX*diffX + diffY*diffY + diffZ*diffZ);
-							double speed = (this.radius - len) / this.radius * 1.5F + 0.5F;
-							entity.motionX = (float)(diffX / len) * speed;
-							entity.motionZ = (float)(diffZ / len) * speed;
-							if(entity instanceof EntityLivingBase) {
-								((EntityLivingBase)entity).addPotionEffect(new PotionEffect(MobEffects.SLOWNESS, 10, 6));
-							}
-							if(!entity.collidedHorizontally) {
-								fuelCost += 0.00028F * (this.radiusState / 1.5F + 1);
-							}
-						}
-					}
-					if(entity instanceof IProjectile || entity instanceof EntityFireball) {
-						Vec3d closestPoint = this.getClosestAABBCorner(entity.getEntityBoundingBox(), centerX, centerY, centerZ);
-						if(closestPoint.squareDistanceTo(centerX, centerY, centerZ) < this.radius*this.radius) {
-							double velocity = Math.sqrt(entity.motionX*entity.motionX + entity.motionY*entity.motionY + entity.motionZ*entity.motionZ);
-							double diffX = entity.posX - centerX;
-							double diffY = entity.posY - centerY;
-							double diffZ = entity.posZ - centerZ;
-							double len = Math.sqrt(diffX*diffX + diffY*diffY + diffZ*diffZ);
-							entity.move(MoverType.PISTON, diffX*0.1F, 0.0F, diffZ*0.1F);
-							entity.motionX = (float)(diffX / len) * velocity;
-							entity.motionY = (float)(diffY / len) * velocity;
-							entity.motionZ = (float)(diffZ / len) * velocity;
-							if(entity instanceof IProjectile) {
-								((IProjectile)entity).shoot(diffX / len, diffY / len, diffZ / len, 1.0F, 1.0F);
-							}
-							entity.velocityChanged = true;
-							if(!entity.collidedHorizontally && !entity.collidedVertically && !entity.onGround) {
-								fuelCost += 0.0004F * (this.radiusState / 1.5F + 1);
-							}
-						}
-					}
-				}
-
-				boolean fuelConsumed = false;
-				
-				//Limit fuel cost per tick
-				this.accumulatedCost += Math.min(fuelCost, 0.00125F) * 1000;
-				while(this.accumulatedCost > 1.0F) {
-					this.accumulatedCost -= 1.0F;
-					this.fuel--;
-					fuelConsumed = true;
-				}
-
-				if(fuelConsumed) {
-					IBlockState blockState = this.world.getBlockState(this.pos);
-					this.world.notifyBlockUpdate(this.pos, blockState, blockState, 3);
-				}
-				
 				this.markDirty();
 			}
 		} else {
@@ -248,6 +184,110 @@ public class TileEntityRepeller extends TileEntity implements ITickable {
 		}
 	}
 
+	@Override
+	public void onLoad() {
+		if(!this.world.isRemote) {
+			AreaEffectHandler.register(this.world, this);
+		}
+	}
+
+	@Override
+	public void invalidate() {
+		super.invalidate();
+		AreaEffectHandler.unregister(this.world, this);
+	}
+
+	@Override
+	public void onChunkUnload() {
+		super.onChunkUnload();
+		AreaEffectHandler.unregister(this.world, this);
+	}
+
+	@Override
+	public Class<Entity> getAffectedEntityType() {
+		return Entity.class;
+	}
+
+	@Override
+	public AxisAlignedBB getEffectArea() {
+		if(this.fuel < 0 || this.radius <= 0.0F) {
+			return null;
+		}
+		return new AxisAlignedBB(this.pos.getX() - this.radius - 5.0F, this.pos.getY() - this.radius - 5.0F, this.pos.getZ() - this.radius - 5.0F, this.pos.getX() + this.radius + 5.0F, this.pos.getY() + this.radius + 5.0F, this.pos.getZ() + this.radius + 5.0F);
+	}
+
+	@Override
+	public boolean isEffectValid() {
+		return !this.isInvalid();
+	}
+
+	@Override
+	public void applyEffect(List<Entity> entities) {
+		float fuelCost = 0;
+		double centerX = this.pos.getX() + 0.5F;
+		double centerY = this.pos.getY() + 1.15F;
+		double centerZ = this.pos.getZ() + 0.5F;
+		for(Entity entity : entities) {
+			if(entity instanceof IMob && entity instanceof EntityWight == false && entity instanceof IBLBoss == false) {
+				Vec3d closestPoint = this.getClosestAABBCorner(entity.getEntityBoundingBox(), centerX, centerY, centerZ);
+				if(closestPoint.squareDistanceTo(centerX, centerY, centerZ) < this.radius*this.radius) {
+					double diffX = entity.posX - centerX;
+					double diffY = entity.posY - centerY;
+					double diffZ = entity.posZ - centerZ;
+					entity.move(MoverType.PISTON, diffX*0.1F, 0.0F, diffZ*0.1F);
+					double len = Math.sqrt(diffX*diffX + diffY*diffY + diffZ*diffZ);
+					double speed = (this.radius - len) / this.radius * 1.5F + 0.5F;
+					entity.motionX = (float)(diffX / len) * speed;
+					entity.motionZ = (float)(diffZ / len) * speed;
+					if(entity instanceof EntityLivingBase) {
+						((EntityLivingBase)entity).addPotionEffect(new PotionEffect(MobEffects.SLOWNESS, 10, 6));
+					}
+					if(!entity.collidedHorizontally) {
+						fuelCost += 0.00028F * (this.radiusState / 1.5F + 1);
+					}
+				}
+			}
+			if(entity instanceof IProjectile || entity instanceof EntityFireball) {
+				Vec3d closestPoint = this.getClosestAABBCorner(entity.getEntityBoundingBox(), centerX, centerY, centerZ);
+				if(closestPoint.squareDistanceTo(centerX, centerY, centerZ) < this.radius*this.radius) {
+					double velocity = Math.sqrt(entity.motionX*entity.motionX + entity.motionY*entity.motionY + entity.motionZ*entity.motionZ);
+					double diffX = entity.posX - centerX;
+					double diffY = entity.posY - centerY;
+					double diffZ = entity.posZ - centerZ;
+					double len = Math.sqrt(diffX*diffX + diffY*diffY + diffZ*diffZ);
+					entity.move(MoverType.PISTON, diffX*0.1F, 0.0F, diffZ*0.1F);
+					entity.motionX = (float)(diffX / len) * velocity;
+					entity.motionY = (float)(diffY / len) * velocity;
+					entity.motionZ = (float)(diffZ / len) * velocity;
+					if(entity instanceof IProjectile) {
+						((IProjectile)entity).shoot(diffX / len, diffY / len, diffZ / len, 1.0F, 1.0F);
+					}
+					entity.velocityChanged = true;
+					if(!entity.collidedHorizontally && !entity.collidedVertically && !entity.onGround) {
+						fuelCost += 0.0004F * (this.radiusState / 1.5F + 1);
+					}
+				}
+			}
+		}
+
+		boolean fuelConsumed = false;
+
+		//Limit fuel cost per tick
+		this.accumulatedCost += Math.min(fuelCost, 0.00125F) * 1000;
+		while(this.accumulatedCost > 1.0F) {
+			this.accumulatedCost -= 1.0F;
+			this.fuel--;
+			fuelConsumed = true;
+		}
+
+		if(fuelConsumed) {
+			IBlockState blockState = this.world.getBlockState(this.pos);
+			this.world.notifyBlockUpdate(this.pos, blockState, blockState, 3);
+		}
+
+		this.markDirty();
+	}
+
 	protected Vec3d getClosestAABBCorner(AxisAlignedBB bb, double centerX, double centerY, double centerZ) {
 		Vec3d center = new Vec3d(centerX, centerY, centerZ);
 		Vec3d closest = null;
@@ -16,9 +16,10 @@ import net.minecraftforge.fluids.capability.FluidTankPropertiesWrapper;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidTankProperties;
 import thebetweenlands.common.block.misc.BlockRubberTap;
+import thebetweenlands.common.handler.TileSleepHandler;
 import thebetweenlands.common.registries.FluidRegistry;
 
-public class TileEntityRubberTap extends TileEntity implements IFluidHandler, ITickable {
+public class TileEntityRubberTap extends TileEntity implements IFluidHandler, ITickable, ISleepableTile {
 	private final FluidTank tank;
 
 	private final IFluidTankProperties[] properties = new IFluidTankProperties[1];
@@ -48,7 +49,43 @@ public class TileEntityRubberTap extends TileEntity implements IFluidHandler, IT
 					this.markDirty();
 				}
 			}
+
+			if(this.canSleep()) {
+				TileSleepHandler.requestSleep(this);
+			}
+		}
+	}
+
+	@Override
+	public boolean canSleep() {
+		int delay = this.getWakeUpDelay();
+		return this.getBlockType() instanceof BlockRubberTap && (delay < 0 || delay > 1);
+	}
+
+	@Override
+	public int getWakeUpDelay() {
+		FluidStack drained = this.tank.drain(Fluid.BUCKET_VOLUME, false);
+		if(drained == null || drained.amount < Fluid.BUCKET_VOLUME) {
+			//Wake up for the next fill step
+			return Math.max(0, ((BlockRubberTap)this.getBlockType()).ticksPerStep - this.fillProgress - 1);
 		}
+		return -1;
+	}
+
+	@Override
+	public void onWakeUp(int sleptTicks) {
+		if(this.getBlockType() instanceof BlockRubberTap) {
+			FluidStack drained = this.tank.drain(Fluid.BUCKET_VOLUME, false);
+			if(drained == null || drained.amount < Fluid.BUCKET_VOLUME) {
+				this.fillProgress = Math.min(this.fillProgress + sleptTicks, Math.max(this.fillProgress, ((BlockRubberTap)this.getBlockType()).ticksPerStep - 1));
+			}
+		}
+	}
+
+	@Override
+	public void markDirty() {
+		super.markDirty();
+		TileSleepHandler.wake(this);
 	}
 
 	@Override
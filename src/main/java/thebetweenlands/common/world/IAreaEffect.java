@@ -0,0 +1,45 @@
+package thebetweenlands.common.world;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.AxisAlignedBB;
+import thebetweenlands.common.handler.AreaEffectHandler;
+
+/**
+ * An effect that is applied to all entities within an area, e.g. the field of a repeller.
+ * Area effects are registered once with the {@link AreaEffectHandler} and are then applied
+ * once per tick with the entities that were gathered for all area effects of the world in a single pass.
+ * @param <T> Type of the affected entities
+ */
+public interface IAreaEffect<T extends Entity> {
+	/**
+	 * Returns the type of entities that are affected by this area effect
+	 * @return
+	 */
+	public Class<T> getAffectedEntityType();
+
+	/**
+	 * Returns the area of this effect for the current tick, or null if the effect is currently inactive
+	 * @return
+	 */
+	@Nullable
+	public AxisAlignedBB getEffectArea();
+
+	/**
+	 * Applies the effect to the entities that intersect with the effect area.
+	 * Called once per tick at the end of the world tick while the effect is active, even if there are no affected entities.
+	 * @param entities
+	 */
+	public void applyEffect(List<T> entities);
+
+	/**
+	 * Returns whether this area effect is still valid. Invalid area effects are removed automatically
+	 * @return
+	 */
+	public default boolean isEffectValid() {
+		return true;
+	}
+}
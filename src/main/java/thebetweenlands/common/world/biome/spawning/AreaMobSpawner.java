@@ -402,11 +402,25 @@ public abstract class AreaMobSpawner {
 		float loadedAreas = Math.max(1.0f, this.getLoadedAreasCount(spawnerChunks.size()));
 
 		for(ChunkPos chunkPos : spawnerChunks) {
+			if(!this.canPopulateNextChunk(world)) {
+				//The remaining chunks get their chance in one of the next passes
+				break;
+			}
 			this.populateChunk(world, chunkPos, spawnHostiles, spawnAnimals, true, false, 
 					this.getSpawningAttempsPerChunk(), this.getMaxSpawnsPerChunk(), this.getSpawningAttemptsPerGroup(), maxEntitiesForLoadedArea, loadedAreas);
 		}
 	}
 
+	/**
+	 * Returns whether the current {@link #populate(WorldServer, boolean, boolean)} pass may populate another chunk.
+	 * The chunks are populated in random order, so chunks that are skipped are likely populated in the next pass
+	 * @param world
+	 * @return
+	 */
+	protected boolean canPopulateNextChunk(WorldServer world) {
+		return true;
+	}
+
 	public int populateChunk(World world, ChunkPos chunkPos, boolean spawnHostiles, boolean spawnAnimals, boolean loadChunks, boolean ignoreRestrictions,
 			int attemptsPerChunk, int maxSpawnsPerChunk, int attemptsPerGroup, int entityLimit, float loadedAreas) {
 		loadedAreas = Math.max(1.0f, loadedAreas);
@@ -23,12 +23,17 @@ import net.minecraftforge.fml.common.gameevent.TickEvent.ServerTickEvent;
 import thebetweenlands.api.entity.spawning.IBiomeSpawnEntriesData;
 import thebetweenlands.api.entity.spawning.ICustomSpawnEntriesProvider;
 import thebetweenlands.common.config.BetweenlandsConfig;
+import thebetweenlands.common.handler.TickBudgetHandler;
+import thebetweenlands.common.metrics.LatencyHistogram;
+import thebetweenlands.common.metrics.Metrics;
 import thebetweenlands.common.world.WorldProviderBetweenlands;
 import thebetweenlands.common.world.storage.BetweenlandsWorldStorage;
 
 public class WorldMobSpawner extends AreaMobSpawner {
 	public static final WorldMobSpawner INSTANCE = new WorldMobSpawner();
 
+	private static final LatencyHistogram SPAWN_PASS_TIME = Metrics.histogram("spawner.pass");
+
 	//How many times a chunk should be populated with mobs when it generates
 	private static final int CHUNK_GEN_SPAWN_RUNS = 10;
 
@@ -162,19 +167,30 @@ public class WorldMobSpawner extends AreaMobSpawner {
 				boolean spawnHostiles = ((WorldProviderBetweenlands)world.provider).getCanSpawnHostiles();
 				boolean spawnAnimals = ((WorldProviderBetweenlands)world.provider).getCanSpawnAnimals();
 
-				//long start = System.nanoTime();
+				TickBudgetHandler.begin(TickBudgetHandler.Subsystem.MOB_SPAWNER);
+
+				long start = Metrics.startTimer();
 				this.firstSpawnPass = true;
 				this.populate(world, spawnHostiles, spawnAnimals);
-				
+				SPAWN_PASS_TIME.recordSince(start);
+
+				start = Metrics.startTimer();
 				this.firstSpawnPass = false;
 				this.populate(world, spawnHostiles, spawnAnimals);
+				SPAWN_PASS_TIME.recordSince(start);
 				
 				this.firstSpawnPass = false;
-				//System.out.println("Time: " + (System.nanoTime() - start) / 1000000.0F);
+
+				TickBudgetHandler.end(TickBudgetHandler.Subsystem.MOB_SPAWNER);
 			}
 		}
 	}
 
+	@Override
+	protected boolean canPopulateNextChunk(WorldServer world) {
+		return TickBudgetHandler.hasBudget(TickBudgetHandler.Subsystem.MOB_SPAWNER, world);
+	}
+
 	public void populateChunk(WorldServer world, int chunkX, int chunkZ) {
 		if(world == null || world.provider.getDimension() != BetweenlandsConfig.WORLD_AND_DIMENSION.dimensionId)
 			return;
@@ -24,10 +24,11 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import thebetweenlands.api.event.AddRainParticlesEvent;
 import thebetweenlands.client.render.particle.BLParticles;
-import thebetweenlands.client.render.particle.BatchedParticleRenderer;
 import thebetweenlands.client.render.particle.DefaultParticleBatches;
 import thebetweenlands.client.render.particle.ParticleFactory.ParticleArgs;
 import thebetweenlands.client.render.sky.BLRainRenderer;
+import thebetweenlands.common.handler.TickBudgetHandler;
+import thebetweenlands.common.handler.TickBudgetHandler.Subsystem;
 import thebetweenlands.common.lib.ModInfo;
 import thebetweenlands.common.registries.BlockRegistry;
 import thebetweenlands.common.world.WorldProviderBetweenlands;
@@ -36,6 +37,8 @@ import thebetweenlands.common.world.storage.BetweenlandsWorldStorage;
 public class EventHeavyRain extends TimedEnvironmentEvent {
 	public static final ResourceLocation ID = new ResourceLocation(ModInfo.ID, "heavy_rain");
 
+	private final TickBudgetHandler.ChunkPass puddlePass = new TickBudgetHandler.ChunkPass();
+
 	public EventHeavyRain(BLEnvironmentEventRegistry registry) {
 		super(registry);
 	}
@@ -69,10 +72,10 @@ public class EventHeavyRain extends TimedEnvironmentEvent {
 			this.setActive(false);
 		}
 
-		if(this.isActive() && world.provider instanceof WorldProviderBetweenlands && world.rand.nextInt(20) == 0) {
+		if(this.isActive() && world.provider instanceof WorldProviderBetweenlands && (this.puddlePass.isPending() || world.rand.nextInt(20) == 0)) {
 			if(!world.isRemote && world instanceof WorldServer) {
 				WorldServer worldServer = (WorldServer)world;
-				for (Iterator<Chunk> iterator = worldServer.getPersistentChunkIterable(worldServer.getPlayerChunkMap().getChunkIterator()); iterator.hasNext(); ) {
+				for (Iterator<Chunk> iterator = this.puddlePass.iterate(worldServer, Subsystem.ENVIRONMENT_EVENTS); iterator.hasNext(); ) {
 					Chunk chunk = iterator.next();
 					if(world.rand.nextInt(4) == 0) {
 						int cbx = world.rand.nextInt(16);
@@ -155,12 +158,8 @@ public class EventHeavyRain extends TimedEnvironmentEvent {
 											.withColor(r, g, b + 0.075f, 1));
 								}
 
-								BatchedParticleRenderer.INSTANCE.addParticle(DefaultParticleBatches.TRANSLUCENT_NEAREST_NEIGHBOR,
-										BLParticles.WATER_RIPPLE.create(world, (double)below.getX() + rx, (double)((float)below.getY() + 0.1F) + blockAABB.maxY, (double)below.getZ() + rz,
-												ParticleArgs.get()
-												.withScale(size * 10)
-												.withColor(r * 1.15f, g * 1.15f, b * 1.15f, 1)
-												));
+								DefaultParticleBatches.WATER_RIPPLES.add(world, (double)below.getX() + rx, (double)((float)below.getY() + 0.1F) + blockAABB.maxY, (double)below.getZ() + rz,
+										0, 0, 0, size * 10, r * 1.15f, g * 1.15f, b * 1.15f, 1, DefaultParticleBatches.WATER_RIPPLES.getAnimationDuration() - 1);
 
 								spawnedParticles++;
 
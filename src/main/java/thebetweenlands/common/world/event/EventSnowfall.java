@@ -19,6 +19,8 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import thebetweenlands.client.render.sky.BLSnowRenderer;
 import thebetweenlands.common.block.terrain.BlockSnowBetweenlands;
+import thebetweenlands.common.handler.TickBudgetHandler;
+import thebetweenlands.common.handler.TickBudgetHandler.Subsystem;
 import thebetweenlands.common.lib.ModInfo;
 import thebetweenlands.common.network.datamanager.GenericDataManager;
 import thebetweenlands.common.registries.BlockRegistry;
@@ -30,6 +32,8 @@ public class EventSnowfall extends TimedEnvironmentEvent {
 	private float snowingStrength = 0.0F;
 	protected static final DataParameter<Float> TARGET_SNOWING_STRENGTH = GenericDataManager.createKey(EventSnowfall.class, DataSerializers.FLOAT);
 
+	private final TickBudgetHandler.ChunkPass snowPass = new TickBudgetHandler.ChunkPass();
+
 	public EventSnowfall(BLEnvironmentEventRegistry registry) {
 		super(registry);
 	}
@@ -89,9 +93,9 @@ public class EventSnowfall extends TimedEnvironmentEvent {
 				this.setActive(false);
 			}
 
-			if (this.isActive() && world.provider instanceof WorldProviderBetweenlands && world instanceof WorldServer && world.rand.nextInt(5) == 0) {
+			if (this.isActive() && world.provider instanceof WorldProviderBetweenlands && world instanceof WorldServer && (this.snowPass.isPending() || world.rand.nextInt(5) == 0)) {
 				WorldServer worldServer = (WorldServer) world;
-				for (Iterator<Chunk> iterator = worldServer.getPersistentChunkIterable(worldServer.getPlayerChunkMap().getChunkIterator()); iterator.hasNext();) {
+				for (Iterator<Chunk> iterator = this.snowPass.iterate(worldServer, Subsystem.ENVIRONMENT_EVENTS); iterator.hasNext();) {
 					Chunk chunk = iterator.next();
 					int cbx = world.rand.nextInt(16);
 					int cbz = world.rand.nextInt(16);
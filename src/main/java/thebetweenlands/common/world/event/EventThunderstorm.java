@@ -16,6 +16,8 @@ import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
 import thebetweenlands.common.entity.EntityBLLightningBolt;
+import thebetweenlands.common.handler.TickBudgetHandler;
+import thebetweenlands.common.handler.TickBudgetHandler.Subsystem;
 import thebetweenlands.common.lib.ModInfo;
 import thebetweenlands.common.world.WorldProviderBetweenlands;
 
@@ -24,6 +26,8 @@ public class EventThunderstorm extends TimedEnvironmentEvent {
 
 	public static final ResourceLocation ID = new ResourceLocation(ModInfo.ID, "thunderstorm");
 
+	private final TickBudgetHandler.ChunkPass lightningPass = new TickBudgetHandler.ChunkPass();
+
 	public EventThunderstorm(BLEnvironmentEventRegistry registry) {
 		super(registry);
 	}
@@ -49,7 +53,7 @@ public class EventThunderstorm extends TimedEnvironmentEvent {
 
 			if(this.isActive() && world.provider instanceof WorldProviderBetweenlands && world instanceof WorldServer) {
 				WorldServer worldServer = (WorldServer)world;
-				for (Iterator<Chunk> iterator = worldServer.getPersistentChunkIterable(worldServer.getPlayerChunkMap().getChunkIterator()); iterator.hasNext(); ) {
+				for (Iterator<Chunk> iterator = this.lightningPass.iterate(worldServer, Subsystem.ENVIRONMENT_EVENTS); iterator.hasNext(); ) {
 					Chunk chunk = iterator.next();
 					if(world.provider.canDoLightning(chunk) && world.rand.nextInt(2500) == 0) {
 						this.updateLCG = this.updateLCG * 3 + 1013904223;
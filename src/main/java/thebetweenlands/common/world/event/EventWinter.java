@@ -29,6 +29,8 @@ import thebetweenlands.api.misc.FogState;
 import thebetweenlands.common.TheBetweenlands;
 import thebetweenlands.common.block.container.BlockPresent;
 import thebetweenlands.common.block.terrain.BlockSnowBetweenlands;
+import thebetweenlands.common.handler.TickBudgetHandler;
+import thebetweenlands.common.handler.TickBudgetHandler.Subsystem;
 import thebetweenlands.common.lib.ModInfo;
 import thebetweenlands.common.registries.BlockRegistry;
 import thebetweenlands.common.registries.LootTableRegistry;
@@ -41,6 +43,8 @@ public class EventWinter extends SeasonalEnvironmentEvent {
 
 	private static final long WINTER_DATE = new GregorianCalendar(Calendar.getInstance().get(Calendar.YEAR), 11, 1, 0, 0).getTime().getTime();
 
+	private final TickBudgetHandler.ChunkPass icePass = new TickBudgetHandler.ChunkPass();
+
 	public EventWinter(BLEnvironmentEventRegistry registry) {
 		super(registry);
 	}
@@ -91,9 +95,9 @@ public class EventWinter extends SeasonalEnvironmentEvent {
 		super.update(world);
 
 		if(!world.isRemote && this.isActive()) {
-			if(world.provider instanceof WorldProviderBetweenlands && world instanceof WorldServer && world.rand.nextInt(10) == 0) {
+			if(world.provider instanceof WorldProviderBetweenlands && world instanceof WorldServer && (this.icePass.isPending() || world.rand.nextInt(10) == 0)) {
 				WorldServer worldServer = (WorldServer)world;
-				for (Iterator<Chunk> iterator = worldServer.getPersistentChunkIterable(worldServer.getPlayerChunkMap().getChunkIterator()); iterator.hasNext(); ) {
+				for (Iterator<Chunk> iterator = this.icePass.iterate(worldServer, Subsystem.ENVIRONMENT_EVENTS); iterator.hasNext(); ) {
 					Chunk chunk = iterator.next();
 					int cbx = world.rand.nextInt(16);
 					int cbz = world.rand.nextInt(16);
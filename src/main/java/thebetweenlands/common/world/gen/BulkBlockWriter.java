@@ -0,0 +1,233 @@
+package thebetweenlands.common.world.gen;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import javax.annotation.Nullable;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import net.minecraft.world.gen.feature.WorldGenerator;
+import thebetweenlands.common.metrics.Counter;
+import thebetweenlands.common.metrics.LatencyHistogram;
+import thebetweenlands.common.metrics.Metrics;
+
+/**
+ * Writes blocks of large world generation features directly into the chunk sections instead of going through
+ * {@link World#setBlockState(BlockPos, IBlockState, int)}, which updates the lighting, height map and clients for every single block.
+ * <p>
+ * Only chunks whose light has not been populated yet are written to directly. Those chunks have not been sent to any
+ * client and are fully relit by {@link Chunk#checkLight()} once they are first ticked, so the per block light updates are wasted work.
+ * The height maps and sky light columns of the touched chunks are regenerated once when the session ends.
+ * All other chunks, and any writes that request neighbor updates, fall back to the regular world method.
+ * <p>
+ * A session is started with {@link #begin(World)} and must be closed with {@link #end()}.
+ * Sessions can be nested, e.g. when a structure causes another chunk to be populated.
+ */
+public final class BulkBlockWriter {
+	private static final Map<World, BulkBlockWriter> ACTIVE = new IdentityHashMap<>();
+
+	private static final Counter DIRECT_WRITES = Metrics.counter("worldgen.bulk_writes.direct");
+	private static final Counter FALLBACK_WRITES = Metrics.counter("worldgen.bulk_writes.fallback");
+	private static final LatencyHistogram FLUSH_METRIC = Metrics.histogram("worldgen.bulk_writes.flush");
+
+	private final World world;
+	private final Long2ObjectMap<Chunk> touchedChunks = new Long2ObjectOpenHashMap<>();
+
+	private int depth;
+
+	private Chunk cachedChunk;
+
+	private BulkBlockWriter(World world) {
+		this.world = world;
+	}
+
+	/**
+	 * Starts a bulk write session for the specified world, or joins the session that is already active
+	 * @param world
+	 * @return
+	 */
+	public static BulkBlockWriter begin(World world) {
+		BulkBlockWriter writer = ACTIVE.get(world);
+		if(writer == null) {
+			ACTIVE.put(world, writer = new BulkBlockWriter(world));
+		}
+		writer.depth++;
+		return writer;
+	}
+
+	/**
+	 * Returns the bulk writer of the session that is currently active in the specified world
+	 * @param world
+	 * @return
+	 */
+	@Nullable
+	public static BulkBlockWriter getActive(World world) {
+		return ACTIVE.isEmpty() ? null : ACTIVE.get(world);
+	}
+
+	/**
+	 * Sets a block state through the bulk writer of the session that is currently active in the specified world.
+	 * Without an active session the block is set directly in the world
+	 * @param world
+	 * @param pos
+	 * @param state
+	 * @param flags
+	 * @return
+	 */
+	public static boolean setBlockState(World world, BlockPos pos, IBlockState state, int flags) {
+		BulkBlockWriter writer = getActive(world);
+		if(writer != null) {
+			return writer.setBlockState(pos, state, flags);
+		}
+		return world.setBlockState(pos, state, flags);
+	}
+
+	/**
+	 * Runs the generator in a bulk write session
+	 * @param generator
+	 * @param world
+	 * @param rand
+	 * @param pos
+	 * @return
+	 */
+	public static boolean generate(WorldGenerator generator, World world, Random rand, BlockPos pos) {
+		BulkBlockWriter writer = begin(world);
+		try {
+			return generator.generate(world, rand, pos);
+		} finally {
+			writer.end();
+		}
+	}
+
+	/**
+	 * Flushes the touched chunks and ends the session if this was the outermost one
+	 */
+	public void end() {
+		this.flush();
+		if(--this.depth <= 0) {
+			ACTIVE.remove(this.world);
+			this.cachedChunk = null;
+		}
+	}
+
+	/**
+	 * Regenerates the height maps and sky light columns of all chunks that were written to directly
+	 */
+	public void flush() {
+		if(!this.touchedChunks.isEmpty()) {
+			long start = Metrics.startTimer();
+
+			for(Chunk chunk : this.touchedChunks.values()) {
+				chunk.generateSkylightMap();
+				chunk.markDirty();
+			}
+			this.touchedChunks.clear();
+
+			FLUSH_METRIC.recordSince(start);
+		}
+	}
+
+	private Chunk getChunk(int chunkX, int chunkZ) {
+		Chunk chunk = this.cachedChunk;
+		if(chunk == null || !chunk.isLoaded() || chunk.x != chunkX || chunk.z != chunkZ) {
+			this.cachedChunk = chunk = this.world.getChunk(chunkX, chunkZ);
+		}
+		return chunk;
+	}
+
+	/**
+	 * Sets a block state. Behaves like {@link World#setBlockState(BlockPos, IBlockState, int)}, except that
+	 * in chunks that are not lit yet the light and height map updates are deferred until the session ends
+	 * @param pos
+	 * @param state
+	 * @param flags
+	 * @return
+	 */
+	public boolean setBlockState(BlockPos pos, IBlockState state, int flags) {
+		if(this.world.isOutsideBuildHeight(pos)) {
+			return false;
+		}
+
+		Chunk chunk = this.world.isRemote || (flags & 1) != 0 ? null : this.getChunk(pos.getX() >> 4, pos.getZ() >> 4);
+		if(chunk == null || chunk.isLightPopulated()) {
+			FALLBACK_WRITES.increment();
+			return this.world.setBlockState(pos, state, flags);
+		}
+
+		DIRECT_WRITES.increment();
+
+		int x = pos.getX() & 15;
+		int y = pos.getY();
+		int z = pos.getZ() & 15;
+
+		ExtendedBlockStorage[] storages = chunk.getBlockStorageArray();
+		ExtendedBlockStorage storage = storages[y >> 4];
+		if(storage == Chunk.NULL_BLOCK_STORAGE) {
+			if(state.getBlock() == Blocks.AIR) {
+				return false;
+			}
+			storages[y >> 4] = storage = new ExtendedBlockStorage(y >> 4 << 4, this.world.provider.hasSkyLight());
+		}
+
+		IBlockState oldState = storage.get(x, y & 15, z);
+		if(oldState == state) {
+			return false;
+		}
+
+		Block block = state.getBlock();
+		Block oldBlock = oldState.getBlock();
+
+		storage.set(x, y & 15, z, state);
+
+		//Same tile entity handling as Chunk#setBlockState
+		if(oldBlock != block) {
+			oldBlock.breakBlock(this.world, pos, oldState);
+		}
+		TileEntity oldTile = chunk.getTileEntity(pos, Chunk.EnumCreateType.CHECK);
+		if(oldTile != null && oldTile.shouldRefresh(this.world, pos, oldState, state)) {
+			this.world.removeTileEntity(pos);
+		}
+
+		if(storage.get(x, y & 15, z).getBlock() != block) {
+			return false;
+		}
+
+		if(oldBlock != block) {
+			block.onBlockAdded(this.world, pos, state);
+		}
+
+		if(block.hasTileEntity(state)) {
+			TileEntity tile = chunk.getTileEntity(pos, Chunk.EnumCreateType.CHECK);
+			if(tile == null) {
+				tile = block.createTileEntity(this.world, state);
+				this.world.setTileEntity(pos, tile);
+			}
+			if(tile != null) {
+				tile.updateContainingBlockInfo();
+			}
+		}
+
+		//Keep the height map valid for blocks that are placed on top so that
+		//surface checks during generation see the new blocks right away.
+		//Removed blocks are handled when the session is flushed
+		int[] heightMap = chunk.getHeightMap();
+		if(y >= heightMap[z << 4 | x] && state.getLightOpacity(this.world, pos) > 0) {
+			heightMap[z << 4 | x] = y + 1;
+		}
+
+		this.touchedChunks.put(ChunkPos.asLong(chunk.x, chunk.z), chunk);
+
+		return true;
+	}
+}
@@ -0,0 +1,67 @@
+package thebetweenlands.common.world.gen;
+
+import thebetweenlands.common.metrics.LatencyHistogram;
+import thebetweenlands.common.metrics.Metrics;
+
+/**
+ * Accumulates the time spent in each stage of the Betweenlands chunk generator while it is
+ * attached to the generator, see {@link ChunkGeneratorBetweenlands#setTimings(ChunkGenerationTimings)}
+ */
+public class ChunkGenerationTimings {
+	public static enum Stage {
+		TERRAIN("terrain"),
+		BIOME_BLOCKS("biome_blocks"),
+		CAVES("caves"),
+		RAVINES("ravines"),
+		GIANT_ROOTS("giant_roots"),
+		FLOATING_ISLANDS("floating_islands"),
+		POPULATION("population"),
+		STRUCTURES("structures");
+
+		public final String name;
+		public final LatencyHistogram metric;
+
+		private Stage(String name) {
+			this.name = name;
+			this.metric = Metrics.histogram("worldgen." + name);
+		}
+	}
+
+	private final long[] nanos = new long[Stage.values().length];
+
+	/**
+	 * Adds the specified time to a stage
+	 * @param stage
+	 * @param nanos
+	 */
+	public void add(Stage stage, long nanos) {
+		this.nanos[stage.ordinal()] += nanos;
+	}
+
+	/**
+	 * Returns the total time spent in the specified stage in nanoseconds
+	 * @param stage
+	 * @return
+	 */
+	public long get(Stage stage) {
+		return this.nanos[stage.ordinal()];
+	}
+
+	/**
+	 * Returns the total time spent in all stages in nanoseconds
+	 * @return
+	 */
+	public long getTotal() {
+		long total = 0;
+		for(long stageNanos : this.nanos) {
+			total += stageNanos;
+		}
+		return total;
+	}
+
+	public void reset() {
+		for(int i = 0; i < this.nanos.length; i++) {
+			this.nanos[i] = 0;
+		}
+	}
+}
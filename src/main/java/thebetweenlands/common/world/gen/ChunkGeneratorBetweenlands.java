@@ -44,6 +44,7 @@ import net.minecraft.world.gen.NoiseGeneratorPerlin;
 import net.minecraft.world.gen.NoiseGeneratorSimplex;
 import net.minecraftforge.event.ForgeEventFactory;
 import thebetweenlands.common.TheBetweenlands;
+import thebetweenlands.common.metrics.Metrics;
 import thebetweenlands.common.registries.BiomeRegistry;
 import thebetweenlands.common.world.biome.BiomeBetweenlands;
 import thebetweenlands.common.world.biome.spawning.WorldMobSpawner;
@@ -105,6 +106,9 @@ public class ChunkGeneratorBetweenlands implements IChunkGenerator {
 	private NoiseGeneratorSimplex treeNoise;
 	private NoiseGeneratorSimplex speleothemDensityNoise;
 
+	@Nullable
+	private ChunkGenerationTimings timings;
+
 	public ChunkGeneratorBetweenlands(World world, long seed, Block baseBlock, Block layerBlock, int layerHeight) {
 		this.baseBlock = baseBlock;
 		this.baseBlockState = baseBlock.getDefaultState();
@@ -154,11 +158,15 @@ public class ChunkGeneratorBetweenlands implements IChunkGenerator {
 		this.rand.setSeed((long)chunkX * 341873128712L + (long)chunkZ * 132897987541L);
 		debugProvideHandle(chunkX, chunkZ);
 
+		long time = this.startTiming();
+
 		ChunkPrimer chunkprimer = new ChunkPrimer();
 
 
 		this.setBlocksInChunk(chunkX, chunkZ, chunkprimer);
 
+		time = this.recordTiming(ChunkGenerationTimings.Stage.TERRAIN, time);
+
 		//Interpolate biome weights
 		for(int z = 0; z < 16; z++) {
 			for(int x = 0; x < 16; x++) {
@@ -186,12 +194,18 @@ public class ChunkGeneratorBetweenlands implements IChunkGenerator {
 
 		this.replaceBiomeBlocks(chunkX, chunkZ, chunkprimer, this.biomesForGeneration, biomeWeights);
 
+		time = this.recordTiming(ChunkGenerationTimings.Stage.BIOME_BLOCKS, time);
+
 		//Gen caves
 		this.caveGenerator.setBiomeTerrainWeights(biomeWeights);
 		this.caveGenerator.generate(this.worldObj, chunkX, chunkZ, chunkprimer);
 
+		time = this.recordTiming(ChunkGenerationTimings.Stage.CAVES, time);
+
 		//Gen ravines
 		this.ravineGenerator.generate(this.worldObj, chunkX, chunkZ, chunkprimer);
+
+		time = this.recordTiming(ChunkGenerationTimings.Stage.RAVINES, time);
 		
 		//Add biome features (post cave)
 		for(int z = 0; z < 16; z++) {
@@ -205,12 +219,18 @@ public class ChunkGeneratorBetweenlands implements IChunkGenerator {
 			}
 		}
 		
+		time = this.recordTiming(ChunkGenerationTimings.Stage.BIOME_BLOCKS, time);
+
 		//Generate floating islands
 		this.floatingIslandGenerator.generate(this.worldObj, chunkX, chunkZ, chunkprimer);
+
+		time = this.recordTiming(ChunkGenerationTimings.Stage.FLOATING_ISLANDS, time);
 		
 		//Generate giant roots
 		this.giantRootGenerator.generate(this.worldObj, chunkX, chunkZ, chunkprimer);
 
+		time = this.recordTiming(ChunkGenerationTimings.Stage.GIANT_ROOTS, time);
+
 		Chunk chunk = new Chunk(this.worldObj, chunkprimer, chunkX, chunkZ);
 		byte[] biomeArray = chunk.getBiomeArray();
 
@@ -219,9 +239,42 @@ public class ChunkGeneratorBetweenlands implements IChunkGenerator {
 		}
 
 		chunk.generateSkylightMap();
+
+		this.recordTiming(ChunkGenerationTimings.Stage.TERRAIN, time);
+
 		return chunk;
 	}
 
+	/**
+	 * Sets the timings that the time spent in each generation stage is added to, or null to stop recording.
+	 * The stage times are also recorded to the {@link ChunkGenerationTimings.Stage#metric}s while the metrics are enabled
+	 * @param timings
+	 */
+	public void setTimings(@Nullable ChunkGenerationTimings timings) {
+		this.timings = timings;
+	}
+
+	@Nullable
+	public ChunkGenerationTimings getTimings() {
+		return this.timings;
+	}
+
+	private long startTiming() {
+		return this.timings != null || Metrics.isEnabled() ? System.nanoTime() : 0L;
+	}
+
+	private long recordTiming(ChunkGenerationTimings.Stage stage, long start) {
+		if(start != 0L) {
+			long now = System.nanoTime();
+			if(this.timings != null) {
+				this.timings.add(stage, now - start);
+			}
+			stage.metric.record(now - start);
+			return now;
+		}
+		return 0L;
+	}
+
 	/**
 	 * Generates the base terrain
 	 * @param chunkX
@@ -504,6 +557,8 @@ public class ChunkGeneratorBetweenlands implements IChunkGenerator {
 
 	@Override
 	public void populate(int x, int z) {
+		long time = this.startTiming();
+
 		BlockFalling.fallInstantly = true;
 		int bx = x * 16;
 		int bz = z * 16;
@@ -537,6 +592,8 @@ public class ChunkGeneratorBetweenlands implements IChunkGenerator {
 		ForgeEventFactory.onChunkPopulate(false, this, this.worldObj, this.rand, x, z, false);
 
 		BlockFalling.fallInstantly = false;
+
+		this.recordTiming(ChunkGenerationTimings.Stage.POPULATION, time);
 	}
 
 	@Override
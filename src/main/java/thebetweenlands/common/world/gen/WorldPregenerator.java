@@ -0,0 +1,421 @@
+package thebetweenlands.common.world.gen;
+
+import javax.annotation.Nullable;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
+import net.minecraft.world.storage.MapStorage;
+import net.minecraft.world.storage.WorldSavedData;
+import net.minecraftforge.common.DimensionManager;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.common.gameevent.TickEvent.ServerTickEvent;
+import thebetweenlands.common.TheBetweenlands;
+import thebetweenlands.common.config.BetweenlandsConfig;
+
+/**
+ * Generates and populates the chunks in a square area of the Betweenlands dimension ahead of players.
+ * Chunks are generated at the end of each server tick for as long as the tick stays below the target MSPT.
+ * The progress is persisted in the global map storage so that an interrupted pre-generation resumes
+ * after a restart.
+ */
+public final class WorldPregenerator {
+	private WorldPregenerator() { }
+
+	public static enum Shape {
+		SQUARE("square"), SPIRAL("spiral");
+
+		public final String name;
+
+		private Shape(String name) {
+			this.name = name;
+		}
+
+		@Nullable
+		public static Shape fromName(String name) {
+			for(Shape shape : values()) {
+				if(shape.name.equals(name)) {
+					return shape;
+				}
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Persisted pre-generation task
+	 */
+	public static class PregenData extends WorldSavedData {
+		public static final String NAME = "betweenlands_pregen";
+
+		private boolean running;
+		private int centerX, centerZ;
+		private int radius;
+		private Shape shape = Shape.SQUARE;
+		private int targetMspt = 40;
+		private long cursor;
+
+		public PregenData(String name) {
+			super(name);
+		}
+
+		@Override
+		public void readFromNBT(NBTTagCompound nbt) {
+			this.running = nbt.getBoolean("running");
+			this.centerX = nbt.getInteger("centerX");
+			this.centerZ = nbt.getInteger("centerZ");
+			this.radius = nbt.getInteger("radius");
+			Shape shape = Shape.fromName(nbt.getString("shape"));
+			this.shape = shape != null ? shape : Shape.SQUARE;
+			this.targetMspt = nbt.getInteger("targetMspt");
+			this.cursor = nbt.getLong("cursor");
+		}
+
+		@Override
+		public NBTTagCompound writeToNBT(NBTTagCompound nbt) {
+			nbt.setBoolean("running", this.running);
+			nbt.setInteger("centerX", this.centerX);
+			nbt.setInteger("centerZ", this.centerZ);
+			nbt.setInteger("radius", this.radius);
+			nbt.setString("shape", this.shape.name);
+			nbt.setInteger("targetMspt", this.targetMspt);
+			nbt.setLong("cursor", this.cursor);
+			return nbt;
+		}
+
+		public boolean isRunning() {
+			return this.running;
+		}
+
+		public int getCenterX() {
+			return this.centerX;
+		}
+
+		public int getCenterZ() {
+			return this.centerZ;
+		}
+
+		public int getRadius() {
+			return this.radius;
+		}
+
+		public Shape getShape() {
+			return this.shape;
+		}
+
+		public int getTargetMspt() {
+			return this.targetMspt;
+		}
+
+		public long getCursor() {
+			return this.cursor;
+		}
+
+		public long getTotal() {
+			return getChunkCount(this.radius);
+		}
+	}
+
+	private static final long REPORT_INTERVAL = 10000L;
+	private static final int MAX_LOADED_CHUNKS = 1024;
+
+	private static long tickStart;
+
+	//Runtime state of the currently running task, reset whenever a different task is loaded
+	@Nullable
+	private static PregenData activeData;
+	private static final ChunkGenerationTimings TIMINGS = new ChunkGenerationTimings();
+	private static final LongSet LOADED_CHUNKS = new LongOpenHashSet();
+	private static long sessionStart;
+	private static long sessionChunks;
+	private static long lastReport;
+
+	/**
+	 * Returns the persisted pre-generation task of the server
+	 * @param server
+	 * @return
+	 */
+	@Nullable
+	public static PregenData getData(MinecraftServer server) {
+		WorldServer overworld = server.getWorld(0);
+		if(overworld == null) {
+			return null;
+		}
+		MapStorage storage = overworld.getMapStorage();
+		PregenData data = (PregenData) storage.getOrLoadData(PregenData.class, PregenData.NAME);
+		if(data == null) {
+			data = new PregenData(PregenData.NAME);
+			storage.setData(PregenData.NAME, data);
+		}
+		return data;
+	}
+
+	/**
+	 * Starts pre-generating the specified area. Replaces any previously running task
+	 * @param server
+	 * @param centerX Center chunk X
+	 * @param centerZ Center chunk Z
+	 * @param radius Radius in chunks
+	 * @param shape Order in which the chunks are generated
+	 * @param targetMspt Chunks are only generated while the server tick took less than this many milliseconds
+	 * @return
+	 */
+	public static boolean start(MinecraftServer server, int centerX, int centerZ, int radius, Shape shape, int targetMspt) {
+		PregenData data = getData(server);
+		if(data == null) {
+			return false;
+		}
+		data.running = true;
+		data.centerX = centerX;
+		data.centerZ = centerZ;
+		data.radius = radius;
+		data.shape = shape;
+		data.targetMspt = targetMspt;
+		data.cursor = 0;
+		data.markDirty();
+		activeData = null;
+		return true;
+	}
+
+	/**
+	 * Stops the currently running task
+	 * @param server
+	 * @return Whether a task was running
+	 */
+	public static boolean stop(MinecraftServer server) {
+		PregenData data = getData(server);
+		if(data == null || !data.running) {
+			return false;
+		}
+		data.running = false;
+		data.markDirty();
+		WorldServer world = getWorld(server, false);
+		if(world != null) {
+			unloadAll(world);
+		}
+		report(data, true);
+		activeData = null;
+		return true;
+	}
+
+	/**
+	 * Returns the number of chunks in an area of the specified radius
+	 * @param radius Radius in chunks
+	 * @return
+	 */
+	public static long getChunkCount(int radius) {
+		long side = radius * 2L + 1L;
+		return side * side;
+	}
+
+	/**
+	 * Returns the chunk at the specified index of the generation order
+	 * @param shape Generation order
+	 * @param centerX Center chunk X
+	 * @param centerZ Center chunk Z
+	 * @param radius Radius in chunks
+	 * @param index Index in [0, {@link #getChunkCount(int)})
+	 * @return
+	 */
+	public static ChunkPos getChunk(Shape shape, int centerX, int centerZ, int radius, long index) {
+		switch(shape) {
+		default:
+		case SQUARE:
+			long side = radius * 2L + 1L;
+			return new ChunkPos(centerX + (int) (index % side) - radius, centerZ + (int) (index / side) - radius);
+		case SPIRAL:
+			if(index == 0) {
+				return new ChunkPos(centerX, centerZ);
+			}
+			//Ring k contains the indices [(2k-1)^2, (2k+1)^2)
+			int ring = (int) Math.ceil((Math.sqrt(index + 1) - 1) / 2);
+			long inner = (2L * ring - 1L) * (2L * ring - 1L);
+			if(index < inner) {
+				ring--;
+				inner = (2L * ring - 1L) * (2L * ring - 1L);
+			} else if(index >= (2L * ring + 1L) * (2L * ring + 1L)) {
+				ring++;
+				inner = (2L * ring - 1L) * (2L * ring - 1L);
+			}
+			int perimeterIndex = (int) (index - inner);
+			int edge = perimeterIndex / (2 * ring);
+			int offset = perimeterIndex % (2 * ring);
+			switch(edge) {
+			default:
+			case 0:
+				return new ChunkPos(centerX + ring, centerZ - ring + 1 + offset);
+			case 1:
+				return new ChunkPos(centerX + ring - 1 - offset, centerZ + ring);
+			case 2:
+				return new ChunkPos(centerX - ring, centerZ + ring - 1 - offset);
+			case 3:
+				return new ChunkPos(centerX - ring + 1 + offset, centerZ - ring);
+			}
+		}
+	}
+
+	/**
+	 * Returns the chunk generation rate of the current session in chunks per second
+	 * @return
+	 */
+	public static double getChunksPerSecond() {
+		long elapsed = System.currentTimeMillis() - sessionStart;
+		return activeData == null || elapsed <= 0 ? 0 : sessionChunks * 1000.0D / elapsed;
+	}
+
+	/**
+	 * Returns the time spent in each generation stage during the current session
+	 * @return
+	 */
+	public static ChunkGenerationTimings getTimings() {
+		return TIMINGS;
+	}
+
+	/**
+	 * Returns the per-stage time split of the current session, e.g. <code>terrain 40.1%, caves 12.0%, ...</code>
+	 * @return
+	 */
+	public static String getStageSplit() {
+		long total = TIMINGS.getTotal();
+		StringBuilder sb = new StringBuilder();
+		for(ChunkGenerationTimings.Stage stage : ChunkGenerationTimings.Stage.values()) {
+			if(sb.length() > 0) {
+				sb.append(", ");
+			}
+			sb.append(stage.name).append(' ').append(String.format("%.1f%%", total > 0 ? TIMINGS.get(stage) * 100.0D / total : 0.0D));
+		}
+		return sb.toString();
+	}
+
+	@SubscribeEvent
+	public static void onServerTick(ServerTickEvent event) {
+		if(event.phase == Phase.START) {
+			tickStart = System.nanoTime();
+			return;
+		}
+
+		MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+		if(server == null) {
+			return;
+		}
+
+		PregenData data = getData(server);
+		if(data == null || !data.running) {
+			return;
+		}
+
+		if(data != activeData) {
+			activeData = data;
+			TIMINGS.reset();
+			LOADED_CHUNKS.clear();
+			sessionStart = lastReport = System.currentTimeMillis();
+			sessionChunks = 0;
+		}
+
+		long deadline = tickStart + data.targetMspt * 1000000L;
+		if(System.nanoTime() >= deadline) {
+			return;
+		}
+
+		WorldServer world = getWorld(server, true);
+		if(world == null) {
+			return;
+		}
+
+		ChunkProviderServer provider = world.getChunkProvider();
+		ChunkGeneratorBetweenlands generator = provider.chunkGenerator instanceof ChunkGeneratorBetweenlands ? (ChunkGeneratorBetweenlands) provider.chunkGenerator : null;
+
+		long total = data.getTotal();
+
+		if(generator != null) {
+			generator.setTimings(TIMINGS);
+		}
+
+		try {
+			while(data.cursor < total && System.nanoTime() < deadline) {
+				ChunkPos pos = getChunk(data.shape, data.centerX, data.centerZ, data.radius, data.cursor);
+				generate(world, provider, pos.x, pos.z);
+				data.cursor++;
+				sessionChunks++;
+			}
+		} finally {
+			if(generator != null) {
+				generator.setTimings(null);
+			}
+		}
+
+		data.markDirty();
+
+		if(data.cursor >= total) {
+			data.running = false;
+			unloadAll(world);
+			report(data, true);
+			activeData = null;
+		} else {
+			if(LOADED_CHUNKS.size() > MAX_LOADED_CHUNKS) {
+				unloadAll(world);
+			}
+			if(System.currentTimeMillis() - lastReport > REPORT_INTERVAL) {
+				report(data, false);
+			}
+		}
+	}
+
+	private static void generate(WorldServer world, ChunkProviderServer provider, int x, int z) {
+		//A chunk is only populated once its +X, +Z and +XZ neighbours exist
+		for(int dx = 0; dx <= 1; dx++) {
+			for(int dz = 0; dz <= 1; dz++) {
+				if(provider.getLoadedChunk(x + dx, z + dz) == null) {
+					provider.provideChunk(x + dx, z + dz);
+					LOADED_CHUNKS.add(ChunkPos.asLong(x + dx, z + dz));
+				}
+			}
+		}
+
+		//The chunk itself is done now, its remaining neighbours are still needed by the following chunks
+		if(LOADED_CHUNKS.remove(ChunkPos.asLong(x, z))) {
+			queueUnload(world, provider, x, z);
+		}
+	}
+
+	private static void queueUnload(WorldServer world, ChunkProviderServer provider, int x, int z) {
+		if(!world.getPlayerChunkMap().contains(x, z)) {
+			Chunk chunk = provider.getLoadedChunk(x, z);
+			if(chunk != null) {
+				provider.queueUnload(chunk);
+			}
+		}
+	}
+
+	private static void unloadAll(WorldServer world) {
+		ChunkProviderServer provider = world.getChunkProvider();
+		LongIterator it = LOADED_CHUNKS.iterator();
+		while(it.hasNext()) {
+			long pos = it.nextLong();
+			queueUnload(world, provider, (int) pos, (int) (pos >> 32));
+		}
+		LOADED_CHUNKS.clear();
+	}
+
+	private static void report(PregenData data, boolean finished) {
+		lastReport = System.currentTimeMillis();
+		long total = data.getTotal();
+		TheBetweenlands.logger.info(String.format("Betweenlands pre-generation %s: %d/%d chunks (%.1f%%), %.2f chunks/s, %s",
+				finished ? (data.cursor >= total ? "finished" : "stopped") : "progress", data.cursor, total, total > 0 ? data.cursor * 100.0D / total : 100.0D,
+						getChunksPerSecond(), getStageSplit()));
+	}
+
+	@Nullable
+	private static WorldServer getWorld(MinecraftServer server, boolean load) {
+		int dimension = BetweenlandsConfig.WORLD_AND_DIMENSION.dimensionId;
+		return load ? server.getWorld(dimension) : DimensionManager.getWorld(dimension);
+	}
+}
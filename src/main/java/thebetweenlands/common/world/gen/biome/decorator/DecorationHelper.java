@@ -12,11 +12,13 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.BlockPos.MutableBlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.gen.feature.WorldGenerator;
 import thebetweenlands.common.block.terrain.BlockWisp;
 import thebetweenlands.common.registries.BiomeRegistry;
 import thebetweenlands.common.registries.BlockRegistry;
 import thebetweenlands.common.world.WorldProviderBetweenlands;
+import thebetweenlands.common.world.gen.BulkBlockWriter;
 import thebetweenlands.common.world.gen.ChunkGeneratorBetweenlands;
 import thebetweenlands.common.world.gen.feature.WorldGenBigBulbCappedMushroom;
 import thebetweenlands.common.world.gen.feature.WorldGenBladderwortCluster;
@@ -680,7 +682,7 @@ public class DecorationHelper {
 		int z = decorator.getRandomPosZ(10);
 		BlockPos pos = new BlockPos(x, y, z);
 		if(decorator.getWorld().isAirBlock(pos) && SurfaceType.UNDERGROUND.matches(decorator.getWorld(), pos.down())) {
-			return GEN_UNDERGROUND_RUINS.generate(decorator.getWorld(), decorator.getRand(), pos);
+			return BulkBlockWriter.generate(GEN_UNDERGROUND_RUINS, decorator.getWorld(), decorator.getRand(), pos);
 		}
 		return false;
 	}
@@ -688,7 +690,7 @@ public class DecorationHelper {
 	public static boolean generateCragrockTower(DecoratorPositionProvider decorator) {
 		BlockPos pos = decorator.getRandomPosSeaGround(10);
 		if(decorator.getWorld().isAirBlock(pos) && SurfaceType.MIXED_GROUND.matches(decorator.getWorld(), pos.down())) {
-			return new WorldGenCragrockTower().generate(decorator.getWorld(), decorator.getRand(), pos);
+			return BulkBlockWriter.generate(new WorldGenCragrockTower(), decorator.getWorld(), decorator.getRand(), pos);
 		}
 		return false;
 	}
@@ -761,7 +763,7 @@ public class DecorationHelper {
 	public static boolean generateSmallRuinsCluster(DecoratorPositionProvider decorator) {
 		BlockPos pos = decorator.getRandomPos();
 		if(decorator.getWorld().isAirBlock(pos) && SurfaceType.MIXED_GROUND.matches(decorator.getWorld(), pos.down())) {
-			return GEN_SMALL_RUINS.generate(decorator.getWorld(), decorator.getRand(), pos);
+			return BulkBlockWriter.generate(GEN_SMALL_RUINS, decorator.getWorld(), decorator.getRand(), pos);
 		}
 		return false;
 	}
@@ -770,12 +772,23 @@ public class DecorationHelper {
 		World world = decorator.getWorld();
 		MutableBlockPos checkPos = new MutableBlockPos();
 		boolean generated = false;
+		//The surface of the 32x32 area spans at most 2x2 chunks, so the chunk is only looked up again when the scan enters another one
+		Chunk chunk = null;
+		int chunkX = 0, chunkZ = 0;
 		for(int xo = 0; xo < 32; xo++) {
 			for(int zo = 0; zo < 32; zo++) {
 				int px = decorator.getX() + xo;
 				int pz = decorator.getZ() + zo;
-				int py = world.getHeight(px, pz) - 1;
-				Block surfaceBlock = world.getBlockState(checkPos.setPos(px, py, pz)).getBlock();
+				if(chunk == null || chunkX != px >> 4 || chunkZ != pz >> 4) {
+					chunkX = px >> 4;
+					chunkZ = pz >> 4;
+					chunk = world.isChunkLoaded(chunkX, chunkZ, true) ? world.getChunk(chunkX, chunkZ) : null;
+				}
+				if(chunk == null) {
+					continue;
+				}
+				int py = chunk.getHeightValue(px & 15, pz & 15) - 1;
+				Block surfaceBlock = chunk.getBlockState(px & 15, py, pz & 15).getBlock();
 				if(surfaceBlock instanceof BlockLeaves) {
 					int yo = 0;
 					boolean hasLeaves = true;
@@ -836,7 +849,7 @@ public class DecorationHelper {
 			Biome biome = decorator.getWorld().getBiome(pos);
 			WorldGenWightFortress fortress = new WorldGenWightFortress();
 			if(fortress.isBiomeValid(biome)) {
-				return fortress.generate(decorator.getWorld(), decorator.getRand(), pos);
+				return BulkBlockWriter.generate(fortress, decorator.getWorld(), decorator.getRand(), pos);
 			}
 		}
 		return false;
@@ -887,6 +900,7 @@ public class DecorationHelper {
 				Biome biomeW = decorator.getWorld().getBiome(pos.setPos(decorator.getX() + xo - biomeCheckRange, decorator.getY(), decorator.getZ() + zo));
 				if(biomeN == biome && biomeE == biome && biomeS == biome && biomeW == biome) {
 					pos.setPos(decorator.getX() + xo, decorator.getY(), decorator.getZ() + zo);
+					//TODO Should be the Z column, fixing it changes where sub-biome structures generate so it needs its own worldgen change
 					pos.setY(decorator.getWorld().getChunk(pos).getHeightValue(pos.getX() & 15, pos.getY() & 15));
 					BlockPos genPos = null;
 					for(int i = 0; i > -8; i--) {
@@ -904,7 +918,7 @@ public class DecorationHelper {
 		}
 		Collections.shuffle(potentialPositions, decorator.getRand());
 		for(BlockPos genPos : potentialPositions) {
-			if(generator.generate(decorator.getWorld(), decorator.getRand(), genPos.add(-offsetX, 0, -offsetZ))) {
+			if(BulkBlockWriter.generate(generator, decorator.getWorld(), decorator.getRand(), genPos.add(-offsetX, 0, -offsetZ))) {
 				return true;
 			}
 		}
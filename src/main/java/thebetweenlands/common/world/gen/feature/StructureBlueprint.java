@@ -0,0 +1,485 @@
+package thebetweenlands.common.world.gen.feature;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
+import net.minecraft.world.World;
+import thebetweenlands.common.block.structure.BlockMobSpawnerBetweenlands;
+import thebetweenlands.common.registries.BlockRegistry;
+import thebetweenlands.common.tile.spawner.MobSpawnerLogicBetweenlands;
+import thebetweenlands.common.world.gen.feature.WorldGenHelper.EnumRotationSequence;
+
+/**
+ * A baked, static part of a structure. The blocks are stored as a palette and a packed index array per
+ * 16x16x16 section, and the palette is resolved once for each of the four rotations when the blueprint is built,
+ * so stamping a blueprint does not need to compute any rotations or block states.
+ * Blocks that need further setup, e.g. loot pots or spawners, are added as {@link Hook}s which are applied after all blocks were placed.
+ * <p>
+ * Blueprints are placed with {@link WorldGenHelper#stampBlueprint(World, Random, StructureBlueprint, int, int, int, int)} and use
+ * the same coordinate system and rotations as {@link WorldGenHelper#rotatedCubeVolume(World, int, int, int, int, int, int, IBlockState, int, int, int, int, java.util.function.Consumer...)}.
+ * Generators that aren't a {@link WorldGenHelper} can place the blocks with {@link #place(World, BlockPos, int, BlockSetter)}.
+ */
+public class StructureBlueprint {
+	//World x and z step per blueprint x and z step for each rotation
+	private static final int[] X_STEP_X = { 1, 0, -1, 0 };
+	private static final int[] X_STEP_Z = { 0, -1, 0, 1 };
+	private static final int[] Z_STEP_X = { 0, 1, 0, -1 };
+	private static final int[] Z_STEP_Z = { 1, 0, -1, 0 };
+
+	public static interface BlockSetter {
+		public void setBlockState(World world, BlockPos pos, IBlockState state);
+	}
+
+	public static interface Hook {
+		/**
+		 * Called after the blocks of the blueprint were placed
+		 * @param helper The generator that stamped the blueprint
+		 * @param world
+		 * @param rand
+		 * @param pos World position of the hook
+		 * @param rotation Rotation of the blueprint
+		 */
+		public void apply(WorldGenHelper helper, World world, Random rand, BlockPos pos, int rotation);
+	}
+
+	public static final class PlacedHook {
+		public final int x, y, z;
+		public final Hook hook;
+
+		private PlacedHook(int x, int y, int z, Hook hook) {
+			this.x = x;
+			this.y = y;
+			this.z = z;
+			this.hook = hook;
+		}
+	}
+
+	private final int width, height, depth;
+	private final int sectionsX, sectionsY, sectionsZ;
+	private final IBlockState[][] palettes;
+	private final char[][] sections;
+	private final List<PlacedHook> hooks;
+	private final int blockCount;
+
+	private StructureBlueprint(int width, int height, int depth, IBlockState[][] palettes, char[][] sections, List<PlacedHook> hooks, int blockCount) {
+		this.width = width;
+		this.height = height;
+		this.depth = depth;
+		this.sectionsX = (width + 15) >> 4;
+		this.sectionsY = (height + 15) >> 4;
+		this.sectionsZ = (depth + 15) >> 4;
+		this.palettes = palettes;
+		this.sections = sections;
+		this.hooks = hooks;
+		this.blockCount = blockCount;
+	}
+
+	public int getWidth() {
+		return this.width;
+	}
+
+	public int getHeight() {
+		return this.height;
+	}
+
+	public int getDepth() {
+		return this.depth;
+	}
+
+	public int getSectionsX() {
+		return this.sectionsX;
+	}
+
+	public int getSectionsY() {
+		return this.sectionsY;
+	}
+
+	public int getSectionsZ() {
+		return this.sectionsZ;
+	}
+
+	/**
+	 * Returns the number of non empty positions in this blueprint
+	 * @return
+	 */
+	public int getBlockCount() {
+		return this.blockCount;
+	}
+
+	/**
+	 * Returns the palette for the specified rotation. Index 0 is always null and means that
+	 * the position is left untouched
+	 * @param rotation
+	 * @return
+	 */
+	public IBlockState[] getPalette(int rotation) {
+		return this.palettes[rotation & 3];
+	}
+
+	/**
+	 * Returns the palette indices of the specified section, or null if the section is empty.
+	 * The indices are stored in YZX order, i.e. <code>y << 8 | z << 4 | x</code>
+	 * @param sx
+	 * @param sy
+	 * @param sz
+	 * @return
+	 */
+	@Nullable
+	public char[] getSection(int sx, int sy, int sz) {
+		return this.sections[(sy * this.sectionsZ + sz) * this.sectionsX + sx];
+	}
+
+	public List<PlacedHook> getHooks() {
+		return this.hooks;
+	}
+
+	/**
+	 * Returns the world position of a blueprint position
+	 * @param origin World position of the blueprint position 0, 0, 0
+	 * @param rotation Rotation of the blueprint (0 to 3)
+	 * @param x
+	 * @param y
+	 * @param z
+	 * @return
+	 */
+	public static BlockPos getWorldPos(BlockPos origin, int rotation, int x, int y, int z) {
+		rotation &= 3;
+		return origin.add(x * X_STEP_X[rotation] + z * Z_STEP_X[rotation], y, x * X_STEP_Z[rotation] + z * Z_STEP_Z[rotation]);
+	}
+
+	/**
+	 * Places the blocks of this blueprint without applying the hooks
+	 * @param world
+	 * @param origin World position of the blueprint position 0, 0, 0
+	 * @param rotation Rotation of the blueprint (0 to 3)
+	 * @param setter Places the blocks, usually the setBlockAndNotifyAdequately of the generator
+	 */
+	public void place(World world, BlockPos origin, int rotation, BlockSetter setter) {
+		rotation &= 3;
+		int xStepX = X_STEP_X[rotation];
+		int xStepZ = X_STEP_Z[rotation];
+		int zStepX = Z_STEP_X[rotation];
+		int zStepZ = Z_STEP_Z[rotation];
+
+		IBlockState[] palette = this.palettes[rotation];
+		MutableBlockPos pos = new MutableBlockPos();
+
+		for(int sy = 0; sy < this.sectionsY; sy++) {
+			for(int sz = 0; sz < this.sectionsZ; sz++) {
+				for(int sx = 0; sx < this.sectionsX; sx++) {
+					char[] section = this.getSection(sx, sy, sz);
+					if(section != null) {
+						for(int i = 0; i < section.length; i++) {
+							char index = section[i];
+							if(index != 0) {
+								int bx = (sx << 4) + (i & 15);
+								int by = (sy << 4) + (i >> 8);
+								int bz = (sz << 4) + ((i >> 4) & 15);
+								pos.setPos(origin.getX() + bx * xStepX + bz * zStepX, origin.getY() + by, origin.getZ() + bx * xStepZ + bz * zStepZ);
+								setter.setBlockState(world, pos, palette[index]);
+							}
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Applies the hooks of this blueprint in the order they were added
+	 * @param helper
+	 * @param world
+	 * @param rand
+	 * @param origin World position of the blueprint position 0, 0, 0
+	 * @param rotation Rotation of the blueprint (0 to 3)
+	 */
+	public void applyHooks(WorldGenHelper helper, World world, Random rand, BlockPos origin, int rotation) {
+		for(PlacedHook hook : this.hooks) {
+			hook.hook.apply(helper, world, rand, getWorldPos(origin, rotation, hook.x, hook.y, hook.z), rotation);
+		}
+	}
+
+	/**
+	 * Returns a block state that is rotated with the rotation of the blueprint
+	 * @see WorldGenHelper#getStateFromRotation(int, int, IBlockState, EnumRotationSequence)
+	 * @param start
+	 * @param state
+	 * @param sequence
+	 * @return
+	 */
+	public static IntFunction<IBlockState> rotated(int start, IBlockState state, EnumRotationSequence sequence) {
+		return rotation -> sequence.getRotatedState(state, start, rotation);
+	}
+
+	/**
+	 * Returns a hook that generates a loot pot
+	 * @see WorldGenHelper#rotatedLootPot(World, Random, int, int, int, int, int, int, int, int, int, int, ResourceLocation)
+	 * @param min
+	 * @param max
+	 * @param chance
+	 * @param lootTable
+	 * @return
+	 */
+	public static Hook lootPot(int min, int max, int chance, @Nullable ResourceLocation lootTable) {
+		return (helper, world, rand, pos, rotation) -> {
+			if(rand.nextInt(chance) != 0) {
+				helper.generateLootPot(world, rand, pos, min, max, lootTable);
+			}
+		};
+	}
+
+	/**
+	 * Returns a hook that generates a loot urn
+	 * @see WorldGenHelper#rotatedLootUrn(World, Random, int, int, int, int, int, int, int, int, int, int, ResourceLocation)
+	 * @param min
+	 * @param max
+	 * @param chance
+	 * @param lootTable
+	 * @return
+	 */
+	public static Hook lootUrn(int min, int max, int chance, @Nullable ResourceLocation lootTable) {
+		return (helper, world, rand, pos, rotation) -> {
+			if(rand.nextInt(chance) != 0) {
+				helper.generateLootUrn(world, rand, pos, min, max, lootTable);
+			}
+		};
+	}
+
+	/**
+	 * Returns a hook that generates a loot chest
+	 * @see WorldGenHelper#rotatedLootChest(World, Random, int, int, int, int, int, int, int, int, int, int, int, ResourceLocation)
+	 * @param min
+	 * @param max
+	 * @param chance
+	 * @param sequenceStart
+	 * @param lootTable
+	 * @return
+	 */
+	public static Hook lootChest(int min, int max, int chance, int sequenceStart, @Nullable ResourceLocation lootTable) {
+		return (helper, world, rand, pos, rotation) -> {
+			if(rand.nextInt(chance) != 0) {
+				helper.generateLootChest(world, rand, pos, min, max, EnumRotationSequence.CHEST.getRotatedState(BlockRegistry.WEEDWOOD_CHEST.getDefaultState(), sequenceStart, rotation), lootTable);
+			}
+		};
+	}
+
+	/**
+	 * Returns a hook that generates a mob spawner
+	 * @see WorldGenHelper#rotatedSpawner(World, int, int, int, int, int, int, int, String)
+	 * @param mob
+	 * @param setup Sets up the spawner logic
+	 * @return
+	 */
+	public static Hook spawner(String mob, Consumer<MobSpawnerLogicBetweenlands> setup) {
+		return (helper, world, rand, pos, rotation) -> {
+			helper.setBlockAndNotifyAdequately(world, pos, BlockRegistry.MOB_SPAWNER.getDefaultState());
+			BlockMobSpawnerBetweenlands.setMob(world, pos, mob);
+			setup.accept(BlockMobSpawnerBetweenlands.getLogic(world, pos));
+		};
+	}
+
+	/**
+	 * Returns a hook that generates a column of blocks with a random height
+	 * of <code>minHeight + rand.nextInt(randomHeight)</code>, starting at the hook and going upwards
+	 * @param state
+	 * @param minHeight
+	 * @param randomHeight
+	 * @return
+	 */
+	public static Hook column(IBlockState state, int minHeight, int randomHeight) {
+		return (helper, world, rand, pos, rotation) -> {
+			int height = minHeight + rand.nextInt(randomHeight);
+			for(int i = 0; i < height; i++) {
+				helper.setBlockAndNotifyAdequately(world, pos.up(i), state);
+			}
+		};
+	}
+
+	public static Builder builder(int width, int height, int depth) {
+		return new Builder(width, height, depth);
+	}
+
+	public static class Builder {
+		private final int width, height, depth;
+		private final char[] blocks;
+		private final List<IntFunction<IBlockState>> palette = new ArrayList<>();
+		private final Map<IBlockState, Character> fixedStates = new HashMap<>();
+		private final List<PlacedHook> hooks = new ArrayList<>();
+
+		private Builder(int width, int height, int depth) {
+			this.width = width;
+			this.height = height;
+			this.depth = depth;
+			this.blocks = new char[width * height * depth];
+		}
+
+		private char getIndex(IntFunction<IBlockState> state) {
+			if(this.palette.size() >= Character.MAX_VALUE - 1) {
+				throw new IllegalStateException("Blueprint palette is full");
+			}
+			this.palette.add(state);
+			return (char) this.palette.size();
+		}
+
+		private char getIndex(IBlockState state) {
+			Character index = this.fixedStates.get(state);
+			if(index == null) {
+				this.fixedStates.put(state, index = this.getIndex(rotation -> state));
+			}
+			return index;
+		}
+
+		private void checkBounds(int x, int y, int z, int sizeWidth, int sizeHeight, int sizeDepth) {
+			if(x < 0 || y < 0 || z < 0 || x + sizeWidth > this.width || y + sizeHeight > this.height || z + sizeDepth > this.depth) {
+				throw new IllegalArgumentException(String.format("Volume at %d, %d, %d with size %d, %d, %d is outside of the blueprint", x, y, z, sizeWidth, sizeHeight, sizeDepth));
+			}
+		}
+
+		private void fill(int offsetX, int offsetY, int offsetZ, char index, int sizeWidth, int sizeHeight, int sizeDepth) {
+			this.checkBounds(offsetX, offsetY, offsetZ, sizeWidth, sizeHeight, sizeDepth);
+			for(int yy = offsetY; yy < offsetY + sizeHeight; yy++) {
+				for(int zz = offsetZ; zz < offsetZ + sizeDepth; zz++) {
+					for(int xx = offsetX; xx < offsetX + sizeWidth; xx++) {
+						this.blocks[(yy * this.depth + zz) * this.width + xx] = index;
+					}
+				}
+			}
+		}
+
+		/**
+		 * Fills a cube volume, overwriting any blocks that were previously set
+		 * @param offsetX
+		 * @param offsetY
+		 * @param offsetZ
+		 * @param state
+		 * @param sizeWidth
+		 * @param sizeHeight
+		 * @param sizeDepth
+		 * @return
+		 */
+		public Builder fill(int offsetX, int offsetY, int offsetZ, IBlockState state, int sizeWidth, int sizeHeight, int sizeDepth) {
+			this.fill(offsetX, offsetY, offsetZ, this.getIndex(state), sizeWidth, sizeHeight, sizeDepth);
+			return this;
+		}
+
+		/**
+		 * Fills a cube volume with a block state that depends on the rotation of the blueprint, overwriting any blocks that were previously set
+		 * @see StructureBlueprint#rotated(int, IBlockState, EnumRotationSequence)
+		 * @param offsetX
+		 * @param offsetY
+		 * @param offsetZ
+		 * @param state Returns the block state for a rotation (0 to 3)
+		 * @param sizeWidth
+		 * @param sizeHeight
+		 * @param sizeDepth
+		 * @return
+		 */
+		public Builder fill(int offsetX, int offsetY, int offsetZ, IntFunction<IBlockState> state, int sizeWidth, int sizeHeight, int sizeDepth) {
+			this.fill(offsetX, offsetY, offsetZ, this.getIndex(state), sizeWidth, sizeHeight, sizeDepth);
+			return this;
+		}
+
+		/**
+		 * Adds a hook that is applied at the specified position after all blocks were placed.
+		 * Hooks are applied in the order they were added
+		 * @param x
+		 * @param y
+		 * @param z
+		 * @param hook
+		 * @return
+		 */
+		public Builder hook(int x, int y, int z, Hook hook) {
+			this.checkBounds(x, y, z, 1, 1, 1);
+			this.hooks.add(new PlacedHook(x, y, z, hook));
+			return this;
+		}
+
+		/**
+		 * Adds a hook at each position of a cube volume. The positions are visited
+		 * in the same order as by {@link WorldGenHelper#rotatedCubeVolume(World, int, int, int, int, int, int, IBlockState, int, int, int, int, java.util.function.Consumer...)}
+		 * @param offsetX
+		 * @param offsetY
+		 * @param offsetZ
+		 * @param hook
+		 * @param sizeWidth
+		 * @param sizeHeight
+		 * @param sizeDepth
+		 * @return
+		 */
+		public Builder hook(int offsetX, int offsetY, int offsetZ, Hook hook, int sizeWidth, int sizeHeight, int sizeDepth) {
+			this.checkBounds(offsetX, offsetY, offsetZ, sizeWidth, sizeHeight, sizeDepth);
+			for(int yy = offsetY; yy < offsetY + sizeHeight; yy++) {
+				for(int xx = offsetX; xx < offsetX + sizeWidth; xx++) {
+					for(int zz = offsetZ; zz < offsetZ + sizeDepth; zz++) {
+						this.hooks.add(new PlacedHook(xx, yy, zz, hook));
+					}
+				}
+			}
+			return this;
+		}
+
+		public StructureBlueprint build() {
+			//Resolve the palette for all rotations and merge entries that end up with the same states
+			List<IBlockState[]> rotatedPalette = new ArrayList<>();
+			Map<List<IBlockState>, Character> uniqueEntries = new HashMap<>();
+			char[] remap = new char[this.palette.size() + 1];
+			for(int i = 0; i < this.palette.size(); i++) {
+				IBlockState[] states = new IBlockState[4];
+				for(int rotation = 0; rotation < 4; rotation++) {
+					states[rotation] = this.palette.get(i).apply(rotation);
+				}
+				Character index = uniqueEntries.get(Arrays.asList(states));
+				if(index == null) {
+					rotatedPalette.add(states);
+					uniqueEntries.put(Arrays.asList(states), index = (char) rotatedPalette.size());
+				}
+				remap[i + 1] = index;
+			}
+
+			IBlockState[][] palettes = new IBlockState[4][rotatedPalette.size() + 1];
+			for(int i = 0; i < rotatedPalette.size(); i++) {
+				for(int rotation = 0; rotation < 4; rotation++) {
+					palettes[rotation][i + 1] = rotatedPalette.get(i)[rotation];
+				}
+			}
+
+			int sectionsX = (this.width + 15) >> 4;
+			int sectionsY = (this.height + 15) >> 4;
+			int sectionsZ = (this.depth + 15) >> 4;
+			char[][] sections = new char[sectionsX * sectionsY * sectionsZ][];
+			int blockCount = 0;
+
+			for(int y = 0; y < this.height; y++) {
+				for(int z = 0; z < this.depth; z++) {
+					for(int x = 0; x < this.width; x++) {
+						char index = this.blocks[(y * this.depth + z) * this.width + x];
+						if(index != 0) {
+							int sectionIndex = ((y >> 4) * sectionsZ + (z >> 4)) * sectionsX + (x >> 4);
+							char[] section = sections[sectionIndex];
+							if(section == null) {
+								sections[sectionIndex] = section = new char[4096];
+							}
+							section[(y & 15) << 8 | (z & 15) << 4 | (x & 15)] = remap[index];
+							blockCount++;
+						}
+					}
+				}
+			}
+
+			return new StructureBlueprint(this.width, this.height, this.depth, palettes, sections, Collections.unmodifiableList(new ArrayList<>(this.hooks)), blockCount);
+		}
+	}
+}
@@ -25,6 +25,7 @@ import thebetweenlands.common.registries.BlockRegistry;
 import thebetweenlands.common.tile.TileEntityLootPot;
 import thebetweenlands.common.tile.TileEntityLootUrn;
 import thebetweenlands.common.tile.spawner.MobSpawnerLogicBetweenlands;
+import thebetweenlands.common.world.gen.BulkBlockWriter;
 import thebetweenlands.common.world.gen.biome.decorator.SurfaceType;
 
 public abstract class WorldGenHelper extends WorldGenerator {
@@ -48,6 +49,19 @@ public abstract class WorldGenHelper extends WorldGenerator {
 		EnumRotationSequence(int... sequence) {
 			this.sequence = sequence;
 		}
+
+		/**
+		 * Gets the state from the sequence depending on the rotation
+		 *
+		 * @param state    the state whose block is used
+		 * @param start    where to start in the sequence
+		 * @param rotation the rotation
+		 * @return the state corresponding to the rotation
+		 */
+		@SuppressWarnings("deprecation")
+		public IBlockState getRotatedState(IBlockState state, int start, int rotation) {
+			return state.getBlock().getStateFromMeta(this.sequence[(rotation + start) % this.sequence.length]);
+		}
 	}
 
 
@@ -140,62 +154,88 @@ public abstract class WorldGenHelper extends WorldGenerator {
 	public final void rotatedCubeVolume(World world, @Nullable Predicate<BlockPos> pred, int x, int y, int z, int offsetX, int offsetY, int offsetZ, IBlockState blockState, int sizeWidth, int sizeHeight, int sizeDepth, int rotation, Consumer<BlockPos>... callbacks) {
 		x -= width / 2;
 		z -= depth / 2;
+		//Predicates and callbacks may keep the position, so a mutable position can only be used without them
+		MutableBlockPos mutablePos = pred == null && callbacks.length == 0 ? new MutableBlockPos() : null;
 		switch (rotation) {
 		case 0:
 			for (int yy = y + offsetY; yy < y + offsetY + sizeHeight; yy++)
 				for (int xx = x + offsetX; xx < x + offsetX + sizeWidth; xx++)
 					for (int zz = z + offsetZ; zz < z + offsetZ + sizeDepth; zz++) {
-						BlockPos pos = new BlockPos(xx, yy, zz);
-						if(pred == null || pred.test(pos)) {
-							this.setBlockAndNotifyAdequately(world, pos, blockState);
-							for(Consumer<BlockPos> callback : callbacks) {
-								callback.accept(pos);
-							}
-						}
+						this.placeVolumeBlock(world, pred, mutablePos, xx, yy, zz, blockState, callbacks);
 					}
 			break;
 		case 1:
 			for (int yy = y + offsetY; yy < y + offsetY + sizeHeight; yy++)
 				for (int zz = z + depth - offsetX - 1; zz > z + depth - offsetX - sizeWidth - 1; zz--)
 					for (int xx = x + offsetZ; xx < x + offsetZ + sizeDepth; xx++) {
-						BlockPos pos = new BlockPos(xx, yy, zz);
-						if(pred == null || pred.test(pos)) {
-							this.setBlockAndNotifyAdequately(world, pos, blockState);
-							for(Consumer<BlockPos> callback : callbacks) {
-								callback.accept(pos);
-							}
-						}
+						this.placeVolumeBlock(world, pred, mutablePos, xx, yy, zz, blockState, callbacks);
 					}
 			break;
 		case 2:
 			for (int yy = y + offsetY; yy < y + offsetY + sizeHeight; yy++)
 				for (int xx = x + width - offsetX - 1; xx > x + width - offsetX - sizeWidth - 1; xx--)
 					for (int zz = z + depth - offsetZ - 1; zz > z + depth - offsetZ - sizeDepth - 1; zz--) {
-						BlockPos pos = new BlockPos(xx, yy, zz);
-						if(pred == null || pred.test(pos)) {
-							this.setBlockAndNotifyAdequately(world, pos, blockState);
-							for(Consumer<BlockPos> callback : callbacks) {
-								callback.accept(pos);
-							}
-						}
+						this.placeVolumeBlock(world, pred, mutablePos, xx, yy, zz, blockState, callbacks);
 					}
 			break;
 		case 3:
 			for (int yy = y + offsetY; yy < y + offsetY + sizeHeight; yy++)
 				for (int zz = z + offsetX; zz < z + offsetX + sizeWidth; zz++)
 					for (int xx = x + width - offsetZ - 1; xx > x + width - offsetZ - sizeDepth - 1; xx--) {
-						BlockPos pos = new BlockPos(xx, yy, zz);
-						if(pred == null || pred.test(pos)) {
-							this.setBlockAndNotifyAdequately(world, pos, blockState);
-							for(Consumer<BlockPos> callback : callbacks) {
-								callback.accept(pos);
-							}
-						}
+						this.placeVolumeBlock(world, pred, mutablePos, xx, yy, zz, blockState, callbacks);
 					}
 			break;
 		}
 	}
 
+	private void placeVolumeBlock(World world, @Nullable Predicate<BlockPos> pred, @Nullable MutableBlockPos mutablePos, int x, int y, int z, IBlockState blockState, Consumer<BlockPos>[] callbacks) {
+		BlockPos pos = mutablePos != null ? mutablePos.setPos(x, y, z) : new BlockPos(x, y, z);
+		if(pred == null || pred.test(pos)) {
+			this.setBlockAndNotifyAdequately(world, pos, blockState);
+			for(Consumer<BlockPos> callback : callbacks) {
+				callback.accept(pos);
+			}
+		}
+	}
+
+	/**
+	 * Places a blueprint and then applies its hooks. The blueprint is positioned and rotated
+	 * the same way as {@link #rotatedCubeVolume(World, int, int, int, int, int, int, IBlockState, int, int, int, int, Consumer...)}
+	 * with an offset of 0
+	 *
+	 * @param world     The world
+	 * @param rand      The random passed to the hooks
+	 * @param blueprint The blueprint to place
+	 * @param x         x to generate relative from
+	 * @param y         y to generate relative from
+	 * @param z         z to generate relative from
+	 * @param rotation  The rotation of the blueprint (0 to 3)
+	 */
+	public void stampBlueprint(World world, Random rand, StructureBlueprint blueprint, int x, int y, int z, int rotation) {
+		x -= width / 2;
+		z -= depth / 2;
+
+		BlockPos origin;
+		switch(rotation & 3) {
+		default:
+		case 0:
+			origin = new BlockPos(x, y, z);
+			break;
+		case 1:
+			origin = new BlockPos(x, y, z + depth - 1);
+			break;
+		case 2:
+			origin = new BlockPos(x + width - 1, y, z + depth - 1);
+			break;
+		case 3:
+			origin = new BlockPos(x + width - 1, y, z);
+			break;
+		}
+
+		blueprint.place(world, origin, rotation, this::setBlockAndNotifyAdequately);
+		blueprint.applyHooks(this, world, rand, origin, rotation);
+	}
+
 	/**
 	 * Returns a rotated AABB
 	 * @param world
@@ -706,9 +746,8 @@ public abstract class WorldGenHelper extends WorldGenerator {
 	 * @param enumRotationSequence which sequence to use
 	 * @return the meta of corresponding to the rotation
 	 */
-	@SuppressWarnings("deprecation")
 	public IBlockState getStateFromRotation(int start, int rotation, IBlockState state, EnumRotationSequence enumRotationSequence) {
-		return state.getBlock().getStateFromMeta(enumRotationSequence.sequence[(rotation + start) % enumRotationSequence.sequence.length]);
+		return enumRotationSequence.getRotatedState(state, start, rotation);
 	}
 
 
@@ -752,10 +791,7 @@ public abstract class WorldGenHelper extends WorldGenerator {
 	
 	@Override
 	protected void setBlockAndNotifyAdequately(World worldIn, BlockPos pos, IBlockState state) {
-		if (this.doBlockNotify) {
-			worldIn.setBlockState(pos, state, 3 | 16);
-		} else {
-			worldIn.setBlockState(pos, state, 2 | 16);
-		}
+		int flags = this.doBlockNotify ? 3 | 16 : 2 | 16;
+		BulkBlockWriter.setBlockState(worldIn, pos, state, flags);
 	}
 }
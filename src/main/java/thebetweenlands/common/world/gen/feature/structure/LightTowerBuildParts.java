@@ -1,7 +1,12 @@
 package thebetweenlands.common.world.gen.feature.structure;
 
+import static thebetweenlands.common.world.gen.feature.structure.utils.SludgeWormMazeBlockHelper.facingState;
+
 import java.util.Random;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
@@ -15,12 +20,25 @@ import thebetweenlands.common.block.structure.BlockStairsBetweenlands;
 import thebetweenlands.common.block.terrain.BlockRottenLog;
 import thebetweenlands.common.entity.EntityTriggeredFallingBlock;
 import thebetweenlands.common.tile.TileEntityDungeonDoorRunes;
+import thebetweenlands.common.world.gen.feature.StructureBlueprint;
 import thebetweenlands.common.world.gen.feature.structure.utils.SludgeWormMazeBlockHelper;
 
 public class LightTowerBuildParts {
 
 	private SludgeWormMazeBlockHelper blockHelper;
 	private final WorldGenSludgeWormDungeon dungeon;
+
+	private final Supplier<StructureBlueprint> pitEntranceBlueprint = Suppliers.memoize(this::createPitEntranceBlueprint);
+	private final Supplier<StructureBlueprint> pitEntranceOpeningBlueprint = Suppliers.memoize(this::createPitEntranceOpeningBlueprint);
+	private final Supplier<StructureBlueprint> mazeGateBlueprint = Suppliers.memoize(this::createMazeGateBlueprint);
+	private final Supplier<StructureBlueprint> spiralStairTopEndBlueprint = Suppliers.memoize(this::createSpiralStairTopEndBlueprint);
+	private final Supplier<StructureBlueprint> spiralStairLandingBlueprint = Suppliers.memoize(this::createSpiralStairLandingBlueprint);
+	private final Supplier<StructureBlueprint> spiralStairBottomBlueprint = Suppliers.memoize(this::createSpiralStairBottomBlueprint);
+	private final Supplier<StructureBlueprint> spiralStairFlightBlueprint = Suppliers.memoize(this::createSpiralStairFlightBlueprint);
+	private final Supplier<StructureBlueprint> towerTopBlueprint = Suppliers.memoize(this::createTowerTopBlueprint);
+	private final Supplier<StructureBlueprint> lightBeamsBottomBlueprint = Suppliers.memoize(this::createLightBeamsBottomBlueprint);
+	private final Supplier<StructureBlueprint> lightBeamsMiddleBlueprint = Suppliers.memoize(this::createLightBeamsMiddleBlueprint);
+	private final Supplier<StructureBlueprint> lightBeamsTopBlueprint = Suppliers.memoize(this::createLightBeamsTopBlueprint);
 	
 	public LightTowerBuildParts(WorldGenSludgeWormDungeon dungeon) {
 		this.dungeon = dungeon;
@@ -28,154 +46,59 @@ public class LightTowerBuildParts {
 	}
 
 	public void buildPitEntrance(World world, BlockPos pos, EnumFacing facing, Random rand, int level, int layer) {
-		rotatedCubeVolume(world, rand, pos, -7, 12 + level, 4, blockHelper.getMudBricksForLevel(rand, 7, 1), 1, 1, 4, facing);
-		rotatedCubeVolume(world, rand, pos, -7, 13 + level, 4, blockHelper.getMudBricksForLevel(rand, 7, 2), 1, 1, 3, facing);
-		rotatedCubeVolume(world, rand, pos, -7, 14 + level, 4, blockHelper.getMudBricksForLevel(rand, 7, 3), 1, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, -7, 15 + level, 4, blockHelper.getMudBricksForLevel(rand, 7, 1), 1, 1, 3, facing);
-
-		rotatedCubeVolume(world, rand, pos, -7, 12 + level, 3, blockHelper.getMudBricksForLevel(rand, 7, 1), 5, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -7, 13 + level, 3, blockHelper.getMudBricksForLevel(rand, 7, 2), 5, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -7, 14 + level, 3, blockHelper.getMudBricksForLevel(rand, 7, 3), 5, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -7, 15 + level, 3, blockHelper.getMudBricksForLevel(rand, 7, 1), 5, 1, 1, facing);
-
-		rotatedCubeVolume(world, rand, pos, -3, 12 + level, 4, blockHelper.getMudBricksForLevel(rand, 7, 1), 1, 1, 3, facing);
-		rotatedCubeVolume(world, rand, pos, -3, 13 + level, 4, blockHelper.getMudBricksForLevel(rand, 7, 2), 1, 1, 3, facing);
-		rotatedCubeVolume(world, rand, pos, -3, 14 + level, 4, blockHelper.getMudBricksForLevel(rand, 7, 3), 1, 1, 3, facing);
-		rotatedCubeVolume(world, rand, pos, -3, 15 + level, 4, blockHelper.getMudBricksForLevel(rand, 7, 1), 1, 1, 10, facing);
-
-		rotatedCubeVolume(world, rand, pos, -3, 12 + level, 8, blockHelper.getMudBricksForLevel(rand, 7, 1), 1, 1, 6, facing);
-		rotatedCubeVolume(world, rand, pos, -3, 13 + level, 8, blockHelper.getMudBricksForLevel(rand, 7, 2), 1, 1, 6, facing);
-		rotatedCubeVolume(world, rand, pos, -3, 14 + level, 8, blockHelper.getMudBricksForLevel(rand, 7, 3), 1, 1, 6, facing);
-
+		blockHelper.stampBlueprint(world, pos, pitEntranceBlueprint.get(), -7, 11 + level, 3, facing);
 		rotatedCubeVolume(world, rand, pos, -4, 15 + level, 5, blockHelper.getStairsForLevel(rand, 7, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.TOP), 1, 1, 2, facing);
 		rotatedCubeVolume(world, rand, pos, -4, 15 + level, 8, blockHelper.getStairsForLevel(rand, 7, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.TOP), 1, 1, 3, facing);
-		
-		rotatedCubeVolume(world, rand, pos, -6, 12 + level, 7, blockHelper.AIR, 3, 3, 4, facing);
-		rotatedCubeVolume(world, rand, pos, -7, 11 + level, 3, blockHelper.MUD_TILES_DECAY, 5, 1, 7, facing);
-		rotatedCubeVolume(world, rand, pos, -4, 11 + level, 10, blockHelper.MUD_TILES_DECAY, 2, 1, 2, facing);
 
 		for (int count = 1; count <= 3; count++)
 			this.dungeon.setBlockAndNotifyAdequately(world, pos.add(7, 15 + level, 3).offset(facing.rotateY(), count), blockHelper.getRandomBeam(facing.rotateY(), rand, level, count, false));
-		rotatedCubeVolume(world, rand, pos, -3, 12 + level, 7, blockHelper.getPillarsForLevel(rand, 7, 1), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -3, 13 + level, 7, blockHelper.getPillarsForLevel(rand, 7, 2), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -3, 14 + level, 7, blockHelper.getPillarsForLevel(rand, 7, 3), 1, 1, 1, facing);
+		blockHelper.stampBlueprint(world, pos, pitEntranceOpeningBlueprint.get(), -7, 12 + level, 4, facing);
 		rotatedCubeVolume(world, rand, pos, -4, 14 + level, 7, blockHelper.getRandomSupportBeam(facing.rotateY(), true, rand), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, -6, 14 + level, 7, blockHelper.getRandomSupportBeam(facing.getOpposite().rotateY(), true, rand), 1, 1, 1, facing);
-
-		
-		rotatedCubeVolume(world, rand, pos, -4, 12 + level, 5, blockHelper.AIR, 1, 3, 2, facing);
-		rotatedCubeVolume(world, rand, pos, -5, 12 + level, 5, blockHelper.AIR, 1, 4, 2, facing);
-		rotatedCubeVolume(world, rand, pos, -6, 13 + level, 5, blockHelper.AIR, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -6, 12 + level, 6, blockHelper.AIR, 1, 4, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -5, 12 + level, 4, blockHelper.AIR, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -7, 14 + level, 6, blockHelper.AIR, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -4, 12 + level, 11, blockHelper.AIR, 1, 1, 1, facing);
 	}
 
 	public void buildsMazeGate(World world, BlockPos pos, EnumFacing facing, Random rand, int level, int layer) {
 		
-		rotatedCubeVolume(world, rand, pos, 1, 0 + level, -2, blockHelper.getMudBricksForLevel(rand, 0, 0), 6, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 0 + level, -4, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 0 + level, -4, blockHelper.getMudBricksForLevel(rand, 0, 0), 2, 1, 1, facing);
+		blockHelper.stampBlueprint(world, pos, mazeGateBlueprint.get(), 0, level, -4, facing);
 		rotatedCubeVolume(world, rand, pos, 3, 0 + level, -4, blockHelper.getTilesForLevel(rand, 0), 3, 1, 1, facing);
-		
-		rotatedCubeVolume(world, rand, pos, 4, 0 + level, -1, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 0 + level, 0, blockHelper.getMudSlabsForLevel(rand, 0, BlockSlabBetweenlands.EnumBlockHalfBL.BOTTOM), 2, 1, 4, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 4 + level, -3, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 4, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 4, 5 + level, -2, blockHelper.getStairsForLevel(rand, 0, facing.getOpposite(), BlockStairsBetweenlands.EnumHalf.TOP), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 4, 5 + level, -4, blockHelper.getStairsForLevel(rand, 0, facing, BlockStairsBetweenlands.EnumHalf.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 6 + level, -3, blockHelper.MUD_TOWER_BEAM_RELAY.withProperty(BlockBeamRelay.FACING, facing), 1, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 6 + level, -4, blockHelper.getPillarsForLevel(rand, 0, 3), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 6 + level, -3, blockHelper.MUD_TOWER_BEAM_RELAY.withProperty(BlockBeamRelay.FACING, facing.getOpposite().rotateY()), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 5, 6 + level, -3, blockHelper.getMudBricksForLevel(rand, 0, 2), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 7 + level, -2, blockHelper.MUD_BRICK_WALL, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 7 + level, -4, blockHelper.MUD_BRICK_WALL, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 7 + level, -3, blockHelper.MUD_BRICK_WALL, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 5, 7 + level, -3, blockHelper.MUD_BRICK_WALL, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 7 + level, -2, blockHelper.MUD_BRICK_WALL, 1, 2, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 7 + level, -4, blockHelper.MUD_BRICK_WALL, 1, 2, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 5, 7 + level, -2, blockHelper.MUD_BRICK_WALL, 1, 2, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 5, 7 + level, -4, blockHelper.MUD_BRICK_WALL, 1, 2, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 8 + level, -3, blockHelper.ROOT, 1, 3, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 3, 0 + level, 4, blockHelper.getStairsForLevel(rand, 0, facing, BlockStairsBetweenlands.EnumHalf.BOTTOM), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 0 + level, 4, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 5, 0 + level, 4, blockHelper.getStairsForLevel(rand, 0, facing, BlockStairsBetweenlands.EnumHalf.BOTTOM), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 0 + level, 4, blockHelper.getMudSlabsForLevel(rand, 0, BlockSlabBetweenlands.EnumBlockHalfBL.BOTTOM), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 0 + level, 1, blockHelper.getMudSlabsForLevel(rand, 0, BlockSlabBetweenlands.EnumBlockHalfBL.BOTTOM), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 6, 0 + level, 2, blockHelper.getStairsForLevel(rand, 0, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 0 + level, 5, blockHelper.getMudBricksForLevel(rand, 0, 0), 3, 2, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 0 + level, 5, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 6, 1 + level, 5, blockHelper.getStairsForLevel(rand, 0, facing.rotateY(), BlockStairsBetweenlands.EnumHalf.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 2 + level, 5, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 3 + level, 5, blockHelper.MUD_BRICK_WALL, 1, 2, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 6, 5 + level, 5, blockHelper.getStairsForLevel(rand, 0, facing.rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 5, 6 + level, 5, blockHelper.getStairsForLevel(rand, 0, facing.rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 7 + level, 5, blockHelper.getMudSlabsForLevel(rand, 0, BlockSlabBetweenlands.EnumBlockHalfBL.BOTTOM), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 5, 5 + level, 5, blockHelper.getRandomSupportBeam(facing.rotateY(), true, rand), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 6 + level, 5, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 3, 5 + level, 5, blockHelper.getRandomSupportBeam(facing.getOpposite().rotateY(), true, rand), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 3, 6 + level, 5, blockHelper.getStairsForLevel(rand, 0, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 5, 2 + level, 5, blockHelper.getRandomSupportBeam(facing.rotateY(), false, rand), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 2 + level, 5, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 3, 2 + level, 5, blockHelper.getRandomSupportBeam(facing.getOpposite().rotateY(), false, rand), 1, 1, 1, facing);
-
-		// FL
-		rotatedCubeVolume(world, rand, pos, 2, 0 + level, -1, blockHelper.getMudSlabsForLevel(rand, 0, BlockSlabBetweenlands.EnumBlockHalfBL.BOTTOM), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 3, 0 + level, -1, blockHelper.getStairsForLevel(rand, 0, facing.getOpposite(), BlockStairsBetweenlands.EnumHalf.BOTTOM), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 2, 1 + level, -2, blockHelper.getMudBricksForLevel(rand, 0, 2), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 2, 2 + level, -2, blockHelper.getPillarsForLevel(rand, 0, 1), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 2, 3 + level, -2, blockHelper.getMudBricksForLevel(rand, 0, 2), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 2, 4 + level, -2, blockHelper.getStairsForLevel(rand, 0, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 3, 4 + level, -2, blockHelper.getStairsForLevel(rand, 0, facing.rotateY(), BlockStairsBetweenlands.EnumHalf.TOP), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 3, 5 + level, -2, blockHelper.getStairsForLevel(rand, 0, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 3, 6 + level, -2, blockHelper.getStairsForLevel(rand, 0, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.TOP), 1, 1, 1, facing);
-
-		//FR
-		rotatedCubeVolume(world, rand, pos, 6, 0 + level, -1, blockHelper.getMudSlabsForLevel(rand, 0, BlockSlabBetweenlands.EnumBlockHalfBL.BOTTOM), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 5, 0 + level, -1, blockHelper.getStairsForLevel(rand, 0, facing.getOpposite(), BlockStairsBetweenlands.EnumHalf.BOTTOM), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 1 + level, -2, blockHelper.getMudBricksForLevel(rand, 0, 2), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 2 + level, -2, blockHelper.getPillarsForLevel(rand, 0, 1), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 3 + level, -2, blockHelper.getMudBricksForLevel(rand, 0, 2), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 6, 4 + level, -2, blockHelper.getStairsForLevel(rand, 0, facing.rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 5, 4 + level, -2, blockHelper.getStairsForLevel(rand, 0, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.TOP), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 5, 5 + level, -2, blockHelper.getStairsForLevel(rand, 0, facing.rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 5, 6 + level, -2, blockHelper.getStairsForLevel(rand, 0, facing.rotateY(), BlockStairsBetweenlands.EnumHalf.TOP), 1, 1, 1, facing);
-
-		//MID L
-		rotatedCubeVolume(world, rand, pos, 0, 0 + level, -3, blockHelper.getMudSlabsForLevel(rand, 0, BlockSlabBetweenlands.EnumBlockHalfBL.BOTTOM), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 1, 0 + level, -3, blockHelper.getStairsForLevel(rand, 0, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 2, 0 + level, -3, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 2, 1 + level, -3, blockHelper.getMudSlabsForLevel(rand, 0, BlockSlabBetweenlands.EnumBlockHalfBL.BOTTOM), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 2, 3 + level, -3, blockHelper.getStairsForLevel(rand, 0, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 3, 4 + level, -3, blockHelper.getStairsForLevel(rand, 0, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 3, 5 + level, -3, blockHelper.getStairsForLevel(rand, 0, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.TOP), 1, 1, 1, facing);
-
-		//MID R
-		rotatedCubeVolume(world, rand, pos, 6, 0 + level, -3, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 1 + level, -3, blockHelper.getMudSlabsForLevel(rand, 0, BlockSlabBetweenlands.EnumBlockHalfBL.BOTTOM), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 6, 3 + level, -3, blockHelper.getStairsForLevel(rand, 0, facing.rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 5, 4 + level, -3, blockHelper.getStairsForLevel(rand, 0, facing.rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 5, 5 + level, -3, blockHelper.getStairsForLevel(rand, 0, facing.rotateY(), BlockStairsBetweenlands.EnumHalf.TOP), 1, 1, 1, facing);
-
-		//BL
-		rotatedCubeVolume(world, rand, pos, 2, 1 + level, -4, blockHelper.getMudBricksForLevel(rand, 0, 2), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 2, 2 + level, -4, blockHelper.getPillarsForLevel(rand, 0, 1), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 2, 3 + level, -4, blockHelper.getMudBricksForLevel(rand, 0, 2), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 2, 4 + level, -4, blockHelper.getStairsForLevel(rand, 0, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 3, 4 + level, -4, blockHelper.getStairsForLevel(rand, 0, facing.rotateY(), BlockStairsBetweenlands.EnumHalf.TOP), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 3, 5 + level, -4, blockHelper.getStairsForLevel(rand, 0, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 3, 6 + level, -4, blockHelper.getStairsForLevel(rand, 0, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.TOP), 1, 1, 1, facing);
-
-		//BR
-		rotatedCubeVolume(world, rand, pos, 6, 1 + level, -4, blockHelper.getMudBricksForLevel(rand, 0, 2), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 2 + level, -4, blockHelper.getPillarsForLevel(rand, 0, 1), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 3 + level, -4, blockHelper.getMudBricksForLevel(rand, 0, 2), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 6, 4 + level, -4, blockHelper.getStairsForLevel(rand, 0, facing.rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 5, 4 + level, -4, blockHelper.getStairsForLevel(rand, 0, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.TOP), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 5, 5 + level, -4, blockHelper.getStairsForLevel(rand, 0, facing.rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 5, 6 + level, -4, blockHelper.getStairsForLevel(rand, 0, facing.rotateY(), BlockStairsBetweenlands.EnumHalf.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 1 + level, -4, blockHelper.MUD_BRICK_WALL, 3, 3, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 0 + level, -3, blockHelper.AIR, 3, 1, 1, facing);  //Not sure if this is needed
 
 		this.dungeon.setBlockAndNotifyAdequately(world, pos.add(3, 2 + level, 4), blockHelper.DUNGEON_DOOR_WEST);
 		TileEntityDungeonDoorRunes tileLock = (TileEntityDungeonDoorRunes) world.getTileEntity(pos.add(3, 2 + level, 4));
@@ -190,9 +113,7 @@ public class LightTowerBuildParts {
 
 	public void buildsSpiralStairPart(World world, BlockPos pos, EnumFacing facing, Random rand, int level, int layer, boolean topEnd) {
 		if(topEnd) {
-			rotatedCubeVolume(world, rand, pos, 13, 0 + level, -2, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 12, 0 + level, -3, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 9, 0 + level, -4, blockHelper.getMudBricksForLevel(rand, 0, 0), 3, 1, 1, facing);
+			blockHelper.stampBlueprint(world, pos, spiralStairTopEndBlueprint.get(), 9, level, -4, facing);
 			rotatedCubeVolume(world, rand, pos, 10, 1 + level, -2, blockHelper.ROTTEN_PLANK_SLAB_LOWER, 3, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 10, 1 + level, -3, blockHelper.ROTTEN_PLANK_SLAB_LOWER, 2, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 13, 1 + level, -2, blockHelper.getRandomBeam(facing.rotateY(), rand, level, 0, false), 1, 1, 1, facing);
@@ -200,142 +121,50 @@ public class LightTowerBuildParts {
 			rotatedCubeVolume(world, rand, pos, 11, 1 + level, -4, blockHelper.getRandomBeam(facing.rotateY(), rand, level, 0, false), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 10, 1 + level, -4, blockHelper.getRandomBeam(facing.rotateY(), rand, level, 0, false), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 9, 1 + level, -4, blockHelper.getRandomBeam(facing.rotateY(), rand, level, 0, false), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 13, 2 + level, -2, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 12, 2 + level, -3, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 9, 2 + level, -4, blockHelper.getMudBricksForLevel(rand, 0, 0), 3, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 12, 3 + level, -3, blockHelper.ROOT, 1, 5, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 10, 3 + level, -4, blockHelper.ROOT, 1, 5, 1, facing);
 		}
-		rotatedCubeVolume(world, rand, pos, 10, 0 + level, 0, blockHelper.ROTTEN_PLANK_SLAB_UPPER, 4, 1, 1, facing);
+		blockHelper.stampBlueprint(world, pos, spiralStairLandingBlueprint.get(), 10, -1 + level, -1, facing);
 		rotatedCubeVolume(world, rand, pos, 10, 1 + level, -1, blockHelper.ROTTEN_PLANK_SLAB_LOWER, 4, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 14, -1 + level, 0, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 14, 0 + level, -1, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 14, 0 + level, 0, blockHelper.getRandomBeam(facing.rotateY(), rand, level, 0, false), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 14, 1 + level, -1, blockHelper.getRandomBeam(facing.rotateY(), rand, level, 0, false), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 14, 1 + level, 0, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 14, 2 + level, -1, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 14, 3 + level, -1, blockHelper.ROOT, 1, 5, 1, facing);
 
 		if(level < 16) {
 			rotatedCubeVolume(world, rand, pos, 8, 4 + level, -6, level == 0 ? blockHelper.PITSTONE_BRICKS : blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 8, 5 + level, -6, blockHelper.getRandomLootUrn(rand, facing), 1, 1, 1, facing);
 		}
 		if (level == 0) {
-			rotatedCubeVolume(world, rand, pos, 10, level, 1, blockHelper.ROTTEN_PLANKS, 6, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 10, level, 2, blockHelper.ROTTEN_PLANKS, 5, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 10, level, 3, blockHelper.ROTTEN_PLANKS, 4, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 11, level, 4, blockHelper.ROTTEN_PLANKS, 2, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 13, 1 + level, -5, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 13, 1 + level, -6, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 12, 1 + level, -7, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 2, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 11, 1 + level, -8, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 2, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 11, 1 + level, -9, blockHelper.ROOT, 1, 2, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 9, 1 + level, -10, blockHelper.ROOT, 1, 2, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 7, 1 + level, -12, blockHelper.ROOT, 1, 3, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 5, 1 + level, -13, blockHelper.ROOT, 1, 4, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 3, 1 + level, -14, blockHelper.ROOT, 1, 5, 1, facing);
+			blockHelper.stampBlueprint(world, pos, spiralStairBottomBlueprint.get(), 3, level, -14, facing);
 		}
 
 		if(!topEnd) {
-			rotatedCubeVolume(world, rand, pos, 10, 1 + level, -2, blockHelper.ROTTEN_PLANK_SLAB_UPPER, 4, 1, 1, facing);
+			blockHelper.stampBlueprint(world, pos, spiralStairFlightBlueprint.get(), 1, level, -14, facing);
 			rotatedCubeVolume(world, rand, pos, 10, 2 + level, -3, blockHelper.ROTTEN_PLANK_SLAB_LOWER, 4, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 9, 2 + level, -4, blockHelper.ROTTEN_PLANK_SLAB_UPPER, 4, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 9, 3 + level, -5, blockHelper.ROTTEN_PLANK_SLAB_LOWER, 4, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 9, 3 + level, -6, blockHelper.ROTTEN_PLANK_SLAB_UPPER, 4, 1, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, 14, 2 + level, -2, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 14, 3 + level, -3, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 13, 3 + level, -4, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 13, 4 + level, -5, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 13, 4 + level, -6, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-
 			rotatedCubeVolume(world, rand, pos, 14, 1 + level, -2, blockHelper.getRandomBeam(facing.rotateY(), rand, level, 0, false), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 14, 2 + level, -3, blockHelper.getRandomBeam(facing.rotateY(), rand, level, 0, false), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 13, 2 + level, -4, blockHelper.getRandomBeam(facing.rotateY(), rand, level, 0, false), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 13, 3 + level, -5, blockHelper.getRandomBeam(facing.rotateY(), rand, level, 0, false), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 13, 3 + level, -6, blockHelper.getRandomBeam(facing.rotateY(), rand, level, 0, false), 1, 1, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, 14, 0 + level, -2, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 14, 1 + level, -3, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 13, 1 + level, -4, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 13, 2 + level, -5, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 13, 2 + level, -6, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, 14, 4 + level, -3, blockHelper.ROOT, 1, 5, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 13, 5 + level, -5, blockHelper.ROOT, 1, 5, 1, facing);
-
 			rotatedCubeVolume(world, rand, pos, 9, 4 + level, -7, blockHelper.ROTTEN_PLANK_SLAB_LOWER, 3, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 9, 4 + level, -8, blockHelper.ROTTEN_PLANK_SLAB_LOWER, 2, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 9, 4 + level, -9, blockHelper.ROTTEN_PLANK_SLAB_LOWER, 2, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 9, 4 + level, -10, blockHelper.ROTTEN_PLANK_SLAB_LOWER, 1, 1, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, 12, 3 + level, -7, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 11, 3 + level, -8, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 11, 3 + level, -9, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 10, 3 + level, -10, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 9, 3 + level, -10, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-
 			rotatedCubeVolume(world, rand, pos, 12, 4 + level, -7, blockHelper.getRandomBeam(facing.rotateY(), rand, level, 0, false), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 11, 4 + level, -8, blockHelper.getRandomBeam(facing.rotateY(), rand, level, 0, false), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 11, 4 + level, -9, blockHelper.getRandomBeam(facing.rotateY(), rand, level, 0, false), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 10, 4 + level, -10, blockHelper.getRandomBeam(facing.rotateY(), rand, level, 0, false), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 9, 4 + level, -10, blockHelper.getRandomBeam(facing.rotateY(), rand, level, 0, false), 1, 1, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, 12, 5 + level, -7, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 11, 5 + level, -8, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 11, 5 + level, -9, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 10, 5 + level, -10, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 9, 5 + level, -10, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, 12, 6 + level, -7, blockHelper.ROOT, 1, 5, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 11, 6 + level, -9, blockHelper.ROOT, 1, 5, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 9, 6 + level, -10, blockHelper.ROOT, 1, 5, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, 8, 4 + level, -10, blockHelper.ROTTEN_PLANK_SLAB_UPPER, 1, 1, 4, facing);
 			rotatedCubeVolume(world, rand, pos, 7, 5 + level, -11, blockHelper.ROTTEN_PLANK_SLAB_LOWER, 1, 1, 5, facing);
-			rotatedCubeVolume(world, rand, pos, 6, 5 + level, -12, blockHelper.ROTTEN_PLANK_SLAB_UPPER, 1, 1, 5, facing);
-
-			rotatedCubeVolume(world, rand, pos, 8, 3 + level, -11, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 7, 4 + level, -12, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 6, 4 + level, -13, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-
 			rotatedCubeVolume(world, rand, pos, 8, 4 + level, -11, blockHelper.getRandomBeam(facing.rotateY(), rand, level, 0, false), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 7, 5 + level, -12, blockHelper.getRandomBeam(facing.rotateY(), rand, level, 0, false), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 6, 5 + level, -13, blockHelper.getRandomBeam(facing.rotateY(), rand, level, 0, false), 1, 1, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, 8, 5 + level, -11, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 7, 6 + level, -12, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 6, 6 + level, -13, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, 7, 7 + level, -12, blockHelper.ROOT, 1, 5, 1, facing);
-
 			rotatedCubeVolume(world, rand, pos, 5, 6 + level, -12, blockHelper.ROTTEN_PLANK_SLAB_LOWER, 1, 1, 4, facing);
-			rotatedCubeVolume(world, rand, pos, 4, 6 + level, -12, blockHelper.ROTTEN_PLANK_SLAB_UPPER, 1, 1, 4, facing);
 			rotatedCubeVolume(world, rand, pos, 3, 7 + level, -13, blockHelper.ROTTEN_PLANK_SLAB_LOWER, 1, 1, 4, facing);
-			rotatedCubeVolume(world, rand, pos, 2, 7 + level, -13, blockHelper.ROTTEN_PLANK_SLAB_UPPER, 1, 1, 4, facing);
 			rotatedCubeVolume(world, rand, pos, 1, 8 + level, -13, blockHelper.ROTTEN_PLANK_SLAB_LOWER, 1, 1, 4, facing);
-
-			rotatedCubeVolume(world, rand, pos, 5, 5 + level, -13, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 4, 5 + level, -13, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 3, 6 + level, -14, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 2, 6 + level, -14, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 1, 7 + level, -14, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-
 			rotatedCubeVolume(world, rand, pos, 5, 6 + level, -13, blockHelper.getRandomBeam(facing.rotateY(), rand, level, 0, false), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 4, 6 + level, -13, blockHelper.getRandomBeam(facing.rotateY(), rand, level, 0, false), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 3, 7 + level, -14, blockHelper.getRandomBeam(facing.rotateY(), rand, level, 0, false), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 2, 7 + level, -14, blockHelper.getRandomBeam(facing.rotateY(), rand, level, 0, false), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 1, 8 + level, -14, blockHelper.getRandomBeam(facing.rotateY(), rand, level, 0, false), 1, 1, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, 5, 7 + level, -13, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 4, 7 + level, -13, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 3, 8 + level, -14, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 2, 8 + level, -14, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 1, 9 + level, -14, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, 5, 8 + level, -13, blockHelper.ROOT, 1, 5, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 3, 9 + level, -14, blockHelper.ROOT, 1, 5, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 1, 10 + level, -14, blockHelper.ROOT, 1, 5, 1, facing);
 		}
 	}
 
@@ -404,8 +233,7 @@ public class LightTowerBuildParts {
 			rotatedCubeVolume(world, rand, pos, -3, 1 + level, 3, blockHelper.getRandomBeam(facing, rand, level, 0, false), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, -3, 2 + level, 3, blockHelper.BRAZIER_BOTTOM, 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, -3, 3 + level, 3, blockHelper.BRAZIER_TOP, 1, 1, 1, facing); 
-			rotatedCubeVolume(world, rand, pos, -4, 1 + level, 3, blockHelper.PITSTONE_BRICKS, 1, 1, 1, facing);
-
+			blockHelper.stampBlueprint(world, pos, towerTopBlueprint.get(), -9, level, 1, facing);
 			rotatedCubeVolume(world, rand, pos, -4, 1 + level, 2, blockHelper.getStairsForLevel(rand, level, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, -4, 1 + level, 4, blockHelper.getStairsForLevel(rand, 0, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, -2, 1 + level, 2, blockHelper.getStairsForLevel(rand, level, facing.rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM), 1, 1, 1, facing);
@@ -415,25 +243,10 @@ public class LightTowerBuildParts {
 			rotatedCubeVolume(world, rand, pos, -3, 1 + level, 4, blockHelper.getStairsForTowerLevel(rand, level, facing.getOpposite(), BlockStairsBetweenlands.EnumHalf.BOTTOM, true), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, -4, 2 + level, 3, blockHelper.getStairsForTowerLevel(rand, level, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM, true), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, -5, 1 + level, 3, blockHelper.getStairsForTowerLevel(rand, level, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM, true), 1, 1, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, -5, 0 + level, 6, blockHelper.PITSTONE_BRICKS, 1, 1, 2, facing);
-			rotatedCubeVolume(world, rand, pos, -7, 0 + level, 5, blockHelper.PITSTONE_BRICKS, 2, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -7, 0 + level, 4, blockHelper.PITSTONE_BRICKS, 2, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -4, 0 + level, 5, blockHelper.PITSTONE_BRICKS, 1, 1, 3, facing);
-			rotatedCubeVolume(world, rand, pos, -5, 0 + level, 4, blockHelper.PITSTONE_BRICKS, 1, 1, 2, facing);
-			rotatedCubeVolume(world, rand, pos, -2, 0 + level, 5, blockHelper.PITSTONE_BRICKS, 5, 1, 3, facing);
-			rotatedCubeVolume(world, rand, pos, -1, 0 + level, 4, blockHelper.PITSTONE_BRICKS, 3, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -2, 0 + level, 8, blockHelper.PITSTONE_BRICKS, 3, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -8, 0 + level, 1, blockHelper.PITSTONE_BRICKS, 1, 1, 2, facing);
-
-			//top bit arches and stuff
-			rotatedCubeVolume(world, rand, pos, -2, 1 + level, 8, blockHelper.PITSTONE_PILLAR, 1, 3, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -2, 4 + level, 8, blockHelper.PITSTONE_BRICKS, 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, -3, 4 + level, 7, blockHelper.getStairsForTowerLevel(rand, level, facing, BlockStairsBetweenlands.EnumHalf.TOP, false), 3, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, -1, 4 + level, 8, blockHelper.getStairsForTowerLevel(rand, level, facing.rotateY(), BlockStairsBetweenlands.EnumHalf.TOP, false), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 0, 4 + level, 8, blockHelper.getStairsForTowerLevel(rand, level, facing, BlockStairsBetweenlands.EnumHalf.TOP, false), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, -3, 4 + level, 8, blockHelper.getStairsForTowerLevel(rand, level, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.TOP, false), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -3, 5 + level, 8, blockHelper.SMOOTH_PITSTONE_SLAB_LOWER, 2, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, -4, 5 + level, 8, blockHelper.getStairsForTowerLevel(rand, level, facing.rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM, false), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, -5, 6 + level, 6, blockHelper.getStairsForTowerLevel(rand, level, facing.rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM, false), 1, 1, 3, facing);
 			rotatedCubeVolume(world, rand, pos, -6, 6 + level, 7, blockHelper.getStairsForTowerLevel(rand, level, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM, false), 1, 1, 2, facing);
@@ -441,48 +254,19 @@ public class LightTowerBuildParts {
 			rotatedCubeVolume(world, rand, pos, -7, 6 + level, 6, blockHelper.getStairsForTowerLevel(rand, level, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM, false), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, -8, 6 + level, 6, blockHelper.getStairsForTowerLevel(rand, level, facing.getOpposite(), BlockStairsBetweenlands.EnumHalf.BOTTOM, false), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, -8, 6 + level, 5, blockHelper.getStairsForTowerLevel(rand, level, facing, BlockStairsBetweenlands.EnumHalf.BOTTOM, false), 3, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -2, 1 + level, 9, blockHelper.PITSTONE_BRICKS, 1, 3, 1, facing);
 			rotatedCubeVolume(world, rand, pos, -2, 4 + level, 9, blockHelper.getStairsForTowerLevel(rand, level, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM, true), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -1, 4 + level, 9, blockHelper.PITSTONE_BRICKS, 2, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -1, 5 + level, 9, blockHelper.SMOOTH_PITSTONE_SLAB_LOWER, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -1, 5 + level, 7, blockHelper.SMOOTH_PITSTONE_SLAB_LOWER, 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 0, 5 + level, 9, blockHelper.getStairsForTowerLevel(rand, level, facing.getOpposite(), BlockStairsBetweenlands.EnumHalf.BOTTOM, false), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 0, 5 + level, 7, blockHelper.getStairsForTowerLevel(rand, level, facing, BlockStairsBetweenlands.EnumHalf.BOTTOM, false), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, -1, 5 + level, 8, blockHelper.getStairsForTowerLevel(rand, level, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM, false), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 0, 5 + level, 8, blockHelper.SMOOTH_PITSTONE, 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, -1, 3 + level, 9, blockHelper.getStairsForTowerLevel(rand, level, facing.rotateY(), BlockStairsBetweenlands.EnumHalf.TOP, true), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -3, 1 + level, 8, blockHelper.PITSTONE_BRICKS, 1, 2, 2, facing);
 			rotatedCubeVolume(world, rand, pos, -3, 3 + level, 8, blockHelper.getStairsForTowerLevel(rand, level, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.BOTTOM, true), 1, 1, 2, facing);
-			rotatedCubeVolume(world, rand, pos, -5, 1 + level, 8, blockHelper.PITSTONE_BRICKS, 2, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -6, 1 + level, 6, blockHelper.PITSTONE_BRICKS, 1, 1, 2, facing);
-			rotatedCubeVolume(world, rand, pos, -7, 1 + level, 6, blockHelper.PITSTONE_BRICKS, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -8, 1 + level, 4, blockHelper.PITSTONE_BRICKS, 1, 1, 2, facing);
-			rotatedCubeVolume(world, rand, pos, -9, 1 + level, 3, blockHelper.PITSTONE_BRICKS, 2, 2, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -9, 1 + level, 2, blockHelper.PITSTONE_BRICKS, 1, 3, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -8, 1 + level, 2, blockHelper.PITSTONE_PILLAR, 1, 3, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -8, 4 + level, 2, blockHelper.PITSTONE_BRICKS, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -5, 2 + level, 8, blockHelper.PITSTONE_TILES, 2, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -6, 2 + level, 6, blockHelper.PITSTONE_TILES, 1, 1, 2, facing);
-			rotatedCubeVolume(world, rand, pos, -7, 2 + level, 6, blockHelper.PITSTONE_TILES, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -8, 2 + level, 4, blockHelper.PITSTONE_TILES, 1, 1, 2, facing);
-			rotatedCubeVolume(world, rand, pos, -5, 3 + level, 8, blockHelper.PITSTONE_PILLAR, 1, 2, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -5, 5 + level, 8, blockHelper.SMOOTH_PITSTONE, 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, -6, 5 + level, 7, blockHelper.getStairsForTowerLevel(rand, level, facing, BlockStairsBetweenlands.EnumHalf.TOP, false), 2, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, -6, 5 + level, 8, blockHelper.getStairsForTowerLevel(rand, level, facing.getOpposite().rotateY(), BlockStairsBetweenlands.EnumHalf.TOP, false), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -6, 3 + level, 6, blockHelper.PITSTONE_PILLAR, 1, 3, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -6, 6 + level, 6, blockHelper.SMOOTH_PITSTONE, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -6, 7 + level, 6, blockHelper.SMOOTH_PITSTONE_SLAB_LOWER, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -8, 3 + level, 5, blockHelper.PITSTONE_PILLAR, 1, 2, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -8, 5 + level, 5, blockHelper.SMOOTH_PITSTONE, 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, -8, 5 + level, 4, blockHelper.getStairsForTowerLevel(rand, level, facing, BlockStairsBetweenlands.EnumHalf.BOTTOM, false), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, -7, 5 + level, 5, blockHelper.getStairsForTowerLevel(rand, level, facing.rotateY(), BlockStairsBetweenlands.EnumHalf.TOP, false), 1, 1, 2, facing);
 			rotatedCubeVolume(world, rand, pos, -8, 5 + level, 6, blockHelper.getStairsForTowerLevel(rand, level, facing.getOpposite(), BlockStairsBetweenlands.EnumHalf.TOP, false), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -8, 5 + level, 2, blockHelper.SMOOTH_PITSTONE_SLAB_LOWER, 1, 1, 2, facing);
 			rotatedCubeVolume(world, rand, pos, -7, 4 + level, 1, blockHelper.getStairsForTowerLevel(rand, level, facing.rotateY(), BlockStairsBetweenlands.EnumHalf.TOP, false), 1, 1, 3, facing);
-			rotatedCubeVolume(world, rand, pos, -7, 5 + level, 1, blockHelper.SMOOTH_PITSTONE_SLAB_LOWER, 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, -8, 5 + level, 1, blockHelper.getStairsForTowerLevel(rand, level, facing.getOpposite(), BlockStairsBetweenlands.EnumHalf.BOTTOM, false), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -9, 5 + level, 1, blockHelper.SMOOTH_PITSTONE_SLAB_LOWER, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -9, 4 + level, 1, blockHelper.PITSTONE_BRICKS, 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, -9, 4 + level, 2, blockHelper.getStairsForTowerLevel(rand, level, facing.getOpposite(), BlockStairsBetweenlands.EnumHalf.BOTTOM, true), 1, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, -9, 3 + level, 3, blockHelper.getStairsForTowerLevel(rand, level, facing.getOpposite(), BlockStairsBetweenlands.EnumHalf.BOTTOM, true), 2, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, -8, 4 + level, 3, blockHelper.getStairsForTowerLevel(rand, level, facing.getOpposite(), BlockStairsBetweenlands.EnumHalf.TOP, true), 1, 1, 1, facing);
@@ -514,133 +298,425 @@ public class LightTowerBuildParts {
 
 	public void addLightBeams(World world, BlockPos pos, EnumFacing facing, Random rand, int level, int i) {
 		if(level == 0) {
-			rotatedCubeVolume(world, rand, pos, -2, 2 + level, 4, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -2, 1 + level, 4, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 2, 2 + level, 4, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 2, 1 + level, 4, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1, facing);
+			blockHelper.stampBlueprint(world, pos, lightBeamsBottomBlueprint.get(), -7, 1 + level, -4, facing);
+			rotatedCubeVolume(world, rand, pos, 15, 7 + level, -1, blockHelper.getRandomSupportBeam(facing.getOpposite().rotateY(), false, rand), 1, 1, 1, facing);
+		}
+		
+		if(level == 8) {
+			blockHelper.stampBlueprint(world, pos, lightBeamsMiddleBlueprint.get(), -7, -1 + level, -4, facing);
+		}
 
-			rotatedCubeVolume(world, rand, pos, -7, 1 + level, 4, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 7, 1 + level, 4, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
+		if(level == 16) {
+			blockHelper.stampBlueprint(world, pos, lightBeamsTopBlueprint.get(), -7, level, -4, facing);
+		}
+	}
 
-			rotatedCubeVolume(world, rand, pos, 15, 6 + level, -1, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 14, 6 + level, -1, blockHelper.AIR, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 14, 7 + level, -1, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 15, 7 + level, -1, blockHelper.getRandomSupportBeam(facing.getOpposite().rotateY(), false, rand), 1, 1, 1, facing);
+	@SuppressWarnings("incomplete-switch")
+	private StructureBlueprint createPitEntranceBlueprint() {
+		return StructureBlueprint.builder(5, 5, 11)
+				.fill(0, 1, 1, blockHelper.MUD_BRICKS_DECAY_4, 1, 1, 4)
+				.fill(0, 2, 1, blockHelper.MUD_BRICKS_CARVED_DECAY_4, 1, 1, 3)
+				.fill(0, 3, 1, blockHelper.MUD_BRICKS_CARVED_EDGE_DECAY_4, 1, 1, 2)
+				.fill(0, 4, 1, blockHelper.MUD_BRICKS_DECAY_4, 1, 1, 3)
+
+				.fill(0, 1, 0, blockHelper.MUD_BRICKS_DECAY_4, 5, 1, 1)
+				.fill(0, 2, 0, blockHelper.MUD_BRICKS_CARVED_DECAY_4, 5, 1, 1)
+				.fill(0, 3, 0, blockHelper.MUD_BRICKS_CARVED_EDGE_DECAY_4, 5, 1, 1)
+				.fill(0, 4, 0, blockHelper.MUD_BRICKS_DECAY_4, 5, 1, 1)
+
+				.fill(4, 1, 1, blockHelper.MUD_BRICKS_DECAY_4, 1, 1, 3)
+				.fill(4, 2, 1, blockHelper.MUD_BRICKS_CARVED_DECAY_4, 1, 1, 3)
+				.fill(4, 3, 1, blockHelper.MUD_BRICKS_CARVED_EDGE_DECAY_4, 1, 1, 3)
+				.fill(4, 4, 1, blockHelper.MUD_BRICKS_DECAY_4, 1, 1, 10)
+
+				.fill(4, 1, 5, blockHelper.MUD_BRICKS_DECAY_4, 1, 1, 6)
+				.fill(4, 2, 5, blockHelper.MUD_BRICKS_CARVED_DECAY_4, 1, 1, 6)
+				.fill(4, 3, 5, blockHelper.MUD_BRICKS_CARVED_EDGE_DECAY_4, 1, 1, 6)
+
+				.fill(1, 1, 4, blockHelper.AIR, 3, 3, 4)
+				.fill(0, 0, 0, blockHelper.MUD_TILES_DECAY, 5, 1, 7)
+				.fill(3, 0, 7, blockHelper.MUD_TILES_DECAY, 2, 1, 2)
+				.build();
+	}
 
-			rotatedCubeVolume(world, rand, pos, -2, 3 + level, -4, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -2, 1 + level, -4, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 2, 1, facing);
-			
-			rotatedCubeVolume(world, rand, pos, 2, 3 + level, -4, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 2, 1 + level, -4, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 2, 1, facing);
+	private StructureBlueprint createPitEntranceOpeningBlueprint() {
+		return StructureBlueprint.builder(5, 4, 8)
+				.fill(4, 0, 3, blockHelper.WORM_DUNGEON_PILLAR_DECAY_FULL, 1, 1, 1)
+				.fill(4, 1, 3, blockHelper.WORM_DUNGEON_PILLAR_DECAY_4, 1, 1, 1)
+				.fill(4, 2, 3, blockHelper.WORM_DUNGEON_PILLAR_TOP_DECAY_FULL, 1, 1, 1)
+
+				.fill(3, 0, 1, blockHelper.AIR, 1, 3, 2)
+				.fill(2, 0, 1, blockHelper.AIR, 1, 4, 2)
+				.fill(1, 1, 1, blockHelper.AIR, 1, 1, 1)
+				.fill(1, 0, 2, blockHelper.AIR, 1, 4, 1)
+				.fill(2, 0, 0, blockHelper.AIR, 1, 1, 1)
+				.fill(0, 2, 2, blockHelper.AIR, 1, 1, 1)
+				.fill(3, 0, 7, blockHelper.AIR, 1, 1, 1)
+				.build();
+	}
 
-			rotatedCubeVolume(world, rand, pos, -7, 1 + level, -4, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 7, 1 + level, -4, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
+	private StructureBlueprint createMazeGateBlueprint() {
+		return StructureBlueprint.builder(7, 11, 10)
+				.fill(1, 0, 2, blockHelper.MUD_BRICKS, 6, 1, 1)
+				.fill(6, 0, 0, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(1, 0, 0, blockHelper.MUD_BRICKS, 2, 1, 1)
+
+				.fill(4, 0, 3, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(4, 0, 4, blockHelper.MUD_BRICK_SLAB.withProperty(BlockSlabBetweenlands.HALF, BlockSlabBetweenlands.EnumBlockHalfBL.BOTTOM), 2, 1, 4)
+				.fill(4, 4, 1, blockHelper.MUD_BRICKS, 1, 4, 1)
+				.fill(4, 6, 1, facingState(facing -> blockHelper.MUD_TOWER_BEAM_RELAY.withProperty(BlockBeamRelay.FACING, facing)), 1, 1, 2)
+				.fill(4, 6, 0, blockHelper.WORM_DUNGEON_PILLAR_TOP, 1, 1, 1)
+				.fill(3, 6, 1, facingState(facing -> blockHelper.MUD_TOWER_BEAM_RELAY.withProperty(BlockBeamRelay.FACING, facing.getOpposite().rotateY())), 1, 1, 1)
+				.fill(5, 6, 1, blockHelper.MUD_BRICKS_CARVED, 1, 1, 1)
+				.fill(4, 7, 2, blockHelper.MUD_BRICK_WALL, 1, 1, 1)
+				.fill(4, 7, 0, blockHelper.MUD_BRICK_WALL, 1, 1, 1)
+				.fill(3, 7, 1, blockHelper.MUD_BRICK_WALL, 1, 1, 1)
+				.fill(5, 7, 1, blockHelper.MUD_BRICK_WALL, 1, 1, 1)
+				.fill(3, 7, 2, blockHelper.MUD_BRICK_WALL, 1, 2, 1)
+				.fill(3, 7, 0, blockHelper.MUD_BRICK_WALL, 1, 2, 1)
+				.fill(5, 7, 2, blockHelper.MUD_BRICK_WALL, 1, 2, 1)
+				.fill(5, 7, 0, blockHelper.MUD_BRICK_WALL, 1, 2, 1)
+				.fill(4, 8, 1, blockHelper.ROOT, 1, 3, 1)
+				.fill(4, 0, 8, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(6, 0, 8, blockHelper.MUD_BRICK_SLAB.withProperty(BlockSlabBetweenlands.HALF, BlockSlabBetweenlands.EnumBlockHalfBL.BOTTOM), 1, 1, 1)
+				.fill(3, 0, 5, blockHelper.MUD_BRICK_SLAB.withProperty(BlockSlabBetweenlands.HALF, BlockSlabBetweenlands.EnumBlockHalfBL.BOTTOM), 1, 1, 1)
+				.fill(3, 0, 9, blockHelper.MUD_BRICKS, 3, 2, 1)
+				.fill(6, 0, 9, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(6, 2, 9, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(6, 3, 9, blockHelper.MUD_BRICK_WALL, 1, 2, 1)
+				.fill(4, 7, 9, blockHelper.MUD_BRICK_SLAB.withProperty(BlockSlabBetweenlands.HALF, BlockSlabBetweenlands.EnumBlockHalfBL.BOTTOM), 1, 1, 1)
+				.fill(4, 6, 9, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+				.fill(4, 2, 9, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+
+				// FL
+				.fill(2, 0, 3, blockHelper.MUD_BRICK_SLAB.withProperty(BlockSlabBetweenlands.HALF, BlockSlabBetweenlands.EnumBlockHalfBL.BOTTOM), 1, 1, 1)
+				.fill(2, 1, 2, blockHelper.MUD_BRICKS_CARVED, 1, 1, 1)
+				.fill(2, 2, 2, blockHelper.WORM_DUNGEON_PILLAR, 1, 1, 1)
+				.fill(2, 3, 2, blockHelper.MUD_BRICKS_CARVED, 1, 1, 1)
+
+				//FR
+				.fill(6, 0, 3, blockHelper.MUD_BRICK_SLAB.withProperty(BlockSlabBetweenlands.HALF, BlockSlabBetweenlands.EnumBlockHalfBL.BOTTOM), 1, 1, 1)
+				.fill(6, 1, 2, blockHelper.MUD_BRICKS_CARVED, 1, 1, 1)
+				.fill(6, 2, 2, blockHelper.WORM_DUNGEON_PILLAR, 1, 1, 1)
+				.fill(6, 3, 2, blockHelper.MUD_BRICKS_CARVED, 1, 1, 1)
+
+				//MID L
+				.fill(0, 0, 1, blockHelper.MUD_BRICK_SLAB.withProperty(BlockSlabBetweenlands.HALF, BlockSlabBetweenlands.EnumBlockHalfBL.BOTTOM), 1, 1, 1)
+				.fill(2, 0, 1, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(2, 1, 1, blockHelper.MUD_BRICK_SLAB.withProperty(BlockSlabBetweenlands.HALF, BlockSlabBetweenlands.EnumBlockHalfBL.BOTTOM), 1, 1, 1)
+
+				//MID R
+				.fill(6, 0, 1, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(6, 1, 1, blockHelper.MUD_BRICK_SLAB.withProperty(BlockSlabBetweenlands.HALF, BlockSlabBetweenlands.EnumBlockHalfBL.BOTTOM), 1, 1, 1)
+
+				//BL
+				.fill(2, 1, 0, blockHelper.MUD_BRICKS_CARVED, 1, 1, 1)
+				.fill(2, 2, 0, blockHelper.WORM_DUNGEON_PILLAR, 1, 1, 1)
+				.fill(2, 3, 0, blockHelper.MUD_BRICKS_CARVED, 1, 1, 1)
+
+				//BR
+				.fill(6, 1, 0, blockHelper.MUD_BRICKS_CARVED, 1, 1, 1)
+				.fill(6, 2, 0, blockHelper.WORM_DUNGEON_PILLAR, 1, 1, 1)
+				.fill(6, 3, 0, blockHelper.MUD_BRICKS_CARVED, 1, 1, 1)
+				.fill(3, 1, 0, blockHelper.MUD_BRICK_WALL, 3, 3, 1)
+				.fill(3, 0, 1, blockHelper.AIR, 3, 1, 1) //Not sure if this is needed
+				.build();
+	}
 
-			rotatedCubeVolume(world, rand, pos, 7, 7 + level, -1, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 7, 6 + level, -1, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 8, 6 + level, -1, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS.withProperty(BlockBeamLensSupport.FACING, facing.rotateY()), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 9, 6 + level, -1, blockHelper.MUD_TOWER_BEAM_TUBE.withProperty(BlockBeamTube.FACING, facing.rotateY()), 1, 1, 1, facing);
+	private StructureBlueprint createSpiralStairTopEndBlueprint() {
+		return StructureBlueprint.builder(5, 8, 3)
+				.fill(4, 0, 2, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(3, 0, 1, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(0, 0, 0, blockHelper.MUD_BRICKS, 3, 1, 1)
+				.fill(4, 2, 2, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(3, 2, 1, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(0, 2, 0, blockHelper.MUD_BRICKS, 3, 1, 1)
+				.fill(3, 3, 1, blockHelper.ROOT, 1, 5, 1)
+				.fill(1, 3, 0, blockHelper.ROOT, 1, 5, 1)
+				.build();
+	}
 
-			rotatedCubeVolume(world, rand, pos, 5, 1 + level, 4, blockHelper.PITSTONE_BRICKS, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 5, 2 + level, 4, blockHelper.PITSTONE_PILLAR, 1, 5, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 5, 7 + level, 4, blockHelper.PITSTONE_BRICKS, 1, 1, 1, facing);
+	private StructureBlueprint createSpiralStairLandingBlueprint() {
+		return StructureBlueprint.builder(5, 9, 2)
+				.fill(0, 1, 1, blockHelper.ROTTEN_PLANK_SLAB_UPPER, 4, 1, 1)
+				.fill(4, 0, 1, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(4, 1, 0, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(4, 2, 1, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(4, 3, 0, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(4, 4, 0, blockHelper.ROOT, 1, 5, 1)
+				.build();
+	}
 
-			rotatedCubeVolume(world, rand, pos, 5, 1 + level, -4, blockHelper.PITSTONE_BRICKS, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 5, 2 + level, -4, blockHelper.PITSTONE_PILLAR, 1, 5, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 5, 7 + level, -4, blockHelper.PITSTONE_BRICKS, 1, 1, 1, facing);
+	private StructureBlueprint createSpiralStairBottomBlueprint() {
+		return StructureBlueprint.builder(13, 6, 19)
+				.fill(7, 0, 15, blockHelper.ROTTEN_PLANKS, 6, 1, 1)
+				.fill(7, 0, 16, blockHelper.ROTTEN_PLANKS, 5, 1, 1)
+				.fill(7, 0, 17, blockHelper.ROTTEN_PLANKS, 4, 1, 1)
+				.fill(8, 0, 18, blockHelper.ROTTEN_PLANKS, 2, 1, 1)
+				.fill(10, 1, 9, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(10, 1, 8, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(9, 1, 7, blockHelper.MUD_BRICKS, 1, 2, 1)
+				.fill(8, 1, 6, blockHelper.MUD_BRICKS, 1, 2, 1)
+				.fill(8, 1, 5, blockHelper.ROOT, 1, 2, 1)
+				.fill(6, 1, 4, blockHelper.ROOT, 1, 2, 1)
+				.fill(4, 1, 2, blockHelper.ROOT, 1, 3, 1)
+				.fill(2, 1, 1, blockHelper.ROOT, 1, 4, 1)
+				.fill(0, 1, 0, blockHelper.ROOT, 1, 5, 1)
+				.build();
+	}
 
-			rotatedCubeVolume(world, rand, pos, -5, 1 + level, 4, blockHelper.PITSTONE_BRICKS, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -5, 2 + level, 4, blockHelper.PITSTONE_PILLAR, 1, 5, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -5, 7 + level, 4, blockHelper.PITSTONE_BRICKS, 1, 1, 1, facing);
+	private StructureBlueprint createSpiralStairFlightBlueprint() {
+		return StructureBlueprint.builder(14, 15, 13)
+				.fill(9, 1, 12, blockHelper.ROTTEN_PLANK_SLAB_UPPER, 4, 1, 1)
+				.fill(8, 2, 10, blockHelper.ROTTEN_PLANK_SLAB_UPPER, 4, 1, 1)
+				.fill(8, 3, 8, blockHelper.ROTTEN_PLANK_SLAB_UPPER, 4, 1, 1)
+
+				.fill(13, 2, 12, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(13, 3, 11, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(12, 3, 10, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(12, 4, 9, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(12, 4, 8, blockHelper.MUD_BRICKS, 1, 1, 1)
+
+				.fill(13, 0, 12, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(13, 1, 11, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(12, 1, 10, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(12, 2, 9, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(12, 2, 8, blockHelper.MUD_BRICKS, 1, 1, 1)
+
+				.fill(13, 4, 11, blockHelper.ROOT, 1, 5, 1)
+				.fill(12, 5, 9, blockHelper.ROOT, 1, 5, 1)
+
+				.fill(11, 3, 7, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(10, 3, 6, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(10, 3, 5, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(9, 3, 4, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(8, 3, 4, blockHelper.MUD_BRICKS, 1, 1, 1)
+
+				.fill(11, 5, 7, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(10, 5, 6, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(10, 5, 5, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(9, 5, 4, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(8, 5, 4, blockHelper.MUD_BRICKS, 1, 1, 1)
+
+				.fill(11, 6, 7, blockHelper.ROOT, 1, 5, 1)
+				.fill(10, 6, 5, blockHelper.ROOT, 1, 5, 1)
+				.fill(8, 6, 4, blockHelper.ROOT, 1, 5, 1)
+
+				.fill(7, 4, 4, blockHelper.ROTTEN_PLANK_SLAB_UPPER, 1, 1, 4)
+				.fill(5, 5, 2, blockHelper.ROTTEN_PLANK_SLAB_UPPER, 1, 1, 5)
+
+				.fill(7, 3, 3, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(6, 4, 2, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(5, 4, 1, blockHelper.MUD_BRICKS, 1, 1, 1)
+
+				.fill(7, 5, 3, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(6, 6, 2, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(5, 6, 1, blockHelper.MUD_BRICKS, 1, 1, 1)
+
+				.fill(6, 7, 2, blockHelper.ROOT, 1, 5, 1)
+
+				.fill(3, 6, 2, blockHelper.ROTTEN_PLANK_SLAB_UPPER, 1, 1, 4)
+				.fill(1, 7, 1, blockHelper.ROTTEN_PLANK_SLAB_UPPER, 1, 1, 4)
+
+				.fill(4, 5, 1, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(3, 5, 1, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(2, 6, 0, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(1, 6, 0, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(0, 7, 0, blockHelper.MUD_BRICKS, 1, 1, 1)
+
+				.fill(4, 7, 1, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(3, 7, 1, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(2, 8, 0, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(1, 8, 0, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(0, 9, 0, blockHelper.MUD_BRICKS, 1, 1, 1)
+
+				.fill(4, 8, 1, blockHelper.ROOT, 1, 5, 1)
+				.fill(2, 9, 0, blockHelper.ROOT, 1, 5, 1)
+				.fill(0, 10, 0, blockHelper.ROOT, 1, 5, 1)
+				.build();
+	}
 
-			rotatedCubeVolume(world, rand, pos, -5, 1 + level, -4, blockHelper.PITSTONE_BRICKS, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -5, 2 + level, -4, blockHelper.PITSTONE_PILLAR, 1, 5, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -5, 7 + level, -4, blockHelper.PITSTONE_BRICKS, 1, 1, 1, facing);
-		}
-		
-		if(level == 8) {
-			rotatedCubeVolume(world, rand, pos, 0, 2 + level, 0, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 0, 1 + level, 0, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, -2, 0 + level, 4, blockHelper.MUD_TOWER_BEAM_TUBE, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -2, 3 + level, 4, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -2, 1 + level, 4, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 2, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 2, 0 + level, 4, blockHelper.MUD_TOWER_BEAM_TUBE, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 2, 2 + level, 4, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 2, 1 + level, 4, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, -7, -1 + level, 4, blockHelper.MUD_TOWER_BEAM_TUBE, 1, 2, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -7, 1 + level, 4, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 2, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -7, 3 + level, 4, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -7, 4 + level, 4, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -7, 5 + level, 4, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -7, 6 + level, 4, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -7, 7 + level, 4, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, 7, -1 + level, 4, blockHelper.MUD_TOWER_BEAM_TUBE, 1, 2, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 7, 6 + level, 4, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, 7, 7 + level, 4, blockHelper.PITSTONE_BRICKS, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 7, 8 + level, 4, blockHelper.PITSTONE_BRICKS, 1, 1, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, 2, 1 + level, 0, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 2, 2 + level, 0, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, -2, 0 + level, -4, blockHelper.MUD_TOWER_BEAM_TUBE, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -2, 1 + level, -4, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 4, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -2, 4 + level, -4, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, 2, 0 + level, -4, blockHelper.MUD_TOWER_BEAM_TUBE, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 2, 1 + level, -4, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 2, 2 + level, -4, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, -7, -1 + level, -4, blockHelper.MUD_TOWER_BEAM_TUBE, 1, 2, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -7, 1 + level, -4, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 3, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, -7, 4 + level, -4, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -7, 5 + level, -4, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -7, 6 + level, -4, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -7, 7 + level, -4, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, 7, 6 + level, -1, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 7, 7 + level, -1, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 8, 6 + level, -1, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS.withProperty(BlockBeamLensSupport.FACING, facing.rotateY()), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 7, 0 + level, -1, blockHelper.MUD_TOWER_BEAM_TUBE, 1, 1, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, -7, 0 + level, -2, blockHelper.PITSTONE_BRICKS, 1, 2, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -7, 2 + level, -2, blockHelper.PITSTONE_PILLAR, 1, 5, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -7, 7 + level, -2, blockHelper.PITSTONE_BRICKS, 1, 1, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, -7, 0 + level, 2, blockHelper.PITSTONE_BRICKS, 1, 2, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -7, 2 + level, 2, blockHelper.PITSTONE_PILLAR, 1, 5, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -7, 7 + level, 2, blockHelper.PITSTONE_BRICKS, 1, 1, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, 7, 0 + level, 2, blockHelper.PITSTONE_BRICKS, 1, 2, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 7, 2 + level, 2, blockHelper.PITSTONE_PILLAR, 1, 5, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 7, 7 + level, 2, blockHelper.PITSTONE_BRICKS, 1, 1, 1, facing);
-
-			rotatedCubeVolume(world, rand, pos, 7, 2 + level, -4, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 7, 1 + level, -4, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 7, 3 + level, -4, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 7, 4 + level, -4, blockHelper.getMudBricksForLevel(rand, 0, 0), 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 7, 5 + level, -4, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 7, 6 + level, -4, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 7, 7 + level, -4, blockHelper.PITSTONE_BRICKS, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, 7, -1 + level, -4, blockHelper.MUD_TOWER_BEAM_TUBE, 1, 2, 1, facing);
-		}
+	private StructureBlueprint createTowerTopBlueprint() {
+		return StructureBlueprint.builder(12, 8, 9)
+				.fill(5, 1, 2, blockHelper.PITSTONE_BRICKS, 1, 1, 1)
+
+				.fill(4, 0, 5, blockHelper.PITSTONE_BRICKS, 1, 1, 2)
+				.fill(2, 0, 4, blockHelper.PITSTONE_BRICKS, 2, 1, 1)
+				.fill(2, 0, 3, blockHelper.PITSTONE_BRICKS, 2, 1, 1)
+				.fill(5, 0, 4, blockHelper.PITSTONE_BRICKS, 1, 1, 3)
+				.fill(4, 0, 3, blockHelper.PITSTONE_BRICKS, 1, 1, 2)
+				.fill(7, 0, 4, blockHelper.PITSTONE_BRICKS, 5, 1, 3)
+				.fill(8, 0, 3, blockHelper.PITSTONE_BRICKS, 3, 1, 1)
+				.fill(7, 0, 7, blockHelper.PITSTONE_BRICKS, 3, 1, 1)
+				.fill(1, 0, 0, blockHelper.PITSTONE_BRICKS, 1, 1, 2)
+
+				//top bit arches and stuff
+				.fill(7, 1, 7, blockHelper.PITSTONE_PILLAR, 1, 3, 1)
+				.fill(7, 4, 7, blockHelper.PITSTONE_BRICKS, 1, 1, 1)
+				.fill(6, 5, 7, blockHelper.SMOOTH_PITSTONE_SLAB_LOWER, 2, 1, 1)
+				.fill(7, 1, 8, blockHelper.PITSTONE_BRICKS, 1, 3, 1)
+				.fill(8, 4, 8, blockHelper.PITSTONE_BRICKS, 2, 1, 1)
+				.fill(8, 5, 8, blockHelper.SMOOTH_PITSTONE_SLAB_LOWER, 1, 1, 1)
+				.fill(8, 5, 6, blockHelper.SMOOTH_PITSTONE_SLAB_LOWER, 1, 1, 1)
+				.fill(9, 5, 7, blockHelper.SMOOTH_PITSTONE, 1, 1, 1)
+				.fill(6, 1, 7, blockHelper.PITSTONE_BRICKS, 1, 2, 2)
+				.fill(4, 1, 7, blockHelper.PITSTONE_BRICKS, 2, 1, 1)
+				.fill(3, 1, 5, blockHelper.PITSTONE_BRICKS, 1, 1, 2)
+				.fill(2, 1, 5, blockHelper.PITSTONE_BRICKS, 1, 1, 1)
+				.fill(1, 1, 3, blockHelper.PITSTONE_BRICKS, 1, 1, 2)
+				.fill(0, 1, 2, blockHelper.PITSTONE_BRICKS, 2, 2, 1)
+				.fill(0, 1, 1, blockHelper.PITSTONE_BRICKS, 1, 3, 1)
+				.fill(1, 1, 1, blockHelper.PITSTONE_PILLAR, 1, 3, 1)
+				.fill(1, 4, 1, blockHelper.PITSTONE_BRICKS, 1, 1, 1)
+				.fill(4, 2, 7, blockHelper.PITSTONE_TILES, 2, 1, 1)
+				.fill(3, 2, 5, blockHelper.PITSTONE_TILES, 1, 1, 2)
+				.fill(2, 2, 5, blockHelper.PITSTONE_TILES, 1, 1, 1)
+				.fill(1, 2, 3, blockHelper.PITSTONE_TILES, 1, 1, 2)
+				.fill(4, 3, 7, blockHelper.PITSTONE_PILLAR, 1, 2, 1)
+				.fill(4, 5, 7, blockHelper.SMOOTH_PITSTONE, 1, 1, 1)
+				.fill(3, 3, 5, blockHelper.PITSTONE_PILLAR, 1, 3, 1)
+				.fill(3, 6, 5, blockHelper.SMOOTH_PITSTONE, 1, 1, 1)
+				.fill(3, 7, 5, blockHelper.SMOOTH_PITSTONE_SLAB_LOWER, 1, 1, 1)
+				.fill(1, 3, 4, blockHelper.PITSTONE_PILLAR, 1, 2, 1)
+				.fill(1, 5, 4, blockHelper.SMOOTH_PITSTONE, 1, 1, 1)
+				.fill(1, 5, 1, blockHelper.SMOOTH_PITSTONE_SLAB_LOWER, 1, 1, 2)
+				.fill(2, 5, 0, blockHelper.SMOOTH_PITSTONE_SLAB_LOWER, 1, 1, 1)
+				.fill(0, 5, 0, blockHelper.SMOOTH_PITSTONE_SLAB_LOWER, 1, 1, 1)
+				.fill(0, 4, 0, blockHelper.PITSTONE_BRICKS, 1, 1, 1)
+				.build();
+	}
 
-		if(level == 16) {
-			rotatedCubeVolume(world, rand, pos, 0, 5 + level, 0, blockHelper.MUD_TOWER_BEAM_ORIGIN, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -7, 2 + level, 4, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -7, 1 + level, 4, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -7, 0 + level, 4, blockHelper.MUD_TOWER_BEAM_TUBE, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -7, 2 + level, -4, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -7, 1 + level, -4, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1, facing);
-			rotatedCubeVolume(world, rand, pos, -7, 0 + level, -4, blockHelper.MUD_TOWER_BEAM_TUBE, 1, 1, 1, facing);
-		}
+	private StructureBlueprint createLightBeamsBottomBlueprint() {
+		return StructureBlueprint.builder(23, 7, 9)
+				.fill(5, 1, 8, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+				.fill(5, 0, 8, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1)
+				.fill(9, 1, 8, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+				.fill(9, 0, 8, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1)
+
+				.fill(0, 0, 8, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+				.fill(14, 0, 8, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+
+				.fill(22, 5, 3, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+				.fill(21, 5, 3, blockHelper.AIR, 1, 1, 1)
+				.fill(21, 6, 3, blockHelper.MUD_BRICKS, 1, 1, 1)
+
+				.fill(5, 2, 0, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+				.fill(5, 0, 0, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 2, 1)
+
+				.fill(9, 2, 0, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+				.fill(9, 0, 0, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 2, 1)
+
+				.fill(0, 0, 0, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+				.fill(14, 0, 0, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+
+				.fill(14, 6, 3, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1)
+				.fill(14, 5, 3, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+				.fill(15, 5, 3, facingState(facing -> blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS.withProperty(BlockBeamLensSupport.FACING, facing.rotateY())), 1, 1, 1)
+				.fill(16, 5, 3, facingState(facing -> blockHelper.MUD_TOWER_BEAM_TUBE.withProperty(BlockBeamTube.FACING, facing.rotateY())), 1, 1, 1)
+
+				.fill(12, 0, 8, blockHelper.PITSTONE_BRICKS, 1, 1, 1)
+				.fill(12, 1, 8, blockHelper.PITSTONE_PILLAR, 1, 5, 1)
+				.fill(12, 6, 8, blockHelper.PITSTONE_BRICKS, 1, 1, 1)
+
+				.fill(12, 0, 0, blockHelper.PITSTONE_BRICKS, 1, 1, 1)
+				.fill(12, 1, 0, blockHelper.PITSTONE_PILLAR, 1, 5, 1)
+				.fill(12, 6, 0, blockHelper.PITSTONE_BRICKS, 1, 1, 1)
+
+				.fill(2, 0, 8, blockHelper.PITSTONE_BRICKS, 1, 1, 1)
+				.fill(2, 1, 8, blockHelper.PITSTONE_PILLAR, 1, 5, 1)
+				.fill(2, 6, 8, blockHelper.PITSTONE_BRICKS, 1, 1, 1)
+
+				.fill(2, 0, 0, blockHelper.PITSTONE_BRICKS, 1, 1, 1)
+				.fill(2, 1, 0, blockHelper.PITSTONE_PILLAR, 1, 5, 1)
+				.fill(2, 6, 0, blockHelper.PITSTONE_BRICKS, 1, 1, 1)
+				.build();
+	}
+
+	private StructureBlueprint createLightBeamsMiddleBlueprint() {
+		return StructureBlueprint.builder(16, 10, 9)
+				.fill(7, 3, 4, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+				.fill(7, 2, 4, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1)
+
+				.fill(5, 1, 8, blockHelper.MUD_TOWER_BEAM_TUBE, 1, 1, 1)
+				.fill(5, 4, 8, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+				.fill(5, 2, 8, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 2, 1)
+				.fill(9, 1, 8, blockHelper.MUD_TOWER_BEAM_TUBE, 1, 1, 1)
+				.fill(9, 3, 8, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+				.fill(9, 2, 8, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1)
+
+				.fill(0, 0, 8, blockHelper.MUD_TOWER_BEAM_TUBE, 1, 2, 1)
+				.fill(0, 2, 8, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 2, 1)
+				.fill(0, 4, 8, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+				.fill(0, 5, 8, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(0, 6, 8, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1)
+				.fill(0, 7, 8, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+				.fill(0, 8, 8, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1)
+
+				.fill(14, 0, 8, blockHelper.MUD_TOWER_BEAM_TUBE, 1, 2, 1)
+				.fill(14, 7, 8, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+
+				.fill(14, 8, 8, blockHelper.PITSTONE_BRICKS, 1, 1, 1)
+				.fill(14, 9, 8, blockHelper.PITSTONE_BRICKS, 1, 1, 1)
+
+				.fill(9, 2, 4, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1)
+				.fill(9, 3, 4, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+
+				.fill(5, 1, 0, blockHelper.MUD_TOWER_BEAM_TUBE, 1, 1, 1)
+				.fill(5, 2, 0, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 4, 1)
+				.fill(5, 5, 0, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+
+				.fill(9, 1, 0, blockHelper.MUD_TOWER_BEAM_TUBE, 1, 1, 1)
+				.fill(9, 2, 0, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1)
+				.fill(9, 3, 0, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+
+				.fill(0, 0, 0, blockHelper.MUD_TOWER_BEAM_TUBE, 1, 2, 1)
+				.fill(0, 2, 0, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 3, 1)
+
+				.fill(0, 5, 0, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+				.fill(0, 6, 0, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(0, 7, 0, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+				.fill(0, 8, 0, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1)
+
+				.fill(14, 7, 3, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+				.fill(14, 8, 3, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1)
+				.fill(15, 7, 3, facingState(facing -> blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS.withProperty(BlockBeamLensSupport.FACING, facing.rotateY())), 1, 1, 1)
+				.fill(14, 1, 3, blockHelper.MUD_TOWER_BEAM_TUBE, 1, 1, 1)
+
+				.fill(0, 1, 2, blockHelper.PITSTONE_BRICKS, 1, 2, 1)
+				.fill(0, 3, 2, blockHelper.PITSTONE_PILLAR, 1, 5, 1)
+				.fill(0, 8, 2, blockHelper.PITSTONE_BRICKS, 1, 1, 1)
+
+				.fill(0, 1, 6, blockHelper.PITSTONE_BRICKS, 1, 2, 1)
+				.fill(0, 3, 6, blockHelper.PITSTONE_PILLAR, 1, 5, 1)
+				.fill(0, 8, 6, blockHelper.PITSTONE_BRICKS, 1, 1, 1)
+
+				.fill(14, 1, 6, blockHelper.PITSTONE_BRICKS, 1, 2, 1)
+				.fill(14, 3, 6, blockHelper.PITSTONE_PILLAR, 1, 5, 1)
+				.fill(14, 8, 6, blockHelper.PITSTONE_BRICKS, 1, 1, 1)
+
+				.fill(14, 3, 0, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+				.fill(14, 2, 0, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1)
+				.fill(14, 4, 0, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1)
+				.fill(14, 5, 0, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(14, 6, 0, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1)
+				.fill(14, 7, 0, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+				.fill(14, 8, 0, blockHelper.PITSTONE_BRICKS, 1, 1, 1)
+				.fill(14, 0, 0, blockHelper.MUD_TOWER_BEAM_TUBE, 1, 2, 1)
+				.build();
+	}
+
+	private StructureBlueprint createLightBeamsTopBlueprint() {
+		return StructureBlueprint.builder(8, 6, 9)
+				.fill(7, 5, 4, blockHelper.MUD_TOWER_BEAM_ORIGIN, 1, 1, 1)
+				.fill(0, 2, 8, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+				.fill(0, 1, 8, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1)
+				.fill(0, 0, 8, blockHelper.MUD_TOWER_BEAM_TUBE, 1, 1, 1)
+				.fill(0, 2, 0, blockHelper.MUD_TOWER_BEAM_RELAY, 1, 1, 1)
+				.fill(0, 1, 0, blockHelper.MUD_TOWER_BEAM_LENS_SUPPORTS, 1, 1, 1)
+				.fill(0, 0, 0, blockHelper.MUD_TOWER_BEAM_TUBE, 1, 1, 1)
+				.build();
 	}
 
-	@SuppressWarnings("incomplete-switch")
 	public void rotatedCubeVolume(World world, Random rand, BlockPos pos, int offsetA, int offsetB, int offsetC, IBlockState state, int sizeWidth, int sizeHeight, int sizeDepth, EnumFacing facing) {
 
 		switch (facing) {
@@ -1,7 +1,12 @@
 package thebetweenlands.common.world.gen.feature.structure;
 
+import static thebetweenlands.common.world.gen.feature.structure.utils.SludgeWormMazeBlockHelper.facingState;
+
 import java.util.Random;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+
 import net.minecraft.block.BlockStairs.EnumHalf;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
@@ -16,12 +21,19 @@ import thebetweenlands.common.block.structure.BlockMudBrickSpikeTrap;
 import thebetweenlands.common.block.structure.BlockSlabBetweenlands;
 import thebetweenlands.common.block.structure.BlockSlabBetweenlands.EnumBlockHalfBL;
 import thebetweenlands.common.block.structure.BlockStairsBetweenlands;
+import thebetweenlands.common.world.gen.feature.StructureBlueprint;
 import thebetweenlands.common.world.gen.feature.structure.utils.SludgeWormMazeBlockHelper;
 
 public class SludgeWormMazeMicroBuilds {
 
 	private SludgeWormMazeBlockHelper blockHelper;
 	private final WorldGenSludgeWormDungeon dungeon;
+
+	private final Supplier<StructureBlueprint> spikeFeatureBlueprint = Suppliers.memoize(this::createSpikeFeatureBlueprint);
+	private final Supplier<StructureBlueprint> walkwayWallsBlueprint = Suppliers.memoize(this::createWalkwayWallsBlueprint);
+	private final Supplier<StructureBlueprint> walkwayStairsBlueprint = Suppliers.memoize(this::createWalkwayStairsBlueprint);
+	private final Supplier<StructureBlueprint> bottomTunnelBlueprint = Suppliers.memoize(this::createBottomTunnelBlueprint);
+	private final Supplier<StructureBlueprint> tunnelsConnectBlueprint = Suppliers.memoize(this::createTunnelsConnectBlueprint);
 	
 	public SludgeWormMazeMicroBuilds(WorldGenSludgeWormDungeon dungeon) {
 		this.dungeon = dungeon;
@@ -69,14 +81,7 @@ public class SludgeWormMazeMicroBuilds {
 	}
 
 	public void spikeFeature(World world, BlockPos pos, EnumFacing facing, Random rand, int level, int layer) {
-		rotatedCubeVolume(world, rand, pos, 0, -1, 0, blockHelper.MUD_TILES_SPIKE_TRAP, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, -1, 1, blockHelper.MUD_TILES_SPIKE_TRAP, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, -1, -1, blockHelper.MUD_TILES_SPIKE_TRAP, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -1, -1, 1, blockHelper.MUD_TILES_SPIKE_TRAP, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -1, -1, -1, blockHelper.MUD_TILES_SPIKE_TRAP, 1, 1, 1, facing);
-		
-		rotatedCubeVolume(world, rand, pos, 2, 1, 0, blockHelper.MUD_BRICKS_SPIKE_TRAP.withProperty(BlockMudBrickSpikeTrap.FACING, facing.rotateY()), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -2, 1, 0, blockHelper.MUD_BRICKS_SPIKE_TRAP.withProperty(BlockMudBrickSpikeTrap.FACING, facing.getOpposite().rotateY()), 1, 1, 1, facing);
+		blockHelper.stampBlueprint(world, pos, spikeFeatureBlueprint.get(), -2, -1, -1, facing);
 	}
 
 	private void buildCryptBench1(World world, BlockPos pos, EnumFacing facing, Random rand, int level, int layer) {
@@ -269,80 +274,15 @@ public class SludgeWormMazeMicroBuilds {
 		buildCryptCrawlerWalkwaysStairsNormal(world, pos.add(1, -10, 25), facing.rotateYCCW(), rand);
 		buildCryptCrawlerWalkwaysStairsNormal(world, pos.add(2, -16, 2), facing.rotateYCCW(), rand);
 
-		rotatedCubeVolume(world, rand, pos, 1, -18, 27, blockHelper.AIR, 1, 2, 4, facing);
-
-		//South walls
-		rotatedCubeVolume(world, rand, pos, 14, -4, 1, blockHelper.COMPACTED_MUD, 1, 4, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 31, -4, 1, blockHelper.COMPACTED_MUD, 1, 4, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 6, -10, 1, blockHelper.COMPACTED_MUD, 1, 4, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 22, -10, 1, blockHelper.COMPACTED_MUD, 1, 4, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 31, -10, 1, blockHelper.COMPACTED_MUD, 1, 4, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 3, -16, 1, blockHelper.COMPACTED_MUD, 1, 4, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 31, -16, 1, blockHelper.COMPACTED_MUD, 1, 4, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 0, -18, 0, blockHelper.COMPACTED_MUD, 32, 19, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 0, -18, 1, blockHelper.COMPACTED_MUD, 1, 19, 31, facing);
-
-		//East walls
-		rotatedCubeVolume(world, rand, pos, 1, -4, 16, blockHelper.COMPACTED_MUD, 2, 4, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, -4, 31, blockHelper.COMPACTED_MUD, 2, 4, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, -10, 8, blockHelper.COMPACTED_MUD, 2, 4, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, -10, 24, blockHelper.COMPACTED_MUD, 2, 4, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, -10, 31, blockHelper.COMPACTED_MUD, 2, 4, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, -16, 31, blockHelper.COMPACTED_MUD, 2, 4, 1, facing);
-
-		//extra roots
-		rotatedCubeVolume(world, rand, pos, 1, -4, 1, blockHelper.ROOT, 1, 4, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 14, -8, 1, blockHelper.ROOT, 1, 2, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 22, -14, 1, blockHelper.ROOT, 1, 2, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 21, -14, 2, blockHelper.ROOT, 1, 2, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 19, -16, 2, blockHelper.ROOT, 1, 4, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, -8, 16, blockHelper.ROOT, 2, 2, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, -16, 10, blockHelper.ROOT, 1, 4, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, -14, 9, blockHelper.ROOT, 1, 2, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 2, -14, 8, blockHelper.ROOT, 1, 2, 1, facing);
+		blockHelper.stampBlueprint(world, pos, walkwayWallsBlueprint.get(), 0, -18, 0, facing);
 	}
 
 	public void buildCryptCrawlerWalkwaysStairsNormal(World world, BlockPos pos, EnumFacing facing, Random rand) {
-		rotatedCubeVolume(world, rand, pos, 0, 0, 0, blockHelper.COMPACTED_MUD_SLOPE.withProperty(BlockCompactedMudSlope.FACING, facing.rotateY()).withProperty(BlockCompactedMudSlope.HALF, EnumHalf.BOTTOM), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -1, 0, 0, blockHelper.COMPACTED_MUD_SLOPE.withProperty(BlockCompactedMudSlope.FACING, facing.rotateYCCW()).withProperty(BlockCompactedMudSlope.HALF, EnumHalf.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -1, 1, 0, blockHelper.COMPACTED_MUD_SLOPE.withProperty(BlockCompactedMudSlope.FACING, facing.rotateY()).withProperty(BlockCompactedMudSlope.HALF, EnumHalf.BOTTOM), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -2, 1, 0, blockHelper.COMPACTED_MUD_SLOPE.withProperty(BlockCompactedMudSlope.FACING, facing.rotateYCCW()).withProperty(BlockCompactedMudSlope.HALF, EnumHalf.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -2, 2, 0, blockHelper.COMPACTED_MUD_SLOPE.withProperty(BlockCompactedMudSlope.FACING, facing.rotateY()).withProperty(BlockCompactedMudSlope.HALF, EnumHalf.BOTTOM), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -3, 2, 0, blockHelper.COMPACTED_MUD_SLOPE.withProperty(BlockCompactedMudSlope.FACING, facing.rotateYCCW()).withProperty(BlockCompactedMudSlope.HALF, EnumHalf.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -3, 3, 0, blockHelper.COMPACTED_MUD_SLOPE.withProperty(BlockCompactedMudSlope.FACING, facing.rotateY()).withProperty(BlockCompactedMudSlope.HALF, EnumHalf.BOTTOM), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -4, 3, 0, blockHelper.COMPACTED_MUD_SLOPE.withProperty(BlockCompactedMudSlope.FACING, facing.rotateYCCW()).withProperty(BlockCompactedMudSlope.HALF, EnumHalf.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -4, 4, 0, blockHelper.COMPACTED_MUD_SLOPE.withProperty(BlockCompactedMudSlope.FACING, facing.rotateY()).withProperty(BlockCompactedMudSlope.HALF, EnumHalf.BOTTOM), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -5, 5, 0, blockHelper.COMPACTED_MUD_SLOPE.withProperty(BlockCompactedMudSlope.FACING, facing.rotateY()).withProperty(BlockCompactedMudSlope.HALF, EnumHalf.BOTTOM), 1, 1, 1, facing);
-
-		// air gaps
-		rotatedCubeVolume(world, rand, pos, -4, 5, 0, blockHelper.AIR, 3, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -3, 4, 0, blockHelper.AIR, 3, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -2, 3, 0, blockHelper.AIR, 3, 1, 1, facing);
-
-		// roots
-		rotatedCubeVolume(world, rand, pos, -2, 0, 0, blockHelper.ROOT, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -3, 0, 0, blockHelper.ROOT, 1, 2, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -4, 0, 0, blockHelper.ROOT, 1, 3, 1, facing);
-		rotatedCubeVolume(world, rand, pos, -5, 0, 0, blockHelper.ROOT, 1, 4, 1, facing);
+		blockHelper.stampBlueprint(world, pos, walkwayStairsBlueprint.get(), -5, 0, 0, facing);
 	}
 
 	public void buildCryptCrawlerBottomTunnels(World world, BlockPos pos, EnumFacing facing, Random rand) {
-		rotatedCubeVolume(world, rand, pos, 6, 1, 1, blockHelper.AIR, 20, 3, 3, facing);
-		rotatedCubeVolume(world, rand, pos, 5, 2, 2, blockHelper.AIR, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 1, 3, blockHelper.COMPACTED_MUD, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 26, 2, 2, blockHelper.AIR, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 25, 1, 3, blockHelper.COMPACTED_MUD, 1, 1, 1, facing);
-
-		rotatedCubeVolume(world, rand, pos, 6, 0, 1, blockHelper.COMPACTED_MUD, 20, 1, 3, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 1, 4, blockHelper.COMPACTED_MUD, 20, 3, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 1, 0, blockHelper.COMPACTED_MUD, 20, 3, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 4, 1, blockHelper.COMPACTED_MUD, 20, 1, 3, facing); //roof
-
-		rotatedCubeVolume(world, rand, pos, 6, 1, 1, blockHelper.COMPACTED_MUD, 4, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 1, 2, blockHelper.COMPACTED_MUD, 2, 1, 1, facing);
-
-		rotatedCubeVolume(world, rand, pos, 22, 1, 1, blockHelper.COMPACTED_MUD, 4, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 24, 1, 2, blockHelper.COMPACTED_MUD, 2, 1, 1, facing);
+		blockHelper.stampBlueprint(world, pos, bottomTunnelBlueprint.get(), 5, 0, 0, facing);
 		if (facing != EnumFacing.EAST) {
 			rotatedCubeVolume(world, rand, pos, 13, 1, 3, blockHelper.COMPACTED_MUD, 6, 1, 1, facing);
 			rotatedCubeVolume(world, rand, pos, 14, 2, 3, blockHelper.COMPACTED_MUD, 4, 1, 1, facing);
@@ -350,300 +290,401 @@ public class SludgeWormMazeMicroBuilds {
 	}
 
 	public void buildCryptCrawlerTunnelsConnect(World world, BlockPos pos, EnumFacing facing, Random rand) {
-		rotatedCubeVolume(world, rand, pos, 1, 4, 9, blockHelper.AIR, 3, 1, 7, facing);
-		rotatedCubeVolume(world, rand, pos, 0, 8, 31, blockHelper.COMPACTED_MUD, 8, 7, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 8, 28, blockHelper.COMPACTED_MUD, 1, 7, 3, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 9, 28, blockHelper.COMPACTED_MUD, 3, 1, 3, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 8, 27, blockHelper.COMPACTED_MUD, 7, 1, 4, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 9, 27, blockHelper.COMPACTED_MUD, 1, 5, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 5, 9, 26, blockHelper.COMPACTED_MUD, 1, 6, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 5, 8, 25, blockHelper.COMPACTED_MUD, 1, 5, 1, facing);
-
-		//stairs
-		rotatedCubeVolume(world, rand, pos, 1, 9, 30, blockHelper.COMPACTED_MUD, 3, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 10, 30, blockHelper.COMPACTED_MUD, 4, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 11, 30, blockHelper.COMPACTED_MUD, 2, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 12, 29, blockHelper.COMPACTED_MUD, 1, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 13, 26, blockHelper.COMPACTED_MUD, 1, 1, 4, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 14, 26, blockHelper.COMPACTED_MUD, 1, 1, 3, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 15, 27, blockHelper.COMPACTED_MUD, 1, 1, 1, facing);
-
-		rotatedCubeVolume(world, rand, pos, 1, 12, 23, blockHelper.COMPACTED_MUD, 3, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 11, 21, blockHelper.COMPACTED_MUD, 3, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 10, 19, blockHelper.COMPACTED_MUD, 3, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 9, 17, blockHelper.COMPACTED_MUD, 3, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 8, 15, blockHelper.COMPACTED_MUD, 3, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 7, 13, blockHelper.COMPACTED_MUD, 3, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 6, 11, blockHelper.COMPACTED_MUD, 3, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 5, 9, blockHelper.COMPACTED_MUD, 3, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 4, 7, blockHelper.COMPACTED_MUD, 3, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 0, 8, 25, blockHelper.COMPACTED_MUD, 1, 7, 6, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 7, 25, blockHelper.COMPACTED_MUD, 1, 8, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 2, 14, 25, blockHelper.COMPACTED_MUD, 3, 1, 4, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 14, 29, blockHelper.COMPACTED_MUD, 4, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 5, 14, 27, blockHelper.COMPACTED_MUD, 2, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 7, 22, blockHelper.COMPACTED_MUD, 4, 1, 3, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 6, 21, blockHelper.COMPACTED_MUD, 4, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 6, 20, blockHelper.COMPACTED_MUD, 3, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 5, 18, blockHelper.COMPACTED_MUD, 3, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 4, 15, blockHelper.COMPACTED_MUD, 6, 1, 3, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 4, 15, blockHelper.COMPACTED_MUD, 4, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 3, 14, blockHelper.COMPACTED_MUD, 6, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 3, 13, blockHelper.COMPACTED_MUD, 2, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 3, 13, blockHelper.COMPACTED_MUD, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 2, 12, blockHelper.COMPACTED_MUD, 2, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 1, 11, blockHelper.COMPACTED_MUD, 2, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 1, 10, blockHelper.COMPACTED_MUD, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 12, 26, blockHelper.COMPACTED_MUD, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 13, 28, blockHelper.COMPACTED_MUD, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 5, 9, 27, blockHelper.COMPACTED_MUD, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 9, 29, blockHelper.COMPACTED_MUD, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 9, 29, blockHelper.COMPACTED_MUD, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 2, 13, 25, blockHelper.COMPACTED_MUD, 3, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 7, 24, blockHelper.COMPACTED_MUD, 1, 6, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 8, 23, blockHelper.COMPACTED_MUD, 1, 4, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 8, 22, blockHelper.COMPACTED_MUD, 1, 2, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 10, 22, blockHelper.COMPACTED_MUD, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 7, 21, blockHelper.COMPACTED_MUD, 1, 4, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 7, 20, blockHelper.COMPACTED_MUD, 1, 3, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 6, 19, blockHelper.COMPACTED_MUD, 1, 4, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 6, 18, blockHelper.COMPACTED_MUD, 1, 3, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 5, 17, blockHelper.COMPACTED_MUD, 1, 4, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 5, 15, blockHelper.COMPACTED_MUD, 1, 3, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 4, 9, blockHelper.COMPACTED_MUD, 1, 2, 5, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 3, 14, blockHelper.COMPACTED_MUD, 1, 4, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 6, 13, blockHelper.COMPACTED_MUD, 1, 1, 1, facing);
-
-		//side caps
-		rotatedCubeVolume(world, rand, pos, 0, 4, 9, blockHelper.COMPACTED_MUD, 1, 1, 7, facing);
-		rotatedCubeVolume(world, rand, pos, 0, 5, 11, blockHelper.COMPACTED_MUD, 1, 1, 7, facing);
-		rotatedCubeVolume(world, rand, pos, 0, 6, 13, blockHelper.COMPACTED_MUD, 1, 1, 7, facing);
-		rotatedCubeVolume(world, rand, pos, 0, 7, 15, blockHelper.COMPACTED_MUD, 1, 1, 7, facing);
-		rotatedCubeVolume(world, rand, pos, 0, 8, 17, blockHelper.COMPACTED_MUD, 1, 1, 8, facing);
-		rotatedCubeVolume(world, rand, pos, 0, 9, 19, blockHelper.COMPACTED_MUD, 1, 1, 6, facing);
-		rotatedCubeVolume(world, rand, pos, 0, 10, 21, blockHelper.COMPACTED_MUD, 1, 1, 4, facing);
-		rotatedCubeVolume(world, rand, pos, 0, 11, 23, blockHelper.COMPACTED_MUD, 1, 1, 2, facing);
-		
-		//hoard room
-		rotatedCubeVolume(world, rand, pos, 4, 1, 15, blockHelper.AIR, 3, 3, 9, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 0, 15, blockHelper.COMPACTED_MUD, 4, 1, 9, facing);
-		rotatedCubeVolume(world, rand, pos, 8, 0, 20, blockHelper.COMPACTED_MUD, 1, 1, 4, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 0, 24, blockHelper.COMPACTED_MUD, 3, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 5, 1, 14, blockHelper.COMPACTED_MUD, 3, 2, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 8, 1, 15, blockHelper.COMPACTED_MUD, 1, 2, 5, facing);
-		rotatedCubeVolume(world, rand, pos, 9, 1, 20, blockHelper.COMPACTED_MUD, 1, 2, 4, facing);
-		rotatedCubeVolume(world, rand, pos, 8, 1, 23, blockHelper.COMPACTED_MUD, 1, 2, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 1, 24, blockHelper.COMPACTED_MUD, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 10, 1, 24, blockHelper.COMPACTED_MUD, 1, 2, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 1, 25, blockHelper.COMPACTED_MUD, 3, 2, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 3, 15, blockHelper.COMPACTED_MUD, 1, 1, 9, facing);
-		rotatedCubeVolume(world, rand, pos, 8, 3, 20, blockHelper.COMPACTED_MUD, 1, 1, 3, facing);
-		rotatedCubeVolume(world, rand, pos, 8, 3, 24, blockHelper.COMPACTED_MUD, 2, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 4, 18, blockHelper.COMPACTED_MUD, 3, 1, 5, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 1, 12, blockHelper.COMPACTED_MUD, 2, 1, 3, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 2, 14, blockHelper.COMPACTED_MUD, 2, 1, 1, facing);
-
-		rotatedCubeVolume(world, rand, pos, 3, 1, 13, blockHelper.COMPACTED_MUD_MIRAGE, 1, 2, 1, facing); //mirage blocks
-		rotatedCubeVolume(world, rand, pos, 7, 1, 24, blockHelper.COMPACTED_MUD_MIRAGE, 1, 3, 1, facing);
-
-		//floor
-		rotatedCubeVolume(world, rand, pos, 1, 0, 16, blockHelper.MUD_TILES_DECAY, 1, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 0, 18, blockHelper.MUD_TILES, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 0, 21, blockHelper.MUD_TILES, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 0, 22, blockHelper.MUD_TILES_DECAY, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 2, 0, 15, blockHelper.MUD_TILES, 1, 1, 3, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 0, 16, blockHelper.MUD_TILES_DECAY, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 5, 0, 16, blockHelper.MUD_TILES_DECAY, 2, 1, 3, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 0, 17, blockHelper.MUD_TILES_DECAY, 2, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 2, 0, 18, blockHelper.MUD_TILES_DECAY, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 0, 17, blockHelper.MUD_TILES, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 0, 18, blockHelper.MUD_TILES, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 2, 0, 19, blockHelper.MUD_TILES_CRACKED, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 2, 0, 20, blockHelper.MUD_TILES_DECAY, 1, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 2, 0, 22, blockHelper.MUD_TILES, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 2, 0, 23, blockHelper.MUD_TILES_DECAY, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 0, 19, blockHelper.MUD_TILES_DECAY, 1, 1, 4, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 0, 24, blockHelper.MUD_TILES_DECAY, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 5, 0, 19, blockHelper.MUD_TILES, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 0, 19, blockHelper.MUD_TILES, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 0, 20, blockHelper.MUD_TILES_DECAY, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 0, 21, blockHelper.MUD_TILES_CRACKED, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 5, 0, 20, blockHelper.MUD_TILES, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 0, 20, blockHelper.MUD_TILES_DECAY, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 0, 20, blockHelper.MUD_TILES, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 5, 0, 21, blockHelper.MUD_TILES_DECAY, 3, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 0, 22, blockHelper.MUD_TILES_DECAY, 2, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 0, 22, blockHelper.MUD_TILES_DECAY, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 5, 0, 23, blockHelper.MUD_TILES_DECAY, 2, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 0, 23, blockHelper.MUD_BRICKS_CARVED_DECAY_4, 1, 1, 2, facing);
-
-		//solids
-		rotatedCubeVolume(world, rand, pos, 0, 1, 15, blockHelper.MUD_BRICKS, 1, 3, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 1, 14, blockHelper.MUD_BRICKS, 1, 2, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 0, 1, 16, blockHelper.MUD_BRICKS_CARVED_DECAY_4, 1, 1, 3, facing);
-		rotatedCubeVolume(world, rand, pos, 0, 1, 19, blockHelper.MUD_BRICKS, 1, 3, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 0, 3, 20, blockHelper.MUD_BRICKS, 1, 1, 5, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 3, 24, blockHelper.MUD_BRICKS, 2, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 3, 24, blockHelper.MUD_BRICKS, 3, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 8, 3, 22, blockHelper.MUD_BRICKS, 1, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 8, 3, 15, blockHelper.MUD_BRICKS, 1, 1, 6, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 3, 14, blockHelper.MUD_BRICKS, 4, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 3, 14, blockHelper.MUD_BRICKS_CARVED_DECAY_1, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 3, 15, blockHelper.MUD_BRICKS, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 0, 3, 16, blockHelper.MUD_BRICKS, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 0, 3, 17, blockHelper.MUD_BRICKS_CARVED_DECAY_1, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 0, 3, 18, blockHelper.MUD_BRICKS_CARVED_DECAY_2, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 3, 15, blockHelper.MUD_BRICKS, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 3, 15, blockHelper.MUD_BRICKS, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 3, 19, blockHelper.MUD_BRICKS, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 3, 23, blockHelper.MUD_BRICKS, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 3, 23, blockHelper.MUD_BRICKS, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 8, 3, 21, blockHelper.MUD_BRICKS_CARVED_DECAY_2, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 3, 19, blockHelper.MUD_BRICKS, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 0, 2, 16, blockHelper.MUD_BRICKS_CARVED_DECAY_2, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 0, 2, 18, blockHelper.MUD_BRICKS_CARVED_DECAY_3, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 0, 2, 22, blockHelper.MUD_BRICKS_CARVED_DECAY_2, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 0, 1, 23, blockHelper.MUD_BRICKS, 1, 2, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 2, 23, blockHelper.MUD_BRICKS_CARVED_DECAY_2, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 2, 24, blockHelper.MUD_BRICKS_CARVED_DECAY_1, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 1, 23, blockHelper.MUD_BRICKS_CARVED_DECAY_4, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 1, 24, blockHelper.MUD_BRICKS, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 5, 2, 24, blockHelper.MUD_BRICKS_CARVED_DECAY_1, 2, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 5, 1, 24, blockHelper.MUD_BRICKS_CARVED_DECAY_4, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 8, 2, 20, blockHelper.MUD_BRICKS_CARVED_DECAY_3, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 8, 1, 20, blockHelper.MUD_BRICKS_CARVED_DECAY_4, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 8, 1, 19, blockHelper.MUD_BRICKS, 1, 2, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 1, 19, blockHelper.MUD_BRICKS_CARVED_DECAY_3, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 2, 19, blockHelper.MUD_BRICKS_CARVED_DECAY_1, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 8, 1, 18, blockHelper.MUD_BRICKS_CARVED_EDGE_DECAY_4, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 8, 2, 18, blockHelper.MUD_BRICKS_CARVED_DECAY_2, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 8, 1, 17, blockHelper.MUD_BRICKS_CARVED_DECAY_3, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 8, 2, 16, blockHelper.MUD_BRICKS_CARVED_DECAY_1, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 8, 1, 15, blockHelper.MUD_BRICKS, 1, 2, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 1, 15, blockHelper.MUD_BRICKS_CARVED_DECAY_4, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 2, 15, blockHelper.MUD_BRICKS_CARVED_DECAY_2, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 1, 14, blockHelper.MUD_BRICKS, 1, 2, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 1, 14, blockHelper.MUD_BRICKS_CARVED_DECAY_2, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 2, 14, blockHelper.MUD_BRICKS, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 5, 1, 14, blockHelper.MUD_BRICKS_CARVED_DECAY_3, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 5, 2, 14, blockHelper.MUD_BRICKS_CARVED_DECAY_2, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 1, 14, blockHelper.MUD_BRICKS, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 1, 15, blockHelper.MUD_BRICKS_CARVED_DECAY_2, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 2, 15, blockHelper.MUD_BRICKS_CARVED, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 1, 19, blockHelper.MUD_BRICKS_CARVED_DECAY_3, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 2, 19, blockHelper.MUD_BRICKS_CARVED_DECAY_1, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 1, 23, blockHelper.MUD_BRICKS_CARVED_DECAY_1, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 1, 19, blockHelper.MUD_BRICKS_CARVED_DECAY_2, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 2, 19, blockHelper.MUD_BRICKS_CARVED, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 3, 19, blockHelper.MUD_BRICKS, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 2, 15, blockHelper.MUD_BRICK_WALL, 1, 1, 1, facing);
-
-		//stairs
-		rotatedCubeVolume(world, rand, pos, 1, 3, 18, blockHelper.MUD_BRICK_STAIRS_DECAY_1.withProperty(BlockStairsBetweenlands.FACING, facing).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 3, 22, blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 3, 18, blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 3, 22, blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 3, 18, blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP), 1, 1, 1, facing);
-
-		rotatedCubeVolume(world, rand, pos, 2, 1, 14, blockHelper.MUD_BRICK_STAIRS_DECAY_3.withProperty(BlockStairsBetweenlands.FACING, facing.rotateY()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.BOTTOM), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 2, 3, 15, blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing.rotateY()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 2, 3, 19, blockHelper.MUD_BRICK_STAIRS_DECAY_1.withProperty(BlockStairsBetweenlands.FACING, facing.rotateY()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 2, 3, 23, blockHelper.MUD_BRICK_STAIRS_DECAY_2.withProperty(BlockStairsBetweenlands.FACING, facing.rotateY()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 0, 1, 22, blockHelper.MUD_BRICK_STAIRS_DECAY_3.withProperty(BlockStairsBetweenlands.FACING, facing.rotateY()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.BOTTOM), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 2, 1, 24, blockHelper.MUD_BRICK_STAIRS_DECAY_3.withProperty(BlockStairsBetweenlands.FACING, facing.rotateY()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.BOTTOM), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 5, 3, 19, blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing.rotateY()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 5, 3, 23, blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing.rotateY()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP), 1, 1, 1, facing);
-
-		rotatedCubeVolume(world, rand, pos, 2, 2, 14, blockHelper.MUD_BRICK_STAIRS_DECAY_2.withProperty(BlockStairsBetweenlands.FACING, facing.getOpposite()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 3, 16, blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing.getOpposite()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 3, 20, blockHelper.MUD_BRICK_STAIRS_DECAY_1.withProperty(BlockStairsBetweenlands.FACING, facing.getOpposite()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 1, 15, blockHelper.MUD_BRICK_STAIRS_DECAY_2.withProperty(BlockStairsBetweenlands.FACING, facing.getOpposite()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.BOTTOM), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 3, 20, blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing.getOpposite()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 3, 16, blockHelper.MUD_BRICK_STAIRS_DECAY_1.withProperty(BlockStairsBetweenlands.FACING, facing.getOpposite()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 3, 20, blockHelper.MUD_BRICK_STAIRS_DECAY_2.withProperty(BlockStairsBetweenlands.FACING, facing.getOpposite()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP), 1, 1, 1, facing);
-
-		rotatedCubeVolume(world, rand, pos, 4, 2, 14, blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing.rotateYCCW()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.BOTTOM), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 3, 15, blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing.rotateYCCW()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 2, 24, blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing.rotateYCCW()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 3, 24, blockHelper.MUD_BRICK_STAIRS_DECAY_1.withProperty(BlockStairsBetweenlands.FACING, facing.rotateYCCW()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 3, 19, blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing.rotateYCCW()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 8, 1, 16, blockHelper.MUD_BRICK_STAIRS_DECAY_3.withProperty(BlockStairsBetweenlands.FACING, facing.rotateYCCW()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.BOTTOM), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 8, 1, 21, blockHelper.MUD_BRICK_STAIRS_DECAY_3.withProperty(BlockStairsBetweenlands.FACING, facing.rotateYCCW()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.BOTTOM), 1, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 1, 24, blockHelper.MUD_BRICK_STAIRS_DECAY_2.withProperty(BlockStairsBetweenlands.FACING, facing.rotateYCCW()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.BOTTOM), 1, 1, 1, facing);
-
-		//slabs
-		rotatedCubeVolume(world, rand, pos, 1, 1, 20, blockHelper.MUD_BRICK_SLAB_DECAY_3.withProperty(BlockSlabBetweenlands.HALF, EnumBlockHalfBL.BOTTOM), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 1, 23, blockHelper.MUD_BRICK_SLAB_DECAY_3.withProperty(BlockSlabBetweenlands.HALF, EnumBlockHalfBL.BOTTOM), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 5, 3, 15, blockHelper.MUD_BRICK_SLAB.withProperty(BlockSlabBetweenlands.HALF, EnumBlockHalfBL.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 3, 16, blockHelper.MUD_BRICK_SLAB.withProperty(BlockSlabBetweenlands.HALF, EnumBlockHalfBL.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 3, 19, blockHelper.MUD_BRICK_SLAB.withProperty(BlockSlabBetweenlands.HALF, EnumBlockHalfBL.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 3, 23, blockHelper.MUD_BRICK_SLAB.withProperty(BlockSlabBetweenlands.HALF, EnumBlockHalfBL.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 3, 23, blockHelper.MUD_BRICK_SLAB.withProperty(BlockSlabBetweenlands.HALF, EnumBlockHalfBL.TOP), 1, 1, 1, facing);
-
-		//alcoves and urns - may need loot
+		blockHelper.stampBlueprint(world, pos, tunnelsConnectBlueprint.get(), 0, 0, 7, facing);
 		rotatedCubeVolume(world, rand, pos, 0, 2, 17, blockHelper.MUD_BRICKS_ALCOVE_EAST, 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 0, 2, 21, blockHelper.MUD_BRICKS_ALCOVE_EAST, 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 8, 2, 17, blockHelper.MUD_BRICKS_ALCOVE_WEST, 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 8, 2, 21, blockHelper.MUD_BRICKS_ALCOVE_WEST, 1, 1, 1, facing);
-
 		rotatedCubeVolume(world, rand, pos, 5, 1, 15, blockHelper.getRandomLootUrn(rand, facing.getOpposite()), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 7, 1, 16, blockHelper.getRandomLootUrn(rand, facing.rotateY()), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 7, 1, 20, blockHelper.getRandomLootUrn(rand, facing.rotateY()), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 1, 1, 18, blockHelper.getRandomLootUrn(rand, facing.rotateYCCW()), 1, 1, 1, facing);
 		rotatedCubeVolume(world, rand, pos, 1, 1, 22, blockHelper.getRandomLootUrn(rand, facing.rotateYCCW()), 1, 1, 1, facing);
-
-		rotatedCubeVolume(world, rand, pos, 2, 1, 25, blockHelper.AIR, 3, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 1, 26, blockHelper.AIR, 2, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 2, 25, blockHelper.AIR, 1, 2, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 2, 16, blockHelper.AIR, 1, 1, 3, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 1, 17, blockHelper.AIR, 1, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 1, 12, blockHelper.AIR, 1, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 2, 20, blockHelper.AIR, 1, 1, 4, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 1, 21, blockHelper.AIR, 1, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 8, 1, 24, blockHelper.AIR, 2, 2, 1, facing); // second set is armour gap
 		blockHelper.placeArmourStandLoot(world, pos.add(9, 1, 24), facing.rotateY(), rand);
-
-		rotatedCubeVolume(world, rand, pos, 1, 5, 11, blockHelper.AIR, 3, 1, 3, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 6, 13, blockHelper.AIR, 2, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 5, 14, blockHelper.AIR, 2, 2, 4, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 6, 18, blockHelper.AIR, 2, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 7, 15, blockHelper.AIR, 2, 1, 7, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 8, 17, blockHelper.AIR, 2, 1, 8, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 9, 19, blockHelper.AIR, 2, 1, 6, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 10, 21, blockHelper.AIR, 2, 1, 4, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 8, 22, blockHelper.AIR, 1, 2, 3, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 10, 23, blockHelper.AIR, 1, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 11, 23, blockHelper.AIR, 3, 1, 2, facing);
-
-		rotatedCubeVolume(world, rand, pos, 2, 9, 25, blockHelper.AIR, 2, 4, 5, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 10, 25, blockHelper.AIR, 2, 3, 5, facing);
-		rotatedCubeVolume(world, rand, pos, 2, 8, 25, blockHelper.AIR, 2, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 2, 8, 26, blockHelper.AIR, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 3, 9, 25, blockHelper.AIR, 1, 1, 4, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 9, 25, blockHelper.AIR, 1, 1, 3, facing);
-		rotatedCubeVolume(world, rand, pos, 5, 10, 27, blockHelper.AIR, 1, 4, 4, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 10, 28, blockHelper.AIR, 1, 3, 3, facing);
-		rotatedCubeVolume(world, rand, pos, 6, 13, 29, blockHelper.AIR, 1, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 8, 26, blockHelper.AIR, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 9, 26, blockHelper.AIR, 1, 3, 3, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 10, 29, blockHelper.AIR, 1, 2, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 12, 27, blockHelper.AIR, 1, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 13, 26, blockHelper.AIR, 4, 1, 3, facing);
-		rotatedCubeVolume(world, rand, pos, 2, 13, 29, blockHelper.AIR, 3, 1, 2, facing);
-
-		rotatedCubeVolume(world, rand, pos, 3, 11, 30, blockHelper.AIR, 2, 2, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 14, 29, blockHelper.AIR, 2, 1, 2, facing);
-		rotatedCubeVolume(world, rand, pos, 2, 12, 30, blockHelper.AIR, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 1, 13, 30, blockHelper.AIR, 1, 1, 1, facing);
-
-		rotatedCubeVolume(world, rand, pos, 8, 2, 22, blockHelper.COMPACTED_MUD, 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 7, 3, 22, blockHelper.COMPACTED_MUD_SLAB.withProperty(BlockSlabBetweenlands.HALF, EnumBlockHalfBL.TOP), 1, 1, 1, facing);
-		rotatedCubeVolume(world, rand, pos, 4, 2, 20, blockHelper.DUNGEON_WALL_CANDLE_SOUTH, 1, 1, 1, facing);
-		
-		rotatedCubeVolume(world, rand, pos, 6, 1, 15, blockHelper.GROUND_ITEM, 1, 1, 1, facing);
 		blockHelper.setGreatSword(world, rand, pos.add(6, 1, 15));
 	}
 
+	private StructureBlueprint createSpikeFeatureBlueprint() {
+		return StructureBlueprint.builder(5, 3, 3)
+				.fill(2, 0, 1, blockHelper.MUD_TILES_SPIKE_TRAP, 1, 1, 1)
+				.fill(3, 0, 2, blockHelper.MUD_TILES_SPIKE_TRAP, 1, 1, 1)
+				.fill(3, 0, 0, blockHelper.MUD_TILES_SPIKE_TRAP, 1, 1, 1)
+				.fill(1, 0, 2, blockHelper.MUD_TILES_SPIKE_TRAP, 1, 1, 1)
+				.fill(1, 0, 0, blockHelper.MUD_TILES_SPIKE_TRAP, 1, 1, 1)
+
+				.fill(4, 2, 1, facingState(facing -> blockHelper.MUD_BRICKS_SPIKE_TRAP.withProperty(BlockMudBrickSpikeTrap.FACING, facing.rotateY())), 1, 1, 1)
+				.fill(0, 2, 1, facingState(facing -> blockHelper.MUD_BRICKS_SPIKE_TRAP.withProperty(BlockMudBrickSpikeTrap.FACING, facing.getOpposite().rotateY())), 1, 1, 1)
+				.build();
+	}
+
+	private StructureBlueprint createWalkwayWallsBlueprint() {
+		return StructureBlueprint.builder(32, 19, 32)
+				.fill(1, 0, 27, blockHelper.AIR, 1, 2, 4)
+
+				//South walls
+				.fill(14, 14, 1, blockHelper.COMPACTED_MUD, 1, 4, 2)
+				.fill(31, 14, 1, blockHelper.COMPACTED_MUD, 1, 4, 2)
+				.fill(6, 8, 1, blockHelper.COMPACTED_MUD, 1, 4, 2)
+				.fill(22, 8, 1, blockHelper.COMPACTED_MUD, 1, 4, 2)
+				.fill(31, 8, 1, blockHelper.COMPACTED_MUD, 1, 4, 2)
+				.fill(3, 2, 1, blockHelper.COMPACTED_MUD, 1, 4, 2)
+				.fill(31, 2, 1, blockHelper.COMPACTED_MUD, 1, 4, 2)
+				.fill(0, 0, 0, blockHelper.COMPACTED_MUD, 32, 19, 1)
+				.fill(0, 0, 1, blockHelper.COMPACTED_MUD, 1, 19, 31)
+
+				//East walls
+				.fill(1, 14, 16, blockHelper.COMPACTED_MUD, 2, 4, 1)
+				.fill(1, 14, 31, blockHelper.COMPACTED_MUD, 2, 4, 1)
+				.fill(1, 8, 8, blockHelper.COMPACTED_MUD, 2, 4, 1)
+				.fill(1, 8, 24, blockHelper.COMPACTED_MUD, 2, 4, 1)
+				.fill(1, 8, 31, blockHelper.COMPACTED_MUD, 2, 4, 1)
+				.fill(1, 2, 31, blockHelper.COMPACTED_MUD, 2, 4, 1)
+
+				//extra roots
+				.fill(1, 14, 1, blockHelper.ROOT, 1, 4, 1)
+				.fill(14, 10, 1, blockHelper.ROOT, 1, 2, 2)
+				.fill(22, 4, 1, blockHelper.ROOT, 1, 2, 1)
+				.fill(21, 4, 2, blockHelper.ROOT, 1, 2, 1)
+				.fill(19, 2, 2, blockHelper.ROOT, 1, 4, 1)
+				.fill(1, 10, 16, blockHelper.ROOT, 2, 2, 1)
+				.fill(1, 2, 10, blockHelper.ROOT, 1, 4, 1)
+				.fill(1, 4, 9, blockHelper.ROOT, 1, 2, 1)
+				.fill(2, 4, 8, blockHelper.ROOT, 1, 2, 1)
+				.build();
+	}
+
+	private StructureBlueprint createWalkwayStairsBlueprint() {
+		return StructureBlueprint.builder(6, 6, 1)
+				.fill(5, 0, 0, facingState(facing -> blockHelper.COMPACTED_MUD_SLOPE.withProperty(BlockCompactedMudSlope.FACING, facing.rotateY()).withProperty(BlockCompactedMudSlope.HALF, EnumHalf.BOTTOM)), 1, 1, 1)
+				.fill(4, 0, 0, facingState(facing -> blockHelper.COMPACTED_MUD_SLOPE.withProperty(BlockCompactedMudSlope.FACING, facing.rotateYCCW()).withProperty(BlockCompactedMudSlope.HALF, EnumHalf.TOP)), 1, 1, 1)
+				.fill(4, 1, 0, facingState(facing -> blockHelper.COMPACTED_MUD_SLOPE.withProperty(BlockCompactedMudSlope.FACING, facing.rotateY()).withProperty(BlockCompactedMudSlope.HALF, EnumHalf.BOTTOM)), 1, 1, 1)
+				.fill(3, 1, 0, facingState(facing -> blockHelper.COMPACTED_MUD_SLOPE.withProperty(BlockCompactedMudSlope.FACING, facing.rotateYCCW()).withProperty(BlockCompactedMudSlope.HALF, EnumHalf.TOP)), 1, 1, 1)
+				.fill(3, 2, 0, facingState(facing -> blockHelper.COMPACTED_MUD_SLOPE.withProperty(BlockCompactedMudSlope.FACING, facing.rotateY()).withProperty(BlockCompactedMudSlope.HALF, EnumHalf.BOTTOM)), 1, 1, 1)
+				.fill(2, 2, 0, facingState(facing -> blockHelper.COMPACTED_MUD_SLOPE.withProperty(BlockCompactedMudSlope.FACING, facing.rotateYCCW()).withProperty(BlockCompactedMudSlope.HALF, EnumHalf.TOP)), 1, 1, 1)
+				.fill(2, 3, 0, facingState(facing -> blockHelper.COMPACTED_MUD_SLOPE.withProperty(BlockCompactedMudSlope.FACING, facing.rotateY()).withProperty(BlockCompactedMudSlope.HALF, EnumHalf.BOTTOM)), 1, 1, 1)
+				.fill(1, 3, 0, facingState(facing -> blockHelper.COMPACTED_MUD_SLOPE.withProperty(BlockCompactedMudSlope.FACING, facing.rotateYCCW()).withProperty(BlockCompactedMudSlope.HALF, EnumHalf.TOP)), 1, 1, 1)
+				.fill(1, 4, 0, facingState(facing -> blockHelper.COMPACTED_MUD_SLOPE.withProperty(BlockCompactedMudSlope.FACING, facing.rotateY()).withProperty(BlockCompactedMudSlope.HALF, EnumHalf.BOTTOM)), 1, 1, 1)
+				.fill(0, 5, 0, facingState(facing -> blockHelper.COMPACTED_MUD_SLOPE.withProperty(BlockCompactedMudSlope.FACING, facing.rotateY()).withProperty(BlockCompactedMudSlope.HALF, EnumHalf.BOTTOM)), 1, 1, 1)
+
+				// air gaps
+				.fill(1, 5, 0, blockHelper.AIR, 3, 1, 1)
+				.fill(2, 4, 0, blockHelper.AIR, 3, 1, 1)
+				.fill(3, 3, 0, blockHelper.AIR, 3, 1, 1)
+
+				// roots
+				.fill(3, 0, 0, blockHelper.ROOT, 1, 1, 1)
+				.fill(2, 0, 0, blockHelper.ROOT, 1, 2, 1)
+				.fill(1, 0, 0, blockHelper.ROOT, 1, 3, 1)
+				.fill(0, 0, 0, blockHelper.ROOT, 1, 4, 1)
+				.build();
+	}
+
+	private StructureBlueprint createBottomTunnelBlueprint() {
+		return StructureBlueprint.builder(22, 5, 5)
+				.fill(1, 1, 1, blockHelper.AIR, 20, 3, 3)
+				.fill(0, 2, 2, blockHelper.AIR, 1, 1, 1)
+				.fill(1, 1, 3, blockHelper.COMPACTED_MUD, 1, 1, 1)
+				.fill(21, 2, 2, blockHelper.AIR, 1, 1, 1)
+				.fill(20, 1, 3, blockHelper.COMPACTED_MUD, 1, 1, 1)
+
+				.fill(1, 0, 1, blockHelper.COMPACTED_MUD, 20, 1, 3)
+				.fill(1, 1, 4, blockHelper.COMPACTED_MUD, 20, 3, 1)
+				.fill(1, 1, 0, blockHelper.COMPACTED_MUD, 20, 3, 1)
+				.fill(1, 4, 1, blockHelper.COMPACTED_MUD, 20, 1, 3) //roof
+
+				.fill(1, 1, 1, blockHelper.COMPACTED_MUD, 4, 1, 1)
+				.fill(1, 1, 2, blockHelper.COMPACTED_MUD, 2, 1, 1)
+
+				.fill(17, 1, 1, blockHelper.COMPACTED_MUD, 4, 1, 1)
+				.fill(19, 1, 2, blockHelper.COMPACTED_MUD, 2, 1, 1)
+				.build();
+	}
+
+	private StructureBlueprint createTunnelsConnectBlueprint() {
+		return StructureBlueprint.builder(11, 16, 25)
+				.fill(1, 4, 2, blockHelper.AIR, 3, 1, 7)
+				.fill(0, 8, 24, blockHelper.COMPACTED_MUD, 8, 7, 1)
+				.fill(7, 8, 21, blockHelper.COMPACTED_MUD, 1, 7, 3)
+				.fill(4, 9, 21, blockHelper.COMPACTED_MUD, 3, 1, 3)
+				.fill(1, 8, 20, blockHelper.COMPACTED_MUD, 7, 1, 4)
+				.fill(6, 9, 20, blockHelper.COMPACTED_MUD, 1, 5, 1)
+				.fill(5, 9, 19, blockHelper.COMPACTED_MUD, 1, 6, 1)
+				.fill(5, 8, 18, blockHelper.COMPACTED_MUD, 1, 5, 1)
+
+				//stairs
+				.fill(1, 9, 23, blockHelper.COMPACTED_MUD, 3, 1, 1)
+				.fill(1, 10, 23, blockHelper.COMPACTED_MUD, 4, 1, 1)
+				.fill(1, 11, 23, blockHelper.COMPACTED_MUD, 2, 1, 1)
+				.fill(1, 12, 22, blockHelper.COMPACTED_MUD, 1, 1, 2)
+				.fill(1, 13, 19, blockHelper.COMPACTED_MUD, 1, 1, 4)
+				.fill(1, 14, 19, blockHelper.COMPACTED_MUD, 1, 1, 3)
+				.fill(1, 15, 20, blockHelper.COMPACTED_MUD, 1, 1, 1)
+
+				.fill(1, 12, 16, blockHelper.COMPACTED_MUD, 3, 1, 2)
+				.fill(1, 11, 14, blockHelper.COMPACTED_MUD, 3, 1, 2)
+				.fill(1, 10, 12, blockHelper.COMPACTED_MUD, 3, 1, 2)
+				.fill(1, 9, 10, blockHelper.COMPACTED_MUD, 3, 1, 2)
+				.fill(1, 8, 8, blockHelper.COMPACTED_MUD, 3, 1, 2)
+				.fill(1, 7, 6, blockHelper.COMPACTED_MUD, 3, 1, 2)
+				.fill(1, 6, 4, blockHelper.COMPACTED_MUD, 3, 1, 2)
+				.fill(1, 5, 2, blockHelper.COMPACTED_MUD, 3, 1, 2)
+				.fill(1, 4, 0, blockHelper.COMPACTED_MUD, 3, 1, 2)
+				.fill(0, 8, 18, blockHelper.COMPACTED_MUD, 1, 7, 6)
+				.fill(1, 7, 18, blockHelper.COMPACTED_MUD, 1, 8, 1)
+				.fill(2, 14, 18, blockHelper.COMPACTED_MUD, 3, 1, 4)
+				.fill(3, 14, 22, blockHelper.COMPACTED_MUD, 4, 1, 2)
+				.fill(5, 14, 20, blockHelper.COMPACTED_MUD, 2, 1, 2)
+				.fill(1, 7, 15, blockHelper.COMPACTED_MUD, 4, 1, 3)
+				.fill(1, 6, 14, blockHelper.COMPACTED_MUD, 4, 1, 1)
+				.fill(1, 6, 13, blockHelper.COMPACTED_MUD, 3, 1, 1)
+				.fill(1, 5, 11, blockHelper.COMPACTED_MUD, 3, 1, 2)
+				.fill(1, 4, 8, blockHelper.COMPACTED_MUD, 6, 1, 3)
+				.fill(3, 4, 8, blockHelper.COMPACTED_MUD, 4, 1, 1)
+				.fill(1, 3, 7, blockHelper.COMPACTED_MUD, 6, 1, 1)
+				.fill(1, 3, 6, blockHelper.COMPACTED_MUD, 2, 1, 1)
+				.fill(3, 3, 6, blockHelper.COMPACTED_MUD, 1, 1, 1)
+				.fill(1, 2, 5, blockHelper.COMPACTED_MUD, 2, 1, 2)
+				.fill(1, 1, 4, blockHelper.COMPACTED_MUD, 2, 1, 1)
+				.fill(1, 1, 3, blockHelper.COMPACTED_MUD, 1, 1, 1)
+				.fill(1, 12, 19, blockHelper.COMPACTED_MUD, 1, 1, 1)
+				.fill(6, 13, 21, blockHelper.COMPACTED_MUD, 1, 1, 1)
+				.fill(5, 9, 20, blockHelper.COMPACTED_MUD, 1, 1, 1)
+				.fill(3, 9, 22, blockHelper.COMPACTED_MUD, 1, 1, 1)
+				.fill(1, 9, 22, blockHelper.COMPACTED_MUD, 1, 1, 1)
+				.fill(2, 13, 18, blockHelper.COMPACTED_MUD, 3, 1, 1)
+				.fill(4, 7, 17, blockHelper.COMPACTED_MUD, 1, 6, 1)
+				.fill(4, 8, 16, blockHelper.COMPACTED_MUD, 1, 4, 1)
+				.fill(4, 8, 15, blockHelper.COMPACTED_MUD, 1, 2, 1)
+				.fill(3, 10, 15, blockHelper.COMPACTED_MUD, 1, 1, 1)
+				.fill(3, 7, 14, blockHelper.COMPACTED_MUD, 1, 4, 1)
+				.fill(3, 7, 13, blockHelper.COMPACTED_MUD, 1, 3, 1)
+				.fill(3, 6, 12, blockHelper.COMPACTED_MUD, 1, 4, 1)
+				.fill(3, 6, 11, blockHelper.COMPACTED_MUD, 1, 3, 1)
+				.fill(3, 5, 10, blockHelper.COMPACTED_MUD, 1, 4, 1)
+				.fill(3, 5, 8, blockHelper.COMPACTED_MUD, 1, 3, 2)
+				.fill(4, 4, 2, blockHelper.COMPACTED_MUD, 1, 2, 5)
+				.fill(3, 3, 7, blockHelper.COMPACTED_MUD, 1, 4, 1)
+				.fill(3, 6, 6, blockHelper.COMPACTED_MUD, 1, 1, 1)
+
+				//side caps
+				.fill(0, 4, 2, blockHelper.COMPACTED_MUD, 1, 1, 7)
+				.fill(0, 5, 4, blockHelper.COMPACTED_MUD, 1, 1, 7)
+				.fill(0, 6, 6, blockHelper.COMPACTED_MUD, 1, 1, 7)
+				.fill(0, 7, 8, blockHelper.COMPACTED_MUD, 1, 1, 7)
+				.fill(0, 8, 10, blockHelper.COMPACTED_MUD, 1, 1, 8)
+				.fill(0, 9, 12, blockHelper.COMPACTED_MUD, 1, 1, 6)
+				.fill(0, 10, 14, blockHelper.COMPACTED_MUD, 1, 1, 4)
+				.fill(0, 11, 16, blockHelper.COMPACTED_MUD, 1, 1, 2)
+
+				//hoard room
+				.fill(4, 1, 8, blockHelper.AIR, 3, 3, 9)
+				.fill(4, 0, 8, blockHelper.COMPACTED_MUD, 4, 1, 9)
+				.fill(8, 0, 13, blockHelper.COMPACTED_MUD, 1, 1, 4)
+				.fill(7, 0, 17, blockHelper.COMPACTED_MUD, 3, 1, 1)
+				.fill(5, 1, 7, blockHelper.COMPACTED_MUD, 3, 2, 1)
+				.fill(8, 1, 8, blockHelper.COMPACTED_MUD, 1, 2, 5)
+				.fill(9, 1, 13, blockHelper.COMPACTED_MUD, 1, 2, 4)
+				.fill(8, 1, 16, blockHelper.COMPACTED_MUD, 1, 2, 1)
+				.fill(6, 1, 17, blockHelper.COMPACTED_MUD, 1, 1, 1)
+				.fill(10, 1, 17, blockHelper.COMPACTED_MUD, 1, 2, 1)
+				.fill(7, 1, 18, blockHelper.COMPACTED_MUD, 3, 2, 1)
+				.fill(7, 3, 8, blockHelper.COMPACTED_MUD, 1, 1, 9)
+				.fill(8, 3, 13, blockHelper.COMPACTED_MUD, 1, 1, 3)
+				.fill(8, 3, 17, blockHelper.COMPACTED_MUD, 2, 1, 1)
+				.fill(4, 4, 11, blockHelper.COMPACTED_MUD, 3, 1, 5)
+				.fill(1, 1, 5, blockHelper.COMPACTED_MUD, 2, 1, 3)
+				.fill(1, 2, 7, blockHelper.COMPACTED_MUD, 2, 1, 1)
+
+				.fill(3, 1, 6, blockHelper.COMPACTED_MUD_MIRAGE, 1, 2, 1) //mirage blocks
+				.fill(7, 1, 17, blockHelper.COMPACTED_MUD_MIRAGE, 1, 3, 1)
+
+				//floor
+				.fill(1, 0, 9, blockHelper.MUD_TILES_DECAY, 1, 1, 2)
+				.fill(1, 0, 11, blockHelper.MUD_TILES, 1, 1, 1)
+				.fill(1, 0, 14, blockHelper.MUD_TILES, 1, 1, 1)
+				.fill(1, 0, 15, blockHelper.MUD_TILES_DECAY, 1, 1, 1)
+				.fill(2, 0, 8, blockHelper.MUD_TILES, 1, 1, 3)
+				.fill(3, 0, 9, blockHelper.MUD_TILES_DECAY, 1, 1, 1)
+				.fill(5, 0, 9, blockHelper.MUD_TILES_DECAY, 2, 1, 3)
+				.fill(3, 0, 10, blockHelper.MUD_TILES_DECAY, 2, 1, 2)
+				.fill(2, 0, 11, blockHelper.MUD_TILES_DECAY, 1, 1, 1)
+				.fill(7, 0, 10, blockHelper.MUD_TILES, 1, 1, 1)
+				.fill(7, 0, 11, blockHelper.MUD_TILES, 1, 1, 1)
+				.fill(2, 0, 12, blockHelper.MUD_TILES_CRACKED, 1, 1, 1)
+				.fill(2, 0, 13, blockHelper.MUD_TILES_DECAY, 1, 1, 2)
+				.fill(2, 0, 15, blockHelper.MUD_TILES, 1, 1, 1)
+				.fill(2, 0, 16, blockHelper.MUD_TILES_DECAY, 1, 1, 1)
+				.fill(3, 0, 12, blockHelper.MUD_TILES_DECAY, 1, 1, 4)
+				.fill(3, 0, 17, blockHelper.MUD_TILES_DECAY, 1, 1, 1)
+				.fill(5, 0, 12, blockHelper.MUD_TILES, 1, 1, 1)
+				.fill(6, 0, 12, blockHelper.MUD_TILES, 1, 1, 1)
+				.fill(4, 0, 13, blockHelper.MUD_TILES_DECAY, 1, 1, 1)
+				.fill(4, 0, 14, blockHelper.MUD_TILES_CRACKED, 1, 1, 1)
+				.fill(5, 0, 13, blockHelper.MUD_TILES, 1, 1, 1)
+				.fill(6, 0, 13, blockHelper.MUD_TILES_DECAY, 1, 1, 1)
+				.fill(7, 0, 13, blockHelper.MUD_TILES, 1, 1, 1)
+				.fill(5, 0, 14, blockHelper.MUD_TILES_DECAY, 3, 1, 1)
+				.fill(4, 0, 15, blockHelper.MUD_TILES_DECAY, 2, 1, 1)
+				.fill(7, 0, 15, blockHelper.MUD_TILES_DECAY, 1, 1, 1)
+				.fill(5, 0, 16, blockHelper.MUD_TILES_DECAY, 2, 1, 1)
+				.fill(4, 0, 16, blockHelper.MUD_BRICKS_CARVED_DECAY_4, 1, 1, 2)
+
+				//solids
+				.fill(0, 1, 8, blockHelper.MUD_BRICKS, 1, 3, 1)
+				.fill(1, 1, 7, blockHelper.MUD_BRICKS, 1, 2, 1)
+				.fill(0, 1, 9, blockHelper.MUD_BRICKS_CARVED_DECAY_4, 1, 1, 3)
+				.fill(0, 1, 12, blockHelper.MUD_BRICKS, 1, 3, 1)
+				.fill(0, 3, 13, blockHelper.MUD_BRICKS, 1, 1, 5)
+				.fill(1, 3, 17, blockHelper.MUD_BRICKS, 2, 1, 1)
+				.fill(4, 3, 17, blockHelper.MUD_BRICKS, 3, 1, 1)
+				.fill(8, 3, 15, blockHelper.MUD_BRICKS, 1, 1, 2)
+				.fill(8, 3, 8, blockHelper.MUD_BRICKS, 1, 1, 6)
+				.fill(4, 3, 7, blockHelper.MUD_BRICKS, 4, 1, 1)
+				.fill(3, 3, 7, blockHelper.MUD_BRICKS_CARVED_DECAY_1, 1, 1, 1)
+				.fill(1, 3, 8, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(0, 3, 9, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(0, 3, 10, blockHelper.MUD_BRICKS_CARVED_DECAY_1, 1, 1, 1)
+				.fill(0, 3, 11, blockHelper.MUD_BRICKS_CARVED_DECAY_2, 1, 1, 1)
+				.fill(7, 3, 8, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(4, 3, 8, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(1, 3, 12, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(1, 3, 16, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(4, 3, 16, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(8, 3, 14, blockHelper.MUD_BRICKS_CARVED_DECAY_2, 1, 1, 1)
+				.fill(7, 3, 12, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(0, 2, 9, blockHelper.MUD_BRICKS_CARVED_DECAY_2, 1, 1, 1)
+				.fill(0, 2, 11, blockHelper.MUD_BRICKS_CARVED_DECAY_3, 1, 1, 1)
+				.fill(0, 2, 15, blockHelper.MUD_BRICKS_CARVED_DECAY_2, 1, 1, 1)
+				.fill(0, 1, 16, blockHelper.MUD_BRICKS, 1, 2, 2)
+				.fill(1, 2, 16, blockHelper.MUD_BRICKS_CARVED_DECAY_2, 1, 1, 1)
+				.fill(1, 2, 17, blockHelper.MUD_BRICKS_CARVED_DECAY_1, 1, 1, 1)
+				.fill(1, 1, 16, blockHelper.MUD_BRICKS_CARVED_DECAY_4, 1, 1, 1)
+				.fill(1, 1, 17, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(5, 2, 17, blockHelper.MUD_BRICKS_CARVED_DECAY_1, 2, 1, 1)
+				.fill(5, 1, 17, blockHelper.MUD_BRICKS_CARVED_DECAY_4, 1, 1, 1)
+				.fill(8, 2, 13, blockHelper.MUD_BRICKS_CARVED_DECAY_3, 1, 1, 1)
+				.fill(8, 1, 13, blockHelper.MUD_BRICKS_CARVED_DECAY_4, 1, 1, 1)
+				.fill(8, 1, 12, blockHelper.MUD_BRICKS, 1, 2, 1)
+				.fill(7, 1, 12, blockHelper.MUD_BRICKS_CARVED_DECAY_3, 1, 1, 1)
+				.fill(7, 2, 12, blockHelper.MUD_BRICKS_CARVED_DECAY_1, 1, 1, 1)
+				.fill(8, 1, 11, blockHelper.MUD_BRICKS_CARVED_EDGE_DECAY_4, 1, 1, 1)
+				.fill(8, 2, 11, blockHelper.MUD_BRICKS_CARVED_DECAY_2, 1, 1, 1)
+				.fill(8, 1, 10, blockHelper.MUD_BRICKS_CARVED_DECAY_3, 1, 1, 1)
+				.fill(8, 2, 9, blockHelper.MUD_BRICKS_CARVED_DECAY_1, 1, 1, 1)
+				.fill(8, 1, 8, blockHelper.MUD_BRICKS, 1, 2, 1)
+				.fill(7, 1, 8, blockHelper.MUD_BRICKS_CARVED_DECAY_4, 1, 1, 1)
+				.fill(7, 2, 8, blockHelper.MUD_BRICKS_CARVED_DECAY_2, 1, 1, 1)
+				.fill(7, 1, 7, blockHelper.MUD_BRICKS, 1, 2, 1)
+				.fill(6, 1, 7, blockHelper.MUD_BRICKS_CARVED_DECAY_2, 1, 1, 1)
+				.fill(6, 2, 7, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(5, 1, 7, blockHelper.MUD_BRICKS_CARVED_DECAY_3, 1, 1, 1)
+				.fill(5, 2, 7, blockHelper.MUD_BRICKS_CARVED_DECAY_2, 1, 1, 1)
+				.fill(4, 1, 7, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(1, 1, 8, blockHelper.MUD_BRICKS_CARVED_DECAY_2, 1, 1, 1)
+				.fill(1, 2, 8, blockHelper.MUD_BRICKS_CARVED, 1, 1, 1)
+				.fill(1, 1, 12, blockHelper.MUD_BRICKS_CARVED_DECAY_3, 1, 1, 1)
+				.fill(1, 2, 12, blockHelper.MUD_BRICKS_CARVED_DECAY_1, 1, 1, 1)
+				.fill(4, 1, 16, blockHelper.MUD_BRICKS_CARVED_DECAY_1, 1, 1, 1)
+				.fill(4, 1, 12, blockHelper.MUD_BRICKS_CARVED_DECAY_2, 1, 1, 1)
+				.fill(4, 2, 12, blockHelper.MUD_BRICKS_CARVED, 1, 1, 1)
+				.fill(4, 3, 12, blockHelper.MUD_BRICKS, 1, 1, 1)
+				.fill(4, 2, 8, blockHelper.MUD_BRICK_WALL, 1, 1, 1)
+
+				//stairs
+				.fill(1, 3, 11, facingState(facing -> blockHelper.MUD_BRICK_STAIRS_DECAY_1.withProperty(BlockStairsBetweenlands.FACING, facing).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP)), 1, 1, 1)
+				.fill(1, 3, 15, facingState(facing -> blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP)), 1, 1, 1)
+				.fill(4, 3, 11, facingState(facing -> blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP)), 1, 1, 1)
+				.fill(4, 3, 15, facingState(facing -> blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP)), 1, 1, 1)
+				.fill(7, 3, 11, facingState(facing -> blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP)), 1, 1, 1)
+
+				.fill(2, 1, 7, facingState(facing -> blockHelper.MUD_BRICK_STAIRS_DECAY_3.withProperty(BlockStairsBetweenlands.FACING, facing.rotateY()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.BOTTOM)), 1, 1, 1)
+				.fill(2, 3, 8, facingState(facing -> blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing.rotateY()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP)), 1, 1, 1)
+				.fill(2, 3, 12, facingState(facing -> blockHelper.MUD_BRICK_STAIRS_DECAY_1.withProperty(BlockStairsBetweenlands.FACING, facing.rotateY()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP)), 1, 1, 1)
+				.fill(2, 3, 16, facingState(facing -> blockHelper.MUD_BRICK_STAIRS_DECAY_2.withProperty(BlockStairsBetweenlands.FACING, facing.rotateY()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP)), 1, 1, 1)
+				.fill(0, 1, 15, facingState(facing -> blockHelper.MUD_BRICK_STAIRS_DECAY_3.withProperty(BlockStairsBetweenlands.FACING, facing.rotateY()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.BOTTOM)), 1, 1, 1)
+				.fill(2, 1, 17, facingState(facing -> blockHelper.MUD_BRICK_STAIRS_DECAY_3.withProperty(BlockStairsBetweenlands.FACING, facing.rotateY()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.BOTTOM)), 1, 1, 1)
+				.fill(5, 3, 12, facingState(facing -> blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing.rotateY()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP)), 1, 1, 1)
+				.fill(5, 3, 16, facingState(facing -> blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing.rotateY()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP)), 1, 1, 1)
+
+				.fill(2, 2, 7, facingState(facing -> blockHelper.MUD_BRICK_STAIRS_DECAY_2.withProperty(BlockStairsBetweenlands.FACING, facing.getOpposite()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP)), 1, 1, 1)
+				.fill(1, 3, 9, facingState(facing -> blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing.getOpposite()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP)), 1, 1, 1)
+				.fill(4, 3, 13, facingState(facing -> blockHelper.MUD_BRICK_STAIRS_DECAY_1.withProperty(BlockStairsBetweenlands.FACING, facing.getOpposite()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP)), 1, 1, 1)
+				.fill(4, 1, 8, facingState(facing -> blockHelper.MUD_BRICK_STAIRS_DECAY_2.withProperty(BlockStairsBetweenlands.FACING, facing.getOpposite()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.BOTTOM)), 1, 1, 1)
+				.fill(1, 3, 13, facingState(facing -> blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing.getOpposite()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP)), 1, 1, 1)
+				.fill(7, 3, 9, facingState(facing -> blockHelper.MUD_BRICK_STAIRS_DECAY_1.withProperty(BlockStairsBetweenlands.FACING, facing.getOpposite()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP)), 1, 1, 1)
+				.fill(7, 3, 13, facingState(facing -> blockHelper.MUD_BRICK_STAIRS_DECAY_2.withProperty(BlockStairsBetweenlands.FACING, facing.getOpposite()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP)), 1, 1, 1)
+
+				.fill(4, 2, 7, facingState(facing -> blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing.rotateYCCW()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.BOTTOM)), 1, 1, 1)
+				.fill(6, 3, 8, facingState(facing -> blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing.rotateYCCW()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP)), 1, 1, 1)
+				.fill(4, 2, 17, facingState(facing -> blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing.rotateYCCW()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP)), 1, 1, 1)
+				.fill(3, 3, 17, facingState(facing -> blockHelper.MUD_BRICK_STAIRS_DECAY_1.withProperty(BlockStairsBetweenlands.FACING, facing.rotateYCCW()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP)), 1, 1, 1)
+				.fill(3, 3, 12, facingState(facing -> blockHelper.MUD_BRICK_STAIRS.withProperty(BlockStairsBetweenlands.FACING, facing.rotateYCCW()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.TOP)), 1, 1, 1)
+				.fill(8, 1, 9, facingState(facing -> blockHelper.MUD_BRICK_STAIRS_DECAY_3.withProperty(BlockStairsBetweenlands.FACING, facing.rotateYCCW()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.BOTTOM)), 1, 1, 1)
+				.fill(8, 1, 14, facingState(facing -> blockHelper.MUD_BRICK_STAIRS_DECAY_3.withProperty(BlockStairsBetweenlands.FACING, facing.rotateYCCW()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.BOTTOM)), 1, 1, 2)
+				.fill(4, 1, 17, facingState(facing -> blockHelper.MUD_BRICK_STAIRS_DECAY_2.withProperty(BlockStairsBetweenlands.FACING, facing.rotateYCCW()).withProperty(BlockStairsBetweenlands.HALF, EnumHalf.BOTTOM)), 1, 1, 1)
+
+				//slabs
+				.fill(1, 1, 13, blockHelper.MUD_BRICK_SLAB_DECAY_3.withProperty(BlockSlabBetweenlands.HALF, EnumBlockHalfBL.BOTTOM), 1, 1, 1)
+				.fill(7, 1, 16, blockHelper.MUD_BRICK_SLAB_DECAY_3.withProperty(BlockSlabBetweenlands.HALF, EnumBlockHalfBL.BOTTOM), 1, 1, 1)
+				.fill(5, 3, 8, blockHelper.MUD_BRICK_SLAB.withProperty(BlockSlabBetweenlands.HALF, EnumBlockHalfBL.TOP), 1, 1, 1)
+				.fill(4, 3, 9, blockHelper.MUD_BRICK_SLAB.withProperty(BlockSlabBetweenlands.HALF, EnumBlockHalfBL.TOP), 1, 1, 1)
+				.fill(6, 3, 12, blockHelper.MUD_BRICK_SLAB.withProperty(BlockSlabBetweenlands.HALF, EnumBlockHalfBL.TOP), 1, 1, 1)
+				.fill(3, 3, 16, blockHelper.MUD_BRICK_SLAB.withProperty(BlockSlabBetweenlands.HALF, EnumBlockHalfBL.TOP), 1, 1, 1)
+				.fill(7, 3, 16, blockHelper.MUD_BRICK_SLAB.withProperty(BlockSlabBetweenlands.HALF, EnumBlockHalfBL.TOP), 1, 1, 1)
+
+				//alcoves and urns - may need loot
+
+				.fill(2, 1, 18, blockHelper.AIR, 3, 1, 1)
+				.fill(3, 1, 19, blockHelper.AIR, 2, 1, 1)
+				.fill(4, 2, 18, blockHelper.AIR, 1, 2, 1)
+				.fill(7, 2, 9, blockHelper.AIR, 1, 1, 3)
+				.fill(7, 1, 10, blockHelper.AIR, 1, 1, 2)
+				.fill(7, 1, 5, blockHelper.AIR, 1, 1, 2)
+				.fill(7, 2, 13, blockHelper.AIR, 1, 1, 4)
+				.fill(7, 1, 14, blockHelper.AIR, 1, 1, 2)
+				.fill(8, 1, 17, blockHelper.AIR, 2, 2, 1) // second set is armour gap
+
+				.fill(1, 5, 4, blockHelper.AIR, 3, 1, 3)
+				.fill(1, 6, 6, blockHelper.AIR, 2, 1, 1)
+				.fill(1, 5, 7, blockHelper.AIR, 2, 2, 4)
+				.fill(1, 6, 11, blockHelper.AIR, 2, 1, 2)
+				.fill(1, 7, 8, blockHelper.AIR, 2, 1, 7)
+				.fill(1, 8, 10, blockHelper.AIR, 2, 1, 8)
+				.fill(1, 9, 12, blockHelper.AIR, 2, 1, 6)
+				.fill(1, 10, 14, blockHelper.AIR, 2, 1, 4)
+				.fill(3, 8, 15, blockHelper.AIR, 1, 2, 3)
+				.fill(3, 10, 16, blockHelper.AIR, 1, 1, 2)
+				.fill(1, 11, 16, blockHelper.AIR, 3, 1, 2)
+
+				.fill(2, 9, 18, blockHelper.AIR, 2, 4, 5)
+				.fill(3, 10, 18, blockHelper.AIR, 2, 3, 5)
+				.fill(2, 8, 18, blockHelper.AIR, 2, 1, 1)
+				.fill(2, 8, 19, blockHelper.AIR, 1, 1, 1)
+				.fill(3, 9, 18, blockHelper.AIR, 1, 1, 4)
+				.fill(4, 9, 18, blockHelper.AIR, 1, 1, 3)
+				.fill(5, 10, 20, blockHelper.AIR, 1, 4, 4)
+				.fill(6, 10, 21, blockHelper.AIR, 1, 3, 3)
+				.fill(6, 13, 22, blockHelper.AIR, 1, 1, 2)
+				.fill(1, 8, 19, blockHelper.AIR, 1, 1, 1)
+				.fill(1, 9, 19, blockHelper.AIR, 1, 3, 3)
+				.fill(1, 10, 22, blockHelper.AIR, 1, 2, 1)
+				.fill(1, 12, 20, blockHelper.AIR, 1, 1, 2)
+				.fill(1, 13, 19, blockHelper.AIR, 4, 1, 3)
+				.fill(2, 13, 22, blockHelper.AIR, 3, 1, 2)
+
+				.fill(3, 11, 23, blockHelper.AIR, 2, 2, 1)
+				.fill(1, 14, 22, blockHelper.AIR, 2, 1, 2)
+				.fill(2, 12, 23, blockHelper.AIR, 1, 1, 1)
+				.fill(1, 13, 23, blockHelper.AIR, 1, 1, 1)
+
+				.fill(8, 2, 15, blockHelper.COMPACTED_MUD, 1, 1, 1)
+				.fill(7, 3, 15, blockHelper.COMPACTED_MUD_SLAB.withProperty(BlockSlabBetweenlands.HALF, EnumBlockHalfBL.TOP), 1, 1, 1)
+				.fill(4, 2, 13, blockHelper.DUNGEON_WALL_CANDLE_SOUTH, 1, 1, 1)
+
+				.fill(6, 1, 8, blockHelper.GROUND_ITEM, 1, 1, 1)
+				.build();
+	}
+
 	public void rotatedCubeVolume(World world, Random rand, BlockPos pos, int offsetA, int offsetB, int offsetC, IBlockState state, int sizeWidth, int sizeHeight, int sizeDepth, EnumFacing facing) {
 		switch (facing) {
 		case SOUTH:
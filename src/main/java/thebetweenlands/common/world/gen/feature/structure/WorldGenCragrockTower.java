@@ -1,5 +1,10 @@
 package thebetweenlands.common.world.gen.feature.structure;
 
+import static thebetweenlands.common.world.gen.feature.StructureBlueprint.column;
+import static thebetweenlands.common.world.gen.feature.StructureBlueprint.lootChest;
+import static thebetweenlands.common.world.gen.feature.StructureBlueprint.lootPot;
+import static thebetweenlands.common.world.gen.feature.StructureBlueprint.rotated;
+import static thebetweenlands.common.world.gen.feature.StructureBlueprint.spawner;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -8,6 +13,9 @@ import java.util.UUID;
 
 import javax.annotation.Nullable;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockBush;
 import net.minecraft.block.state.IBlockState;
@@ -30,6 +38,8 @@ import thebetweenlands.common.registries.BlockRegistry;
 import thebetweenlands.common.registries.LootTableRegistry;
 import thebetweenlands.common.world.WorldProviderBetweenlands;
 import thebetweenlands.common.world.gen.biome.decorator.SurfaceType;
+import thebetweenlands.common.world.gen.feature.StructureBlueprint;
+import thebetweenlands.common.world.gen.feature.StructureBlueprint.Hook;
 import thebetweenlands.common.world.gen.feature.WorldGenHelper;
 import thebetweenlands.common.world.storage.BetweenlandsWorldStorage;
 import thebetweenlands.common.world.storage.SharedLootPoolStorage;
@@ -63,6 +73,12 @@ public class WorldGenCragrockTower extends WorldGenHelper {
 	private LocationCragrockTower towerLocation;
 	private BetweenlandsWorldStorage worldStorage;
 
+	private final List<BlockPos> inactiveGlowingCragrockBlocks = new ArrayList<BlockPos>();
+	private final List<BlockPos> inactiveWisps = new ArrayList<BlockPos>();
+	private final List<List<BlockPos>> levelBlockades = new ArrayList<List<BlockPos>>();
+
+	private static final Supplier<StructureBlueprint> TOWER_INTERIOR = Suppliers.memoize(WorldGenCragrockTower::createTowerInteriorBlueprint);
+
 	private static final ThreadLocal<Boolean> CASCADING_GEN_MUTEX = new ThreadLocal<Boolean>() {
 		@Override
 		protected Boolean initialValue() {
@@ -72,6 +88,9 @@ public class WorldGenCragrockTower extends WorldGenHelper {
 	
 	public WorldGenCragrockTower() {
 		super(17, 64, 19);
+		for(int i = 0; i < 5; i++) {
+			this.levelBlockades.add(new ArrayList<BlockPos>());
+		}
 	}
 
 	protected boolean isProtectedBlock(IBlockState state) {
@@ -234,10 +253,11 @@ public class WorldGenCragrockTower extends WorldGenHelper {
 
 		rotatedCubeVolume(world, x, y, z, 0, 0, 3, Blocks.AIR.getDefaultState(), width, height, depth - 3, direction);
 
-		List<BlockPos> inactiveGlowingCragrockBlocks = new ArrayList<BlockPos>();
-		List<BlockPos> inactiveWisps = new ArrayList<BlockPos>();
-		List<BlockPos> blockades = new ArrayList<BlockPos>();
-		BlockPos[][] levelBlockades = new BlockPos[5][];
+		this.inactiveGlowingCragrockBlocks.clear();
+		this.inactiveWisps.clear();
+		for(List<BlockPos> blockades : this.levelBlockades) {
+			blockades.clear();
+		}
 
 		//FLOOR 0
 		//WALLS
@@ -269,785 +289,8 @@ public class WorldGenCragrockTower extends WorldGenHelper {
 		rotatedCubeVolumeExtendedDown(world, x, y, z, 7, 0, 15, CRAGROCK, 1, 5, 1, direction);
 		rotatedCubeVolumeExtendedDown(world, x, y, z, 8, 0, 15, CRAGROCK, 1, 5, 1, direction);
 		rotatedCubeVolumeExtendedDown(world, x, y, z, 9, 0, 15, CRAGROCK, 1, 5, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 3, 5, CRAGROCK_BRICKS, 3, 2, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 3, 6, CRAGROCK_BRICKS, 2, 2, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 3, 6, CRAGROCK_BRICKS, 2, 2, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 3, 7, CRAGROCK_BRICKS, 1, 2, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 3, 7, CRAGROCK_BRICKS, 1, 2, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 3, 3, 9, CRAGROCK_BRICKS, 1, 2, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 13, 3, 9, CRAGROCK_BRICKS, 1, 2, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 3, 3, 10, CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 13, 3, 10, CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 3, 4, 10, CRAGROCK_BRICKS, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 13, 4, 10, CRAGROCK_BRICKS, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 3, 3, 11, CRAGROCK, 1, 2, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 13, 3, 11, CRAGROCK, 1, 2, 1, direction);
-
-		//FLOOR
-		rotatedCubeVolume(world, x, y, z, 7, 0, 6, SMOOTH_CRAGROCK, 3, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 0, 7, getStateFromRotation(1, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 0, 7, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 0, 7, SMOOTH_CRAGROCK, 1, 1, 8, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 0, 7, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 0, 7, getStateFromRotation(1, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 0, 8, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 0, 8, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 0, 8, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 0, 8, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 0, 8, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 0, 8, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 0, 9, SMOOTH_CRAGROCK, 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 0, 9, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 0, 9, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 0, 9, SMOOTH_CRAGROCK, 3, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 0, 9, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 0, 9, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 0, 9, SMOOTH_CRAGROCK, 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 0, 10, SMOOTH_CRAGROCK, 7, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 0, 11, getStateFromRotation(1, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 0, 11, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 0, 11, SMOOTH_CRAGROCK, 3, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 0, 11, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 0, 11, getStateFromRotation(1, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 0, 12, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 0, 12, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 0, 12, getStateFromRotation(1, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 0, 12, getStateFromRotation(1, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 0, 12, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 0, 12, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 0, 13, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 0, 13, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 0, 13, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 0, 13, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 0, 14, SMOOTH_CRAGROCK, 3, 1, 1, direction);
-
-		//CEILING
-		rotatedCubeVolume(world, x, y, z, 7, 4, 6, getStateFromRotation(1, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 3, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 4, 7, getStateFromRotation(1, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 4, 7, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 4, 7, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 4, 7, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 4, 7, getStateFromRotation(1, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 4, 8, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 4, 8, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 2, 1, 5, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 4, 8, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 2, 1, 5, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 4, 8, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 4, 9, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 4, 9, getStateFromRotation(1, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 4, 9, getStateFromRotation(1, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 4, 9, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 4, 10, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 4, 10, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 4, 11, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 4, 11, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 4, 12, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 4, 12, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 4, 13, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 4, 13, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 4, 13, SMOOTH_CRAGROCK, 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 4, 13, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 4, 13, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 4, 14, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 4, 14, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-
-		//INTERIOR
-		rotatedCubeVolume(world, x, y, z, 8, 1, 9, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 2, 10, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 3, 11, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 4, 12, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 1, 10, getStateFromRotation(1, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 1, 11, SMOOTH_CRAGROCK, 1, 2, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 3, 12, getStateFromRotation(1, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 3, 13, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 1, 14, SMOOTH_CRAGROCK, 1, 3, 1, direction);
-		rotatedSpawner(world, x, y, z, 8, 2, 13, direction, "thebetweenlands:termite").setMaxEntities(6).setDelayRange(120, 300).setSpawnInAir(false);
-		rotatedCubeVolume(world, x, y, z, 9, 1, 11, ROOT, 1, 2 + random.nextInt(2), 1, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 1, 10, ROOT, 1, 2 + random.nextInt(2), 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 1, 14, ROOT, 1, 1 + random.nextInt(2), 1, direction);
-		rotatedLootPot(world, random, x, y, z, 9, 1, 14, direction, 1, 2, 3, null);
-		rotatedLootPot(world, random, x, y, z, 12, 1, 9, direction, 1, 2, 3, null);
-		rotatedLootPot(world, random, x, y, z, 12, 1, 10, direction, 1, 2, 3, null);
-		rotatedLootPot(world, random, x, y, z, 12, 1, 11, direction, 1, 2, 3, null);
-
-		//FLOOR 1
-		//WALLS
-		rotatedCubeVolume(world, x, y, z, 7, 5, 5, CRAGROCK_BRICKS, 3, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 5, 6, CRAGROCK_BRICKS, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 5, 6, CRAGROCK_BRICKS, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 5, 7, CRAGROCK_BRICKS, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 5, 7, CRAGROCK_BRICKS, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 3, 5, 9, CRAGROCK_BRICKS, 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 13, 5, 9, CRAGROCK_BRICKS, 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 5, 12, CRAGROCK_BRICKS, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 5, 12, CRAGROCK_BRICKS, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 5, 14, CRAGROCK_BRICKS, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 5, 14, CRAGROCK_BRICKS, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 5, 15, CRAGROCK_BRICKS, 3, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 6, 5, CHISELED_CRAGROCK, 3, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 6, 6, CHISELED_CRAGROCK, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 6, 6, CHISELED_CRAGROCK, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 6, 7, CHISELED_CRAGROCK, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 6, 7, CHISELED_CRAGROCK, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 3, 6, 9, CHISELED_CRAGROCK, 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 13, 6, 9, CHISELED_CRAGROCK, 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 6, 12, CHISELED_CRAGROCK, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 6, 12, CHISELED_CRAGROCK, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 6, 14, CHISELED_CRAGROCK, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 6, 14, CHISELED_CRAGROCK, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 6, 15, CHISELED_CRAGROCK, 3, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 7, 5, CRAGROCK_BRICKS, 3, 6, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 7, 6, CRAGROCK_BRICKS, 2, 6, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 7, 6, CRAGROCK_BRICKS, 2, 6, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 7, 7, CRAGROCK_BRICKS, 1, 6, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 7, 7, CRAGROCK_BRICKS, 1, 6, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 3, 7, 9, CRAGROCK_BRICKS, 1, 6, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 13, 7, 9, CRAGROCK_BRICKS, 1, 6, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 7, 12, CRAGROCK_BRICKS, 1, 6, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 7, 12, CRAGROCK_BRICKS, 1, 6, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 7, 14, CRAGROCK_BRICKS, 2, 6, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 7, 14, CRAGROCK_BRICKS, 2, 6, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 7, 15, CRAGROCK_BRICKS, 3, 6, 1, direction);
-
-		//CEILING
-		rotatedCubeVolume(world, x, y, z, 7, 9, 6, getStateFromRotation(1, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 3, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 9, 7, getStateFromRotation(1, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 9, 7, getStateFromRotation(2, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 9, 7, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 9, 7, getStateFromRotation(0, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 9, 7, getStateFromRotation(1, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 9, 8, getStateFromRotation(2, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 9, 8, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 2, 1, 5, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 9, 8, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 2, 1, 5, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 9, 8, getStateFromRotation(0, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 9, 9, getStateFromRotation(2, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 9, 9, getStateFromRotation(1, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 9, 9, getStateFromRotation(1, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 9, 9, getStateFromRotation(0, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 9, 10, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 9, 10, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 9, 11, getStateFromRotation(3, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 9, 11, getStateFromRotation(3, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 9, 12, getStateFromRotation(2, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 9, 12, getStateFromRotation(0, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 9, 13, getStateFromRotation(3, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 9, 13, getStateFromRotation(2, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 9, 13, CRAGROCK_BRICKS, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 9, 13, getStateFromRotation(0, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 9, 13, getStateFromRotation(3, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 9, 14, getStateFromRotation(3, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 9, 14, getStateFromRotation(3, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-
-		//INTERIOR
-		rotatedCubeVolume(world, x, y, z, 8, 5, 8, getStateFromRotation(3, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 6, 9, getStateFromRotation(3, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 7, 10, getStateFromRotation(3, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 8, 11, getStateFromRotation(3, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 9, 12, getStateFromRotation(3, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 5, 9, getStateFromRotation(1, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 6, 10, getStateFromRotation(1, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 7, 11, getStateFromRotation(1, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 8, 12, getStateFromRotation(1, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 8, 14, getStateFromRotation(3, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 7, 15, getStateFromRotation(3, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 5, 15, Blocks.AIR.getDefaultState(), 1, 2, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 5, 7, SMOOTH_BETWEENSTONE_WALL, 1, 4, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 5, 7, SMOOTH_BETWEENSTONE_WALL, 1, 4, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 5, 13, SMOOTH_BETWEENSTONE_WALL, 1, 4, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 5, 13, SMOOTH_BETWEENSTONE_WALL, 1, 4, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 5, 11, ROOT, 1, 2 + random.nextInt(2), 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 5, 6, ROOT, 1, 2 + random.nextInt(2), 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 5, 14, ROOT, 1, 2 + random.nextInt(2), 1, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 5, 10, ROOT, 1, 2 + random.nextInt(2), 1, direction);
-		rotatedLootPot(world, random, x, y, z, 8, 5, 6, direction, 1, 2, 3, null);
-
-		//FLOOR 2
-		//CEILING/WALLS
-		rotatedCubeVolume(world, x, y, z, 7, 12, 6, getStateFromRotation(1, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 3, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 12, 7, getStateFromRotation(1, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 12, 7, getStateFromRotation(2, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 12, 7, getStateFromRotation(0, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 12, 7, getStateFromRotation(1, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 12, 8, getStateFromRotation(2, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 12, 8, getStateFromRotation(0, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 12, 9, getStateFromRotation(2, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 12, 9, getStateFromRotation(1, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 12, 9, getStateFromRotation(1, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 12, 9, getStateFromRotation(0, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 12, 11, getStateFromRotation(3, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 12, 11, getStateFromRotation(3, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 12, 12, getStateFromRotation(2, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 12, 12, getStateFromRotation(0, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 12, 13, getStateFromRotation(3, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 12, 13, getStateFromRotation(2, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 12, 13, getStateFromRotation(0, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 12, 13, getStateFromRotation(3, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 12, 14, getStateFromRotation(3, direction, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 3, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 12, 13, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 12, 10, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 12, 7, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 12, 10, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 13, 13, CRAGROCK_BRICK_WALL, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 13, 10, CRAGROCK_BRICK_WALL, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 13, 7, CRAGROCK_BRICK_WALL, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 13, 10, CRAGROCK_BRICK_WALL, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 14, 13, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 14, 10, SMOOTH_CRAGROCK, 7, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 14, 7, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 14, 8, SMOOTH_CRAGROCK, 5, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 14, 9, SMOOTH_CRAGROCK, 5, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 14, 11, SMOOTH_CRAGROCK, 4, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 14, 11, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 13, 6, CRAGROCK_BRICKS, 1, 3, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 13, 7, CRAGROCK_BRICKS, 2, 3, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 13, 7, CRAGROCK_BRICKS, 2, 3, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 13, 8, CRAGROCK_BRICKS, 1, 3, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 13, 8, CRAGROCK_BRICKS, 1, 3, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 13, 10, CRAGROCK_BRICKS, 1, 3, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 13, 10, CRAGROCK_BRICKS, 1, 3, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 13, 11, CRAGROCK_BRICKS, 1, 3, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 13, 11, CRAGROCK_BRICKS, 1, 3, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 13, 13, CRAGROCK_BRICKS, 2, 3, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 13, 13, CRAGROCK_BRICKS, 2, 3, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 13, 14, CRAGROCK_BRICKS, 1, 3, 1, direction);
-
-		//BLOCKADE 1
-		blockades.clear();
-		rotatedCubeVolume(world, x, y, z, 7, 14, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 4, 1, 1, direction, pos -> blockades.add(pos));
-		levelBlockades[0] = blockades.toArray(new BlockPos[0]);
-
-		//INTERIOR
-		rotatedCubeVolume(world, x, y, z, 5, 10, 7, SMOOTH_BETWEENSTONE_WALL, 1, 2, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 10, 7, SMOOTH_BETWEENSTONE_WALL, 1, 2, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 10, 13, SMOOTH_BETWEENSTONE_WALL, 1, 2, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 10, 13, SMOOTH_BETWEENSTONE_WALL, 1, 2, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 10, 8, SMOOTH_BETWEENSTONE_WALL, 1, 4, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 10, 12, SMOOTH_BETWEENSTONE_WALL, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 10, 12, SMOOTH_BETWEENSTONE_WALL, 1, 3, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 10, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 10, 9, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 10, 10, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 11, 10, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 11, 11, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 11, 12, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 12, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 12, 12, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 12, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 13, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 13, 12, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 13, 12, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 14, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 10, 9, ROOT, 1, 1 + random.nextInt(2), 1, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 10, 11, ROOT, 1, 1 + random.nextInt(2), 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 10, 13, ROOT, 1, 1 + random.nextInt(2), 1, direction);
-		rotatedLootPot(world, random, x, y, z, 7, 10, 14, direction, 1, 2, 4, null);
-		rotatedLootPot(world, random, x, y, z, 8, 10, 14, direction, 1, 2, 4, null);
-		rotatedLootPot(world, random, x, y, z, 9, 10, 14, direction, 1, 2, 4, null);
-		rotatedLootPot(world, random, x, y, z, 12, 10, 9, direction, 1, 2, 4, null);
-		rotatedLootPot(world, random, x, y, z, 12, 10, 10, direction, 1, 2, 4, null);
-		rotatedLootPot(world, random, x, y, z, 12, 10, 11, direction, 1, 2, 4, null);
-
-		//FLOOR 3
-		//WALLS
-		rotatedCubeVolume(world, x, y, z, 8, 16, 6, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 16, 7, CHISELED_CRAGROCK, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 16, 7, CHISELED_CRAGROCK, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 16, 8, CHISELED_CRAGROCK, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 16, 8, CHISELED_CRAGROCK, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 16, 10, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 16, 10, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 16, 11, CHISELED_CRAGROCK, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 16, 11, CHISELED_CRAGROCK, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 16, 13, CHISELED_CRAGROCK, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 16, 13, CHISELED_CRAGROCK, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 16, 14, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 17, 6, SMOOTH_CRAGROCK, 1, 7, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 17, 7, SMOOTH_CRAGROCK, 2, 7, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 17, 7, SMOOTH_CRAGROCK, 2, 7, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 17, 8, SMOOTH_CRAGROCK, 1, 7, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 17, 8, SMOOTH_CRAGROCK, 1, 7, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 17, 10, SMOOTH_CRAGROCK, 1, 7, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 17, 10, SMOOTH_CRAGROCK, 1, 7, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 17, 11, SMOOTH_CRAGROCK, 1, 7, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 17, 11, SMOOTH_CRAGROCK, 1, 7, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 17, 13, SMOOTH_CRAGROCK, 2, 7, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 17, 13, SMOOTH_CRAGROCK, 2, 7, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 17, 14, SMOOTH_CRAGROCK, 1, 7, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 15, 7, SMOOTH_CRAGROCK_WALL, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 15, 13, CRAGROCK_BRICK_WALL, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 15, 10, CRAGROCK_BRICK_WALL, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 17, 7, CRAGROCK_BRICK_WALL, 1, 6, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 15, 10, CRAGROCK_BRICK_WALL, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 16, 7, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 18, 10, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 20, 13, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 22, 10, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 24, 6, CHISELED_CRAGROCK, 3, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 24, 7, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 24, 7, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 24, 8, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 24, 8, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 24, 9, CHISELED_CRAGROCK, 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 24, 9, CHISELED_CRAGROCK, 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 24, 12, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 24, 12, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 24, 13, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 24, 13, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 24, 14, CHISELED_CRAGROCK, 3, 1, 1, direction);
-
-		//INTERIOR
-		rotatedCubeVolume(world, x, y, z, 8, 15, 10, CRAGROCK_BRICK_WALL, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 16, 10, CRAGROCK_BRICK_SLAB, 1, 1, 1, direction);
-		rotatedSpawner(world, x, y, z, 8, 17, 10, direction, "thebetweenlands:chiromaw").setMaxEntities(4).setCheckRange(16.0D).setSpawnRange(3).setDelayRange(180, 500);
-		rotatedCubeVolume(world, x, y, z, 6, 15, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 15, 8, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 15, 8, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 16, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 16, 8, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 16, 8, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 17, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 17, 9, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 17, 10, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 18, 10, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 18, 11, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 18, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 19, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 19, 12, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 19, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 20, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 20, 12, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 20, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 21, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 21, 11, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 21, 10, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 22, 10, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 22, 9, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 22, 8, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 23, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 22, 8, getStateFromRotation(1, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 4, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 22, 9, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 4, direction);
-		rotatedLootPot(world, random, x, y, z, 10, 15, 8, direction, 2, 3, 3, null);
-		rotatedLootPot(world, random, x, y, z, 9, 15, 8, direction, 2, 3, 3, null);
-
-		//CEILING
-		rotatedCubeVolume(world, x, y, z, 7, 23, 7, SMOOTH_CRAGROCK, 4, 1, 7, direction);
-
-		//BLOCKADE 2
-		blockades.clear();
-		rotatedCubeVolume(world, x, y, z, 6, 23, 9, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 4, direction, pos -> blockades.add(pos));
-		levelBlockades[1] = blockades.toArray(new BlockPos[0]);
-
-		rotatedCubeVolume(world, x, y, z, 7, 23, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 23, 10, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 23, 10, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-
-
-		//WALLS FLOOR 4/5/6
-		rotatedCubeVolume(world, x, y, z, 7, 25, 6, SMOOTH_CRAGROCK, 3, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 25, 7, SMOOTH_CRAGROCK, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 25, 7, SMOOTH_CRAGROCK, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 25, 8, SMOOTH_CRAGROCK, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 25, 8, SMOOTH_CRAGROCK, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 25, 9, SMOOTH_CRAGROCK, 1, 8, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 25, 9, SMOOTH_CRAGROCK, 1, 8, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 25, 12, SMOOTH_CRAGROCK, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 25, 12, SMOOTH_CRAGROCK, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 25, 13, SMOOTH_CRAGROCK, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 25, 13, SMOOTH_CRAGROCK, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 25, 14, SMOOTH_CRAGROCK, 3, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 33, 6, CHISELED_CRAGROCK, 3, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 33, 7, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 33, 7, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 33, 8, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 33, 8, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 33, 9, CHISELED_CRAGROCK, 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 33, 9, CHISELED_CRAGROCK, 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 33, 12, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 33, 12, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 33, 13, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 33, 13, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 33, 14, CHISELED_CRAGROCK, 3, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 34, 6, SMOOTH_CRAGROCK, 3, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 34, 7, SMOOTH_CRAGROCK, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 34, 7, SMOOTH_CRAGROCK, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 34, 8, SMOOTH_CRAGROCK, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 34, 8, SMOOTH_CRAGROCK, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 34, 9, SMOOTH_CRAGROCK, 1, 8, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 34, 9, SMOOTH_CRAGROCK, 1, 8, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 34, 12, SMOOTH_CRAGROCK, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 34, 12, SMOOTH_CRAGROCK, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 34, 13, SMOOTH_CRAGROCK, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 34, 13, SMOOTH_CRAGROCK, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 34, 14, SMOOTH_CRAGROCK, 3, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 42, 6, CHISELED_CRAGROCK, 3, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 42, 7, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 42, 7, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 42, 8, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 42, 8, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 42, 9, CHISELED_CRAGROCK, 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 42, 9, CHISELED_CRAGROCK, 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 42, 12, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 42, 12, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 42, 13, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 42, 13, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 42, 14, CHISELED_CRAGROCK, 3, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 43, 6, SMOOTH_CRAGROCK, 3, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 43, 7, SMOOTH_CRAGROCK, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 43, 7, SMOOTH_CRAGROCK, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 43, 8, SMOOTH_CRAGROCK, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 43, 8, SMOOTH_CRAGROCK, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 43, 9, SMOOTH_CRAGROCK, 1, 8, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 43, 9, SMOOTH_CRAGROCK, 1, 8, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 43, 12, SMOOTH_CRAGROCK, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 43, 12, SMOOTH_CRAGROCK, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 43, 13, SMOOTH_CRAGROCK, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 43, 13, SMOOTH_CRAGROCK, 1, 8, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 43, 14, SMOOTH_CRAGROCK, 3, 8, 1, direction);
-
-		//FLOOR 4
-		//INTERIOR
-		rotatedCubeVolume(world, x, y, z, 8, 24, 10, CRAGROCK_BRICK_WALL, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 25, 10, CRAGROCK_BRICK_SLAB, 1, 1, 1, direction);
-		rotatedSpawner(world, x, y, z, 8, 26, 10, direction, "thebetweenlands:swamp_hag").setMaxEntities(3).setCheckRange(16.0D).setDelayRange(180, 500).setSpawnInAir(false);
-		rotatedCubeVolume(world, x, y, z, 10, 24, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 24, 9, SMOOTH_CRAGROCK, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 24, 10, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 25, 10, SMOOTH_CRAGROCK_SLAB, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 25, 11, SMOOTH_CRAGROCK, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 25, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 26, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 26, 12, SMOOTH_CRAGROCK, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 26, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 27, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 27, 12, SMOOTH_CRAGROCK, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 27, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 28, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 28, 11, SMOOTH_CRAGROCK, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 28, 10, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 29, 10, SMOOTH_CRAGROCK_SLAB, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 29, 9, SMOOTH_CRAGROCK, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 29, 8, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 30, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 30, 7, SMOOTH_CRAGROCK, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 30, 7, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 31, 7, SMOOTH_CRAGROCK_SLAB, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 31, 7, SMOOTH_CRAGROCK, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 31, 8, getStateFromRotation(1, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 32, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 31, 9, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 31, 9, getStateFromRotation(1, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 31, 11, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 31, 11, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 31, 12, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 31, 12, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 31, 13, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 31, 13, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 31, 13, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 31, 12, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 31, 12, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 31, 10, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 30, 10, INACTIVE_GLOWING_SMOOTH_CRAGROCK, 1, 1, 1, direction, pos -> inactiveGlowingCragrockBlocks.add(pos));
-		rotatedCubeVolume(world, x, y, z, 11, 29, 10, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedLootPot(world, random, x, y, z, 8, 24, 13, direction, 2, 3, 4, null);
-		rotatedLootPot(world, random, x, y, z, 7, 24, 13, direction, 2, 3, 4, null);
-		rotatedLootPot(world, random, x, y, z, 9, 24, 13, direction, 2, 3, 4, null);
-		rotatedLootPot(world, random, x, y, z, 10, 24, 12, direction, 2, 3, 4, null);
-		rotatedLootPot(world, random, x, y, z, 10, 24, 11, direction, 2, 3, 4, null);
-
-		//CEILING
-		rotatedCubeVolume(world, x, y, z, 5, 32, 9, SMOOTH_CRAGROCK, 7, 1, 4, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 32, 9, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 32, 13, SMOOTH_CRAGROCK, 3, 1, 1, direction);
-
-		//BLOCKADE 3
-		blockades.clear();
-		rotatedCubeVolume(world, x, y, z, 6, 32, 8, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 4, 1, 1, direction, pos -> blockades.add(pos));
-		rotatedCubeVolume(world, x, y, z, 7, 32, 7, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 3, 1, 1, direction, pos -> blockades.add(pos));
-		levelBlockades[2] = blockades.toArray(new BlockPos[0]);
-
-		//FLOOR 5
-		//INTERIOR
-		rotatedCubeVolume(world, x, y, z, 8, 33, 10, CRAGROCK_BRICK_WALL, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 34, 10, CRAGROCK_BRICK_SLAB, 1, 1, 1, direction);
 
-		NBTTagCompound nbt = new NBTTagCompound();
-		NBTTagCompound entityNbt = new NBTTagCompound();
-		entityNbt.setString("id", "thebetweenlands:pyrad");
-		EntityPyrad pyrad = new EntityPyrad(world);
-		pyrad.getEntityAttribute(EntityPyrad.AGRESSIVE).setBaseValue(1);
-		entityNbt.setTag("Attributes", SharedMonsterAttributes.writeBaseAttributeMapToNBT(pyrad.getAttributeMap()));
-		nbt.setTag("Entity", entityNbt);
-		rotatedSpawner(world, x, y, z, 8, 35, 10, direction, "thebetweenlands:pyrad")
-		.setMaxEntities(3)
-		.setCheckRange(16.0D)
-		.setDelayRange(180, 500)
-		.setSpawnInAir(false)
-		.setNextEntity(new WeightedSpawnerEntity(nbt));
-
-		rotatedCubeVolume(world, x, y, z, 10, 33, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 33, 12, SMOOTH_CRAGROCK, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 33, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 34, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 34, 12, SMOOTH_CRAGROCK, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 34, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 35, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 35, 11, SMOOTH_CRAGROCK, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 35, 10, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 36, 10, SMOOTH_CRAGROCK_SLAB, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 36, 9, SMOOTH_CRAGROCK, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 36, 8, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 37, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 37, 7, SMOOTH_CRAGROCK, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 37, 7, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 38, 7, SMOOTH_CRAGROCK_SLAB, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 38, 7, SMOOTH_CRAGROCK, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 38, 8, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 39, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 39, 9, SMOOTH_CRAGROCK, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 39, 10, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 40, 10, SMOOTH_CRAGROCK_SLAB, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 40, 11, SMOOTH_CRAGROCK, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 40, 12, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 41, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 40, 12, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 40, 13, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 40, 13, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 40, 12, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 40, 12, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 40, 11, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 40, 10, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 40, 9, getStateFromRotation(1, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 40, 9, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 40, 8, getStateFromRotation(1, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 40, 13, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 39, 13, INACTIVE_GLOWING_SMOOTH_CRAGROCK, 1, 1, 1, direction, pos -> inactiveGlowingCragrockBlocks.add(pos));
-		rotatedCubeVolume(world, x, y, z, 8, 38, 13, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedLootPot(world, random, x, y, z, 7, 33, 12, direction, 2, 5, 3, null);
-		rotatedLootPot(world, random, x, y, z, 6, 33, 12, direction, 2, 5, 3, null);
-		rotatedLootPot(world, random, x, y, z, 5, 33, 11, direction, 2, 5, 3, null);
-		rotatedLootPot(world, random, x, y, z, 5, 33, 10, direction, 2, 5, 3, null);
-		rotatedLootPot(world, random, x, y, z, 5, 33, 9, direction, 2, 5, 3, null);
-
-		//CEILING
-		rotatedCubeVolume(world, x, y, z, 6, 41, 7, SMOOTH_CRAGROCK, 4, 1, 7, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 41, 8, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 41, 9, SMOOTH_CRAGROCK, 1, 1, 3, direction);
-
-		//BLOCKADE 4
-		blockades.clear();
-		rotatedCubeVolume(world, x, y, z, 10, 41, 8, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 4, direction, pos -> blockades.add(pos));
-		rotatedCubeVolume(world, x, y, z, 11, 41, 9, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 3, direction, pos -> blockades.add(pos));
-		levelBlockades[3] = blockades.toArray(new BlockPos[0]);
-
-		//FLOOR 6
-		//INTERIOR
-		rotatedCubeVolume(world, x, y, z, 8, 42, 10, CRAGROCK_BRICK_WALL, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 43, 10, CRAGROCK_BRICK_SLAB, 1, 1, 1, direction);
-		rotatedSpawner(world, x, y, z, 8, 44, 10, direction, "thebetweenlands:wight").setMaxEntities(2).setCheckRange(24.0D).setDelayRange(300, 600).setSpawnInAir(false);
-		rotatedCubeVolume(world, x, y, z, 6, 42, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 42, 11, SMOOTH_CRAGROCK, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 42, 10, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 43, 10, SMOOTH_CRAGROCK_SLAB, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 43, 9, SMOOTH_CRAGROCK, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 43, 8, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 44, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 44, 7, SMOOTH_CRAGROCK, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 44, 7, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 45, 7, SMOOTH_CRAGROCK_SLAB, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 45, 7, SMOOTH_CRAGROCK, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 45, 8, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 46, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 46, 9, SMOOTH_CRAGROCK, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 46, 10, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 47, 10, SMOOTH_CRAGROCK_SLAB, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 47, 11, SMOOTH_CRAGROCK, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 47, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 48, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 48, 12, SMOOTH_CRAGROCK, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 48, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 49, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 49, 12, SMOOTH_CRAGROCK, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 49, 12, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 50, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 49, 11, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 49, 11, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 49, 9, getStateFromRotation(1, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 49, 9, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 49, 8, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 49, 8, getStateFromRotation(1, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 49, 7, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 49, 7, getStateFromRotation(1, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 49, 7, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 49, 8, getStateFromRotation(1, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 49, 8, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 49, 10, SMOOTH_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 48, 10, INACTIVE_GLOWING_SMOOTH_CRAGROCK, 1, 1, 1, direction, pos -> inactiveGlowingCragrockBlocks.add(pos));
-		rotatedCubeVolume(world, x, y, z, 5, 47, 10, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-		rotatedLootPot(world, random, x, y, z, 8, 42, 7, direction, 3, 7, 4, null);
-		rotatedLootPot(world, random, x, y, z, 7, 42, 7, direction, 3, 7, 4, null);
-		rotatedLootPot(world, random, x, y, z, 9, 42, 7, direction, 3, 7, 4, null);
-		rotatedLootPot(world, random, x, y, z, 6, 42, 8, direction, 3, 7, 4, null);
-		rotatedLootPot(world, random, x, y, z, 6, 42, 9, direction, 3, 7, 4, null);
-
-		//CEILING
-		rotatedCubeVolume(world, x, y, z, 5, 50, 8, SMOOTH_CRAGROCK, 7, 1, 4, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 50, 11, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 50, 7, SMOOTH_CRAGROCK, 3, 1, 1, direction);
-
-		//BLOCKADE 5
-		blockades.clear();
-		rotatedCubeVolume(world, x, y, z, 7, 50, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 4, 1, 1, direction, pos -> blockades.add(pos));
-		rotatedCubeVolume(world, x, y, z, 7, 50, 13, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 3, 1, 1, direction, pos -> blockades.add(pos));
-		levelBlockades[4] = blockades.toArray(new BlockPos[0]);
-
-		//TOP FLOOR
-		rotatedCubeVolume(world, x, y, z, 7, 51, 6, SMOOTH_CRAGROCK_SLAB, 3, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 51, 7, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 51, 7, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 51, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 51, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 51, 9, SMOOTH_CRAGROCK_SLAB, 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 51, 9, SMOOTH_CRAGROCK_SLAB, 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 51, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 51, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 51, 13, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 51, 13, SMOOTH_CRAGROCK_SLAB, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 51, 14, SMOOTH_CRAGROCK_SLAB, 3, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 51, 5, CHISELED_CRAGROCK, 3, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 51, 6, CHISELED_CRAGROCK, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 51, 6, CHISELED_CRAGROCK, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 51, 7, CHISELED_CRAGROCK, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 51, 7, CHISELED_CRAGROCK, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 51, 8, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 51, 8, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 3, 51, 9, CHISELED_CRAGROCK, 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 13, 51, 9, CHISELED_CRAGROCK, 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 51, 12, CHISELED_CRAGROCK, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 51, 12, CHISELED_CRAGROCK, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 51, 13, CHISELED_CRAGROCK, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 51, 13, CHISELED_CRAGROCK, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 6, 51, 14, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 51, 14, CHISELED_CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 51, 15, CHISELED_CRAGROCK, 3, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 51, 4, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 3, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 51, 5, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 51, 5, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 51, 6, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 51, 6, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 3, 51, 7, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 13, 51, 7, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 2, 51, 9, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 14, 51, 9, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 3, 51, 12, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 13, 51, 12, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 3, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 51, 14, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 51, 14, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 51, 15, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 51, 15, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 51, 16, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 3, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 52, 4, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 52, 4, CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 52, 4, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 52, 5, MOSSY_CRAGROCK_TOP, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 52, 5, MOSSY_CRAGROCK_TOP, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 52, 6, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 52, 6, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 3, 52, 7, MOSSY_CRAGROCK_TOP, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 13, 52, 7, MOSSY_CRAGROCK_TOP, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 2, 52, 9, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 2, 52, 10, CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 2, 52, 11, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 14, 52, 9, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 14, 52, 10, CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 14, 52, 11, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 3, 52, 12, MOSSY_CRAGROCK_TOP, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 3, 52, 14, CRAGROCK_PILLAR, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 13, 52, 12, MOSSY_CRAGROCK_TOP, 1, 1, 2, direction);
-		rotatedCubeVolume(world, x, y, z, 13, 52, 14, CRAGROCK_PILLAR, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 52, 14, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 52, 14, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 52, 15, MOSSY_CRAGROCK_TOP, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 52, 15, MOSSY_CRAGROCK_TOP, 2, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 52, 16, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 52, 16, CRAGROCK, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 52, 16, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 53, 4, MOSSY_CRAGROCK_TOP, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 53, 4, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 53, 4, MOSSY_CRAGROCK_TOP, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 53, 6, MOSSY_CRAGROCK_TOP, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 53, 6, MOSSY_CRAGROCK_TOP, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 2, 53, 9, MOSSY_CRAGROCK_TOP, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 2, 53, 10, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 2, 53, 11, MOSSY_CRAGROCK_TOP, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 14, 53, 9, MOSSY_CRAGROCK_TOP, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 14, 53, 10, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 14, 53, 11, MOSSY_CRAGROCK_TOP, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 53, 14, MOSSY_CRAGROCK_TOP, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 53, 14, MOSSY_CRAGROCK_TOP, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 7, 53, 16, MOSSY_CRAGROCK_TOP, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 53, 16, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 53, 16, MOSSY_CRAGROCK_TOP, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 54, 4, MOSSY_CRAGROCK_TOP, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 2, 54, 10, MOSSY_CRAGROCK_TOP, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 14, 54, 10, MOSSY_CRAGROCK_TOP, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 54, 16, MOSSY_CRAGROCK_TOP, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 3, 53, 14, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 13, 53, 14, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 3, 54, 14, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 13, 54, 14, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 3, 55, 14, AIR, 1, 1, 1, direction, pos -> inactiveWisps.add(pos));
-		rotatedCubeVolume(world, x, y, z, 13, 55, 14, AIR, 1, 1, 1, direction, pos -> inactiveWisps.add(pos));
-		rotatedCubeVolume(world, x, y, z, 3, 52, 11, CRAGROCK_PILLAR, 1, 3, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 3, 55, 11, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 3, 56, 11, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 3, 57, 11, AIR, 1, 1, 1, direction, pos -> inactiveWisps.add(pos));
-		rotatedCubeVolume(world, x, y, z, 3, 53, 8, CRAGROCK_PILLAR, 1, 4, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 3, 57, 8, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 3, 58, 8, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 3, 59, 8, AIR, 1, 1, 1, direction, pos -> inactiveWisps.add(pos));
-		rotatedCubeVolume(world, x, y, z, 5, 53, 5, CRAGROCK_PILLAR, 1, 6, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 59, 5, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 60, 5, getStateFromRotation(1, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 5, 61, 5, AIR, 1, 1, 1, direction, pos -> inactiveWisps.add(pos));
-		rotatedCubeVolume(world, x, y, z, 8, 55, 4, CRAGROCK_PILLAR, 1, 6, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 61, 4, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 62, 4, getStateFromRotation(1, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 63, 4, AIR, 1, 1, 1, direction, pos -> inactiveWisps.add(pos));
-		rotatedCubeVolume(world, x, y, z, 11, 53, 5, CRAGROCK_PILLAR, 1, 6, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 59, 5, getStateFromRotation(3, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 60, 5, getStateFromRotation(1, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 11, 61, 5, AIR, 1, 1, 1, direction, pos -> inactiveWisps.add(pos));
-		rotatedCubeVolume(world, x, y, z, 13, 53, 8, CRAGROCK_PILLAR, 1, 4, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 13, 57, 8, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 13, 58, 8, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 13, 59, 8, AIR, 1, 1, 1, direction, pos -> inactiveWisps.add(pos));
-		rotatedCubeVolume(world, x, y, z, 13, 52, 11, CRAGROCK_PILLAR, 1, 3, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 13, 55, 11, getStateFromRotation(2, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 13, 56, 11, getStateFromRotation(0, direction, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 13, 57, 11, AIR, 1, 1, 1, direction, pos -> inactiveWisps.add(pos));
-		rotatedCubeVolume(world, x, y, z, 8, 52, 5, CRAGROCK_BRICK_WALL, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 53, 5, CRAGROCK_BRICK_SLAB, 1, 1, 1, direction);
-		rotatedSpawner(world, x, y, z, 8, 54, 5, direction, "thebetweenlands:swamp_hag").setMaxEntities(3).setCheckRange(10.0D).setDelayRange(150, 500).setSpawnInAir(false);
-		rotatedCubeVolume(world, x, y, z, 8, 52, 15, CRAGROCK_BRICK_WALL, 1, 1, 1, direction);
-		rotatedCubeVolume(world, x, y, z, 8, 53, 15, CRAGROCK_BRICK_SLAB, 1, 1, 1, direction);
-		rotatedSpawner(world, x, y, z, 8, 54, 15, direction, "thebetweenlands:wight").setMaxEntities(2).setCheckRange(24.0D).setDelayRange(300, 600).setSpawnInAir(false);
-		rotatedLootChest(world, random, x, y, z, 7, 52, 5, direction, 5, 8, 2, 0, null);
-		rotatedLootChest(world, random, x, y, z, 9, 52, 5, direction, 5, 8, 2, 0, null);
-		rotatedLootChest(world, random, x, y, z, 7, 52, 15, direction, 5, 8, 2, 2, null);
-		rotatedLootPot(world, random, x, y, z, 10, 52, 6, direction, 3, 4, 3, null);
-		rotatedLootPot(world, random, x, y, z, 11, 52, 6, direction, 3, 4, 3, null);
-		rotatedLootPot(world, random, x, y, z, 6, 52, 6, direction, 3, 4, 3, null);
-		rotatedLootPot(world, random, x, y, z, 5, 52, 6, direction, 3, 4, 3, null);
-		rotatedLootPot(world, random, x, y, z, 12, 52, 8, direction, 3, 4, 3, null);
-		rotatedLootPot(world, random, x, y, z, 12, 52, 12, direction, 3, 4, 3, null);
-		rotatedLootPot(world, random, x, y, z, 12, 52, 13, direction, 3, 4, 3, null);
-		rotatedLootPot(world, random, x, y, z, 3, 52, 10, direction, 3, 4, 3, null);
-		rotatedCubeVolume(world, x, y, z, 7, 51, 7, ROOT, 1, 2 + random.nextInt(5), 1, direction);
-		rotatedCubeVolume(world, x, y, z, 10, 51, 11, ROOT, 1, 1 + random.nextInt(2), 1, direction);
-		rotatedCubeVolume(world, x, y, z, 3, 52, 9, ROOT, 1, 2 + random.nextInt(3), 1, direction);
-		rotatedCubeVolume(world, x, y, z, 4, 52, 13, ROOT, 1, 1 + random.nextInt(3), 1, direction);
-		rotatedCubeVolume(world, x, y, z, 9, 52, 15, ROOT, 1, 2 + random.nextInt(3), 1, direction);
-		rotatedCubeVolume(world, x, y, z, 12, 52, 7, ROOT, 1, 1 + random.nextInt(3), 1, direction);
-		rotatedCubeVolume(world, x, y, z, 13, 52, 10, ROOT, 1, 1 + random.nextInt(2), 1, direction);
+		this.stampBlueprint(world, random, TOWER_INTERIOR.get(), x, y, z, direction);
 
 
 		//OUTSIDE DECORATION
@@ -1578,11 +821,821 @@ public class WorldGenCragrockTower extends WorldGenHelper {
 			this.towerLocation.addInactiveWisp(pos);
 		}
 		for(int i = 0; i < 5; i++) {
-			this.towerLocation.setLevelBlockadeBlocks(i, levelBlockades[i]);
+			this.towerLocation.setLevelBlockadeBlocks(i, this.levelBlockades.get(i).toArray(new BlockPos[0]));
 		}
 		this.towerLocation.setDirty(true);
 		this.worldStorage.getLocalStorageHandler().addLocalStorage(this.towerLocation);
 
 		return true;
 	}
+
+	private static StructureBlueprint createTowerInteriorBlueprint() {
+		return StructureBlueprint.builder(17, 64, 19)
+				.fill(7, 3, 5, CRAGROCK_BRICKS, 3, 2, 1)
+				.fill(5, 3, 6, CRAGROCK_BRICKS, 2, 2, 1)
+				.fill(10, 3, 6, CRAGROCK_BRICKS, 2, 2, 1)
+				.fill(4, 3, 7, CRAGROCK_BRICKS, 1, 2, 2)
+				.fill(12, 3, 7, CRAGROCK_BRICKS, 1, 2, 2)
+				.fill(3, 3, 9, CRAGROCK_BRICKS, 1, 2, 1)
+				.fill(13, 3, 9, CRAGROCK_BRICKS, 1, 2, 1)
+				.fill(3, 3, 10, CRAGROCK, 1, 1, 1)
+				.fill(13, 3, 10, CRAGROCK, 1, 1, 1)
+				.fill(3, 4, 10, CRAGROCK_BRICKS, 1, 1, 1)
+				.fill(13, 4, 10, CRAGROCK_BRICKS, 1, 1, 1)
+				.fill(3, 3, 11, CRAGROCK, 1, 2, 1)
+				.fill(13, 3, 11, CRAGROCK, 1, 2, 1)
+
+				//FLOOR
+				.fill(7, 0, 6, SMOOTH_CRAGROCK, 3, 1, 1)
+				.fill(5, 0, 7, rotated(1, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 2, 1, 1)
+				.fill(7, 0, 7, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(8, 0, 7, SMOOTH_CRAGROCK, 1, 1, 8)
+				.fill(9, 0, 7, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(10, 0, 7, rotated(1, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 2, 1, 1)
+				.fill(5, 0, 8, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(6, 0, 8, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(7, 0, 8, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(9, 0, 8, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(10, 0, 8, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(11, 0, 8, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(4, 0, 9, SMOOTH_CRAGROCK, 1, 1, 3)
+				.fill(5, 0, 9, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(6, 0, 9, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(7, 0, 9, SMOOTH_CRAGROCK, 3, 1, 1)
+				.fill(10, 0, 9, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(11, 0, 9, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(12, 0, 9, SMOOTH_CRAGROCK, 1, 1, 3)
+				.fill(5, 0, 10, SMOOTH_CRAGROCK, 7, 1, 1)
+				.fill(5, 0, 11, rotated(1, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(6, 0, 11, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(7, 0, 11, SMOOTH_CRAGROCK, 3, 1, 1)
+				.fill(10, 0, 11, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(11, 0, 11, rotated(1, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(5, 0, 12, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(6, 0, 12, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(7, 0, 12, rotated(1, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(9, 0, 12, rotated(1, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(10, 0, 12, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(11, 0, 12, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(5, 0, 13, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 2, 1, 1)
+				.fill(7, 0, 13, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(9, 0, 13, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(10, 0, 13, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 2, 1, 1)
+				.fill(7, 0, 14, SMOOTH_CRAGROCK, 3, 1, 1)
+
+				//CEILING
+				.fill(7, 4, 6, rotated(1, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 3, 1, 1)
+				.fill(5, 4, 7, rotated(1, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 2, 1, 1)
+				.fill(7, 4, 7, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(8, 4, 7, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 2)
+				.fill(9, 4, 7, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(10, 4, 7, rotated(1, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 2, 1, 1)
+				.fill(5, 4, 8, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(6, 4, 8, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 2, 1, 5)
+				.fill(9, 4, 8, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 2, 1, 5)
+				.fill(11, 4, 8, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(4, 4, 9, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 3)
+				.fill(5, 4, 9, rotated(1, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(11, 4, 9, rotated(1, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(12, 4, 9, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 3)
+				.fill(5, 4, 10, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(11, 4, 10, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(5, 4, 11, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(11, 4, 11, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(5, 4, 12, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 2)
+				.fill(11, 4, 12, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 2)
+				.fill(6, 4, 13, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(7, 4, 13, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(8, 4, 13, SMOOTH_CRAGROCK, 1, 1, 3)
+				.fill(9, 4, 13, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(10, 4, 13, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(7, 4, 14, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(9, 4, 14, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+
+				//INTERIOR
+				.fill(8, 1, 9, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(8, 2, 10, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(8, 3, 11, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(8, 4, 12, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(8, 1, 10, rotated(1, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(8, 1, 11, SMOOTH_CRAGROCK, 1, 2, 1)
+				.fill(8, 3, 12, rotated(1, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(8, 3, 13, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(8, 1, 14, SMOOTH_CRAGROCK, 1, 3, 1)
+				.hook(8, 2, 13, spawner("thebetweenlands:termite", logic -> logic.setMaxEntities(6).setDelayRange(120, 300).setSpawnInAir(false)))
+				.hook(9, 1, 11, column(ROOT, 2, 2))
+				.hook(4, 1, 10, column(ROOT, 2, 2))
+				.hook(7, 1, 14, column(ROOT, 1, 2))
+				.hook(9, 1, 14, lootPot(1, 2, 3, null))
+				.hook(12, 1, 9, lootPot(1, 2, 3, null))
+				.hook(12, 1, 10, lootPot(1, 2, 3, null))
+				.hook(12, 1, 11, lootPot(1, 2, 3, null))
+
+				//FLOOR 1
+				//WALLS
+				.fill(7, 5, 5, CRAGROCK_BRICKS, 3, 1, 1)
+				.fill(5, 5, 6, CRAGROCK_BRICKS, 2, 1, 1)
+				.fill(10, 5, 6, CRAGROCK_BRICKS, 2, 1, 1)
+				.fill(4, 5, 7, CRAGROCK_BRICKS, 1, 1, 2)
+				.fill(12, 5, 7, CRAGROCK_BRICKS, 1, 1, 2)
+				.fill(3, 5, 9, CRAGROCK_BRICKS, 1, 1, 3)
+				.fill(13, 5, 9, CRAGROCK_BRICKS, 1, 1, 3)
+				.fill(12, 5, 12, CRAGROCK_BRICKS, 1, 1, 2)
+				.fill(4, 5, 12, CRAGROCK_BRICKS, 1, 1, 2)
+				.fill(10, 5, 14, CRAGROCK_BRICKS, 2, 1, 1)
+				.fill(5, 5, 14, CRAGROCK_BRICKS, 2, 1, 1)
+				.fill(7, 5, 15, CRAGROCK_BRICKS, 3, 1, 1)
+				.fill(7, 6, 5, CHISELED_CRAGROCK, 3, 1, 1)
+				.fill(5, 6, 6, CHISELED_CRAGROCK, 2, 1, 1)
+				.fill(10, 6, 6, CHISELED_CRAGROCK, 2, 1, 1)
+				.fill(4, 6, 7, CHISELED_CRAGROCK, 1, 1, 2)
+				.fill(12, 6, 7, CHISELED_CRAGROCK, 1, 1, 2)
+				.fill(3, 6, 9, CHISELED_CRAGROCK, 1, 1, 3)
+				.fill(13, 6, 9, CHISELED_CRAGROCK, 1, 1, 3)
+				.fill(12, 6, 12, CHISELED_CRAGROCK, 1, 1, 2)
+				.fill(4, 6, 12, CHISELED_CRAGROCK, 1, 1, 2)
+				.fill(10, 6, 14, CHISELED_CRAGROCK, 2, 1, 1)
+				.fill(5, 6, 14, CHISELED_CRAGROCK, 2, 1, 1)
+				.fill(7, 6, 15, CHISELED_CRAGROCK, 3, 1, 1)
+				.fill(7, 7, 5, CRAGROCK_BRICKS, 3, 6, 1)
+				.fill(5, 7, 6, CRAGROCK_BRICKS, 2, 6, 1)
+				.fill(10, 7, 6, CRAGROCK_BRICKS, 2, 6, 1)
+				.fill(4, 7, 7, CRAGROCK_BRICKS, 1, 6, 2)
+				.fill(12, 7, 7, CRAGROCK_BRICKS, 1, 6, 2)
+				.fill(3, 7, 9, CRAGROCK_BRICKS, 1, 6, 3)
+				.fill(13, 7, 9, CRAGROCK_BRICKS, 1, 6, 3)
+				.fill(12, 7, 12, CRAGROCK_BRICKS, 1, 6, 2)
+				.fill(4, 7, 12, CRAGROCK_BRICKS, 1, 6, 2)
+				.fill(10, 7, 14, CRAGROCK_BRICKS, 2, 6, 1)
+				.fill(5, 7, 14, CRAGROCK_BRICKS, 2, 6, 1)
+				.fill(7, 7, 15, CRAGROCK_BRICKS, 3, 6, 1)
+
+				//CEILING
+				.fill(7, 9, 6, rotated(1, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 3, 1, 1)
+				.fill(5, 9, 7, rotated(1, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 2, 1, 1)
+				.fill(7, 9, 7, rotated(2, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(8, 9, 7, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 2)
+				.fill(9, 9, 7, rotated(0, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(10, 9, 7, rotated(1, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 2, 1, 1)
+				.fill(5, 9, 8, rotated(2, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(6, 9, 8, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 2, 1, 5)
+				.fill(9, 9, 8, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 2, 1, 5)
+				.fill(11, 9, 8, rotated(0, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(4, 9, 9, rotated(2, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 3)
+				.fill(5, 9, 9, rotated(1, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(11, 9, 9, rotated(1, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(12, 9, 9, rotated(0, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 3)
+				.fill(5, 9, 10, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(11, 9, 10, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(5, 9, 11, rotated(3, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(11, 9, 11, rotated(3, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(5, 9, 12, rotated(2, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 2)
+				.fill(11, 9, 12, rotated(0, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 2)
+				.fill(6, 9, 13, rotated(3, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(7, 9, 13, rotated(2, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(8, 9, 13, CRAGROCK_BRICKS, 1, 1, 2)
+				.fill(9, 9, 13, rotated(0, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(10, 9, 13, rotated(3, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(7, 9, 14, rotated(3, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(9, 9, 14, rotated(3, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+
+				//INTERIOR
+				.fill(8, 5, 8, rotated(3, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(8, 6, 9, rotated(3, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(8, 7, 10, rotated(3, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(8, 8, 11, rotated(3, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(8, 9, 12, rotated(3, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(8, 5, 9, rotated(1, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(8, 6, 10, rotated(1, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(8, 7, 11, rotated(1, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(8, 8, 12, rotated(1, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(8, 8, 14, rotated(3, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(8, 7, 15, rotated(3, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(8, 5, 15, Blocks.AIR.getDefaultState(), 1, 2, 1)
+				.fill(5, 5, 7, SMOOTH_BETWEENSTONE_WALL, 1, 4, 1)
+				.fill(11, 5, 7, SMOOTH_BETWEENSTONE_WALL, 1, 4, 1)
+				.fill(5, 5, 13, SMOOTH_BETWEENSTONE_WALL, 1, 4, 1)
+				.fill(11, 5, 13, SMOOTH_BETWEENSTONE_WALL, 1, 4, 1)
+				.hook(5, 5, 11, column(ROOT, 2, 2))
+				.hook(9, 5, 6, column(ROOT, 2, 2))
+				.hook(7, 5, 14, column(ROOT, 2, 2))
+				.hook(12, 5, 10, column(ROOT, 2, 2))
+				.hook(8, 5, 6, lootPot(1, 2, 3, null))
+
+				//FLOOR 2
+				//CEILING/WALLS
+				.fill(7, 12, 6, rotated(1, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 3, 1, 1)
+				.fill(5, 12, 7, rotated(1, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 2, 1, 1)
+				.fill(7, 12, 7, rotated(2, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(9, 12, 7, rotated(0, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(10, 12, 7, rotated(1, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 2, 1, 1)
+				.fill(5, 12, 8, rotated(2, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(11, 12, 8, rotated(0, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(4, 12, 9, rotated(2, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 3)
+				.fill(5, 12, 9, rotated(1, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(11, 12, 9, rotated(1, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(12, 12, 9, rotated(0, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 3)
+				.fill(5, 12, 11, rotated(3, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(11, 12, 11, rotated(3, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(5, 12, 12, rotated(2, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 2)
+				.fill(11, 12, 12, rotated(0, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 2)
+				.fill(6, 12, 13, rotated(3, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(7, 12, 13, rotated(2, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(9, 12, 13, rotated(0, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(10, 12, 13, rotated(3, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(7, 12, 14, rotated(3, CRAGROCK_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 3, 1, 1)
+				.fill(8, 12, 13, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(5, 12, 10, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(8, 12, 7, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(11, 12, 10, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(8, 13, 13, CRAGROCK_BRICK_WALL, 1, 1, 1)
+				.fill(5, 13, 10, CRAGROCK_BRICK_WALL, 1, 1, 1)
+				.fill(8, 13, 7, CRAGROCK_BRICK_WALL, 1, 1, 1)
+				.fill(11, 13, 10, CRAGROCK_BRICK_WALL, 1, 1, 1)
+				.fill(8, 14, 13, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(5, 14, 10, SMOOTH_CRAGROCK, 7, 1, 1)
+				.fill(8, 14, 7, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(6, 14, 8, SMOOTH_CRAGROCK, 5, 1, 1)
+				.fill(6, 14, 9, SMOOTH_CRAGROCK, 5, 1, 1)
+				.fill(6, 14, 11, SMOOTH_CRAGROCK, 4, 1, 1)
+				.fill(10, 14, 11, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(8, 13, 6, CRAGROCK_BRICKS, 1, 3, 1)
+				.fill(6, 13, 7, CRAGROCK_BRICKS, 2, 3, 1)
+				.fill(9, 13, 7, CRAGROCK_BRICKS, 2, 3, 1)
+				.fill(5, 13, 8, CRAGROCK_BRICKS, 1, 3, 2)
+				.fill(11, 13, 8, CRAGROCK_BRICKS, 1, 3, 2)
+				.fill(4, 13, 10, CRAGROCK_BRICKS, 1, 3, 1)
+				.fill(12, 13, 10, CRAGROCK_BRICKS, 1, 3, 1)
+				.fill(5, 13, 11, CRAGROCK_BRICKS, 1, 3, 2)
+				.fill(11, 13, 11, CRAGROCK_BRICKS, 1, 3, 2)
+				.fill(6, 13, 13, CRAGROCK_BRICKS, 2, 3, 1)
+				.fill(9, 13, 13, CRAGROCK_BRICKS, 2, 3, 1)
+				.fill(8, 13, 14, CRAGROCK_BRICKS, 1, 3, 1)
+
+				//BLOCKADE 1
+				.fill(7, 14, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 4, 1, 1)
+				.hook(7, 14, 12, blockade(0), 4, 1, 1)
+
+				//INTERIOR
+				.fill(5, 10, 7, SMOOTH_BETWEENSTONE_WALL, 1, 2, 1)
+				.fill(11, 10, 7, SMOOTH_BETWEENSTONE_WALL, 1, 2, 1)
+				.fill(5, 10, 13, SMOOTH_BETWEENSTONE_WALL, 1, 2, 1)
+				.fill(11, 10, 13, SMOOTH_BETWEENSTONE_WALL, 1, 2, 1)
+				.fill(6, 10, 8, SMOOTH_BETWEENSTONE_WALL, 1, 4, 1)
+				.fill(10, 10, 12, SMOOTH_BETWEENSTONE_WALL, 1, 1, 1)
+				.fill(6, 10, 12, SMOOTH_BETWEENSTONE_WALL, 1, 3, 1)
+				.fill(10, 10, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(10, 10, 9, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(10, 10, 10, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(10, 11, 10, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(10, 11, 11, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(10, 11, 12, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(10, 12, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(9, 12, 12, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(8, 12, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(8, 13, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(7, 13, 12, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(6, 13, 12, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(6, 14, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.hook(7, 10, 9, column(ROOT, 1, 2))
+				.hook(4, 10, 11, column(ROOT, 1, 2))
+				.hook(9, 10, 13, column(ROOT, 1, 2))
+				.hook(7, 10, 14, lootPot(1, 2, 4, null))
+				.hook(8, 10, 14, lootPot(1, 2, 4, null))
+				.hook(9, 10, 14, lootPot(1, 2, 4, null))
+				.hook(12, 10, 9, lootPot(1, 2, 4, null))
+				.hook(12, 10, 10, lootPot(1, 2, 4, null))
+				.hook(12, 10, 11, lootPot(1, 2, 4, null))
+
+				//FLOOR 3
+				//WALLS
+				.fill(8, 16, 6, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(6, 16, 7, CHISELED_CRAGROCK, 2, 1, 1)
+				.fill(9, 16, 7, CHISELED_CRAGROCK, 2, 1, 1)
+				.fill(5, 16, 8, CHISELED_CRAGROCK, 1, 1, 2)
+				.fill(11, 16, 8, CHISELED_CRAGROCK, 1, 1, 2)
+				.fill(4, 16, 10, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(12, 16, 10, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(5, 16, 11, CHISELED_CRAGROCK, 1, 1, 2)
+				.fill(11, 16, 11, CHISELED_CRAGROCK, 1, 1, 2)
+				.fill(6, 16, 13, CHISELED_CRAGROCK, 2, 1, 1)
+				.fill(9, 16, 13, CHISELED_CRAGROCK, 2, 1, 1)
+				.fill(8, 16, 14, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(8, 17, 6, SMOOTH_CRAGROCK, 1, 7, 1)
+				.fill(6, 17, 7, SMOOTH_CRAGROCK, 2, 7, 1)
+				.fill(9, 17, 7, SMOOTH_CRAGROCK, 2, 7, 1)
+				.fill(5, 17, 8, SMOOTH_CRAGROCK, 1, 7, 2)
+				.fill(11, 17, 8, SMOOTH_CRAGROCK, 1, 7, 2)
+				.fill(4, 17, 10, SMOOTH_CRAGROCK, 1, 7, 1)
+				.fill(12, 17, 10, SMOOTH_CRAGROCK, 1, 7, 1)
+				.fill(5, 17, 11, SMOOTH_CRAGROCK, 1, 7, 2)
+				.fill(11, 17, 11, SMOOTH_CRAGROCK, 1, 7, 2)
+				.fill(6, 17, 13, SMOOTH_CRAGROCK, 2, 7, 1)
+				.fill(9, 17, 13, SMOOTH_CRAGROCK, 2, 7, 1)
+				.fill(8, 17, 14, SMOOTH_CRAGROCK, 1, 7, 1)
+				.fill(8, 15, 7, SMOOTH_CRAGROCK_WALL, 1, 1, 1)
+				.fill(8, 15, 13, CRAGROCK_BRICK_WALL, 1, 8, 1)
+				.fill(5, 15, 10, CRAGROCK_BRICK_WALL, 1, 8, 1)
+				.fill(8, 17, 7, CRAGROCK_BRICK_WALL, 1, 6, 1)
+				.fill(11, 15, 10, CRAGROCK_BRICK_WALL, 1, 8, 1)
+				.fill(8, 16, 7, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(11, 18, 10, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(8, 20, 13, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(5, 22, 10, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(7, 24, 6, CHISELED_CRAGROCK, 3, 1, 1)
+				.fill(6, 24, 7, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(10, 24, 7, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(5, 24, 8, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(11, 24, 8, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(4, 24, 9, CHISELED_CRAGROCK, 1, 1, 3)
+				.fill(12, 24, 9, CHISELED_CRAGROCK, 1, 1, 3)
+				.fill(5, 24, 12, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(11, 24, 12, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(6, 24, 13, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(10, 24, 13, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(7, 24, 14, CHISELED_CRAGROCK, 3, 1, 1)
+
+				//INTERIOR
+				.fill(8, 15, 10, CRAGROCK_BRICK_WALL, 1, 1, 1)
+				.fill(8, 16, 10, CRAGROCK_BRICK_SLAB, 1, 1, 1)
+				.hook(8, 17, 10, spawner("thebetweenlands:chiromaw", logic -> logic.setMaxEntities(4).setCheckRange(16.0D).setSpawnRange(3).setDelayRange(180, 500)))
+				.fill(6, 15, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(7, 15, 8, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(8, 15, 8, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(8, 16, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(9, 16, 8, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(10, 16, 8, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(10, 17, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(10, 17, 9, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(10, 17, 10, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(10, 18, 10, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(10, 18, 11, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(10, 18, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(10, 19, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(9, 19, 12, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(8, 19, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(8, 20, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(7, 20, 12, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(6, 20, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(6, 21, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(6, 21, 11, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(6, 21, 10, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(6, 22, 10, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(6, 22, 9, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(6, 22, 8, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(6, 23, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(7, 22, 8, rotated(1, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 4, 1, 1)
+				.fill(10, 22, 9, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 4)
+				.hook(10, 15, 8, lootPot(2, 3, 3, null))
+				.hook(9, 15, 8, lootPot(2, 3, 3, null))
+
+				//CEILING
+				.fill(7, 23, 7, SMOOTH_CRAGROCK, 4, 1, 7)
+
+				//BLOCKADE 2
+				.fill(6, 23, 9, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 4)
+				.hook(6, 23, 9, blockade(1), 1, 1, 4)
+
+				.fill(7, 23, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(11, 23, 10, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(5, 23, 10, SMOOTH_CRAGROCK, 1, 1, 1)
+
+
+				//WALLS FLOOR 4/5/6
+				.fill(7, 25, 6, SMOOTH_CRAGROCK, 3, 8, 1)
+				.fill(6, 25, 7, SMOOTH_CRAGROCK, 1, 8, 1)
+				.fill(10, 25, 7, SMOOTH_CRAGROCK, 1, 8, 1)
+				.fill(5, 25, 8, SMOOTH_CRAGROCK, 1, 8, 1)
+				.fill(11, 25, 8, SMOOTH_CRAGROCK, 1, 8, 1)
+				.fill(4, 25, 9, SMOOTH_CRAGROCK, 1, 8, 3)
+				.fill(12, 25, 9, SMOOTH_CRAGROCK, 1, 8, 3)
+				.fill(5, 25, 12, SMOOTH_CRAGROCK, 1, 8, 1)
+				.fill(11, 25, 12, SMOOTH_CRAGROCK, 1, 8, 1)
+				.fill(6, 25, 13, SMOOTH_CRAGROCK, 1, 8, 1)
+				.fill(10, 25, 13, SMOOTH_CRAGROCK, 1, 8, 1)
+				.fill(7, 25, 14, SMOOTH_CRAGROCK, 3, 8, 1)
+				.fill(7, 33, 6, CHISELED_CRAGROCK, 3, 1, 1)
+				.fill(6, 33, 7, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(10, 33, 7, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(5, 33, 8, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(11, 33, 8, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(4, 33, 9, CHISELED_CRAGROCK, 1, 1, 3)
+				.fill(12, 33, 9, CHISELED_CRAGROCK, 1, 1, 3)
+				.fill(5, 33, 12, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(11, 33, 12, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(6, 33, 13, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(10, 33, 13, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(7, 33, 14, CHISELED_CRAGROCK, 3, 1, 1)
+				.fill(7, 34, 6, SMOOTH_CRAGROCK, 3, 8, 1)
+				.fill(6, 34, 7, SMOOTH_CRAGROCK, 1, 8, 1)
+				.fill(10, 34, 7, SMOOTH_CRAGROCK, 1, 8, 1)
+				.fill(5, 34, 8, SMOOTH_CRAGROCK, 1, 8, 1)
+				.fill(11, 34, 8, SMOOTH_CRAGROCK, 1, 8, 1)
+				.fill(4, 34, 9, SMOOTH_CRAGROCK, 1, 8, 3)
+				.fill(12, 34, 9, SMOOTH_CRAGROCK, 1, 8, 3)
+				.fill(5, 34, 12, SMOOTH_CRAGROCK, 1, 8, 1)
+				.fill(11, 34, 12, SMOOTH_CRAGROCK, 1, 8, 1)
+				.fill(6, 34, 13, SMOOTH_CRAGROCK, 1, 8, 1)
+				.fill(10, 34, 13, SMOOTH_CRAGROCK, 1, 8, 1)
+				.fill(7, 34, 14, SMOOTH_CRAGROCK, 3, 8, 1)
+				.fill(7, 42, 6, CHISELED_CRAGROCK, 3, 1, 1)
+				.fill(6, 42, 7, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(10, 42, 7, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(5, 42, 8, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(11, 42, 8, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(4, 42, 9, CHISELED_CRAGROCK, 1, 1, 3)
+				.fill(12, 42, 9, CHISELED_CRAGROCK, 1, 1, 3)
+				.fill(5, 42, 12, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(11, 42, 12, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(6, 42, 13, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(10, 42, 13, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(7, 42, 14, CHISELED_CRAGROCK, 3, 1, 1)
+				.fill(7, 43, 6, SMOOTH_CRAGROCK, 3, 8, 1)
+				.fill(6, 43, 7, SMOOTH_CRAGROCK, 1, 8, 1)
+				.fill(10, 43, 7, SMOOTH_CRAGROCK, 1, 8, 1)
+				.fill(5, 43, 8, SMOOTH_CRAGROCK, 1, 8, 1)
+				.fill(11, 43, 8, SMOOTH_CRAGROCK, 1, 8, 1)
+				.fill(4, 43, 9, SMOOTH_CRAGROCK, 1, 8, 3)
+				.fill(12, 43, 9, SMOOTH_CRAGROCK, 1, 8, 3)
+				.fill(5, 43, 12, SMOOTH_CRAGROCK, 1, 8, 1)
+				.fill(11, 43, 12, SMOOTH_CRAGROCK, 1, 8, 1)
+				.fill(6, 43, 13, SMOOTH_CRAGROCK, 1, 8, 1)
+				.fill(10, 43, 13, SMOOTH_CRAGROCK, 1, 8, 1)
+				.fill(7, 43, 14, SMOOTH_CRAGROCK, 3, 8, 1)
+
+				//FLOOR 4
+				//INTERIOR
+				.fill(8, 24, 10, CRAGROCK_BRICK_WALL, 1, 1, 1)
+				.fill(8, 25, 10, CRAGROCK_BRICK_SLAB, 1, 1, 1)
+				.hook(8, 26, 10, spawner("thebetweenlands:swamp_hag", logic -> logic.setMaxEntities(3).setCheckRange(16.0D).setDelayRange(180, 500).setSpawnInAir(false)))
+				.fill(10, 24, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(10, 24, 9, SMOOTH_CRAGROCK, 2, 1, 1)
+				.fill(10, 24, 10, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 2, 1, 1)
+				.fill(10, 25, 10, SMOOTH_CRAGROCK_SLAB, 2, 1, 1)
+				.fill(10, 25, 11, SMOOTH_CRAGROCK, 2, 1, 1)
+				.fill(10, 25, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(10, 26, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(9, 26, 12, SMOOTH_CRAGROCK, 1, 1, 2)
+				.fill(8, 26, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 2)
+				.fill(8, 27, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 2)
+				.fill(7, 27, 12, SMOOTH_CRAGROCK, 1, 1, 2)
+				.fill(6, 27, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(6, 28, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(5, 28, 11, SMOOTH_CRAGROCK, 2, 1, 1)
+				.fill(5, 28, 10, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 2, 1, 1)
+				.fill(5, 29, 10, SMOOTH_CRAGROCK_SLAB, 2, 1, 1)
+				.fill(5, 29, 9, SMOOTH_CRAGROCK, 2, 1, 1)
+				.fill(6, 29, 8, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(6, 30, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(7, 30, 7, SMOOTH_CRAGROCK, 1, 1, 2)
+				.fill(8, 30, 7, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 2)
+				.fill(8, 31, 7, SMOOTH_CRAGROCK_SLAB, 1, 1, 2)
+				.fill(9, 31, 7, SMOOTH_CRAGROCK, 1, 1, 2)
+				.fill(10, 31, 8, rotated(1, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(10, 32, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(10, 31, 9, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(11, 31, 9, rotated(1, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(11, 31, 11, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(10, 31, 11, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(10, 31, 12, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(9, 31, 12, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(9, 31, 13, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(8, 31, 13, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(7, 31, 13, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(7, 31, 12, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(6, 31, 12, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(11, 31, 10, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(11, 30, 10, INACTIVE_GLOWING_SMOOTH_CRAGROCK, 1, 1, 1)
+				.hook(11, 30, 10, WorldGenCragrockTower::addInactiveGlowingBlock)
+				.fill(11, 29, 10, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.hook(8, 24, 13, lootPot(2, 3, 4, null))
+				.hook(7, 24, 13, lootPot(2, 3, 4, null))
+				.hook(9, 24, 13, lootPot(2, 3, 4, null))
+				.hook(10, 24, 12, lootPot(2, 3, 4, null))
+				.hook(10, 24, 11, lootPot(2, 3, 4, null))
+
+				//CEILING
+				.fill(5, 32, 9, SMOOTH_CRAGROCK, 7, 1, 4)
+				.fill(6, 32, 9, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(7, 32, 13, SMOOTH_CRAGROCK, 3, 1, 1)
+
+				//BLOCKADE 3
+				.fill(6, 32, 8, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 4, 1, 1)
+				.hook(6, 32, 8, blockade(2), 4, 1, 1)
+				.fill(7, 32, 7, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 3, 1, 1)
+				.hook(7, 32, 7, blockade(2), 3, 1, 1)
+
+				//FLOOR 5
+				//INTERIOR
+				.fill(8, 33, 10, CRAGROCK_BRICK_WALL, 1, 1, 1)
+				.fill(8, 34, 10, CRAGROCK_BRICK_SLAB, 1, 1, 1)
+
+				.hook(8, 35, 10, WorldGenCragrockTower::addPyradSpawner)
+
+				.fill(10, 33, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(9, 33, 12, SMOOTH_CRAGROCK, 1, 1, 2)
+				.fill(8, 33, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 2)
+				.fill(8, 34, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 2)
+				.fill(7, 34, 12, SMOOTH_CRAGROCK, 1, 1, 2)
+				.fill(6, 34, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(6, 35, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(5, 35, 11, SMOOTH_CRAGROCK, 2, 1, 1)
+				.fill(5, 35, 10, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 2, 1, 1)
+				.fill(5, 36, 10, SMOOTH_CRAGROCK_SLAB, 2, 1, 1)
+				.fill(5, 36, 9, SMOOTH_CRAGROCK, 2, 1, 1)
+				.fill(6, 36, 8, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(6, 37, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(7, 37, 7, SMOOTH_CRAGROCK, 1, 1, 2)
+				.fill(8, 37, 7, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 2)
+				.fill(8, 38, 7, SMOOTH_CRAGROCK_SLAB, 1, 1, 2)
+				.fill(9, 38, 7, SMOOTH_CRAGROCK, 1, 1, 2)
+				.fill(10, 38, 8, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(10, 39, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(10, 39, 9, SMOOTH_CRAGROCK, 2, 1, 1)
+				.fill(10, 39, 10, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 2, 1, 1)
+				.fill(10, 40, 10, SMOOTH_CRAGROCK_SLAB, 2, 1, 1)
+				.fill(10, 40, 11, SMOOTH_CRAGROCK, 2, 1, 1)
+				.fill(10, 40, 12, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(10, 41, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(9, 40, 12, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(9, 40, 13, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(7, 40, 13, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(7, 40, 12, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(6, 40, 12, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(6, 40, 11, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(5, 40, 10, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 2)
+				.fill(5, 40, 9, rotated(1, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(6, 40, 9, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(6, 40, 8, rotated(1, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(8, 40, 13, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(8, 39, 13, INACTIVE_GLOWING_SMOOTH_CRAGROCK, 1, 1, 1)
+				.hook(8, 39, 13, WorldGenCragrockTower::addInactiveGlowingBlock)
+				.fill(8, 38, 13, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.hook(7, 33, 12, lootPot(2, 5, 3, null))
+				.hook(6, 33, 12, lootPot(2, 5, 3, null))
+				.hook(5, 33, 11, lootPot(2, 5, 3, null))
+				.hook(5, 33, 10, lootPot(2, 5, 3, null))
+				.hook(5, 33, 9, lootPot(2, 5, 3, null))
+
+				//CEILING
+				.fill(6, 41, 7, SMOOTH_CRAGROCK, 4, 1, 7)
+				.fill(9, 41, 8, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(5, 41, 9, SMOOTH_CRAGROCK, 1, 1, 3)
+
+				//BLOCKADE 4
+				.fill(10, 41, 8, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 4)
+				.hook(10, 41, 8, blockade(3), 1, 1, 4)
+				.fill(11, 41, 9, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 3)
+				.hook(11, 41, 9, blockade(3), 1, 1, 3)
+
+				//FLOOR 6
+				//INTERIOR
+				.fill(8, 42, 10, CRAGROCK_BRICK_WALL, 1, 1, 1)
+				.fill(8, 43, 10, CRAGROCK_BRICK_SLAB, 1, 1, 1)
+				.hook(8, 44, 10, spawner("thebetweenlands:wight", logic -> logic.setMaxEntities(2).setCheckRange(24.0D).setDelayRange(300, 600).setSpawnInAir(false)))
+				.fill(6, 42, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(5, 42, 11, SMOOTH_CRAGROCK, 2, 1, 1)
+				.fill(5, 42, 10, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 2, 1, 1)
+				.fill(5, 43, 10, SMOOTH_CRAGROCK_SLAB, 2, 1, 1)
+				.fill(5, 43, 9, SMOOTH_CRAGROCK, 2, 1, 1)
+				.fill(6, 43, 8, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(6, 44, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(7, 44, 7, SMOOTH_CRAGROCK, 1, 1, 2)
+				.fill(8, 44, 7, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 2)
+				.fill(8, 45, 7, SMOOTH_CRAGROCK_SLAB, 1, 1, 2)
+				.fill(9, 45, 7, SMOOTH_CRAGROCK, 1, 1, 2)
+				.fill(10, 45, 8, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(10, 46, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(10, 46, 9, SMOOTH_CRAGROCK, 2, 1, 1)
+				.fill(10, 46, 10, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 2, 1, 1)
+				.fill(10, 47, 10, SMOOTH_CRAGROCK_SLAB, 2, 1, 1)
+				.fill(10, 47, 11, SMOOTH_CRAGROCK, 2, 1, 1)
+				.fill(10, 47, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(10, 48, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(9, 48, 12, SMOOTH_CRAGROCK, 1, 1, 2)
+				.fill(8, 48, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 2)
+				.fill(8, 49, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 2)
+				.fill(7, 49, 12, SMOOTH_CRAGROCK, 1, 1, 2)
+				.fill(6, 49, 12, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(6, 50, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(6, 49, 11, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(5, 49, 11, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(5, 49, 9, rotated(1, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(6, 49, 9, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(6, 49, 8, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(7, 49, 8, rotated(1, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(7, 49, 7, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(8, 49, 7, rotated(1, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(9, 49, 7, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(9, 49, 8, rotated(1, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(10, 49, 8, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(5, 49, 10, SMOOTH_CRAGROCK, 1, 1, 1)
+				.fill(5, 48, 10, INACTIVE_GLOWING_SMOOTH_CRAGROCK, 1, 1, 1)
+				.hook(5, 48, 10, WorldGenCragrockTower::addInactiveGlowingBlock)
+				.fill(5, 47, 10, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.hook(8, 42, 7, lootPot(3, 7, 4, null))
+				.hook(7, 42, 7, lootPot(3, 7, 4, null))
+				.hook(9, 42, 7, lootPot(3, 7, 4, null))
+				.hook(6, 42, 8, lootPot(3, 7, 4, null))
+				.hook(6, 42, 9, lootPot(3, 7, 4, null))
+
+				//CEILING
+				.fill(5, 50, 8, SMOOTH_CRAGROCK, 7, 1, 4)
+				.fill(10, 50, 11, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(7, 50, 7, SMOOTH_CRAGROCK, 3, 1, 1)
+
+				//BLOCKADE 5
+				.fill(7, 50, 12, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 4, 1, 1)
+				.hook(7, 50, 12, blockade(4), 4, 1, 1)
+				.fill(7, 50, 13, SMOOTH_CRAGROCK_SLAB_UPSIDEDOWN, 3, 1, 1)
+				.hook(7, 50, 13, blockade(4), 3, 1, 1)
+
+				//TOP FLOOR
+				.fill(7, 51, 6, SMOOTH_CRAGROCK_SLAB, 3, 1, 1)
+				.fill(6, 51, 7, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(10, 51, 7, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(5, 51, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(11, 51, 8, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(4, 51, 9, SMOOTH_CRAGROCK_SLAB, 1, 1, 3)
+				.fill(12, 51, 9, SMOOTH_CRAGROCK_SLAB, 1, 1, 3)
+				.fill(5, 51, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(11, 51, 12, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(6, 51, 13, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(10, 51, 13, SMOOTH_CRAGROCK_SLAB, 1, 1, 1)
+				.fill(7, 51, 14, SMOOTH_CRAGROCK_SLAB, 3, 1, 1)
+				.fill(7, 51, 5, CHISELED_CRAGROCK, 3, 1, 1)
+				.fill(5, 51, 6, CHISELED_CRAGROCK, 2, 1, 1)
+				.fill(10, 51, 6, CHISELED_CRAGROCK, 2, 1, 1)
+				.fill(4, 51, 7, CHISELED_CRAGROCK, 2, 1, 1)
+				.fill(11, 51, 7, CHISELED_CRAGROCK, 2, 1, 1)
+				.fill(4, 51, 8, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(12, 51, 8, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(3, 51, 9, CHISELED_CRAGROCK, 1, 1, 3)
+				.fill(13, 51, 9, CHISELED_CRAGROCK, 1, 1, 3)
+				.fill(4, 51, 12, CHISELED_CRAGROCK, 1, 1, 2)
+				.fill(12, 51, 12, CHISELED_CRAGROCK, 1, 1, 2)
+				.fill(5, 51, 13, CHISELED_CRAGROCK, 1, 1, 2)
+				.fill(11, 51, 13, CHISELED_CRAGROCK, 1, 1, 2)
+				.fill(6, 51, 14, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(10, 51, 14, CHISELED_CRAGROCK, 1, 1, 1)
+				.fill(7, 51, 15, CHISELED_CRAGROCK, 3, 1, 1)
+				.fill(7, 51, 4, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 3, 1, 1)
+				.fill(5, 51, 5, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 2, 1, 1)
+				.fill(10, 51, 5, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 2, 1, 1)
+				.fill(4, 51, 6, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(12, 51, 6, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(3, 51, 7, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 2)
+				.fill(13, 51, 7, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 2)
+				.fill(2, 51, 9, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 3)
+				.fill(14, 51, 9, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 3)
+				.fill(3, 51, 12, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 3)
+				.fill(13, 51, 12, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 3)
+				.fill(4, 51, 14, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(12, 51, 14, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 1, 1, 1)
+				.fill(5, 51, 15, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 2, 1, 1)
+				.fill(10, 51, 15, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 2, 1, 1)
+				.fill(7, 51, 16, CRAGROCK_BRICK_SLAB_UPSIDEDOWN, 3, 1, 1)
+				.fill(7, 52, 4, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1)
+				.fill(8, 52, 4, CRAGROCK, 1, 1, 1)
+				.fill(9, 52, 4, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1)
+				.fill(5, 52, 5, MOSSY_CRAGROCK_TOP, 2, 1, 1)
+				.fill(10, 52, 5, MOSSY_CRAGROCK_TOP, 2, 1, 1)
+				.fill(4, 52, 6, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1)
+				.fill(12, 52, 6, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1)
+				.fill(3, 52, 7, MOSSY_CRAGROCK_TOP, 1, 1, 2)
+				.fill(13, 52, 7, MOSSY_CRAGROCK_TOP, 1, 1, 2)
+				.fill(2, 52, 9, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1)
+				.fill(2, 52, 10, CRAGROCK, 1, 1, 1)
+				.fill(2, 52, 11, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1)
+				.fill(14, 52, 9, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1)
+				.fill(14, 52, 10, CRAGROCK, 1, 1, 1)
+				.fill(14, 52, 11, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1)
+				.fill(3, 52, 12, MOSSY_CRAGROCK_TOP, 1, 1, 2)
+				.fill(3, 52, 14, CRAGROCK_PILLAR, 1, 1, 1)
+				.fill(13, 52, 12, MOSSY_CRAGROCK_TOP, 1, 1, 2)
+				.fill(13, 52, 14, CRAGROCK_PILLAR, 1, 1, 1)
+				.fill(4, 52, 14, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1)
+				.fill(12, 52, 14, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1)
+				.fill(5, 52, 15, MOSSY_CRAGROCK_TOP, 2, 1, 1)
+				.fill(10, 52, 15, MOSSY_CRAGROCK_TOP, 2, 1, 1)
+				.fill(7, 52, 16, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1)
+				.fill(8, 52, 16, CRAGROCK, 1, 1, 1)
+				.fill(9, 52, 16, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1)
+				.fill(7, 53, 4, MOSSY_CRAGROCK_TOP, 1, 1, 1)
+				.fill(8, 53, 4, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1)
+				.fill(9, 53, 4, MOSSY_CRAGROCK_TOP, 1, 1, 1)
+				.fill(4, 53, 6, MOSSY_CRAGROCK_TOP, 1, 1, 1)
+				.fill(12, 53, 6, MOSSY_CRAGROCK_TOP, 1, 1, 1)
+				.fill(2, 53, 9, MOSSY_CRAGROCK_TOP, 1, 1, 1)
+				.fill(2, 53, 10, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1)
+				.fill(2, 53, 11, MOSSY_CRAGROCK_TOP, 1, 1, 1)
+				.fill(14, 53, 9, MOSSY_CRAGROCK_TOP, 1, 1, 1)
+				.fill(14, 53, 10, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1)
+				.fill(14, 53, 11, MOSSY_CRAGROCK_TOP, 1, 1, 1)
+				.fill(4, 53, 14, MOSSY_CRAGROCK_TOP, 1, 1, 1)
+				.fill(12, 53, 14, MOSSY_CRAGROCK_TOP, 1, 1, 1)
+				.fill(7, 53, 16, MOSSY_CRAGROCK_TOP, 1, 1, 1)
+				.fill(8, 53, 16, MOSSY_CRAGROCK_BOTTOM, 1, 1, 1)
+				.fill(9, 53, 16, MOSSY_CRAGROCK_TOP, 1, 1, 1)
+				.fill(8, 54, 4, MOSSY_CRAGROCK_TOP, 1, 1, 1)
+				.fill(2, 54, 10, MOSSY_CRAGROCK_TOP, 1, 1, 1)
+				.fill(14, 54, 10, MOSSY_CRAGROCK_TOP, 1, 1, 1)
+				.fill(8, 54, 16, MOSSY_CRAGROCK_TOP, 1, 1, 1)
+				.fill(3, 53, 14, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(13, 53, 14, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(3, 54, 14, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(13, 54, 14, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(3, 55, 14, AIR, 1, 1, 1)
+				.hook(3, 55, 14, WorldGenCragrockTower::addInactiveWisp)
+				.fill(13, 55, 14, AIR, 1, 1, 1)
+				.hook(13, 55, 14, WorldGenCragrockTower::addInactiveWisp)
+				.fill(3, 52, 11, CRAGROCK_PILLAR, 1, 3, 1)
+				.fill(3, 55, 11, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(3, 56, 11, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(3, 57, 11, AIR, 1, 1, 1)
+				.hook(3, 57, 11, WorldGenCragrockTower::addInactiveWisp)
+				.fill(3, 53, 8, CRAGROCK_PILLAR, 1, 4, 1)
+				.fill(3, 57, 8, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(3, 58, 8, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(3, 59, 8, AIR, 1, 1, 1)
+				.hook(3, 59, 8, WorldGenCragrockTower::addInactiveWisp)
+				.fill(5, 53, 5, CRAGROCK_PILLAR, 1, 6, 1)
+				.fill(5, 59, 5, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(5, 60, 5, rotated(1, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(5, 61, 5, AIR, 1, 1, 1)
+				.hook(5, 61, 5, WorldGenCragrockTower::addInactiveWisp)
+				.fill(8, 55, 4, CRAGROCK_PILLAR, 1, 6, 1)
+				.fill(8, 61, 4, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(8, 62, 4, rotated(1, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(8, 63, 4, AIR, 1, 1, 1)
+				.hook(8, 63, 4, WorldGenCragrockTower::addInactiveWisp)
+				.fill(11, 53, 5, CRAGROCK_PILLAR, 1, 6, 1)
+				.fill(11, 59, 5, rotated(3, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(11, 60, 5, rotated(1, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(11, 61, 5, AIR, 1, 1, 1)
+				.hook(11, 61, 5, WorldGenCragrockTower::addInactiveWisp)
+				.fill(13, 53, 8, CRAGROCK_PILLAR, 1, 4, 1)
+				.fill(13, 57, 8, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(13, 58, 8, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(13, 59, 8, AIR, 1, 1, 1)
+				.hook(13, 59, 8, WorldGenCragrockTower::addInactiveWisp)
+				.fill(13, 52, 11, CRAGROCK_PILLAR, 1, 3, 1)
+				.fill(13, 55, 11, rotated(2, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(13, 56, 11, rotated(0, SMOOTH_CRAGROCK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(13, 57, 11, AIR, 1, 1, 1)
+				.hook(13, 57, 11, WorldGenCragrockTower::addInactiveWisp)
+				.fill(8, 52, 5, CRAGROCK_BRICK_WALL, 1, 1, 1)
+				.fill(8, 53, 5, CRAGROCK_BRICK_SLAB, 1, 1, 1)
+				.hook(8, 54, 5, spawner("thebetweenlands:swamp_hag", logic -> logic.setMaxEntities(3).setCheckRange(10.0D).setDelayRange(150, 500).setSpawnInAir(false)))
+				.fill(8, 52, 15, CRAGROCK_BRICK_WALL, 1, 1, 1)
+				.fill(8, 53, 15, CRAGROCK_BRICK_SLAB, 1, 1, 1)
+				.hook(8, 54, 15, spawner("thebetweenlands:wight", logic -> logic.setMaxEntities(2).setCheckRange(24.0D).setDelayRange(300, 600).setSpawnInAir(false)))
+				.hook(7, 52, 5, lootChest(5, 8, 2, 0, null))
+				.hook(9, 52, 5, lootChest(5, 8, 2, 0, null))
+				.hook(7, 52, 15, lootChest(5, 8, 2, 2, null))
+				.hook(10, 52, 6, lootPot(3, 4, 3, null))
+				.hook(11, 52, 6, lootPot(3, 4, 3, null))
+				.hook(6, 52, 6, lootPot(3, 4, 3, null))
+				.hook(5, 52, 6, lootPot(3, 4, 3, null))
+				.hook(12, 52, 8, lootPot(3, 4, 3, null))
+				.hook(12, 52, 12, lootPot(3, 4, 3, null))
+				.hook(12, 52, 13, lootPot(3, 4, 3, null))
+				.hook(3, 52, 10, lootPot(3, 4, 3, null))
+				.hook(7, 51, 7, column(ROOT, 2, 5))
+				.hook(10, 51, 11, column(ROOT, 1, 2))
+				.hook(3, 52, 9, column(ROOT, 2, 3))
+				.hook(4, 52, 13, column(ROOT, 1, 3))
+				.hook(9, 52, 15, column(ROOT, 2, 3))
+				.hook(12, 52, 7, column(ROOT, 1, 3))
+				.hook(13, 52, 10, column(ROOT, 1, 2))
+				.build();
+	}
+
+	private static void addInactiveGlowingBlock(WorldGenHelper helper, World world, Random rand, BlockPos pos, int rotation) {
+		((WorldGenCragrockTower) helper).inactiveGlowingCragrockBlocks.add(pos);
+	}
+
+	private static void addInactiveWisp(WorldGenHelper helper, World world, Random rand, BlockPos pos, int rotation) {
+		((WorldGenCragrockTower) helper).inactiveWisps.add(pos);
+	}
+
+	private static Hook blockade(int level) {
+		return (helper, world, rand, pos, rotation) -> ((WorldGenCragrockTower) helper).levelBlockades.get(level).add(pos);
+	}
+
+	private static void addPyradSpawner(WorldGenHelper helper, World world, Random rand, BlockPos pos, int rotation) {
+		NBTTagCompound nbt = new NBTTagCompound();
+		NBTTagCompound entityNbt = new NBTTagCompound();
+		entityNbt.setString("id", "thebetweenlands:pyrad");
+		EntityPyrad pyrad = new EntityPyrad(world);
+		pyrad.getEntityAttribute(EntityPyrad.AGRESSIVE).setBaseValue(1);
+		entityNbt.setTag("Attributes", SharedMonsterAttributes.writeBaseAttributeMapToNBT(pyrad.getAttributeMap()));
+		nbt.setTag("Entity", entityNbt);
+		spawner("thebetweenlands:pyrad", logic -> logic
+				.setMaxEntities(3)
+				.setCheckRange(16.0D)
+				.setDelayRange(180, 500)
+				.setSpawnInAir(false)
+				.setNextEntity(new WeightedSpawnerEntity(nbt))).apply(helper, world, rand, pos, rotation);
+	}
 }
@@ -38,6 +38,8 @@ import thebetweenlands.common.entity.EntityCCGroundSpawner;
 import thebetweenlands.common.entity.EntityDecayPitTarget;
 import thebetweenlands.common.entity.EntityMovingWall;
 import thebetweenlands.common.entity.EntityTriggeredFallingBlock;
+import thebetweenlands.common.metrics.LatencyHistogram;
+import thebetweenlands.common.metrics.Metrics;
 import thebetweenlands.common.registries.BlockRegistry;
 import thebetweenlands.common.registries.LootTableRegistry;
 import thebetweenlands.common.tile.TileEntityDungeonDoorCombination;
@@ -46,6 +48,7 @@ import thebetweenlands.common.tile.TileEntityItemShelf;
 import thebetweenlands.common.tile.TileEntityLootInventory;
 import thebetweenlands.common.tile.TileEntityMudBrickAlcove;
 import thebetweenlands.common.world.biome.BiomeSludgePlainsClearing;
+import thebetweenlands.common.world.gen.BulkBlockWriter;
 import thebetweenlands.common.world.gen.feature.structure.utils.MazeGenerator;
 import thebetweenlands.common.world.gen.feature.structure.utils.PerfectMazeGenerator;
 import thebetweenlands.common.world.gen.feature.structure.utils.SludgeWormMazeBlockHelper;
@@ -56,9 +59,10 @@ import thebetweenlands.common.world.storage.location.LocationAmbience;
 import thebetweenlands.common.world.storage.location.LocationAmbience.EnumLocationAmbience;
 import thebetweenlands.common.world.storage.location.LocationSludgeWormDungeon;
 import thebetweenlands.common.world.storage.location.LocationStorage;
-import thebetweenlands.util.TimeMeasurement;
 
 public class WorldGenSludgeWormDungeon extends WorldGenerator {
+	private static final LatencyHistogram GENERATION_TIME = Metrics.histogram("worldgen.sludge_worm_dungeon");
+
 	private SludgeWormMazeBlockHelper blockHelper;
 	private SludgeWormMazeMicroBuilds microBuild;
 	private LightTowerBuildParts lightTowerBuild;
@@ -109,34 +113,24 @@ public class WorldGenSludgeWormDungeon extends WorldGenerator {
 			this.lootRng = new Random(rand.nextLong());
 	
 			//conditions blah, blah...
-			//TimeMeasurement.start("Full_Mudgeon");
+			long start = Metrics.startTimer();
 	
 			//Locations must be generated first such that location guard can be used
-			//TimeMeasurement.start("World_Locations");
 			this.generateLocations(world, rand, pos);
-			//TimeMeasurement.finish("World_Locations");
 	
-			//TimeMeasurement.start("Maze");
 			makeMaze(world, rand, pos);
-			//TimeMeasurement.finish("Maze");
 	
-			//TimeMeasurement.start("Tower");
 			generateTower(world, rand, pos.down().add(12, 0, 12));
-			//TimeMeasurement.finish("Tower");
 	
-			//TimeMeasurement.start("Crypt");
 			generateCryptCrawlerDungeon(world, rand, pos.down(25).add(-3, 0, -3));
-			//TimeMeasurement.finish("Crypt");
 	
-			//TimeMeasurement.start("Pit");
 			generateDecayPit(world, rand, pos.down(44).add(14, 0, 14));
-			//TimeMeasurement.finish("Pit");
 	
 			generateDecayPitEntrance(world, rand, pos.down(59).add(-3, 0, -3));
 			
 			protectTowerInside(world, rand, pos.down().add(12, 0, 12));
 			
-			//TimeMeasurement.finish("Full_Mudgeon");
+			GENERATION_TIME.recordSince(start);
 
 			return true;
 		} finally {
@@ -1324,7 +1318,7 @@ public class WorldGenSludgeWormDungeon extends WorldGenerator {
 			this.location.getGuard().setGuarded(worldIn, pos, false);
 		}
 
-		super.setBlockAndNotifyAdequately(worldIn, pos, state);
+		BulkBlockWriter.setBlockState(worldIn, pos, state, 2 | 16);
 		
 		TileEntity tile = worldIn.getTileEntity(pos);
 		
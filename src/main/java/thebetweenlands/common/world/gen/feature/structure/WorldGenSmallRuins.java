@@ -1,10 +1,16 @@
 package thebetweenlands.common.world.gen.feature.structure;
 
+import static thebetweenlands.common.world.gen.feature.StructureBlueprint.lootPot;
+import static thebetweenlands.common.world.gen.feature.StructureBlueprint.rotated;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 import java.util.UUID;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
 import net.minecraft.util.EnumFacing;
@@ -22,6 +28,7 @@ import thebetweenlands.common.registries.BlockRegistry;
 import thebetweenlands.common.registries.LootTableRegistry;
 import thebetweenlands.common.tile.TileEntityLootPot;
 import thebetweenlands.common.world.gen.biome.decorator.SurfaceType;
+import thebetweenlands.common.world.gen.feature.StructureBlueprint;
 import thebetweenlands.common.world.gen.feature.WorldGenHelper;
 import thebetweenlands.common.world.storage.BetweenlandsWorldStorage;
 import thebetweenlands.common.world.storage.location.EnumLocationType;
@@ -45,6 +52,8 @@ public class WorldGenSmallRuins extends WorldGenHelper {
 	private static final IBlockState BETWEENSTONE_BRICK_WALL = BlockRegistry.BETWEENSTONE_BRICK_WALL.getDefaultState();
 	private static final IBlockState WEEDWOOD_FENCE = BlockRegistry.WEEDWOOD_PLANK_FENCE.getDefaultState();
 	private static final IBlockState ROPE = BlockRegistry.ROPE.getDefaultState();
+
+	private static final Supplier<StructureBlueprint> STRUCTURE_7 = Suppliers.memoize(WorldGenSmallRuins::createStructure7Blueprint);
 	
 	public WorldGenSmallRuins(){
 		super(BlockRegistry.MUD.getDefaultState(), BlockRegistry.SWAMP_GRASS.getDefaultState());
@@ -451,137 +460,143 @@ public class WorldGenSmallRuins extends WorldGenHelper {
 		if (doGen) {
 			this.addLocationArea(world, x, y, z, 0, 0, 0, width, 13, depth, direction, location);
 
-			rotatedCubeVolume(world, x, y, z, 0, 0, 0, BETWEENSTONE_BRICKS, 1, 1, 4, direction);
-			rotatedCubeVolume(world, x, y, z, 0, 1, 0, BETWEENSTONE_BRICKS, 1, 1, 3, direction);
-			rotatedCubeVolume(world, x, y, z, 0, 1, 3, getStateFromRotation(3, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 0, 2, 0, getStateFromRotation(1, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 0, 2, 1, BETWEENSTONE_BRICKS, 1, 1, 2, direction);
-			rotatedCubeVolume(world, x, y, z, 0, 2, 3, BETWEENSTONE_BRICK_SLAB, 1, 1, 1, direction);
-
-			rotatedCubeVolume(world, x, y, z, 6, 0, 1, BETWEENSTONE_TILES, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 6, 1, 1, SMOOTH_BETWEENSTONE_WALL, 1, 4, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 10, 0, 1, BETWEENSTONE_TILES, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 10, 1, 1, SMOOTH_BETWEENSTONE_WALL, 1, 4, 1, direction);
-
-			rotatedCubeVolume(world, x, y, z, 6, 0, 2, BETWEENSTONE_TILES, 1, 4, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 6, 4, 2, BETWEENSTONE_BRICKS, 1, 4, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 6, 8, 2, getStateFromRotation(3, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 7, 0, 2, BETWEENSTONE_BRICKS, 1, 7, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 7, 7, 2, getStateFromRotation(2, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 8, 0, 2, BETWEENSTONE_BRICKS, 1, 2, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 8, 2, 2, getStateFromRotation(2, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 8, 3, 2, BETWEENSTONE_BRICKS, 1, 4, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 9, 0, 2, BETWEENSTONE_BRICKS, 1, 5, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 9, 5, 2, BETWEENSTONE_BRICK_SLAB, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 10, 0, 2, BETWEENSTONE_TILES, 1, 4, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 10, 4, 2, getStateFromRotation(1, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 11, 0, 2, BETWEENSTONE_TILES, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 11, 1, 2, SMOOTH_BETWEENSTONE_WALL, 1, 3, 1, direction);
-
-			rotatedCubeVolume(world, x, y, z, 6, 5, 3, getStateFromRotation(1, direction, WEEDWOOD_PLANK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 6, 8, 3, getStateFromRotation(1, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 6, 9, 3, BETWEENSTONE_BRICK_SLAB, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 7, 5, 3, WEEDWOOD_PLANK_SLAB_UPSIDE_DOWN, 3, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 10, 0, 3, BETWEENSTONE_BRICKS, 1, 6, 3, direction);
-			rotatedCubeVolume(world, x, y, z, 10, 3, 3, getStateFromRotation(1, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 10, 6, 3, BETWEENSTONE_BRICK_SLAB, 1, 1, 1, direction);
-
-			rotatedCubeVolume(world, x, y, z, 6, 5, 4, WEEDWOOD_PLANK_SLAB_UPSIDE_DOWN, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 6, 8, 4, BETWEENSTONE_BRICK_SLAB_UPSIDE_DOWN, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 6, 9, 4, BETWEENSTONE_BRICK_SLAB, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 7, 3, 4, ROPE, 1, 2, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 7, 5, 4, getStateFromRotation(0, direction, WEEDWOOD_LOG, EnumRotationSequence.LOG_SIDEWAYS), 5, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 9, 4, 4, WEEDWOOD_FENCE, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 10, 2, 4, CHISELED_BETWEENSTONE, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 10, 6, 4, BETWEENSTONE_BRICKS, 1, 1, 1, direction);
-
-			rotatedCubeVolume(world, x, y, z, 6, 5, 5, getStateFromRotation(3, direction, WEEDWOOD_PLANK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 6, 8, 5, getStateFromRotation(3, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 6, 9, 5, BETWEENSTONE_BRICK_SLAB, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 7, 5, 5, WEEDWOOD_PLANK_SLAB_UPSIDE_DOWN, 3, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 10, 6, 5, getStateFromRotation(3, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-
-			rotatedCubeVolume(world, x, y, z, 2, 0, 6, BETWEENSTONE_TILES, 1, 4, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 2, 4, 6, BETWEENSTONE_BRICKS, 1, 4, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 2, 8, 6, getStateFromRotation(0, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 3, 8, 6, getStateFromRotation(2, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 3, 9, 6, BETWEENSTONE_BRICK_SLAB, 3, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 4, 8, 6, BETWEENSTONE_BRICK_SLAB_UPSIDE_DOWN, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 5, 8, 6, getStateFromRotation(0, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 6, 0, 6, BETWEENSTONE_TILES, 1, 4, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 6, 4, 6, BETWEENSTONE_BRICKS, 1, 6, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 6, 10, 6, getStateFromRotation(1, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 7, 5, 6, WEEDWOOD_PLANK_SLAB_UPSIDE_DOWN, 3, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 9, 0, 6, BETWEENSTONE_BRICKS, 1, 1, 1, direction);
-			rotatedLootPot(world, random, x, y, z, 9, 1, 6, direction, 1, 2, 1, LootTableRegistry.MARSH_RUINS_POT);
-			rotatedCubeVolume(world, x, y, z, 10, 0, 6, BETWEENSTONE_TILES, 1, 4, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 10, 4, 6, BETWEENSTONE_BRICKS, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 10, 5, 6, getStateFromRotation(1, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 11, 0, 6, BETWEENSTONE_TILES, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 11, 1, 6, SMOOTH_BETWEENSTONE_WALL, 1, 4, 1, direction);
-
-			rotatedCubeVolume(world, x, y, z, 6, 8, 7, getStateFromRotation(1, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 6, 9, 7, BETWEENSTONE_BRICK_SLAB, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 7, 0, 7, BETWEENSTONE_BRICKS, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 8, 5, 7, WEEDWOOD_PLANK_SLAB_UPSIDE_DOWN, 2, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 10, 0, 7, BETWEENSTONE_BRICKS, 1, 6, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 10, 6, 7, BETWEENSTONE_BRICK_SLAB, 1, 1, 1, direction);
-
-			rotatedCubeVolume(world, x, y, z, 5, 0, 8, BETWEENSTONE_BRICKS, 4, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 6, 8, 8, BETWEENSTONE_BRICK_SLAB_UPSIDE_DOWN, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 6, 9, 8, BETWEENSTONE_BRICK_SLAB, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 9, 4, 8, WEEDWOOD_FENCE, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 9, 5, 8, getStateFromRotation(0, direction, WEEDWOOD_LOG, EnumRotationSequence.LOG_SIDEWAYS), 3, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 10, 0, 8, BETWEENSTONE_BRICKS, 1, 2, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 10, 2, 8, CHISELED_BETWEENSTONE, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 10, 3, 8, BETWEENSTONE_BRICKS, 1, 2, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 10, 6, 8, BETWEENSTONE_BRICK_SLAB, 1, 1, 1, direction);
-
-			rotatedCubeVolume(world, x, y, z, 3, 0, 9, BETWEENSTONE_BRICKS, 4, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 6, 8, 9, getStateFromRotation(1, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 6, 9, 9, BETWEENSTONE_BRICK_SLAB, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 7, 0, 9, ANGRY_BETWEENSTONE, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 8, 0, 9, BETWEENSTONE_BRICKS, 2, 1, 1, direction);
-			rotatedLootPot(world, random, x, y, z, 9, 1, 9, direction, 1, 2, 1, LootTableRegistry.MARSH_RUINS_POT);
-			rotatedCubeVolume(world, x, y, z, 10, 0, 9, BETWEENSTONE_BRICKS, 1, 5, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 10, 5, 9, getStateFromRotation(3, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 10, 6, 9, BETWEENSTONE_BRICK_SLAB, 1, 1, 1, direction);
-
-			rotatedCubeVolume(world, x, y, z, 2, 0, 10, BETWEENSTONE_TILES, 1, 4, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 2, 4, 10, getStateFromRotation(0, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 3, 0, 10, BETWEENSTONE_BRICKS, 7, 2, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 3, 2, 10, getStateFromRotation(2, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 4, 2, 10, BETWEENSTONE_BRICKS, 2, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 5, 3, 10, getStateFromRotation(0, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 5, 8, 10, getStateFromRotation(0, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 5, 9, 10, BETWEENSTONE_BRICK_SLAB, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 5, 11, 10, getStateFromRotation(0, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 4, 12, 10, BETWEENSTONE_BRICK_SLAB, 2, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 6, 0, 10, BETWEENSTONE_TILES, 1, 4, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 6, 4, 10, getStateFromRotation(3, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 6, 5, 10, BETWEENSTONE_BRICKS, 1, 6, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 6, 11, 10, getStateFromRotation(2, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 7, 2, 10, getStateFromRotation(2, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 7, 6, 10, getStateFromRotation(2, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 7, 7, 10, BETWEENSTONE_BRICK_SLAB, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 8, 2, 10, BETWEENSTONE_BRICK_SLAB, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 8, 6, 10, BETWEENSTONE_BRICK_SLAB_UPSIDE_DOWN, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 8, 7, 10, BETWEENSTONE_BRICK_SLAB, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 9, 2, 10, BETWEENSTONE_BRICKS, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 9, 6, 10, getStateFromRotation(0, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 9, 7, 10, BETWEENSTONE_BRICK_SLAB, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 10, 0, 10, BETWEENSTONE_TILES, 1, 4, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 10, 4, 10, BETWEENSTONE_BRICKS, 1, 2, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 10, 6, 10, getStateFromRotation(2, direction, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 11, 0, 10, BETWEENSTONE_TILES, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 11, 1, 10, SMOOTH_BETWEENSTONE_WALL, 1, 4, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 10, 0, 11, BETWEENSTONE_TILES, 1, 1, 1, direction);
-			rotatedCubeVolume(world, x, y, z, 10, 1, 11, SMOOTH_BETWEENSTONE_WALL, 1, 4, 1, direction);
+			this.stampBlueprint(world, random, STRUCTURE_7.get(), x, y, z, direction);
 		}
 		return true;
 	}
 
 
+	private static StructureBlueprint createStructure7Blueprint() {
+		return StructureBlueprint.builder(12, 13, 12)
+				.fill(0, 0, 0, BETWEENSTONE_BRICKS, 1, 1, 4)
+				.fill(0, 1, 0, BETWEENSTONE_BRICKS, 1, 1, 3)
+				.fill(0, 1, 3, rotated(3, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(0, 2, 0, rotated(1, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(0, 2, 1, BETWEENSTONE_BRICKS, 1, 1, 2)
+				.fill(0, 2, 3, BETWEENSTONE_BRICK_SLAB, 1, 1, 1)
+
+				.fill(6, 0, 1, BETWEENSTONE_TILES, 1, 1, 1)
+				.fill(6, 1, 1, SMOOTH_BETWEENSTONE_WALL, 1, 4, 1)
+				.fill(10, 0, 1, BETWEENSTONE_TILES, 1, 1, 1)
+				.fill(10, 1, 1, SMOOTH_BETWEENSTONE_WALL, 1, 4, 1)
+
+				.fill(6, 0, 2, BETWEENSTONE_TILES, 1, 4, 1)
+				.fill(6, 4, 2, BETWEENSTONE_BRICKS, 1, 4, 1)
+				.fill(6, 8, 2, rotated(3, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(7, 0, 2, BETWEENSTONE_BRICKS, 1, 7, 1)
+				.fill(7, 7, 2, rotated(2, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(8, 0, 2, BETWEENSTONE_BRICKS, 1, 2, 1)
+				.fill(8, 2, 2, rotated(2, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(8, 3, 2, BETWEENSTONE_BRICKS, 1, 4, 1)
+				.fill(9, 0, 2, BETWEENSTONE_BRICKS, 1, 5, 1)
+				.fill(9, 5, 2, BETWEENSTONE_BRICK_SLAB, 1, 1, 1)
+				.fill(10, 0, 2, BETWEENSTONE_TILES, 1, 4, 1)
+				.fill(10, 4, 2, rotated(1, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(11, 0, 2, BETWEENSTONE_TILES, 1, 1, 1)
+				.fill(11, 1, 2, SMOOTH_BETWEENSTONE_WALL, 1, 3, 1)
+
+				.fill(6, 5, 3, rotated(1, WEEDWOOD_PLANK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(6, 8, 3, rotated(1, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(6, 9, 3, BETWEENSTONE_BRICK_SLAB, 1, 1, 1)
+				.fill(7, 5, 3, WEEDWOOD_PLANK_SLAB_UPSIDE_DOWN, 3, 1, 1)
+				.fill(10, 0, 3, BETWEENSTONE_BRICKS, 1, 6, 3)
+				.fill(10, 3, 3, rotated(1, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(10, 6, 3, BETWEENSTONE_BRICK_SLAB, 1, 1, 1)
+
+				.fill(6, 5, 4, WEEDWOOD_PLANK_SLAB_UPSIDE_DOWN, 1, 1, 1)
+				.fill(6, 8, 4, BETWEENSTONE_BRICK_SLAB_UPSIDE_DOWN, 1, 1, 1)
+				.fill(6, 9, 4, BETWEENSTONE_BRICK_SLAB, 1, 1, 1)
+				.fill(7, 3, 4, ROPE, 1, 2, 1)
+				.fill(7, 5, 4, rotated(0, WEEDWOOD_LOG, EnumRotationSequence.LOG_SIDEWAYS), 5, 1, 1)
+				.fill(9, 4, 4, WEEDWOOD_FENCE, 1, 1, 1)
+				.fill(10, 2, 4, CHISELED_BETWEENSTONE, 1, 1, 1)
+				.fill(10, 6, 4, BETWEENSTONE_BRICKS, 1, 1, 1)
+
+				.fill(6, 5, 5, rotated(3, WEEDWOOD_PLANK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(6, 8, 5, rotated(3, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(6, 9, 5, BETWEENSTONE_BRICK_SLAB, 1, 1, 1)
+				.fill(7, 5, 5, WEEDWOOD_PLANK_SLAB_UPSIDE_DOWN, 3, 1, 1)
+				.fill(10, 6, 5, rotated(3, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+
+				.fill(2, 0, 6, BETWEENSTONE_TILES, 1, 4, 1)
+				.fill(2, 4, 6, BETWEENSTONE_BRICKS, 1, 4, 1)
+				.fill(2, 8, 6, rotated(0, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(3, 8, 6, rotated(2, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(3, 9, 6, BETWEENSTONE_BRICK_SLAB, 3, 1, 1)
+				.fill(4, 8, 6, BETWEENSTONE_BRICK_SLAB_UPSIDE_DOWN, 1, 1, 1)
+				.fill(5, 8, 6, rotated(0, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(6, 0, 6, BETWEENSTONE_TILES, 1, 4, 1)
+				.fill(6, 4, 6, BETWEENSTONE_BRICKS, 1, 6, 1)
+				.fill(6, 10, 6, rotated(1, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(7, 5, 6, WEEDWOOD_PLANK_SLAB_UPSIDE_DOWN, 3, 1, 1)
+				.fill(9, 0, 6, BETWEENSTONE_BRICKS, 1, 1, 1)
+				.hook(9, 1, 6, lootPot(1, 2, 1, LootTableRegistry.MARSH_RUINS_POT))
+				.fill(10, 0, 6, BETWEENSTONE_TILES, 1, 4, 1)
+				.fill(10, 4, 6, BETWEENSTONE_BRICKS, 1, 1, 1)
+				.fill(10, 5, 6, rotated(1, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(11, 0, 6, BETWEENSTONE_TILES, 1, 1, 1)
+				.fill(11, 1, 6, SMOOTH_BETWEENSTONE_WALL, 1, 4, 1)
+
+				.fill(6, 8, 7, rotated(1, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(6, 9, 7, BETWEENSTONE_BRICK_SLAB, 1, 1, 1)
+				.fill(7, 0, 7, BETWEENSTONE_BRICKS, 1, 1, 1)
+				.fill(8, 5, 7, WEEDWOOD_PLANK_SLAB_UPSIDE_DOWN, 2, 1, 1)
+				.fill(10, 0, 7, BETWEENSTONE_BRICKS, 1, 6, 1)
+				.fill(10, 6, 7, BETWEENSTONE_BRICK_SLAB, 1, 1, 1)
+
+				.fill(5, 0, 8, BETWEENSTONE_BRICKS, 4, 1, 1)
+				.fill(6, 8, 8, BETWEENSTONE_BRICK_SLAB_UPSIDE_DOWN, 1, 1, 1)
+				.fill(6, 9, 8, BETWEENSTONE_BRICK_SLAB, 1, 1, 1)
+				.fill(9, 4, 8, WEEDWOOD_FENCE, 1, 1, 1)
+				.fill(9, 5, 8, rotated(0, WEEDWOOD_LOG, EnumRotationSequence.LOG_SIDEWAYS), 3, 1, 1)
+				.fill(10, 0, 8, BETWEENSTONE_BRICKS, 1, 2, 1)
+				.fill(10, 2, 8, CHISELED_BETWEENSTONE, 1, 1, 1)
+				.fill(10, 3, 8, BETWEENSTONE_BRICKS, 1, 2, 1)
+				.fill(10, 6, 8, BETWEENSTONE_BRICK_SLAB, 1, 1, 1)
+
+				.fill(3, 0, 9, BETWEENSTONE_BRICKS, 4, 1, 1)
+				.fill(6, 8, 9, rotated(1, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(6, 9, 9, BETWEENSTONE_BRICK_SLAB, 1, 1, 1)
+				.fill(7, 0, 9, ANGRY_BETWEENSTONE, 1, 1, 1)
+				.fill(8, 0, 9, BETWEENSTONE_BRICKS, 2, 1, 1)
+				.hook(9, 1, 9, lootPot(1, 2, 1, LootTableRegistry.MARSH_RUINS_POT))
+				.fill(10, 0, 9, BETWEENSTONE_BRICKS, 1, 5, 1)
+				.fill(10, 5, 9, rotated(3, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(10, 6, 9, BETWEENSTONE_BRICK_SLAB, 1, 1, 1)
+
+				.fill(2, 0, 10, BETWEENSTONE_TILES, 1, 4, 1)
+				.fill(2, 4, 10, rotated(0, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(3, 0, 10, BETWEENSTONE_BRICKS, 7, 2, 1)
+				.fill(3, 2, 10, rotated(2, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(4, 2, 10, BETWEENSTONE_BRICKS, 2, 1, 1)
+				.fill(5, 3, 10, rotated(0, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(5, 8, 10, rotated(0, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(5, 9, 10, BETWEENSTONE_BRICK_SLAB, 1, 1, 1)
+				.fill(5, 11, 10, rotated(0, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(4, 12, 10, BETWEENSTONE_BRICK_SLAB, 2, 1, 1)
+				.fill(6, 0, 10, BETWEENSTONE_TILES, 1, 4, 1)
+				.fill(6, 4, 10, rotated(3, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(6, 5, 10, BETWEENSTONE_BRICKS, 1, 6, 1)
+				.fill(6, 11, 10, rotated(2, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(7, 2, 10, rotated(2, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(7, 6, 10, rotated(2, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(7, 7, 10, BETWEENSTONE_BRICK_SLAB, 1, 1, 1)
+				.fill(8, 2, 10, BETWEENSTONE_BRICK_SLAB, 1, 1, 1)
+				.fill(8, 6, 10, BETWEENSTONE_BRICK_SLAB_UPSIDE_DOWN, 1, 1, 1)
+				.fill(8, 7, 10, BETWEENSTONE_BRICK_SLAB, 1, 1, 1)
+				.fill(9, 2, 10, BETWEENSTONE_BRICKS, 1, 1, 1)
+				.fill(9, 6, 10, rotated(0, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.UPSIDE_DOWN_STAIR), 1, 1, 1)
+				.fill(9, 7, 10, BETWEENSTONE_BRICK_SLAB, 1, 1, 1)
+				.fill(10, 0, 10, BETWEENSTONE_TILES, 1, 4, 1)
+				.fill(10, 4, 10, BETWEENSTONE_BRICKS, 1, 2, 1)
+				.fill(10, 6, 10, rotated(2, BETWEENSTONE_BRICK_STAIRS, EnumRotationSequence.STAIR), 1, 1, 1)
+				.fill(11, 0, 10, BETWEENSTONE_TILES, 1, 1, 1)
+				.fill(11, 1, 10, SMOOTH_BETWEENSTONE_WALL, 1, 4, 1)
+				.fill(10, 0, 11, BETWEENSTONE_TILES, 1, 1, 1)
+				.fill(10, 1, 11, SMOOTH_BETWEENSTONE_WALL, 1, 4, 1)
+				.build();
+	}
+
 	private boolean addLocationArea(World world, int x, int y, int z, int offsetX, int offsetY, int offsetZ, int sizeWidth, int sizeHeight, int sizeDepth, int direction, LocationStorage location) {
 		location.addBounds(rotatedAABB(world, x, y, z, offsetX, offsetY, offsetZ, sizeWidth, sizeHeight, sizeDepth, direction).grow(6, 6, 6));
 		return true;
@@ -15,7 +15,10 @@ import thebetweenlands.api.storage.LocalRegion;
 import thebetweenlands.api.storage.StorageUUID;
 import thebetweenlands.common.block.structure.BlockWaystone;
 import thebetweenlands.common.config.BetweenlandsConfig;
+import thebetweenlands.common.metrics.Metrics;
 import thebetweenlands.common.registries.BlockRegistry;
+import thebetweenlands.common.world.gen.ChunkGenerationTimings;
+import thebetweenlands.common.world.gen.ChunkGeneratorBetweenlands;
 import thebetweenlands.common.world.gen.biome.decorator.SurfaceType;
 import thebetweenlands.common.world.storage.BetweenlandsWorldStorage;
 import thebetweenlands.common.world.storage.location.EnumLocationType;
@@ -71,8 +74,19 @@ public class WorldGenWaystone extends WorldGenerator implements IWorldGenerator
 			int blockZ = (regionZ << (gridSizePower2 + 4)) + gridBlockSize / 4 + seededRandom.nextInt(gridBlockSize / 2 + 1);
 
 			if(blockX > chunkX * 16 + 5 && blockZ > chunkZ * 16 + 5 && blockX < (chunkX + 2) * 16 - 5 && blockZ < (chunkZ + 2) * 16 - 5) {
+				ChunkGenerationTimings timings = chunkGenerator instanceof ChunkGeneratorBetweenlands ? ((ChunkGeneratorBetweenlands) chunkGenerator).getTimings() : null;
+				long start = timings != null || Metrics.isEnabled() ? System.nanoTime() : 0L;
+
 				int height = world.getHeight(blockX, blockZ);
 				this.generate(world, random, new BlockPos(blockX, height, blockZ));
+
+				if(start != 0L) {
+					long time = System.nanoTime() - start;
+					if(timings != null) {
+						timings.add(ChunkGenerationTimings.Stage.STRUCTURES, time);
+					}
+					ChunkGenerationTimings.Stage.STRUCTURES.metric.record(time);
+				}
 			}
 		}
 	}
@@ -46,6 +46,7 @@ import thebetweenlands.common.registries.LootTableRegistry;
 import thebetweenlands.common.tile.TileEntityItemCage;
 import thebetweenlands.common.tile.TileEntityLootPot;
 import thebetweenlands.common.tile.TileEntityWeedwoodSign;
+import thebetweenlands.common.world.gen.BulkBlockWriter;
 import thebetweenlands.common.world.storage.BetweenlandsWorldStorage;
 import thebetweenlands.common.world.storage.SharedLootPoolStorage;
 import thebetweenlands.common.world.storage.location.EnumLocationType;
@@ -146,7 +147,7 @@ public class WorldGenWightFortress extends WorldGenerator {
 			this.guard.setGuarded(worldIn, pos, false);
 		}
 		
-		super.setBlockAndNotifyAdequately(worldIn, pos, state);
+		BulkBlockWriter.setBlockState(worldIn, pos, state, 2 | 16);
 		
 		TileEntity tile = worldIn.getTileEntity(pos);
 		
@@ -466,6 +467,8 @@ public class WorldGenWightFortress extends WorldGenerator {
 	}
 
 	public boolean generateStructure(World world, Random rand, BlockPos pos) {
+		//Not baked into a StructureBlueprint: most fills pick a random variant for every single block,
+		//in between the fixed fills, so the random order only holds if they stay procedural
 
 		for (int xa = 0; xa <= 32; ++xa) {
 			for(int za = 0; za <= 32; ++za) {
@@ -477,10 +480,11 @@ public class WorldGenWightFortress extends WorldGenerator {
 		}
 
 		// loot room AIR just to erase old one
+		// no neighbor updates, the loot room is built over it right after
 		for (int xa = 8; xa <= 24; ++xa) {
 			for(int za = 8; za <= 24; ++za) {
 				for(int ya = - 8; ya < 0; ++ya ) {
-					world.setBlockToAir(pos.add(xa, ya, za));
+					BulkBlockWriter.setBlockState(world, pos.add(xa, ya, za), Blocks.AIR.getDefaultState(), 2 | 16);
 				}
 			}
 		}
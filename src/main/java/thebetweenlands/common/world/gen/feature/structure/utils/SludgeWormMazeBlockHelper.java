@@ -3,6 +3,8 @@ package thebetweenlands.common.world.gen.feature.structure.utils;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 
 import javax.annotation.Nullable;
 
@@ -49,6 +51,7 @@ import thebetweenlands.common.capability.circlegem.CircleGemType;
 import thebetweenlands.common.registries.BlockRegistry;
 import thebetweenlands.common.registries.ItemRegistry;
 import thebetweenlands.common.tile.TileEntityGroundItem;
+import thebetweenlands.common.world.gen.feature.StructureBlueprint;
 import thebetweenlands.common.world.gen.feature.structure.WorldGenSludgeWormDungeon;
 
 public class SludgeWormMazeBlockHelper {
@@ -260,6 +263,9 @@ public class SludgeWormMazeBlockHelper {
 
 	public final Map<IBlockState, Boolean> STRUCTURE_BLOCKS = new HashMap<IBlockState, Boolean>();
 
+	//Facing of the dungeon parts' rotatedCubeVolume for each blueprint rotation
+	private static final EnumFacing[] BLUEPRINT_FACINGS = { EnumFacing.SOUTH, EnumFacing.EAST, EnumFacing.NORTH, EnumFacing.WEST };
+
 	private final WorldGenSludgeWormDungeon dungeon;
 	
 	public SludgeWormMazeBlockHelper(WorldGenSludgeWormDungeon dungeon) {
@@ -267,6 +273,48 @@ public class SludgeWormMazeBlockHelper {
 		this.dungeon = dungeon;
 	}
 
+	/**
+	 * Returns a blueprint block state that depends on the facing the blueprint is stamped with
+	 * @see #stampBlueprint(World, BlockPos, StructureBlueprint, int, int, int, EnumFacing)
+	 * @param state
+	 * @return
+	 */
+	public static IntFunction<IBlockState> facingState(Function<EnumFacing, IBlockState> state) {
+		return rotation -> state.apply(BLUEPRINT_FACINGS[rotation]);
+	}
+
+	/**
+	 * Places the blocks of a blueprint through the dungeon. The blueprint is positioned and rotated the same way as
+	 * a cube volume of the dungeon parts' rotatedCubeVolume with the same offsets and facing
+	 * @param world
+	 * @param pos
+	 * @param blueprint
+	 * @param offsetA Offset of the blueprint position 0, 0, 0
+	 * @param offsetB
+	 * @param offsetC
+	 * @param facing
+	 */
+	public void stampBlueprint(World world, BlockPos pos, StructureBlueprint blueprint, int offsetA, int offsetB, int offsetC, EnumFacing facing) {
+		int rotation;
+		switch(facing) {
+		case SOUTH:
+			rotation = 0;
+			break;
+		case EAST:
+			rotation = 1;
+			break;
+		case NORTH:
+			rotation = 2;
+			break;
+		case WEST:
+			rotation = 3;
+			break;
+		default:
+			return;
+		}
+		blueprint.place(world, StructureBlueprint.getWorldPos(pos, rotation, offsetA, offsetB, offsetC), rotation, this.dungeon::setBlockAndNotifyAdequately);
+	}
+
 	public @Nullable IBlockState getMudBricksForLevel(Random rand, int level, int layer) {
 		switch (level) {
 		case 0:
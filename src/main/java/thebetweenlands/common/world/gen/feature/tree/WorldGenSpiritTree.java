@@ -22,6 +22,7 @@ import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenerator;
 import thebetweenlands.common.block.terrain.BlockLeavesBetweenlands;
 import thebetweenlands.common.registries.BlockRegistry;
+import thebetweenlands.common.world.gen.BulkBlockWriter;
 import thebetweenlands.common.world.storage.location.LocationSpiritTree;
 import thebetweenlands.common.world.storage.location.guard.ILocationGuard;
 
@@ -441,6 +442,11 @@ public class WorldGenSpiritTree extends WorldGenerator {
 		}
 	}
 
+	@Override
+	protected void setBlockAndNotifyAdequately(World world, BlockPos pos, IBlockState state) {
+		BulkBlockWriter.setBlockState(world, pos, state, 2 | 16);
+	}
+
 	protected void setBlock(World world, BlockPos pos, IBlockState state, boolean registerSmallFacePositions, int trunkX, int trunkY, int trunkZ) {
 		this.setBlockAndNotifyAdequately(world, pos, state);
 
@@ -23,6 +23,7 @@ import thebetweenlands.common.entity.mobs.EntitySpiritTreeFaceLarge;
 import thebetweenlands.common.entity.mobs.EntitySpiritTreeFaceSmall;
 import thebetweenlands.common.entity.mobs.EntityWallFace.AnchorChecks;
 import thebetweenlands.common.registries.BlockRegistry;
+import thebetweenlands.common.world.gen.BulkBlockWriter;
 import thebetweenlands.common.world.gen.biome.decorator.SurfaceType;
 import thebetweenlands.common.world.storage.BetweenlandsWorldStorage;
 import thebetweenlands.common.world.storage.location.LocationSpiritTree;
@@ -226,6 +227,12 @@ public class WorldGenSpiritTreeStructure extends WorldGenerator {
 		}
 	}
 
+	@Override
+	protected void setBlockAndNotifyAdequately(World world, BlockPos pos, IBlockState state) {
+		//Notifies neighbors, so these writes fall back to the world even in a bulk write session
+		BulkBlockWriter.setBlockState(world, pos, state, 3);
+	}
+
 	protected void setBlock(World world, BlockPos pos, IBlockState state, LocationSpiritTree location) {
 		this.setBlockAndNotifyAdequately(world, pos, state);
 
@@ -23,11 +23,24 @@ import thebetweenlands.common.world.storage.location.LocationPortal;
 import thebetweenlands.common.world.storage.location.LocationStorage;
 import thebetweenlands.util.MathUtils;
 
+import javax.annotation.Nullable;
 import java.util.Objects;
 
 public class AmateMapData extends MapData {
+    /**
+     * The map is split into {@link #TILES}x{@link #TILES} tiles of {@link #TILE_SIZE}x{@link #TILE_SIZE} pixels.
+     * Explored pixels are stored in {@link #colors} like on vanilla maps, the tiles only track which
+     * parts of the map have been fully explored and cache the rendered biome colors of tiles that are still being explored
+     */
+    public static final int TILE_SIZE = 16;
+    public static final int TILES = 128 / TILE_SIZE;
+
 	public final Int2ObjectMap<BLMapDecoration> decorations = new Int2ObjectOpenHashMap<>();
 	private final IntSet occupiedSpots = new IntOpenHashSet();
+
+    private final byte[][] renderedTiles = new byte[TILES * TILES][];
+    private long completeTiles;
+    private boolean completeTilesChecked;
 	
     public AmateMapData(String mapname) {
         super(mapname);
@@ -65,6 +78,57 @@ public class AmateMapData extends MapData {
     	}
     }
 
+    /**
+     * Returns whether all pixels of the specified tile have been explored
+     * @param tileX
+     * @param tileZ
+     * @return
+     */
+    public boolean isTileComplete(int tileX, int tileZ) {
+        if (!this.completeTilesChecked) {
+            this.completeTilesChecked = true;
+            for (int z = 0; z < TILES; z++) {
+                for (int x = 0; x < TILES; x++) {
+                    this.checkTileComplete(x, z);
+                }
+            }
+        }
+        return (this.completeTiles & (1L << (tileX + tileZ * TILES))) != 0;
+    }
+
+    /**
+     * Checks whether all pixels of the specified tile have been explored. Once a tile is complete its
+     * rendered biome colors are no longer needed and are released
+     * @param tileX
+     * @param tileZ
+     */
+    public void checkTileComplete(int tileX, int tileZ) {
+        for (int z = tileZ * TILE_SIZE; z < (tileZ + 1) * TILE_SIZE; z++) {
+            for (int x = tileX * TILE_SIZE; x < (tileX + 1) * TILE_SIZE; x++) {
+                if (this.colors[x + z * 128] == 0) {
+                    return;
+                }
+            }
+        }
+        this.completeTiles |= 1L << (tileX + tileZ * TILES);
+        this.renderedTiles[tileX + tileZ * TILES] = null;
+    }
+
+    /**
+     * Returns the rendered biome colors of the specified tile, or null if the tile hasn't been rendered yet
+     * @param tileX
+     * @param tileZ
+     * @return
+     */
+    @Nullable
+    public byte[] getRenderedTile(int tileX, int tileZ) {
+        return this.renderedTiles[tileX + tileZ * TILES];
+    }
+
+    public void setRenderedTile(int tileX, int tileZ, byte[] pixels) {
+        this.renderedTiles[tileX + tileZ * TILES] = pixels;
+    }
+
     public void updateMapTexture() {
         MapItemRenderer mapItemRenderer = Minecraft.getMinecraft().entityRenderer.getMapItemRenderer();
         MapItemRenderer.Instance instance = mapItemRenderer.getMapRendererInstance(this);
@@ -93,6 +157,8 @@ public class AmateMapData extends MapData {
     @Override
     public void readFromNBT(NBTTagCompound nbt) {
         super.readFromNBT(nbt);
+        this.completeTilesChecked = false;
+        this.completeTiles = 0;
         byte[] locationStorage = nbt.getByteArray("locations");
         if (locationStorage.length > 0) {
             deserializeLocations(locationStorage);
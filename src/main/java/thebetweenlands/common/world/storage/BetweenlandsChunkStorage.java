@@ -22,6 +22,7 @@ import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.util.Constants;
 import thebetweenlands.api.storage.IWorldStorage;
 import thebetweenlands.common.config.BetweenlandsConfig;
+import thebetweenlands.common.handler.TickBudgetHandler;
 import thebetweenlands.common.item.misc.ItemGemSinger;
 import thebetweenlands.common.world.WorldProviderBetweenlands;
 
@@ -112,7 +113,8 @@ public class BetweenlandsChunkStorage extends ChunkStorageImpl {
 	public void update() {
 		super.update();
 
-		if(!this.world.isRemote && this.rescanGemSingerTargets) {
+		//Rescans are deferred to later ticks if the chunk storages already used up their tick budget
+		if(!this.world.isRemote && this.rescanGemSingerTargets && TickBudgetHandler.hasBudget(TickBudgetHandler.Subsystem.CHUNK_STORAGE, this.world)) {
 			this.rescanGemSingerTargets = false;
 			this.gemToPositions.clear();
 
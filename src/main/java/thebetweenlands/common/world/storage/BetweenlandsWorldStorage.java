@@ -47,6 +47,8 @@ public class BetweenlandsWorldStorage extends WorldStorageImpl {
 
 	protected List<SpiritTreeKillToken> spiritTreeKillTokens = new ArrayList<>();
 
+	protected final PortalIndex portalIndex = new PortalIndex();
+
 	public BLEnvironmentEventRegistry getEnvironmentEventRegistry() {
 		return this.environmentEventRegistry;
 	}
@@ -79,6 +81,7 @@ public class BetweenlandsWorldStorage extends WorldStorageImpl {
 				event.setLoaded();
 			}
 			this.aspectManager.loadAndPopulateStaticAspects(null, AspectManager.getAspectsSeed(this.getWorld().getWorldInfo().getSeed()));
+			this.getWorld().addEventListener(new PortalIndex.Listener(this.portalIndex));
 		}
 
 		this.ambienceTicks = this.getWorld().rand.nextInt(7000);
@@ -109,6 +112,8 @@ public class BetweenlandsWorldStorage extends WorldStorageImpl {
 			for(int i = 0; i < spiritTreeKillTokensNbt.tagCount(); i++) {
 				this.spiritTreeKillTokens.add(SpiritTreeKillToken.readFromNBT(spiritTreeKillTokensNbt.getCompoundTagAt(i)));
 			}
+
+			this.portalIndex.readFromNBT(nbt.getCompoundTag("portalIndex"));
 		}
 	}
 
@@ -136,6 +141,8 @@ public class BetweenlandsWorldStorage extends WorldStorageImpl {
 				spiritTreeKillTokensNbt.appendTag(token.writeToNBT());
 			}
 			nbt.setTag("spiritTreeKillTokens", spiritTreeKillTokensNbt);
+
+			nbt.setTag("portalIndex", this.portalIndex.writeToNBT(new NBTTagCompound()));
 		}
 	}
 
@@ -246,6 +253,14 @@ public class BetweenlandsWorldStorage extends WorldStorageImpl {
 		return this.spiritTreeKillTokens;
 	}
 
+	/**
+	 * Returns the index of all portals in this world. Only populated on the server side
+	 * @return
+	 */
+	public PortalIndex getPortalIndex() {
+		return this.portalIndex;
+	}
+
 	public static class BiomeSpawnEntriesData implements IBiomeSpawnEntriesData {
 		public final ICustomSpawnEntriesProvider biome;
 
@@ -8,6 +8,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
@@ -44,6 +46,8 @@ public abstract class ChunkStorageImpl implements IChunkStorage, ITickable {
 
 	protected boolean syncStorageLinks = false;
 
+	private boolean unloaded = false;
+
 	public ChunkStorageImpl(IWorldStorage worldStorage, Chunk chunk) {
 		this.worldStorage = worldStorage;
 		this.world = worldStorage.getWorld();
@@ -82,6 +86,8 @@ public abstract class ChunkStorageImpl implements IChunkStorage, ITickable {
 
 	@Override
 	public void onUnload() {
+		this.unloaded = true;
+
 		for(LocalStorageReference ref : this.localStorageReferences) {
 			ILocalStorage localStorage = this.getWorldStorage().getLocalStorageHandler().getLocalStorage(ref.getID());
 			if(localStorage != null) {
@@ -115,23 +121,37 @@ public abstract class ChunkStorageImpl implements IChunkStorage, ITickable {
 			this.localStorageReferences.add(LocalStorageReference.readFromNBT((NBTTagCompound)localReferenceList.get(i)));
 		}
 
-		Iterator<LocalStorageReference> refIT = this.localStorageReferences.iterator();
-		while(refIT.hasNext()) {
-			LocalStorageReference ref = refIT.next();
-
-			try(ILocalStorageHandle handle = this.worldStorage.getLocalStorageHandler().getOrLoadLocalStorage(ref)) {
-				//Load reference if properly linked
-				if(handle != null && handle.get().getLinkedChunks().contains(this.chunk.getPos())) {
-					handle.get().loadReference(ref);
-				} else if(!this.worldStorage.getWorld().isRemote) {
-					//Local storage doesn't exist or chunk shouldn't be linked to local storage, remove link
-					refIT.remove();
+		//Iterates over a copy because references may be removed
+		for(LocalStorageReference ref : new ArrayList<>(this.localStorageReferences)) {
+			if(!this.worldStorage.getWorld().isRemote && this.worldStorage.getLocalStorageHandler().getLocalStorage(ref.getID()) == null) {
+				//Read the local storage in the background instead of blocking the chunk load,
+				//it is linked in a later tick once it was loaded
+				this.worldStorage.getLocalStorageHandler().getOrLoadLocalStorageAsync(ref, handle -> this.onLocalStorageLoaded(ref, handle));
+			} else {
+				try(ILocalStorageHandle handle = this.worldStorage.getLocalStorageHandler().getOrLoadLocalStorage(ref)) {
+					this.onLocalStorageLoaded(ref, handle);
 				}
 			}
 		}
 		return nbt;
 	}
 
+	private void onLocalStorageLoaded(LocalStorageReference ref, @Nullable ILocalStorageHandle handle) {
+		if(this.unloaded || !this.localStorageReferences.contains(ref)) {
+			return;
+		}
+		//Load reference if properly linked
+		if(handle != null && handle.get().getLinkedChunks().contains(this.chunk.getPos())) {
+			//Reference may already have been loaded when the local storage was added
+			if(!handle.get().getLoadedReferences().contains(ref)) {
+				handle.get().loadReference(ref);
+			}
+		} else if(!this.worldStorage.getWorld().isRemote) {
+			//Local storage doesn't exist or chunk shouldn't be linked to local storage, remove link
+			this.localStorageReferences.remove(ref);
+		}
+	}
+
 	@Override
 	public NBTTagCompound writeToNBT(NBTTagCompound nbt, boolean packet) {
 		if(this.capabilities != null) {
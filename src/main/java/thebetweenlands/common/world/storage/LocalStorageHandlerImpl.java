@@ -8,6 +8,8 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
@@ -36,6 +38,7 @@ import thebetweenlands.api.storage.LocalRegion;
 import thebetweenlands.api.storage.LocalStorageReference;
 import thebetweenlands.api.storage.StorageID;
 import thebetweenlands.common.TheBetweenlands;
+import thebetweenlands.common.handler.TickBudgetHandler;
 import thebetweenlands.common.network.clientbound.MessageSyncLocalStorageData;
 import thebetweenlands.common.registries.StorageRegistry;
 
@@ -52,6 +55,20 @@ public class LocalStorageHandlerImpl implements ILocalStorageHandler {
 
 	private final LocalStorageSaveHandler saveHandler = new LocalStorageSaveHandler();
 
+	private final Map<File, PendingRead> pendingReads = new HashMap<>();
+
+	/**
+	 * A file that is being read in the background and the tasks that are run once it was read
+	 */
+	private static class PendingRead {
+		private final CompletableFuture<?> future;
+		private final List<Runnable> tasks = new ArrayList<>();
+
+		private PendingRead(CompletableFuture<?> future) {
+			this.future = future;
+		}
+	}
+
 	public LocalStorageHandlerImpl(IWorldStorage worldStorage) {
 		this.worldStorage = worldStorage;
 		this.world = worldStorage.getWorld();
@@ -279,6 +296,60 @@ public class LocalStorageHandlerImpl implements ILocalStorageHandler {
 		return null;
 	}
 
+	@Override
+	public void getOrLoadLocalStorageAsync(LocalStorageReference reference, Consumer<ILocalStorageHandle> callback) {
+		this.runAfterRead(this.world.isRemote || this.getLocalStorage(reference.getID()) != null ? null : this.getStorageFile(reference), () -> {
+			try(ILocalStorageHandle handle = this.getOrLoadLocalStorage(reference)) {
+				callback.accept(handle);
+			}
+		});
+	}
+
+	/**
+	 * Returns the file that needs to be read to load the local storage specified by the reference,
+	 * or null if the local storage is in a region that is already cached
+	 * @param reference
+	 * @return
+	 */
+	@Nullable
+	private File getStorageFile(LocalStorageReference reference) {
+		if(!reference.hasRegion()) {
+			return new File(this.getLocalStorageDirectory(), reference.getID().getStringID() + ".dat");
+		}
+		return this.getRegionFile(reference.getRegion());
+	}
+
+	/**
+	 * Returns the file of the specified region, or null if the region is already cached
+	 * @param region
+	 * @return
+	 */
+	@Nullable
+	private File getRegionFile(LocalRegion region) {
+		if(this.regionCache.getRegions().containsKey(region)) {
+			return null;
+		}
+		return new File(this.regionCache.getDir(), region.getFileName() + ".dat");
+	}
+
+	/**
+	 * Runs the task once the specified file was read in the background.
+	 * If the file is null the task is run immediately.
+	 * @param file
+	 * @param task
+	 */
+	private void runAfterRead(@Nullable File file, Runnable task) {
+		if(file == null) {
+			task.run();
+		} else {
+			PendingRead read = this.pendingReads.get(file);
+			if(read == null) {
+				this.pendingReads.put(file, read = new PendingRead(this.saveHandler.prefetchFileNbt(file)));
+			}
+			read.tasks.add(task);
+		}
+	}
+
 	/**
 	 * Creates an instance of the local storage specified by the reference
 	 * @param reference
@@ -364,6 +435,38 @@ public class LocalStorageHandlerImpl implements ILocalStorageHandler {
 
 	@Override
 	public void update() {
+		if(!this.world.isRemote) {
+			TickBudgetHandler.begin(TickBudgetHandler.Subsystem.LOCAL_STORAGE);
+		}
+
+		if(!this.pendingReads.isEmpty()) {
+			//Run the tasks of files that finished reading. Collected first
+			//because the tasks may start new reads
+			List<File> finishedReads = new ArrayList<>();
+			for(Map.Entry<File, PendingRead> entry : this.pendingReads.entrySet()) {
+				if(entry.getValue().future.isDone()) {
+					finishedReads.add(entry.getKey());
+				}
+			}
+
+			for(File file : finishedReads) {
+				if(!TickBudgetHandler.hasBudget(TickBudgetHandler.Subsystem.LOCAL_STORAGE, this.world)) {
+					//Remaining reads are handled in the next ticks
+					break;
+				}
+
+				PendingRead read = this.pendingReads.remove(file);
+				if(read != null) {
+					for(Runnable task : read.tasks) {
+						task.run();
+					}
+
+					//Drop the prefetched NBT in case none of the tasks needed it
+					this.saveHandler.discardPrefetchedFile(file);
+				}
+			}
+		}
+
 		for(int i = 0; i < this.tickableLocalStorage.size(); i++) {
 			ILocalStorage localStorage = this.tickableLocalStorage.get(i);
 			((ITickable)localStorage).update();
@@ -381,8 +484,10 @@ public class LocalStorageHandlerImpl implements ILocalStorageHandler {
 		}
 
 		if(!this.world.isRemote) {
-			for(int i = 0; i < this.pendingUnreferencedStorages.size(); i++) {
-				ILocalStorage localStorage = this.pendingUnreferencedStorages.get(i);
+			//Unloading removes the storage from the pending list, so always take the first one.
+			//Storages that don't fit into the tick budget are checked in the next ticks
+			while(!this.pendingUnreferencedStorages.isEmpty() && TickBudgetHandler.hasBudget(TickBudgetHandler.Subsystem.LOCAL_STORAGE, this.world)) {
+				ILocalStorage localStorage = this.pendingUnreferencedStorages.remove(0);
 
 				if(localStorage.getLoadedReferences().isEmpty() && this.getLocalStorage(localStorage.getID()) != null) {
 					//Storage is not referenced by any chunk and being added for the first time.
@@ -390,8 +495,11 @@ public class LocalStorageHandlerImpl implements ILocalStorageHandler {
 					this.unloadLocalStorage(localStorage);
 				}
 			}
+
+			TickBudgetHandler.end(TickBudgetHandler.Subsystem.LOCAL_STORAGE);
+		} else {
+			this.pendingUnreferencedStorages.clear();
 		}
-		this.pendingUnreferencedStorages.clear();
 	}
 
 	@Override
@@ -462,6 +570,22 @@ public class LocalStorageHandlerImpl implements ILocalStorageHandler {
 	public void loadDeferredOperations(IChunkStorage storage) {
 		ChunkPos chunk = storage.getChunk().getPos();
 
+		File regionFile = this.world.isRemote ? null : this.getRegionFile(LocalRegion.getFromBlockPos(chunk.x * 16, chunk.z * 16));
+		if(regionFile == null) {
+			this.runDeferredOperations(storage);
+		} else {
+			this.runAfterRead(regionFile, () -> {
+				//Chunk may have been unloaded in the meantime, the operations are then kept until it is loaded again
+				if(storage.getChunk().isLoaded()) {
+					this.runDeferredOperations(storage);
+				}
+			});
+		}
+	}
+
+	private void runDeferredOperations(IChunkStorage storage) {
+		ChunkPos chunk = storage.getChunk().getPos();
+
 		LocalRegionData region = this.regionCache.getOrCreateRegion(LocalRegion.getFromBlockPos(chunk.x * 16, chunk.z * 16));
 
 		NBTTagCompound chunkNbt = region.getChunkNBT(chunk);
@@ -4,7 +4,13 @@ import java.io.File;
 import java.io.IOException;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.Nullable;
 
@@ -13,12 +19,34 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.storage.IThreadedFileIO;
 import net.minecraft.world.storage.ThreadedFileIOBase;
 import thebetweenlands.common.TheBetweenlands;
+import thebetweenlands.common.metrics.Counter;
+import thebetweenlands.common.metrics.LatencyHistogram;
+import thebetweenlands.common.metrics.Metrics;
 
 public class LocalStorageSaveHandler implements IThreadedFileIO {
 	private static final NBTTagCompound DELETE_NBT = new NBTTagCompound();
 
+	private static final LatencyHistogram READ_TIME = Metrics.histogram("storage.read");
+	private static final LatencyHistogram WRITE_TIME = Metrics.histogram("storage.write");
+	private static final Counter PREFETCH_HITS = Metrics.counter("storage.prefetch.hits");
+	private static final Counter PREFETCH_WAITS = Metrics.counter("storage.prefetch.waits");
+
+	private static final ExecutorService PREFETCHER = Executors.newFixedThreadPool(2, new ThreadFactory() {
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread thread = new Thread(r);
+			thread.setName("BL Local Storage Prefetcher #" + PREFETCHER_THREAD_ID.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+	});
+
+	private static final AtomicInteger PREFETCHER_THREAD_ID = new AtomicInteger(0);
+
 	private final ConcurrentHashMap<File, NBTTagCompound> filesToSave = new ConcurrentHashMap<>();
 
+	private final ConcurrentHashMap<File, CompletableFuture<NBTTagCompound>> prefetchedFiles = new ConcurrentHashMap<>();
+
 	private final Set<File> fileLocks = new HashSet<>();
 
 	/**
@@ -29,6 +57,7 @@ public class LocalStorageSaveHandler implements IThreadedFileIO {
 	 */
 	public boolean queueRegion(File regionFile, @Nullable NBTTagCompound regionNbtCopy) {
 		this.filesToSave.put(regionFile, regionNbtCopy == null ? DELETE_NBT : regionNbtCopy);
+		this.prefetchedFiles.remove(regionFile);
 		ThreadedFileIOBase.getThreadedIOInstance().queueIO(this);
 		return true;
 	}
@@ -41,6 +70,7 @@ public class LocalStorageSaveHandler implements IThreadedFileIO {
 	 */
 	public boolean queueLocalStorage(File storageFile, @Nullable NBTTagCompound storageNbtCopy) {
 		this.filesToSave.put(storageFile, storageNbtCopy == null ? DELETE_NBT : storageNbtCopy);
+		this.prefetchedFiles.remove(storageFile);
 		ThreadedFileIOBase.getThreadedIOInstance().queueIO(this);
 		return true;
 	}
@@ -62,7 +92,40 @@ public class LocalStorageSaveHandler implements IThreadedFileIO {
 	}
 
 	/**
-	 * Loads the specified file as NBT
+	 * Starts reading the specified file in the background so that a later call to {@link #loadFileNbt(File)}
+	 * does not have to wait for the disk. The prefetched NBT is discarded if the file is queued to be saved in the meantime.
+	 * @param file
+	 * @return A future that completes once the file was read
+	 */
+	public CompletableFuture<?> prefetchFileNbt(File file) {
+		if(this.filesToSave.containsKey(file)) {
+			//Newer data is already queued, no need to read anything
+			return CompletableFuture.completedFuture(null);
+		}
+		CompletableFuture<NBTTagCompound> future = this.prefetchedFiles.get(file);
+		if(future == null) {
+			future = CompletableFuture.supplyAsync(() -> {
+				try {
+					return this.readFileNbt(file);
+				} catch(IOException ex) {
+					throw new CompletionException(ex);
+				}
+			}, PREFETCHER);
+			this.prefetchedFiles.put(file, future);
+		}
+		return future;
+	}
+
+	/**
+	 * Discards the prefetched NBT of the specified file, if there is any
+	 * @param file
+	 */
+	public void discardPrefetchedFile(File file) {
+		this.prefetchedFiles.remove(file);
+	}
+
+	/**
+	 * Loads the specified file as NBT. If the file was prefetched the prefetched NBT is used
 	 * @param file
 	 * @return
 	 * @throws IOException 
@@ -73,18 +136,41 @@ public class LocalStorageSaveHandler implements IThreadedFileIO {
 		if(queuedNbt != null) {
 			return queuedNbt.copy();
 		} else {
-			try {
-				this.lockFile(file);
+			CompletableFuture<NBTTagCompound> prefetch = this.prefetchedFiles.remove(file);
+			if(prefetch != null) {
+				if(prefetch.isDone()) {
+					PREFETCH_HITS.increment();
+				} else {
+					PREFETCH_WAITS.increment();
+				}
 				try {
-					return CompressedStreamTools.read(file);
-				} finally {
-					this.unlockFile(file);
+					return prefetch.join();
+				} catch(CompletionException ex) {
+					if(ex.getCause() instanceof IOException) {
+						throw (IOException) ex.getCause();
+					}
+					throw ex;
 				}
-			} catch(InterruptedException ex) {
-				Thread.currentThread().interrupt();
 			}
-			return null;
+			return this.readFileNbt(file);
+		}
+	}
+
+	@Nullable
+	private NBTTagCompound readFileNbt(File file) throws IOException {
+		try {
+			this.lockFile(file);
+			long start = Metrics.startTimer();
+			try {
+				return CompressedStreamTools.read(file);
+			} finally {
+				READ_TIME.recordSince(start);
+				this.unlockFile(file);
+			}
+		} catch(InterruptedException ex) {
+			Thread.currentThread().interrupt();
 		}
+		return null;
 	}
 
 	@Override
@@ -92,30 +178,39 @@ public class LocalStorageSaveHandler implements IThreadedFileIO {
 		if(!this.filesToSave.isEmpty()) {
 			final File file = this.filesToSave.keySet().iterator().next();
 
-			final NBTTagCompound nbt = this.filesToSave.remove(file);
-
-			if(nbt != null) {
+			try {
+				this.lockFile(file);
 				try {
-					this.lockFile(file);
-					try {
+					//The entry is only removed once the file is written, while still holding the lock.
+					//Otherwise a read or prefetch in between could miss the queued NBT and read the old file
+					final NBTTagCompound nbt = this.filesToSave.get(file);
+
+					if(nbt != null) {
 						if(nbt == DELETE_NBT) {
 							if(file.exists()) {
 								file.delete();
 							}
 						} else {
+							long start = Metrics.startTimer();
 							try {
 								file.getParentFile().mkdirs();
 								CompressedStreamTools.safeWrite(nbt, file);
 							} catch(Exception ex) {
 								TheBetweenlands.logger.error("Failed to save region or local storage: " + file.getAbsolutePath(), ex);
 							}
+							WRITE_TIME.recordSince(start);
 						}
-					} finally {
-						this.unlockFile(file);
+
+						//Keep the entry if newer NBT was queued while writing
+						this.filesToSave.remove(file, nbt);
 					}
-				} catch(InterruptedException ex) {
-					Thread.currentThread().interrupt();
+				} finally {
+					this.unlockFile(file);
 				}
+			} catch(InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				//The entry is still queued, stop here instead of retrying it forever
+				return false;
 			}
 
 			return true;
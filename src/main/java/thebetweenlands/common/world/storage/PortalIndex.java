@@ -0,0 +1,370 @@
+package thebetweenlands.common.world.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+import javax.annotation.Nullable;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.IWorldEventListener;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.Constants;
+import thebetweenlands.common.world.storage.location.LocationPortal;
+
+/**
+ * Server side index of all portals of a world. The positions and bounds of the portals are kept in a spatial grid
+ * and are saved with the world, so that portals can be found without loading their local storages or scanning the blocks around them.
+ * <p>
+ * The index also remembers a portal block of each portal that was verified to still exist, so that later checks only
+ * need to look at that one block, and caches the results of the safe spot searches used when generating new portals.
+ * Cached spots are invalidated when a block changes in the area that was scanned for them.
+ */
+public class PortalIndex {
+	private static final int CELL_SHIFT = 6;
+	private static final int MAX_CACHED_SPOTS = 256;
+
+	//Horizontal distance around a found spot that may have been scanned to find it
+	private static final int SPOT_SCAN_RANGE = 16;
+
+	private static class Entry {
+		private final BlockPos pos;
+		private final AxisAlignedBB bounds;
+		@Nullable
+		private BlockPos portalBlock;
+
+		private Entry(BlockPos pos, AxisAlignedBB bounds) {
+			this.pos = pos;
+			this.bounds = bounds;
+		}
+	}
+
+	/**
+	 * Bounded cache of safe spot search results, keyed by the chunk the search started in.
+	 * A result is invalidated when a block in a chunk within 16 blocks of the result changes. This covers every block the
+	 * searches of the teleporter look at, since they only scan the terrain around the position they end up returning.
+	 * Block changes that don't send a block update notification, e.g. during chunk generation, don't invalidate anything
+	 */
+	public static class SpotCache {
+		private final Long2ObjectLinkedOpenHashMap<BlockPos> spots = new Long2ObjectLinkedOpenHashMap<>();
+		private final Long2ObjectMap<LongSet> keysByChunk = new Long2ObjectOpenHashMap<>();
+
+		private SpotCache() { }
+
+		/**
+		 * Returns the cached result for a search that started at the specified position
+		 * @param start
+		 * @return
+		 */
+		@Nullable
+		public BlockPos get(BlockPos start) {
+			return this.spots.get(ChunkPos.asLong(start.getX() >> 4, start.getZ() >> 4));
+		}
+
+		/**
+		 * Caches the result of a search that started at the specified position.
+		 * The result is invalidated when a block in the chunks around it changes
+		 * @param start
+		 * @param result
+		 */
+		public void put(BlockPos start, BlockPos result) {
+			long key = ChunkPos.asLong(start.getX() >> 4, start.getZ() >> 4);
+			this.remove(key);
+			if(this.spots.size() >= MAX_CACHED_SPOTS) {
+				this.remove(this.spots.firstLongKey());
+			}
+			this.spots.put(key, result);
+			forEachScannedChunk(result, chunk -> {
+				LongSet keys = this.keysByChunk.get(chunk);
+				if(keys == null) {
+					this.keysByChunk.put(chunk, keys = new LongOpenHashSet());
+				}
+				keys.add(key);
+			});
+		}
+
+		private void remove(long key) {
+			BlockPos result = this.spots.remove(key);
+			if(result != null) {
+				forEachScannedChunk(result, chunk -> {
+					LongSet keys = this.keysByChunk.get(chunk);
+					if(keys != null && keys.remove(key) && keys.isEmpty()) {
+						this.keysByChunk.remove(chunk);
+					}
+				});
+			}
+		}
+
+		private static void forEachScannedChunk(BlockPos result, LongConsumer action) {
+			for(int cx = (result.getX() - SPOT_SCAN_RANGE) >> 4; cx <= (result.getX() + SPOT_SCAN_RANGE) >> 4; cx++) {
+				for(int cz = (result.getZ() - SPOT_SCAN_RANGE) >> 4; cz <= (result.getZ() + SPOT_SCAN_RANGE) >> 4; cz++) {
+					action.accept(ChunkPos.asLong(cx, cz));
+				}
+			}
+		}
+
+		private void invalidateChunk(int chunkX, int chunkZ) {
+			if(!this.keysByChunk.isEmpty()) {
+				LongSet keys = this.keysByChunk.get(ChunkPos.asLong(chunkX, chunkZ));
+				if(keys != null) {
+					//Copied because removing a spot also removes its key from this set
+					for(long key : keys.toLongArray()) {
+						this.remove(key);
+					}
+				}
+			}
+		}
+
+		public void clear() {
+			this.spots.clear();
+			this.keysByChunk.clear();
+		}
+	}
+
+	private final Long2ObjectMap<Entry> entries = new Long2ObjectOpenHashMap<>();
+	private final Long2ObjectMap<List<Entry>> cells = new Long2ObjectOpenHashMap<>();
+
+	private final SpotCache betweenlandsSpots = new SpotCache();
+	private final SpotCache otherDimensionSpots = new SpotCache();
+
+	/**
+	 * Cache for {@link thebetweenlands.common.world.teleporter.TeleporterBetweenlands#findSuitableBetweenlandsPortalPos(BlockPos)}
+	 * @return
+	 */
+	public SpotCache getBetweenlandsSpots() {
+		return this.betweenlandsSpots;
+	}
+
+	/**
+	 * Cache for {@link thebetweenlands.common.world.teleporter.TeleporterBetweenlands#findSuitableNonBLPortalPos(BlockPos)}
+	 * @return
+	 */
+	public SpotCache getOtherDimensionSpots() {
+		return this.otherDimensionSpots;
+	}
+
+	/**
+	 * Adds a portal to the index or updates its bounds
+	 * @param portal
+	 */
+	public void add(LocationPortal portal) {
+		if(portal.getPortalPosition() != null && !portal.getBounds().isEmpty()) {
+			this.add(new Entry(portal.getPortalPosition(), portal.getEnclosingBounds()));
+		}
+	}
+
+	private void add(Entry entry) {
+		Entry previous = this.entries.get(entry.pos.toLong());
+		if(previous != null) {
+			if(previous.bounds.equals(entry.bounds)) {
+				return;
+			}
+			this.remove(previous);
+		}
+		this.entries.put(entry.pos.toLong(), entry);
+		this.forEachCell(entry.bounds, cell -> {
+			List<Entry> cellEntries = this.cells.get(cell);
+			if(cellEntries == null) {
+				this.cells.put(cell, cellEntries = new ArrayList<>(2));
+			}
+			cellEntries.add(entry);
+		});
+	}
+
+	/**
+	 * Removes a portal from the index
+	 * @param portal
+	 */
+	public void remove(LocationPortal portal) {
+		if(portal.getPortalPosition() != null) {
+			Entry entry = this.entries.get(portal.getPortalPosition().toLong());
+			if(entry != null) {
+				this.remove(entry);
+			}
+		}
+	}
+
+	private void remove(Entry entry) {
+		this.entries.remove(entry.pos.toLong());
+		this.forEachCell(entry.bounds, cell -> {
+			List<Entry> cellEntries = this.cells.get(cell);
+			if(cellEntries != null && cellEntries.remove(entry) && cellEntries.isEmpty()) {
+				this.cells.remove(cell);
+			}
+		});
+	}
+
+	private void forEachCell(AxisAlignedBB bounds, LongConsumer action) {
+		int sx = MathHelper.floor(bounds.minX) >> CELL_SHIFT;
+		int sz = MathHelper.floor(bounds.minZ) >> CELL_SHIFT;
+		int ex = MathHelper.floor(bounds.maxX) >> CELL_SHIFT;
+		int ez = MathHelper.floor(bounds.maxZ) >> CELL_SHIFT;
+		for(int cx = sx; cx <= ex; cx++) {
+			for(int cz = sz; cz <= ez; cz++) {
+				action.accept(ChunkPos.asLong(cx, cz));
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of indexed portals
+	 * @return
+	 */
+	public int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Returns whether the bounds of any portal intersect the specified area
+	 * @param aabb
+	 * @return
+	 */
+	public boolean hasPortalWithin(AxisAlignedBB aabb) {
+		if(this.entries.isEmpty()) {
+			return false;
+		}
+		int sx = MathHelper.floor(aabb.minX) >> CELL_SHIFT;
+		int sz = MathHelper.floor(aabb.minZ) >> CELL_SHIFT;
+		int ex = MathHelper.floor(aabb.maxX) >> CELL_SHIFT;
+		int ez = MathHelper.floor(aabb.maxZ) >> CELL_SHIFT;
+		for(int cx = sx; cx <= ex; cx++) {
+			for(int cz = sz; cz <= ez; cz++) {
+				List<Entry> cellEntries = this.cells.get(ChunkPos.asLong(cx, cz));
+				if(cellEntries != null) {
+					for(Entry entry : cellEntries) {
+						if(entry.bounds.intersects(aabb)) {
+							return true;
+						}
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the portal block that was found when the portal was last verified to exist, or null if it wasn't verified yet.
+	 * The block may have been changed since, so it must be checked again
+	 * @param portal
+	 * @return
+	 */
+	@Nullable
+	public BlockPos getPortalBlock(LocationPortal portal) {
+		Entry entry = portal.getPortalPosition() != null ? this.entries.get(portal.getPortalPosition().toLong()) : null;
+		return entry != null ? entry.portalBlock : null;
+	}
+
+	/**
+	 * Remembers a portal block of the portal, so that the next verification only needs to check that block
+	 * @param portal
+	 * @param portalBlock
+	 */
+	public void setPortalBlock(LocationPortal portal, BlockPos portalBlock) {
+		Entry entry = portal.getPortalPosition() != null ? this.entries.get(portal.getPortalPosition().toLong()) : null;
+		if(entry != null) {
+			entry.portalBlock = portalBlock.toImmutable();
+		}
+	}
+
+	/**
+	 * Invalidates the cached spots around the specified position
+	 * @param pos
+	 */
+	public void onBlockChanged(BlockPos pos) {
+		this.betweenlandsSpots.invalidateChunk(pos.getX() >> 4, pos.getZ() >> 4);
+		this.otherDimensionSpots.invalidateChunk(pos.getX() >> 4, pos.getZ() >> 4);
+	}
+
+	public void readFromNBT(NBTTagCompound nbt) {
+		this.entries.clear();
+		this.cells.clear();
+		NBTTagList portalsNbt = nbt.getTagList("portals", Constants.NBT.TAG_COMPOUND);
+		for(int i = 0; i < portalsNbt.tagCount(); i++) {
+			NBTTagCompound portalNbt = portalsNbt.getCompoundTagAt(i);
+			this.add(new Entry(BlockPos.fromLong(portalNbt.getLong("pos")), new AxisAlignedBB(
+					portalNbt.getDouble("minX"), portalNbt.getDouble("minY"), portalNbt.getDouble("minZ"),
+					portalNbt.getDouble("maxX"), portalNbt.getDouble("maxY"), portalNbt.getDouble("maxZ"))));
+		}
+	}
+
+	public NBTTagCompound writeToNBT(NBTTagCompound nbt) {
+		NBTTagList portalsNbt = new NBTTagList();
+		for(Entry entry : this.entries.values()) {
+			NBTTagCompound portalNbt = new NBTTagCompound();
+			portalNbt.setLong("pos", entry.pos.toLong());
+			portalNbt.setDouble("minX", entry.bounds.minX);
+			portalNbt.setDouble("minY", entry.bounds.minY);
+			portalNbt.setDouble("minZ", entry.bounds.minZ);
+			portalNbt.setDouble("maxX", entry.bounds.maxX);
+			portalNbt.setDouble("maxY", entry.bounds.maxY);
+			portalNbt.setDouble("maxZ", entry.bounds.maxZ);
+			portalsNbt.appendTag(portalNbt);
+		}
+		nbt.setTag("portals", portalsNbt);
+		return nbt;
+	}
+
+	/**
+	 * Listens for block changes to invalidate the cached spots of the index
+	 */
+	public static class Listener implements IWorldEventListener {
+		private final PortalIndex index;
+
+		public Listener(PortalIndex index) {
+			this.index = index;
+		}
+
+		@Override
+		public void notifyBlockUpdate(World worldIn, BlockPos pos, IBlockState oldState, IBlockState newState, int flags) {
+			this.index.onBlockChanged(pos);
+		}
+
+		@Override
+		public void notifyLightSet(BlockPos pos) { }
+
+		@Override
+		public void markBlockRangeForRenderUpdate(int x1, int y1, int z1, int x2, int y2, int z2) { }
+
+		@Override
+		public void playSoundToAllNearExcept(EntityPlayer player, SoundEvent soundIn, SoundCategory category, double x, double y, double z, float volume, float pitch) { }
+
+		@Override
+		public void playRecord(SoundEvent soundIn, BlockPos pos) { }
+
+		@Override
+		public void spawnParticle(int particleID, boolean ignoreRange, double xCoord, double yCoord, double zCoord, double xSpeed, double ySpeed, double zSpeed, int... parameters) { }
+
+		@Override
+		public void spawnParticle(int id, boolean ignoreRange, boolean minimiseParticleLevel, double x, double y, double z, double xSpeed, double ySpeed, double zSpeed, int... parameters) { }
+
+		@Override
+		public void onEntityAdded(Entity entityIn) { }
+
+		@Override
+		public void onEntityRemoved(Entity entityIn) { }
+
+		@Override
+		public void broadcastSound(int soundID, BlockPos pos, int data) { }
+
+		@Override
+		public void playEvent(EntityPlayer player, int type, BlockPos blockPosIn, int data) { }
+
+		@Override
+		public void sendBlockBreakProgress(int breakerId, BlockPos pos, int progress) { }
+	}
+}
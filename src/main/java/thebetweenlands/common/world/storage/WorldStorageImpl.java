@@ -21,6 +21,7 @@ import thebetweenlands.api.storage.ILocalStorageHandler;
 import thebetweenlands.api.storage.IWorldStorage;
 import thebetweenlands.common.TheBetweenlands;
 import thebetweenlands.common.config.BetweenlandsConfig;
+import thebetweenlands.common.handler.TickBudgetHandler;
 import thebetweenlands.common.lib.ModInfo;
 
 import javax.annotation.Nullable;
@@ -256,9 +257,17 @@ public abstract class WorldStorageImpl implements IWorldStorage {
 	public void tick() {
 		this.localStorageHandler.update();
 
+		if(!this.world.isRemote) {
+			TickBudgetHandler.begin(TickBudgetHandler.Subsystem.CHUNK_STORAGE);
+		}
+
 		for(int i = 0; i < this.tickableStorages.size(); i++) {
 			ITickable tickable = this.tickableStorages.get(i);
 			tickable.update();
 		}
+
+		if(!this.world.isRemote) {
+			TickBudgetHandler.end(TickBudgetHandler.Subsystem.CHUNK_STORAGE);
+		}
 	}
 }
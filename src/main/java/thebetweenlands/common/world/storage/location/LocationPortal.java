@@ -13,6 +13,7 @@ import thebetweenlands.api.storage.LocalRegion;
 import thebetweenlands.api.storage.StorageID;
 import thebetweenlands.common.config.BetweenlandsConfig;
 import thebetweenlands.common.registries.BlockRegistry;
+import thebetweenlands.common.world.storage.BetweenlandsWorldStorage;
 
 public class LocationPortal extends LocationStorage {
 	private BlockPos portalPos;
@@ -29,6 +30,38 @@ public class LocationPortal extends LocationStorage {
 		this.portalPos = pos;
 	}
 
+	@Override
+	public void onAdded() {
+		super.onAdded();
+		this.updateIndex(true);
+	}
+
+	@Override
+	public void onLoaded() {
+		super.onLoaded();
+		this.updateIndex(true);
+	}
+
+	@Override
+	public void onRemoved() {
+		super.onRemoved();
+		this.updateIndex(false);
+	}
+
+	private void updateIndex(boolean add) {
+		World world = this.getWorldStorage().getWorld();
+		if(world != null && !world.isRemote) {
+			BetweenlandsWorldStorage worldStorage = BetweenlandsWorldStorage.forWorldNullable(world);
+			if(worldStorage != null) {
+				if(add) {
+					worldStorage.getPortalIndex().add(this);
+				} else {
+					worldStorage.getPortalIndex().remove(this);
+				}
+			}
+		}
+	}
+
 	@Override
 	public void readFromNBT(NBTTagCompound nbt) {
 		super.readFromNBT(nbt);
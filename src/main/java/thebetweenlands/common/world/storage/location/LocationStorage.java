@@ -50,6 +50,9 @@ public class LocationStorage extends LocalStorageImpl {
 	protected static final DataParameter<String> NAME = GenericDataManager.createKey(LocationStorage.class, DataSerializers.STRING);
 	protected static final DataParameter<Boolean> VISIBLE = GenericDataManager.createKey(LocationStorage.class, DataSerializers.BOOLEAN);
 
+	//Incremented whenever a location of a client world is loaded, unloaded or changes its bounds, layer or ambience
+	private static int clientChangeCount = 0;
+
 	public LocationStorage(IWorldStorage worldStorage, StorageID id, @Nullable LocalRegion region) {
 		this(worldStorage, id, region, "", EnumLocationType.NONE);
 	}
@@ -90,6 +93,7 @@ public class LocationStorage extends LocalStorageImpl {
 			this.markDirty();
 		}
 		this.updateEnclosingBounds();
+		this.onLocationChanged();
 		return this;
 	}
 
@@ -111,6 +115,7 @@ public class LocationStorage extends LocalStorageImpl {
 			this.markDirty();
 		}
 		this.updateEnclosingBounds();
+		this.onLocationChanged();
 	}
 
 	/**
@@ -138,6 +143,37 @@ public class LocationStorage extends LocalStorageImpl {
 		return this.enclosingBoundingBox;
 	}
 
+	@Override
+	public void onLoaded() {
+		super.onLoaded();
+		this.onLocationChanged();
+	}
+
+	@Override
+	public void onUnloaded() {
+		super.onUnloaded();
+		this.onLocationChanged();
+	}
+
+	/**
+	 * Called when the location is loaded, unloaded or changes its bounds, layer or ambience
+	 */
+	protected void onLocationChanged() {
+		World world = this.getWorldStorage().getWorld();
+		if(world != null && world.isRemote) {
+			clientChangeCount++;
+		}
+	}
+
+	/**
+	 * Returns a counter that is incremented whenever a location of a client world is loaded, unloaded
+	 * or changes its bounds, layer or ambience. Used to invalidate cached location queries
+	 * @return
+	 */
+	public static int getClientChangeCount() {
+		return clientChangeCount;
+	}
+
 	@Override
 	public void onAdded() {
 		if(!this.getWorldStorage().getWorld().isRemote) {
@@ -209,6 +245,7 @@ public class LocationStorage extends LocalStorageImpl {
 		this.inheritAmbience = inherit;
 		this.ambience = null;
 		this.markDirty();
+		this.onLocationChanged();
 		return this;
 	}
 
@@ -231,6 +268,7 @@ public class LocationStorage extends LocalStorageImpl {
 	public LocationStorage setLayer(int layer) {
 		this.layer = layer;
 		this.markDirty();
+		this.onLocationChanged();
 		return this;
 	}
 
@@ -256,6 +294,7 @@ public class LocationStorage extends LocalStorageImpl {
 			this.ambience = null;
 		}
 		this.markDirty();
+		this.onLocationChanged();
 		return this;
 	}
 
@@ -307,6 +346,7 @@ public class LocationStorage extends LocalStorageImpl {
 		}
 		this.dataManager.set(VISIBLE, nbt.getBoolean("visible"));
 		this.locationSeed = nbt.getLong("seed");
+		this.onLocationChanged();
 	}
 
 	protected NBTTagCompound writeAabb(AxisAlignedBB aabb) {
@@ -536,26 +576,8 @@ public class LocationStorage extends LocalStorageImpl {
 	 */
 	public static LocationAmbience getAmbience(World world, Vec3d position) {
 		List<LocationStorage> locations = LocationStorage.getLocations(world, position);
-		if(locations.isEmpty())
-			return null;
-		Collections.sort(locations, LAYER_SORTER);
-		LocationStorage highestLocation = null;
-		for(int i = 0; i < locations.size(); i++) {
-			LocationStorage storage = locations.get(i);
-			if(storage.hasAmbience() || storage.inheritAmbience)
-				highestLocation = storage;
-		}
-		if(highestLocation != null) {
-			if(highestLocation.ambience == null && highestLocation.inheritAmbience) {
-				for(int i = 0; i < locations.size(); i++) {
-					LocationStorage storage = locations.get(i);
-					if(storage.hasAmbience())
-						return storage.ambience;
-				}
-			}
-			return highestLocation.ambience;
-		}
-		return null;
+		sortByLayer(locations);
+		return getHighestPriorityAmbience(locations);
 	}
 
 	/**
@@ -565,9 +587,27 @@ public class LocationStorage extends LocalStorageImpl {
 	 */
 	public static LocationAmbience getAmbience(Entity entity) {
 		List<LocationStorage> locations = getLocations(entity);
+		sortByLayer(locations);
+		return getHighestPriorityAmbience(locations);
+	}
+
+	/**
+	 * Sorts the locations by layer, lowest layer first
+	 * @param locations
+	 */
+	public static void sortByLayer(List<LocationStorage> locations) {
+		Collections.sort(locations, LAYER_SORTER);
+	}
+
+	/**
+	 * Returns the highest priority ambience of the specified locations
+	 * @param locations Locations sorted by layer, lowest layer first
+	 * @return
+	 */
+	@Nullable
+	public static LocationAmbience getHighestPriorityAmbience(List<LocationStorage> locations) {
 		if(locations.isEmpty())
 			return null;
-		Collections.sort(locations, LAYER_SORTER);
 		LocationStorage highestLocation = null;
 		for(int i = 0; i < locations.size(); i++) {
 			LocationStorage storage = locations.get(i);
@@ -37,6 +37,7 @@ import thebetweenlands.common.world.gen.biome.decorator.SurfaceType;
 import thebetweenlands.common.world.gen.feature.structure.WorldGenSmallPortal;
 import thebetweenlands.common.world.gen.feature.structure.WorldGenWeedwoodPortalTree;
 import thebetweenlands.common.world.storage.BetweenlandsWorldStorage;
+import thebetweenlands.common.world.storage.PortalIndex;
 import thebetweenlands.common.world.storage.location.LocationPortal;
 
 public final class TeleporterBetweenlands extends Teleporter {
@@ -233,6 +234,12 @@ public final class TeleporterBetweenlands extends Teleporter {
 	 */
 	protected boolean checkPortal(LocationPortal portal) {
 		World world = portal.getWorldStorage().getWorld();
+		PortalIndex index = BetweenlandsWorldStorage.forWorld(world).getPortalIndex();
+		BlockPos portalBlock = index.getPortalBlock(portal);
+		if(portalBlock != null && world.getBlockState(portalBlock).getBlock() instanceof BlockTreePortal) {
+			//The portal block found by the last check is still there
+			return true;
+		}
 		AxisAlignedBB aabb = portal.getBounds().get(0);
 		MutableBlockPos pos = new MutableBlockPos();
 		for(int x = MathHelper.floor(aabb.minX); x <= MathHelper.floor(aabb.maxX); x++) {
@@ -241,6 +248,7 @@ public final class TeleporterBetweenlands extends Teleporter {
 					pos.setPos(x, y, z);
 					IBlockState blockState = world.getBlockState(pos);
 					if(blockState.getBlock() instanceof BlockTreePortal) {
+						index.setPortalBlock(portal, pos);
 						return true;
 					}
 				}
@@ -255,6 +263,25 @@ public final class TeleporterBetweenlands extends Teleporter {
 	 * @return
 	 */
 	protected BlockPos findSuitableBetweenlandsPortalPos(BlockPos start) {
+		PortalIndex.SpotCache cache = BetweenlandsWorldStorage.forWorld(this.toWorld).getPortalIndex().getBetweenlandsSpots();
+
+		BlockPos selectedPos = cache.get(start);
+		if(selectedPos == null) {
+			selectedPos = this.findBetweenlandsPortalColumn(start);
+			cache.put(start, selectedPos);
+		}
+
+		Chunk chunk = this.getDecoratedChunk(this.toWorld, selectedPos); //Force chunk to generate
+		int height = chunk.getHeight(selectedPos);
+		return new BlockPos(selectedPos.getX(), height, selectedPos.getZ());
+	}
+
+	/**
+	 * Searches for a column in a suitable biome near the start position
+	 * @param start
+	 * @return
+	 */
+	protected BlockPos findBetweenlandsPortalColumn(BlockPos start) {
 		List<Biome> validBiomes = new ArrayList<Biome>();
 
 		validBiomes.add(BiomeRegistry.SWAMPLANDS);
@@ -292,16 +319,10 @@ public final class TeleporterBetweenlands extends Teleporter {
 			}
 		}
 		
-		BlockPos selectedPos;
 		if(suitablePos != null) {
-			selectedPos = suitablePos;
-		} else {
-			selectedPos = start;
+			return suitablePos;
 		}
-
-		Chunk chunk = this.getDecoratedChunk(this.toWorld, selectedPos); //Force chunk to generate
-		int height = chunk.getHeight(selectedPos);
-		return new BlockPos(selectedPos.getX(), height, selectedPos.getZ());
+		return new BlockPos(start.getX(), 0, start.getZ());
 	}
 
 	/**
@@ -363,6 +384,23 @@ public final class TeleporterBetweenlands extends Teleporter {
 	 * @return
 	 */
 	protected BlockPos findSuitableNonBLPortalPos(BlockPos start) {
+		PortalIndex.SpotCache cache = BetweenlandsWorldStorage.forWorld(this.toWorld).getPortalIndex().getOtherDimensionSpots();
+
+		BlockPos pos = cache.get(start);
+		if(pos == null) {
+			pos = this.searchNonBLPortalPos(start);
+			cache.put(start, pos);
+		}
+
+		return pos;
+	}
+
+	/**
+	 * Scans the terrain near the start position for a spot with enough space for a portal
+	 * @param start
+	 * @return
+	 */
+	protected BlockPos searchNonBLPortalPos(BlockPos start) {
 		BlockPos suitableStartPos = this.findSuitableNonBLStartPos(start);
 		if(suitableStartPos != null) {
 			start = suitableStartPos;
@@ -632,6 +670,9 @@ public final class TeleporterBetweenlands extends Teleporter {
 	protected boolean canGeneratePortalTree(World world, BlockPos pos){
 		int height = 10;
 		int maxRadius = 8;
+		if(this.isNearIndexedPortal(world, pos.getX() - maxRadius, pos.getY() - 3, pos.getZ() - maxRadius, pos.getX() + maxRadius, pos.getY() + height - 1, pos.getZ() + maxRadius)) {
+			return false;
+		}
 		MutableBlockPos checkPos = new MutableBlockPos();
 		for (int xo = -maxRadius; xo <= maxRadius; xo++) {
 			for (int zo = -maxRadius; zo <= maxRadius; zo++) {
@@ -656,6 +697,9 @@ public final class TeleporterBetweenlands extends Teleporter {
 	 * @return
 	 */
 	protected boolean canGenerateSmallPortalInOpen(World world, BlockPos pos){
+		if(this.isNearIndexedPortal(world, pos.getX() - 3, pos.getY(), pos.getZ() - 3, pos.getX() + 3, pos.getY() + 7, pos.getZ() + 3)) {
+			return false;
+		}
 		for(MutableBlockPos p : BlockPos.getAllInBoxMutable(pos.getX() - 3, pos.getY(), pos.getZ() - 3, pos.getX() + 3, pos.getY() + 7, pos.getZ() + 3)) {
 			IBlockState blockState = world.getBlockState(p);
 			boolean isOutside = Math.abs(pos.getX() - p.getX()) >= 2 || Math.abs(pos.getZ() - p.getZ()) >= 2 || p.getY() - pos.getY() >= 5;
@@ -675,6 +719,9 @@ public final class TeleporterBetweenlands extends Teleporter {
 	 * @return
 	 */
 	protected boolean isSmallPortalObstructedByOthersOrLiquid(World world, BlockPos pos) {
+		if(this.isNearIndexedPortal(world, pos.getX() - 3, pos.getY(), pos.getZ() - 3, pos.getX() + 3, pos.getY() + 7, pos.getZ() + 3)) {
+			return true;
+		}
 		for(MutableBlockPos p : BlockPos.getAllInBoxMutable(pos.getX() - 3, pos.getY(), pos.getZ() - 3, pos.getX() + 3, pos.getY() + 7, pos.getZ() + 3)) {
 			IBlockState blockState = world.getBlockState(p);
 			if (blockState.getMaterial().isLiquid() || blockState.getBlock() == BlockRegistry.TREE_PORTAL) {
@@ -684,6 +731,16 @@ public final class TeleporterBetweenlands extends Teleporter {
 		return false;
 	}
 
+	/**
+	 * Returns whether the bounds of a known portal intersect the specified area.
+	 * Used to reject positions without having to scan the blocks
+	 * @return
+	 */
+	protected boolean isNearIndexedPortal(World world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+		BetweenlandsWorldStorage worldStorage = BetweenlandsWorldStorage.forWorldNullable(world);
+		return worldStorage != null && worldStorage.getPortalIndex().hasPortalWithin(new AxisAlignedBB(minX, minY, minZ, maxX + 1, maxY + 1, maxZ + 1));
+	}
+
 	/**
 	 * Sets the entities spawn point to near the specified position, if necessary
 	 * @param entity The entity to set the spawn point for